@@ -0,0 +1,113 @@
+package com.platform.benchmarks;
+
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.domain.Driver;
+import com.platform.vehicle.domain.Vehicle;
+import com.platform.vehicle.infrastructure.AggregateLockManager;
+import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent trip completions on drivers, as CompleteBookingUseCase performs
+ * them: a read-modify-write of the driver's status followed by a relative
+ * update of its trip statistics. With one driver every update contends for
+ * the same lock; with many drivers the updates should scale with the thread
+ * count. Running without locks shows the throughput the locks cost; no trips
+ * are lost either way, since the statistics are never written back from a
+ * stale copy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(32)
+@Fork(1)
+public class AggregateLockBenchmark {
+
+    @Param({"1", "64"})
+    private int drivers;
+
+    @Param({"true", "false"})
+    private boolean locked;
+
+    private ConfigurableApplicationContext context;
+    private VehicleManagementRepository repository;
+    private AggregateLockManager aggregateLocks;
+    private Long vehicleId;
+    private final List<Long> driverIds = new ArrayList<>();
+    private final LongAdder trips = new LongAdder();
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.boot();
+
+        repository = context.getBean(VehicleManagementRepository.class);
+        aggregateLocks = context.getBean(AggregateLockManager.class);
+        String run = Long.toString(System.nanoTime() % 1_000_000, 36);
+        Vehicle vehicle = BenchmarkFixtures.bookableVehicle(null);
+        vehicle.setPlateNumber("AL-" + run);
+        vehicleId = repository.saveVehicle(vehicle).getId();
+        for (int i = 0; i < drivers; i++) {
+            Driver driver = BenchmarkFixtures.availableDriver(null);
+            driver.setUserId(10_000L + i);
+            driver.setLicenseNumber("LIC-AL-" + run + "-" + i);
+            driverIds.add(repository.saveDriver(driver).getId());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        long stored = 0;
+        for (Long driverId : driverIds) {
+            stored += repository.findDriverById(driverId).map(Driver::getTotalTripsCompleted).orElse(0);
+        }
+        System.out.printf("%nTrips recorded: %d, stored: %d, lost: %d, lock waits: %d (max %d ms)%n",
+                trips.sum(), stored, trips.sum() - stored,
+                aggregateLocks.getContendedCount(), aggregateLocks.getMaxWaitMs());
+        context.close();
+    }
+
+    @Benchmark
+    public Driver completeTrip() {
+        Long driverId = driverIds.get(ThreadLocalRandom.current().nextInt(driverIds.size()));
+        Driver driver = locked
+                ? aggregateLocks.execute(() -> recordTrip(driverId), AggregateLockManager.Key.driver(driverId))
+                : recordTrip(driverId);
+        trips.increment();
+        return driver;
+    }
+
+    private Driver recordTrip(Long driverId) {
+        Driver driver = repository.findDriverById(driverId).orElseThrow();
+        driver.setAvailable();
+        Driver saved = repository.saveDriver(driver);
+
+        LocalDateTime start = LocalDateTime.now().minusHours(2);
+        Booking trip = new Booking(vehicleId, 1L, "Trip", start, start.plusHours(1));
+        trip.setDriverId(driverId);
+        trip.setActualMileage(12.5);
+        repository.recordCompletedTrips(List.of(trip));
+        return saved;
+    }
+}
@@ -0,0 +1,156 @@
+package com.platform.benchmarks;
+
+import com.platform.vehicle.application.dto.CreateBookingRequest;
+import com.platform.vehicle.domain.Driver;
+import com.platform.vehicle.domain.Vehicle;
+import com.platform.vehicle.infrastructure.entities.BookingEntity;
+import com.platform.vehicle.infrastructure.entities.BookingEventEntity;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Test data shared by the benchmarks.
+ * All objects pass the booking validation rules relative to the current time.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Start the benchmark application without a web server, with SQL and
+     * log output turned down so it does not distort the measurements.
+     *
+     * @param extraArgs Additional command line arguments, e.g. property overrides
+     * @return The running application context
+     */
+    static ConfigurableApplicationContext boot(String... extraArgs) {
+        String[] args = Stream.concat(Stream.of(
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "--logging.file.name="),
+                Arrays.stream(extraArgs)).toArray(String[]::new);
+        return new SpringApplicationBuilder(CreateBookingBenchmark.BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args);
+    }
+
+    static Vehicle bookableVehicle(Long id) {
+        Vehicle vehicle = new Vehicle("BM-" + id, "Toyota", "Camry", 2022, Vehicle.VehicleType.SEDAN, 4);
+        vehicle.setId(id);
+        vehicle.setNextMaintenance(LocalDateTime.now().plusMonths(6));
+        vehicle.setLocation("Head Office");
+        return vehicle;
+    }
+
+    static Driver availableDriver(Long id) {
+        Driver driver = new Driver(id, Driver.LicenseType.CLASS_1, "LIC-BM-" + id);
+        driver.setId(id);
+        driver.setLicenseExpiryDate(LocalDate.now().plusYears(2));
+        driver.setLastHealthCheck(LocalDate.now().minusMonths(1));
+        return driver;
+    }
+
+    /**
+     * A valid request for the given vehicle and driver, starting tomorrow.
+     *
+     * @param vehicleId The vehicle ID
+     * @param driverId The driver ID (nullable)
+     * @return The booking request
+     */
+    static CreateBookingRequest bookingRequest(Long vehicleId, Long driverId) {
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+        CreateBookingRequest request = new CreateBookingRequest(vehicleId, "Client visit", startTime, startTime.plusHours(4));
+        request.setDriverId(driverId);
+        request.setPickupLocation("Head Office");
+        request.setDestination("Airport");
+        request.setEstimatedPassengers(2);
+        request.setCostCenter("CC-100");
+        request.setManagerName("Benchmark Manager");
+        return request;
+    }
+
+    /**
+     * A fully populated booking row as loaded by the repository.
+     *
+     * @param id The booking ID
+     * @param eventCount Number of history events attached to the booking
+     * @return The booking entity
+     */
+    static BookingEntity bookingEntity(Long id, int eventCount) {
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+        BookingEntity entity = new BookingEntity();
+        entity.setId(id);
+        entity.setCreatedAt(LocalDateTime.now().minusDays(1));
+        entity.setUpdatedAt(LocalDateTime.now());
+        entity.setCreatedBy("1");
+        entity.setUpdatedBy("2");
+        entity.setBookingReference("BKG-BM-" + id);
+        entity.setStatus(BookingEntity.BookingStatus.APPROVED);
+        entity.setType(BookingEntity.BookingType.BUSINESS_TRIP);
+        entity.setVehicleId(1L);
+        entity.setDriverId(1L);
+        entity.setRequesterId(1L);
+        entity.setApproverId(2L);
+        entity.setStartTime(startTime);
+        entity.setEndTime(startTime.plusHours(4));
+        entity.setPickupLocation("Head Office");
+        entity.setDestination("Airport");
+        entity.setReturnLocation("Head Office");
+        entity.setPurpose("Client visit");
+        entity.setDescription("Quarterly review with the client");
+        entity.setEstimatedPassengers(2);
+        entity.setManagerName("Benchmark Manager");
+        entity.setCostCenter("CC-100");
+        entity.setApprovalComment("Approved");
+        entity.setApprovedAt(LocalDateTime.now());
+        entity.setApprovalLevel(1);
+        entity.setEstimatedCost(120.0);
+
+        for (int i = 0; i < eventCount; i++) {
+            BookingEventEntity event = new BookingEventEntity(
+                    "evt-bm-" + id + "-" + i, "BOOKING_UPDATED", "Event " + i, "1", id);
+            event.setTimestamp(LocalDateTime.now());
+            entity.addEvent(event);
+        }
+        return entity;
+    }
+
+    /**
+     * Create a stub for a repository interface. Methods named in the answers
+     * return the given value; every other call fails, so a benchmark that
+     * unexpectedly reaches the database is reported as an error.
+     *
+     * @param type The repository interface
+     * @param answers Return values by method name
+     * @return The stub
+     */
+    static <T> T stub(Class<T> type, Map<String, Object> answers) {
+        Object stub = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "stub " + type.getSimpleName();
+                default:
+                    if (answers.containsKey(method.getName())) {
+                        return answers.get(method.getName());
+                    }
+                    throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+        });
+        return type.cast(stub);
+    }
+}
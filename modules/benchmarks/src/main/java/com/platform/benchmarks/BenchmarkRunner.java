@@ -0,0 +1,55 @@
+package com.platform.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Entry point of the benchmark jar.
+ *
+ * Accepts the regular JMH command line (benchmark filter, -f, -wi, -i, -p ...)
+ * and writes the results as JSON so that runs of different releases can be
+ * diffed. Unless -rff is given, results go to {@value #DEFAULT_RESULT_FILE}.
+ *
+ * <pre>
+ * java -jar modules/benchmarks/target/benchmarks.jar
+ * java -jar modules/benchmarks/target/benchmarks.jar BookingValidation -rff validation.json
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+    static final String DEFAULT_RESULT_FILE = "jmh-results.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLine);
+        if (!commandLine.getResult().hasValue()) {
+            builder.result(DEFAULT_RESULT_FILE);
+        }
+        if (!commandLine.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+
+        Options options = builder.build();
+        if (commandLine.shouldList()) {
+            new Runner(options).list();
+            return;
+        }
+        new Runner(options).run();
+    }
+}
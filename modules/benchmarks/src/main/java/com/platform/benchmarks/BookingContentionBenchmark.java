@@ -0,0 +1,163 @@
+package com.platform.benchmarks;
+
+import com.platform.vehicle.application.usecases.ApproveBookingUseCase;
+import com.platform.vehicle.application.usecases.CreateBookingUseCase;
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.domain.Vehicle;
+import com.platform.vehicle.infrastructure.ConflictRetry;
+import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hundreds of threads approving overlapping bookings on a handful of
+ * vehicles. Every approval claims its window in the availability index and
+ * bumps the vehicle's version, so the run measures the reservation path
+ * under contention: approvals that win, approvals rejected as conflicts, and
+ * approvals that still lost the optimistic-locking race after all retries.
+ *
+ * Each iteration starts from a fresh pool of pending bookings with random
+ * two-hour windows spread over one month.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(200)
+@Fork(1)
+public class BookingContentionBenchmark {
+
+    private static final int POOL_SIZE = 100_000;
+    private static final int CHUNK_SIZE = 1_000;
+    private static final Long REQUESTER_ID = 1L;
+    private static final Long APPROVER_ID = 2L;
+
+    @Param({"4"})
+    private int vehicles;
+
+    // 1 shows the raw conflict rate, 3 is the default
+    @Param({"1", "3"})
+    private String maxAttempts;
+
+    private ConfigurableApplicationContext context;
+    private VehicleManagementRepository repository;
+    private ApproveBookingUseCase approveBookingUseCase;
+    private ConflictRetry conflictRetry;
+    private final List<Long> vehicleIds = new ArrayList<>();
+    private List<Long> pendingBookingIds;
+    private final AtomicInteger next = new AtomicInteger();
+    private int iteration;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.boot("--bpr.vehicle.conflict-retry.max-attempts=" + maxAttempts);
+
+        repository = context.getBean(VehicleManagementRepository.class);
+        approveBookingUseCase = context.getBean(ApproveBookingUseCase.class);
+        conflictRetry = context.getBean(ConflictRetry.class);
+        for (int i = 0; i < vehicles; i++) {
+            Vehicle vehicle = BenchmarkFixtures.bookableVehicle(null);
+            vehicle.setPlateNumber("BC-" + i + "-" + (System.nanoTime() % 100_000));
+            vehicleIds.add(repository.saveVehicle(vehicle).getId());
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void fillPool() {
+        Random random = new Random(42);
+        // Every iteration books its own month, so earlier approvals do not skew the conflict rate
+        LocalDateTime base = LocalDateTime.now().plusDays(1 + 31L * iteration++)
+                .withMinute(0).withSecond(0).withNano(0);
+        List<Long> ids = new ArrayList<>(POOL_SIZE);
+        List<Booking> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < POOL_SIZE; i++) {
+            LocalDateTime start = base.plusHours(random.nextInt(30 * 24));
+            Booking booking = new Booking(vehicleIds.get(random.nextInt(vehicleIds.size())), REQUESTER_ID,
+                    "Contention", start, start.plusHours(2));
+            booking.markCreated("benchmark");
+            chunk.add(booking);
+            if (chunk.size() == CHUNK_SIZE || i == POOL_SIZE - 1) {
+                repository.saveImportedBookings(chunk).forEach(saved -> ids.add(saved.getId()));
+                chunk.clear();
+            }
+        }
+        pendingBookingIds = ids;
+        next.set(0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Booking approve(Outcomes outcomes) {
+        int index = next.getAndIncrement();
+        if (index >= pendingBookingIds.size()) {
+            outcomes.exhausted++;
+            return null;
+        }
+        Long bookingId = pendingBookingIds.get(index);
+        try {
+            Booking booking = conflictRetry.execute(
+                    () -> approveBookingUseCase.execute(bookingId, APPROVER_ID, "Contention"));
+            outcomes.approved++;
+            return booking;
+        } catch (CreateBookingUseCase.BookingValidationException e) {
+            outcomes.conflicts++;
+            return null;
+        } catch (RuntimeException e) {
+            if (!ConflictRetry.isConflict(e)) {
+                throw e;
+            }
+            outcomes.retriesExhausted++;
+            return null;
+        }
+    }
+
+    /**
+     * Per-thread outcome counters reported next to the score.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+
+        public long approved;
+        // Rejected because the window was already taken
+        public long conflicts;
+        // Still losing the optimistic-locking race after the last attempt
+        public long retriesExhausted;
+        // The pool ran out before the iteration ended; raise POOL_SIZE
+        public long exhausted;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            approved = 0;
+            conflicts = 0;
+            retriesExhausted = 0;
+            exhausted = 0;
+        }
+    }
+}
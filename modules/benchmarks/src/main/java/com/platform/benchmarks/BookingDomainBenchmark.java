@@ -0,0 +1,83 @@
+package com.platform.benchmarks;
+
+import com.platform.vehicle.domain.Booking;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain-level checks that run for every booking in a conflict scan or
+ * lifecycle transition.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingDomainBenchmark {
+
+    private static final Booking.BookingStatus[] STATUSES = Booking.BookingStatus.values();
+
+    /** Number of bookings scanned per overlap check */
+    @Param({"10", "1000"})
+    public int bookingCount;
+
+    private List<Booking> bookings;
+    private LocalDateTime windowStart;
+    private LocalDateTime windowEnd;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+        bookings = new ArrayList<>(bookingCount);
+        for (int i = 0; i < bookingCount; i++) {
+            LocalDateTime startTime = base.plusHours(3L * i);
+            Booking booking = new Booking(1L, 1L, "Trip " + i, startTime, startTime.plusHours(2));
+            booking.setStatus(STATUSES[i % STATUSES.length]);
+            bookings.add(booking);
+        }
+        windowStart = base.plusHours(3L * (bookingCount / 2));
+        windowEnd = windowStart.plusHours(4);
+    }
+
+    /**
+     * Linear overlap scan, as done over the bookings of one vehicle.
+     */
+    @Benchmark
+    public int isOverlapping() {
+        int overlapping = 0;
+        for (Booking booking : bookings) {
+            if (booking.isOverlapping(windowStart, windowEnd)) {
+                overlapping++;
+            }
+        }
+        return overlapping;
+    }
+
+    /**
+     * Every status pair of the lifecycle state machine.
+     */
+    @Benchmark
+    public void canTransitionTo(Blackhole blackhole) {
+        for (Booking.BookingStatus from : STATUSES) {
+            for (Booking.BookingStatus to : STATUSES) {
+                blackhole.consume(from.canTransitionTo(to));
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.platform.benchmarks;
+
+import com.platform.vehicle.application.usecases.BookingLifecycleScheduler;
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.domain.Vehicle;
+import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Catch-up after downtime: a sweep over bookings that expired while the
+ * application was down, one transaction per booking versus batched
+ * transactions. The backlog is imported before every invocation and drained
+ * by a single tick.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, batchSize = 1)
+@Measurement(iterations = 10, batchSize = 1)
+@Fork(1)
+public class BookingLifecycleBenchmark {
+
+    private static final int BACKLOG = 1000;
+    private static final Long REQUESTER_ID = 1L;
+
+    @Param({"1", "100"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private VehicleManagementRepository repository;
+    private BookingLifecycleScheduler scheduler;
+    private Long vehicleId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.boot(
+                "--bpr.vehicle.lifecycle.batch-size=" + batchSize,
+                "--bpr.vehicle.lifecycle.max-batches-per-tick=" + BACKLOG);
+
+        repository = context.getBean(VehicleManagementRepository.class);
+        scheduler = context.getBean(BookingLifecycleScheduler.class);
+
+        Vehicle vehicle = BenchmarkFixtures.bookableVehicle(null);
+        vehicle.setPlateNumber("LC-" + Long.toString(System.nanoTime() % 1_000_000, 36));
+        vehicleId = repository.saveVehicle(vehicle).getId();
+    }
+
+    @Setup(Level.Invocation)
+    public void importBacklog() {
+        // Pending bookings whose start passed while nobody approved them
+        LocalDateTime start = LocalDateTime.now().minusHours(2);
+        List<Booking> backlog = new ArrayList<>(BACKLOG);
+        for (int i = 0; i < BACKLOG; i++) {
+            Booking booking = new Booking(vehicleId, REQUESTER_ID, "Expired", start.plusSeconds(i), start.plusHours(1));
+            booking.markCreated("benchmark");
+            backlog.add(booking);
+        }
+        // The import arms a timer per booking, all of them already due
+        repository.saveImportedBookings(backlog);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int sweepBacklog() {
+        scheduler.tick();
+        return scheduler.getQueuedTimers();
+    }
+}
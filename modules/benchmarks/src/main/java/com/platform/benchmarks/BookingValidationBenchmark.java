@@ -0,0 +1,85 @@
+package com.platform.benchmarks;
+
+import com.platform.vehicle.application.dto.CreateBookingRequest;
+import com.platform.vehicle.application.usecases.BookingValidationService;
+import com.platform.vehicle.application.usecases.CreateBookingUseCase;
+import com.platform.vehicle.domain.Driver;
+import com.platform.vehicle.domain.Vehicle;
+import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import com.platform.vehicle.infrastructure.availability.BookingAvailabilityIndex;
+import com.platform.vehicle.infrastructure.repositories.BookingJpaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of a booking request against a warmed availability index.
+ *
+ * The repository is stubbed out, so the score covers the business rules and
+ * the index lookups only; any fallback to the conflict queries fails the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingValidationBenchmark {
+
+    private static final Long VEHICLE_ID = 1L;
+    private static final Long DRIVER_ID = 1L;
+
+    /** Blocking bookings already held by the vehicle and the driver */
+    @Param({"0", "100", "10000"})
+    public int existingBookings;
+
+    private BookingValidationService validationService;
+    private CreateBookingRequest request;
+    private Vehicle vehicle;
+    private Driver driver;
+
+    @Setup
+    public void setUp() {
+        // Existing windows start the day after the requested one, so the request never conflicts
+        LocalDateTime base = LocalDateTime.now().plusDays(2);
+        List<Object[]> windows = new ArrayList<>(existingBookings);
+        for (int i = 0; i < existingBookings; i++) {
+            LocalDateTime startTime = base.plusHours(6L * i);
+            windows.add(new Object[] {(long) i + 1, VEHICLE_ID, DRIVER_ID, startTime, startTime.plusHours(4)});
+        }
+
+        BookingJpaRepository bookingJpaRepository = BenchmarkFixtures.stub(BookingJpaRepository.class,
+                Map.of("findBlockingBookingWindows", windows));
+        BookingAvailabilityIndex availabilityIndex = new BookingAvailabilityIndex(bookingJpaRepository);
+        availabilityIndex.rebuild();
+
+        VehicleManagementRepository repository = BenchmarkFixtures.stub(VehicleManagementRepository.class,
+                Collections.emptyMap());
+        validationService = new BookingValidationService(repository, availabilityIndex);
+
+        vehicle = BenchmarkFixtures.bookableVehicle(VEHICLE_ID);
+        driver = BenchmarkFixtures.availableDriver(DRIVER_ID);
+        request = BenchmarkFixtures.bookingRequest(VEHICLE_ID, DRIVER_ID);
+    }
+
+    @Benchmark
+    public CreateBookingRequest validateBookingRequest() throws CreateBookingUseCase.BookingValidationException {
+        validationService.validateBookingRequest(request, vehicle, driver);
+        return request;
+    }
+}
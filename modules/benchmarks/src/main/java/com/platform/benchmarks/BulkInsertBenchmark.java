@@ -0,0 +1,91 @@
+package com.platform.benchmarks;
+
+import com.platform.vehicle.infrastructure.adapters.EntityMapper;
+import com.platform.vehicle.infrastructure.entities.VehicleEntity;
+import com.platform.vehicle.infrastructure.repositories.VehicleJpaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Inserting a batch of vehicles in one transaction, with and without JDBC
+ * batching. With sequence-generated IDs Hibernate fetches IDs in blocks and
+ * sends the inserts in batches of hibernate.jdbc.batch_size; a batch size of 1
+ * is the row-by-row baseline.
+ *
+ * Runs against the embedded H2 database by default. To measure PostgreSQL, set
+ * DATABASE_URL, DATABASE_USERNAME and DATABASE_PASSWORD and pass
+ * {@code -p database=postgres}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    @Param({"1", "50"})
+    private String batchSize;
+
+    @Param({"h2"})
+    private String database;
+
+    private final AtomicLong plateCounter = new AtomicLong();
+    private String platePrefix;
+
+    private ConfigurableApplicationContext context;
+    private VehicleJpaRepository vehicleJpaRepository;
+    private EntityMapper entityMapper;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.boot(
+                "--spring.profiles.active=" + ("postgres".equals(database) ? "postgres" : "default"),
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+
+        // Plate numbers are limited to 20 characters; the prefix keeps repeated PostgreSQL runs apart
+        platePrefix = "BI" + Long.toString(System.currentTimeMillis() % 60_466_176L, 36) + "-";
+        vehicleJpaRepository = context.getBean(VehicleJpaRepository.class);
+        entityMapper = context.getBean(EntityMapper.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<VehicleEntity> insert() {
+        // Plate numbers are unique, so every invocation builds fresh entities
+        List<VehicleEntity> entities = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            VehicleEntity entity = entityMapper.toVehicleEntity(BenchmarkFixtures.bookableVehicle(null));
+            entity.setPlateNumber(platePrefix + plateCounter.incrementAndGet());
+            entities.add(entity);
+        }
+        return transactionTemplate.execute(status -> vehicleJpaRepository.saveAll(entities));
+    }
+}
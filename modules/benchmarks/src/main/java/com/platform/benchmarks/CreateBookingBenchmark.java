@@ -0,0 +1,116 @@
+package com.platform.benchmarks;
+
+import com.platform.vehicle.VehicleManagementApplication;
+import com.platform.vehicle.application.dto.BookingResponse;
+import com.platform.vehicle.application.dto.CreateBookingRequest;
+import com.platform.vehicle.application.usecases.CreateBookingUseCase;
+import com.platform.vehicle.domain.Vehicle;
+import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end booking creation against the embedded H2 database:
+ * lookups, validation, insert, event publishing and notifications in one
+ * transaction, exactly as invoked by the createBooking mutation.
+ *
+ * All bookings target the same window; they stay PENDING and so never
+ * conflict with each other.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CreateBookingBenchmark {
+
+    private static final Long REQUESTER_ID = 1L;
+
+    private ConfigurableApplicationContext context;
+    private CreateBookingUseCase createBookingUseCase;
+    private CreateBookingRequest request;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.boot();
+
+        VehicleManagementRepository repository = context.getBean(VehicleManagementRepository.class);
+        Vehicle vehicle = BenchmarkFixtures.bookableVehicle(null);
+        vehicle.setPlateNumber("BM-" + System.nanoTime());
+        Vehicle savedVehicle = repository.saveVehicle(vehicle);
+
+        createBookingUseCase = context.getBean(CreateBookingUseCase.class);
+        request = BenchmarkFixtures.bookingRequest(savedVehicle.getId(), null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BookingResponse execute(Failures failures) throws CreateBookingUseCase.BookingValidationException {
+        try {
+            return createBookingUseCase.execute(request, REQUESTER_ID);
+        } catch (DataIntegrityViolationException e) {
+            // Booking references are not collision-free; count instead of aborting the run
+            failures.duplicateReferences++;
+            return null;
+        }
+    }
+
+    /**
+     * Per-thread counters reported next to the score.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Failures {
+
+        public long duplicateReferences;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            duplicateReferences = 0;
+        }
+    }
+
+    /**
+     * Application configuration for the benchmark. The module's own
+     * application class also enables async execution and scheduling, which
+     * would run background work during measurements, so it is excluded and
+     * components, repositories and entities are registered explicitly here.
+     */
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableJpaAuditing
+    @ComponentScan(basePackages = "com.platform.vehicle",
+            excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = VehicleManagementApplication.class))
+    @EnableJpaRepositories(basePackages = "com.platform.vehicle.infrastructure.repositories")
+    @EntityScan(basePackages = "com.platform.vehicle.infrastructure.entities")
+    static class BenchmarkApplication {
+    }
+}
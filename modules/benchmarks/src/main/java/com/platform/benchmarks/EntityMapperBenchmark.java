@@ -0,0 +1,57 @@
+package com.platform.benchmarks;
+
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.infrastructure.adapters.EntityMapper;
+import com.platform.vehicle.infrastructure.entities.BookingEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping cost between booking rows and the domain model.
+ * Event history only affects the entity to domain direction; new events are
+ * written separately on save.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityMapperBenchmark {
+
+    /** Number of history events attached to the loaded booking */
+    @Param({"0", "10", "100"})
+    public int eventCount;
+
+    private EntityMapper entityMapper;
+    private BookingEntity bookingEntity;
+    private Booking booking;
+
+    @Setup
+    public void setUp() {
+        entityMapper = new EntityMapper();
+        bookingEntity = BenchmarkFixtures.bookingEntity(1L, eventCount);
+        booking = entityMapper.toDomainBooking(BenchmarkFixtures.bookingEntity(1L, 0));
+    }
+
+    @Benchmark
+    public Booking toDomainBooking() {
+        return entityMapper.toDomainBooking(bookingEntity);
+    }
+
+    @Benchmark
+    public BookingEntity toBookingEntity() {
+        return entityMapper.toBookingEntity(booking);
+    }
+}
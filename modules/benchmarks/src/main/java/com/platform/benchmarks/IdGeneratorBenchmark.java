@@ -0,0 +1,59 @@
+package com.platform.benchmarks;
+
+import com.platform.common.domain.id.SnowflakeIdGenerator;
+import com.platform.common.domain.id.UlidGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID generation throughput with all threads sharing one generator, as they do
+ * in the application. Run with -t 1 for the uncontended cost.
+ * The legacy methods reproduce the previous event ID and booking reference formats.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    private final SnowflakeIdGenerator snowflake = new SnowflakeIdGenerator(1);
+    private final UlidGenerator ulid = new UlidGenerator();
+
+    @Benchmark
+    public String snowflake() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    public long snowflakeLong() {
+        return snowflake.nextLong();
+    }
+
+    @Benchmark
+    public String ulid() {
+        return ulid.nextId();
+    }
+
+    @Benchmark
+    public String legacyEventId() {
+        return "evt-" + System.currentTimeMillis() + "-" + Thread.currentThread().getId();
+    }
+
+    @Benchmark
+    public String legacyBookingReference() {
+        return "BKG-" + System.currentTimeMillis() + "-" + (1000 + (int) (Math.random() * 9000));
+    }
+}
@@ -0,0 +1,130 @@
+package com.platform.benchmarks;
+
+import com.platform.vehicle.application.dto.CreateBookingRequest;
+import com.platform.vehicle.application.dto.RecurringBookingResult;
+import com.platform.vehicle.application.usecases.BookingValidationService;
+import com.platform.vehicle.application.usecases.CreateBookingUseCase;
+import com.platform.vehicle.application.usecases.RecurringBookingService;
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.domain.Driver;
+import com.platform.vehicle.domain.RecurrenceRule;
+import com.platform.vehicle.domain.Vehicle;
+import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A weekly shuttle booked for a year: 52 occurrences of one vehicle and
+ * driver, some of which collide with approved bookings.
+ *
+ * checkBatch is the conflict check the recurring booking service runs: one
+ * pass over the availability index for all occurrences. checkOneByOne issues
+ * the two conflict queries per occurrence that a loop over single bookings
+ * would. createSeries is the whole request, including the batched inserts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RecurringBookingBenchmark {
+
+    private static final String WEEKLY_SHUTTLE = "FREQ=WEEKLY;COUNT=52";
+    private static final Long REQUESTER_ID = 1L;
+
+    private ConfigurableApplicationContext context;
+    private VehicleManagementRepository repository;
+    private BookingValidationService bookingValidationService;
+    private RecurringBookingService recurringBookingService;
+    private CreateBookingRequest request;
+    private List<Booking> occurrences;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.boot();
+
+        repository = context.getBean(VehicleManagementRepository.class);
+        bookingValidationService = context.getBean(BookingValidationService.class);
+        recurringBookingService = context.getBean(RecurringBookingService.class);
+
+        String run = Long.toString(System.nanoTime() % 1_000_000, 36);
+        Vehicle vehicle = BenchmarkFixtures.bookableVehicle(null);
+        vehicle.setPlateNumber("RB-" + run);
+        Long vehicleId = repository.saveVehicle(vehicle).getId();
+        Driver driver = BenchmarkFixtures.availableDriver(null);
+        driver.setUserId(30_000L);
+        driver.setLicenseNumber("LIC-RB-" + run);
+        Long driverId = repository.saveDriver(driver).getId();
+
+        request = BenchmarkFixtures.bookingRequest(vehicleId, driverId);
+        request.setRecurringPattern(WEEKLY_SHUTTLE);
+
+        // Every fourth week is already taken by an approved booking
+        occurrences = new ArrayList<>();
+        List<Booking> approved = new ArrayList<>();
+        Iterator<LocalDateTime> starts = RecurrenceRule.parse(WEEKLY_SHUTTLE).occurrences(request.getStartTime());
+        for (int week = 0; starts.hasNext(); week++) {
+            LocalDateTime start = starts.next();
+            Booking occurrence = new Booking(vehicleId, REQUESTER_ID, "Shuttle", start,
+                    start.plusHours(4));
+            occurrence.setDriverId(driverId);
+            occurrences.add(occurrence);
+            if (week % 4 == 3) {
+                Booking taken = new Booking(vehicleId, REQUESTER_ID, "Taken", start.plusHours(1), start.plusHours(2));
+                taken.setStatus(Booking.BookingStatus.APPROVED);
+                taken.markCreated("benchmark");
+                approved.add(taken);
+            }
+        }
+        repository.saveImportedBookings(approved);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Map<Integer, List<Long>> checkBatch() {
+        return bookingValidationService.findConflicts(occurrences);
+    }
+
+    @Benchmark
+    public int checkOneByOne() {
+        int conflicts = 0;
+        for (Booking occurrence : occurrences) {
+            boolean vehicleConflict = !repository.findConflictingBookings(occurrence.getVehicleId(),
+                    occurrence.getStartTime(), occurrence.getEndTime()).isEmpty();
+            boolean driverConflict = !repository.findConflictingBookingsForDriver(occurrence.getDriverId(),
+                    occurrence.getStartTime(), occurrence.getEndTime()).isEmpty();
+            if (vehicleConflict || driverConflict) {
+                conflicts++;
+            }
+        }
+        return conflicts;
+    }
+
+    @Benchmark
+    public RecurringBookingResult createSeries() throws CreateBookingUseCase.BookingValidationException {
+        // Created occurrences stay PENDING, so every call sees the same free weeks
+        return recurringBookingService.createSeries(request, REQUESTER_ID);
+    }
+}
@@ -0,0 +1,110 @@
+package com.platform.benchmarks;
+
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.domain.Driver;
+import com.platform.vehicle.domain.Vehicle;
+import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trip statistics recorded with relative updates, one trip per call versus a
+ * bulk completion of many trips at once. Bulk calls sum the trips per vehicle
+ * and driver and send one batched statement per table; the trips counter
+ * gives the rate per trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(16)
+@Fork(1)
+public class TripStatisticsBenchmark {
+
+    private static final int VEHICLES = 16;
+    private static final int DRIVERS = 64;
+
+    @Param({"1", "100"})
+    private int tripsPerCall;
+
+    private ConfigurableApplicationContext context;
+    private VehicleManagementRepository repository;
+    private final List<Long> vehicleIds = new ArrayList<>();
+    private final List<Long> driverIds = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.boot();
+
+        repository = context.getBean(VehicleManagementRepository.class);
+        String run = Long.toString(System.nanoTime() % 1_000_000, 36);
+        for (int i = 0; i < VEHICLES; i++) {
+            Vehicle vehicle = BenchmarkFixtures.bookableVehicle(null);
+            vehicle.setPlateNumber("TS-" + run + "-" + i);
+            vehicleIds.add(repository.saveVehicle(vehicle).getId());
+        }
+        for (int i = 0; i < DRIVERS; i++) {
+            Driver driver = BenchmarkFixtures.availableDriver(null);
+            driver.setUserId(20_000L + i);
+            driver.setLicenseNumber("LIC-TS-" + run + "-" + i);
+            driverIds.add(repository.saveDriver(driver).getId());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void recordTrips(Trips trips) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime start = LocalDateTime.now().minusHours(2);
+        List<Booking> completed = new ArrayList<>(tripsPerCall);
+        for (int i = 0; i < tripsPerCall; i++) {
+            Booking trip = new Booking(vehicleIds.get(random.nextInt(VEHICLES)), 1L, "Trip",
+                    start, start.plusHours(1));
+            trip.setDriverId(driverIds.get(random.nextInt(DRIVERS)));
+            trip.setActualMileage(random.nextInt(5, 200));
+            completed.add(trip);
+        }
+        repository.recordCompletedTrips(completed);
+        trips.trips += tripsPerCall;
+    }
+
+    /**
+     * Per-thread count of recorded trips, reported next to the score.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Trips {
+
+        public long trips;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            trips = 0;
+        }
+    }
+}
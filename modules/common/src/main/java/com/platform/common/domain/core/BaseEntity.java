@@ -10,6 +10,9 @@ import java.util.Objects;
 @MappedSuperclass
 public abstract class BaseEntity {
     
+    // Default for subclasses without their own id mapping. The persistent entities
+    // (vehicles, drivers, bookings) declare pooled sequence ids so their inserts
+    // can be JDBC-batched; the domain classes extending this one are not mapped.
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     protected Long id;
@@ -34,6 +37,11 @@ public abstract class BaseEntity {
     @NotNull
     protected boolean deleted = false;
 
+    // Checked and incremented on every update; null until the entity is first saved
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    protected Long version;
+
     // Constructors
     public BaseEntity() {
         this.createdAt = LocalDateTime.now();
@@ -90,6 +98,14 @@ public abstract class BaseEntity {
         this.deleted = deleted;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // Helper methods
     public void markUpdated(String updatedBy) {
         this.updatedAt = LocalDateTime.now();
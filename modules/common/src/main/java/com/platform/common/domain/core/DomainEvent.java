@@ -1,5 +1,7 @@
 package com.platform.common.domain.core;
 
+import com.platform.common.domain.id.IdGenerators;
+
 import java.time.LocalDateTime;
 import java.util.Objects;
 
@@ -34,7 +36,7 @@ public abstract class DomainEvent {
 
     // Helper Methods
     private String generateEventId() {
-        return "evt-" + System.currentTimeMillis() + "-" + Thread.currentThread().getId();
+        return "evt-" + IdGenerators.nextId();
     }
 
     // Getters and Setters
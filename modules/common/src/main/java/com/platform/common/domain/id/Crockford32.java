@@ -0,0 +1,45 @@
+package com.platform.common.domain.id;
+
+/**
+ * Crockford base32 encoding of unsigned 64 and 128 bit values.
+ * Fixed-width output keeps the lexical order equal to the numeric order.
+ */
+final class Crockford32 {
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private Crockford32() {
+    }
+
+    /**
+     * @return 13 characters
+     */
+    static String encode(long value) {
+        char[] chars = new char[13];
+        for (int i = 12, shift = 0; i >= 0; i--, shift += 5) {
+            chars[i] = ALPHABET[(int) (value >>> shift) & 31];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * @return 26 characters
+     */
+    static String encode(long high, long low) {
+        char[] chars = new char[26];
+        for (int i = 25, shift = 0; i >= 0; i--, shift += 5) {
+            chars[i] = ALPHABET[bits(high, low, shift)];
+        }
+        return new String(chars);
+    }
+
+    private static int bits(long high, long low, int shift) {
+        if (shift >= 64) {
+            return (int) (high >>> (shift - 64)) & 31;
+        }
+        if (shift > 59) {
+            return (int) ((low >>> shift) | (high << (64 - shift))) & 31;
+        }
+        return (int) (low >>> shift) & 31;
+    }
+}
@@ -0,0 +1,13 @@
+package com.platform.common.domain.id;
+
+/**
+ * Source of unique, time-ordered identifiers.
+ * Implementations must be thread-safe.
+ */
+public interface IdGenerator {
+
+    /**
+     * @return A new identifier; identifiers from one generator sort in the order they were issued
+     */
+    String nextId();
+}
@@ -0,0 +1,37 @@
+package com.platform.common.domain.id;
+
+/**
+ * Process-wide ID generator used by domain objects that assign their own
+ * identifiers when created (event IDs, booking references).
+ *
+ * Until the application installs a configured generator, a Snowflake generator
+ * with a random node ID is used.
+ */
+public final class IdGenerators {
+
+    private static volatile IdGenerator current = new SnowflakeIdGenerator(SnowflakeIdGenerator.randomNodeId());
+
+    private IdGenerators() {
+    }
+
+    /**
+     * @return A new identifier from the installed generator
+     */
+    public static String nextId() {
+        return current.nextId();
+    }
+
+    public static IdGenerator get() {
+        return current;
+    }
+
+    /**
+     * @param generator The generator to use from now on
+     */
+    public static void install(IdGenerator generator) {
+        if (generator == null) {
+            throw new IllegalArgumentException("generator must not be null");
+        }
+        current = generator;
+    }
+}
@@ -0,0 +1,81 @@
+package com.platform.common.domain.id;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 64-bit time-ordered identifiers in the Snowflake layout:
+ * 41 bits of milliseconds since 2024-01-01, 10 bits of node ID and a 12-bit
+ * sequence, encoded as 13 Crockford base32 characters.
+ *
+ * The last timestamp and sequence are packed into one {@link AtomicLong} and
+ * advanced with compare-and-set, so generation is lock-free and strictly
+ * increasing per node. If the clock moves backwards, the sequence of the last
+ * issued millisecond is continued; once a millisecond's sequence is exhausted,
+ * callers spin until the clock reaches the next one, so IDs never run ahead of
+ * the clock. IDs from different nodes cannot collide as long as node IDs are unique.
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    public static final long EPOCH_MILLIS = 1704067200000L; // 2024-01-01T00:00:00Z
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private final long node;
+    private final LongSupplier clock;
+    // (milliseconds since epoch << SEQUENCE_BITS) | sequence of the last issued ID
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * @param nodeId Unique ID of this node in the cluster, 0 to {@link #MAX_NODE_ID}
+     */
+    public SnowflakeIdGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    /**
+     * @param nodeId Unique ID of this node in the cluster, 0 to {@link #MAX_NODE_ID}
+     * @param clock Source of the current time in Unix milliseconds
+     */
+    SnowflakeIdGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.node = nodeId;
+        this.clock = clock;
+    }
+
+    /**
+     * @return A random node ID, for single-node setups where none is configured
+     */
+    public static int randomNodeId() {
+        return new SecureRandom().nextInt(MAX_NODE_ID + 1);
+    }
+
+    @Override
+    public String nextId() {
+        return Crockford32.encode(nextLong());
+    }
+
+    /**
+     * @return A new identifier as a positive long
+     */
+    public long nextLong() {
+        for (;;) {
+            long now = (clock.getAsLong() - EPOCH_MILLIS) << SEQUENCE_BITS;
+            long previous = state.get();
+            long next = now > previous ? now : previous + 1;
+            if (next >>> SEQUENCE_BITS > previous >>> SEQUENCE_BITS && next > now) {
+                // The sequence of the last millisecond is exhausted and the clock has not moved past it
+                Thread.onSpinWait();
+            } else if (state.compareAndSet(previous, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.platform.common.domain.id;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * ULIDs: 128-bit identifiers encoded as 26 Crockford base32 characters,
+ * starting with a 48-bit millisecond timestamp.
+ *
+ * The 80 bits after the timestamp are a 16-bit sequence followed by 64 random
+ * bits chosen once per generator. Timestamp and sequence are advanced with
+ * compare-and-set on one {@link AtomicLong}, so IDs are lock-free and strictly
+ * increasing per generator; the random node bits keep generators on different
+ * nodes apart without coordination. Clock regressions and sequence exhaustion
+ * are handled as in {@link SnowflakeIdGenerator}.
+ */
+public class UlidGenerator implements IdGenerator {
+
+    private static final int SEQUENCE_BITS = 16;
+
+    private final long nodeEntropy;
+    private final LongSupplier clock;
+    // (unix milliseconds << SEQUENCE_BITS) | sequence of the last issued ID
+    private final AtomicLong state = new AtomicLong();
+
+    public UlidGenerator() {
+        this(new SecureRandom().nextLong());
+    }
+
+    /**
+     * @param nodeEntropy The 64 low bits shared by all IDs of this generator
+     */
+    public UlidGenerator(long nodeEntropy) {
+        this(nodeEntropy, System::currentTimeMillis);
+    }
+
+    /**
+     * @param nodeEntropy The 64 low bits shared by all IDs of this generator
+     * @param clock Source of the current time in Unix milliseconds
+     */
+    UlidGenerator(long nodeEntropy, LongSupplier clock) {
+        this.nodeEntropy = nodeEntropy;
+        this.clock = clock;
+    }
+
+    @Override
+    public String nextId() {
+        for (;;) {
+            long now = clock.getAsLong() << SEQUENCE_BITS;
+            long previous = state.get();
+            long next = now > previous ? now : previous + 1;
+            if (next >>> SEQUENCE_BITS > previous >>> SEQUENCE_BITS && next > now) {
+                // The sequence of the last millisecond is exhausted and the clock has not moved past it
+                Thread.onSpinWait();
+            } else if (state.compareAndSet(previous, next)) {
+                return Crockford32.encode(next, nodeEntropy);
+            }
+        }
+    }
+}
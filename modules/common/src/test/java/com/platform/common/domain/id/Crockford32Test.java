@@ -0,0 +1,74 @@
+package com.platform.common.domain.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Crockford32Test {
+
+    private static final String ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+    private static final BigInteger UNSIGNED_LONG = BigInteger.ONE.shiftLeft(64);
+
+    private final Random random = new Random(42);
+
+    @Test
+    void boundaryValuesUseTheFullWidth() {
+        assertThat(Crockford32.encode(0L)).isEqualTo("0000000000000");
+        assertThat(Crockford32.encode(31L)).isEqualTo("000000000000Z");
+        assertThat(Crockford32.encode(32L)).isEqualTo("0000000000010");
+        assertThat(Crockford32.encode(-1L)).isEqualTo("FZZZZZZZZZZZZ");
+        assertThat(Crockford32.encode(0L, 0L)).isEqualTo("00000000000000000000000000");
+        assertThat(Crockford32.encode(-1L, -1L)).isEqualTo("7ZZZZZZZZZZZZZZZZZZZZZZZZZ");
+    }
+
+    @Test
+    void encodedLongsDecodeToTheirUnsignedValue() {
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextLong();
+            assertThat(decode(Crockford32.encode(value))).isEqualTo(unsigned(value));
+        }
+    }
+
+    @Test
+    void encodedPairsDecodeToTheir128BitValue() {
+        for (int i = 0; i < 10_000; i++) {
+            long high = random.nextLong();
+            long low = random.nextLong();
+            BigInteger expected = unsigned(high).shiftLeft(64).or(unsigned(low));
+            assertThat(decode(Crockford32.encode(high, low))).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void lexicalOrderMatchesUnsignedOrder() {
+        for (int i = 0; i < 10_000; i++) {
+            long a = random.nextLong();
+            long b = random.nextLong();
+            assertThat(Integer.signum(Crockford32.encode(a).compareTo(Crockford32.encode(b))))
+                    .isEqualTo(Integer.signum(Long.compareUnsigned(a, b)));
+
+            // Equal high halves, as for two ULIDs from one millisecond
+            long low = random.nextLong();
+            assertThat(Integer.signum(Crockford32.encode(a, low).compareTo(Crockford32.encode(b, low))))
+                    .isEqualTo(Integer.signum(Long.compareUnsigned(a, b)));
+            assertThat(Integer.signum(Crockford32.encode(a, low).compareTo(Crockford32.encode(a, b))))
+                    .isEqualTo(Integer.signum(Long.compareUnsigned(low, b)));
+        }
+    }
+
+    static BigInteger decode(String encoded) {
+        BigInteger value = BigInteger.ZERO;
+        for (char c : encoded.toCharArray()) {
+            value = value.shiftLeft(5).or(BigInteger.valueOf(ALPHABET.indexOf(c)));
+        }
+        return value;
+    }
+
+    private static BigInteger unsigned(long value) {
+        BigInteger signed = BigInteger.valueOf(value);
+        return value < 0 ? signed.add(UNSIGNED_LONG) : signed;
+    }
+}
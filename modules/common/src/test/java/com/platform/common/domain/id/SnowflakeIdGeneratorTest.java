@@ -0,0 +1,135 @@
+package com.platform.common.domain.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final int SEQUENCES_PER_MILLI = 1 << SnowflakeIdGenerator.SEQUENCE_BITS;
+
+    private final AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH_MILLIS + 1000);
+    private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, clock::get);
+
+    @Test
+    void idsWithinOneMillisecondIncreaseBySequence() {
+        long previous = generator.nextLong();
+        assertThat(timestamp(previous)).isEqualTo(1000);
+        assertThat(node(previous)).isEqualTo(7);
+        assertThat(sequence(previous)).isZero();
+
+        for (int i = 1; i < SEQUENCES_PER_MILLI; i++) {
+            long id = generator.nextLong();
+            assertThat(id).isEqualTo(previous + 1);
+            assertThat(timestamp(id)).isEqualTo(1000);
+            previous = id;
+        }
+        assertThat(sequence(previous)).isEqualTo(SEQUENCES_PER_MILLI - 1);
+    }
+
+    @Test
+    void exhaustedSequenceWaitsForTheNextMillisecond() throws Exception {
+        for (int i = 0; i < SEQUENCES_PER_MILLI; i++) {
+            generator.nextLong();
+        }
+
+        CompletableFuture<Long> next = CompletableFuture.supplyAsync(generator::nextLong);
+        Thread.sleep(100);
+        assertThat(next).isNotDone();
+
+        clock.incrementAndGet();
+        long id = next.get(5, TimeUnit.SECONDS);
+        assertThat(timestamp(id)).isEqualTo(1001);
+        assertThat(sequence(id)).isZero();
+    }
+
+    @Test
+    void clockRegressionContinuesTheLastMillisecond() {
+        long first = generator.nextLong();
+
+        clock.addAndGet(-100);
+        long second = generator.nextLong();
+        assertThat(second).isEqualTo(first + 1);
+        assertThat(timestamp(second)).isEqualTo(1000);
+
+        clock.set(SnowflakeIdGenerator.EPOCH_MILLIS + 1001);
+        long third = generator.nextLong();
+        assertThat(timestamp(third)).isEqualTo(1001);
+        assertThat(sequence(third)).isZero();
+    }
+
+    @Test
+    void encodedIdsSortInIssueOrder() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 3 * SEQUENCES_PER_MILLI; i++) {
+            if (i % 1000 == 0) {
+                clock.incrementAndGet();
+            }
+            ids.add(generator.nextId());
+        }
+
+        assertThat(ids).allSatisfy(id -> assertThat(id).hasSize(13));
+        assertThat(ids).isSortedAccordingTo(String::compareTo);
+        assertThat(new HashSet<>(ids)).hasSize(ids.size());
+    }
+
+    @Test
+    void concurrentCallersGetDistinctIncreasingIds() throws Exception {
+        SnowflakeIdGenerator shared = new SnowflakeIdGenerator(3);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<Long>>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(executor.submit(() -> {
+                    List<Long> ids = new ArrayList<>();
+                    for (int i = 0; i < 20_000; i++) {
+                        ids.add(shared.nextLong());
+                    }
+                    return ids;
+                }));
+            }
+
+            Set<Long> all = new HashSet<>();
+            for (Future<List<Long>> result : results) {
+                List<Long> ids = result.get(30, TimeUnit.SECONDS);
+                assertThat(ids).isSorted();
+                all.addAll(ids);
+            }
+            assertThat(all).hasSize(4 * 20_000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void nodeIdOutsideTheNodeBitsIsRejected() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long timestamp(long id) {
+        return id >>> (SnowflakeIdGenerator.NODE_BITS + SnowflakeIdGenerator.SEQUENCE_BITS);
+    }
+
+    private static long node(long id) {
+        return (id >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID;
+    }
+
+    private static long sequence(long id) {
+        return id & (SEQUENCES_PER_MILLI - 1);
+    }
+}
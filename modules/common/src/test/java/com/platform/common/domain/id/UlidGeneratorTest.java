@@ -0,0 +1,89 @@
+package com.platform.common.domain.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UlidGeneratorTest {
+
+    private static final long NOW = 1_760_000_000_000L;
+    private static final long ENTROPY = 0x0123456789ABCDEFL;
+    private static final int SEQUENCES_PER_MILLI = 1 << 16;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+    private final UlidGenerator generator = new UlidGenerator(ENTROPY, clock::get);
+
+    @Test
+    void idsCarryTheTimestampSequenceAndNodeEntropy() {
+        String first = generator.nextId();
+        String second = generator.nextId();
+
+        assertThat(first).hasSize(26);
+        assertThat(timestamp(first)).isEqualTo(NOW);
+        assertThat(sequence(first)).isZero();
+        assertThat(sequence(second)).isEqualTo(1);
+        assertThat(entropy(second)).isEqualTo(ENTROPY);
+    }
+
+    @Test
+    void idsWithinOneMillisecondSortInIssueOrder() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.nextId());
+        }
+
+        assertThat(ids).isSortedAccordingTo(String::compareTo);
+        assertThat(ids).doesNotHaveDuplicates();
+        assertThat(ids).allSatisfy(id -> assertThat(timestamp(id)).isEqualTo(NOW));
+    }
+
+    @Test
+    void exhaustedSequenceWaitsForTheNextMillisecond() throws Exception {
+        for (int i = 0; i < SEQUENCES_PER_MILLI; i++) {
+            generator.nextId();
+        }
+
+        CompletableFuture<String> next = CompletableFuture.supplyAsync(generator::nextId);
+        Thread.sleep(100);
+        assertThat(next).isNotDone();
+
+        clock.incrementAndGet();
+        String id = next.get(5, TimeUnit.SECONDS);
+        assertThat(timestamp(id)).isEqualTo(NOW + 1);
+        assertThat(sequence(id)).isZero();
+    }
+
+    @Test
+    void clockRegressionContinuesTheLastMillisecond() {
+        String first = generator.nextId();
+
+        clock.addAndGet(-100);
+        String second = generator.nextId();
+        assertThat(second).isGreaterThan(first);
+        assertThat(timestamp(second)).isEqualTo(NOW);
+        assertThat(sequence(second)).isEqualTo(1);
+
+        clock.set(NOW + 1);
+        String third = generator.nextId();
+        assertThat(timestamp(third)).isEqualTo(NOW + 1);
+        assertThat(sequence(third)).isZero();
+    }
+
+    private static long timestamp(String id) {
+        return Crockford32Test.decode(id).shiftRight(80).longValueExact();
+    }
+
+    private static long sequence(String id) {
+        return Crockford32Test.decode(id).shiftRight(64).intValue() & 0xFFFF;
+    }
+
+    private static long entropy(String id) {
+        return Crockford32Test.decode(id).longValue();
+    }
+}
@@ -2,17 +2,14 @@ package com.platform.vehicle;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
 @EnableAsync
-@ComponentScan(basePackages = {
-    "com.bpr.common",
-    "com.bpr.vehicle"
-})
+@EnableScheduling
 public class VehicleManagementApplication {
 
     public static void main(String[] args) {
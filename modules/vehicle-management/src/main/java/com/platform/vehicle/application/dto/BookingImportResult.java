@@ -0,0 +1,56 @@
+package com.platform.vehicle.application.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk booking import. Rejected rows are listed with their line
+ * number up to a configured limit; beyond that they are only counted.
+ */
+public class BookingImportResult {
+
+    private long totalRows;
+    private long importedRows;
+    private long rejectedRows;
+    private boolean errorsTruncated;
+    private long durationMs;
+    private List<RowError> errors = new ArrayList<>();
+
+    // Constructors
+    public BookingImportResult() {}
+
+    // Getters and Setters
+    public long getTotalRows() { return totalRows; }
+    public void setTotalRows(long totalRows) { this.totalRows = totalRows; }
+    public long getImportedRows() { return importedRows; }
+    public void setImportedRows(long importedRows) { this.importedRows = importedRows; }
+    public long getRejectedRows() { return rejectedRows; }
+    public void setRejectedRows(long rejectedRows) { this.rejectedRows = rejectedRows; }
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+    public void setErrorsTruncated(boolean errorsTruncated) { this.errorsTruncated = errorsTruncated; }
+    public long getDurationMs() { return durationMs; }
+    public void setDurationMs(long durationMs) { this.durationMs = durationMs; }
+    public List<RowError> getErrors() { return errors; }
+    public void setErrors(List<RowError> errors) { this.errors = errors; }
+
+    /**
+     * A rejected row.
+     */
+    public static class RowError {
+
+        private long line;
+        private String message;
+
+        public RowError() {}
+
+        public RowError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public long getLine() { return line; }
+        public void setLine(long line) { this.line = line; }
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+}
@@ -18,6 +18,7 @@ public class CreateBookingRequest {
     private String costCenter;
     private String bookingType;
     private String additionalRequirements;
+    private String recurringPattern; // RRULE, for recurring bookings only
 
     // Constructors
     public CreateBookingRequest() {}
@@ -142,6 +143,14 @@ public class CreateBookingRequest {
         this.additionalRequirements = additionalRequirements;
     }
 
+    public String getRecurringPattern() {
+        return recurringPattern;
+    }
+
+    public void setRecurringPattern(String recurringPattern) {
+        this.recurringPattern = recurringPattern;
+    }
+
     @Override
     public String toString() {
         return "CreateBookingRequest{" +
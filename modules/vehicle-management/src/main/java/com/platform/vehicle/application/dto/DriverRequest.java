@@ -0,0 +1,171 @@
+package com.platform.vehicle.application.dto;
+
+import java.time.LocalDateTime;
+
+public class DriverRequest {
+    
+    private Long userId;
+    private String licenseType;
+    private String licenseNumber;
+    private LocalDateTime licenseExpiryDate;
+    private String phoneNumber;
+    private String emergencyContact;
+    private String emergencyPhone;
+    private String address;
+    private LocalDateTime hireDate;
+    private int yearsOfExperience;
+    private String certifications;
+    private String department;
+    private String costCenter;
+    private String shift;
+    private LocalDateTime lastHealthCheck;
+    private String notes;
+
+    // Constructors
+    public DriverRequest() {}
+
+    public DriverRequest(Long userId, String licenseType, String licenseNumber) {
+        this.userId = userId;
+        this.licenseType = licenseType;
+        this.licenseNumber = licenseNumber;
+    }
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getLicenseType() {
+        return licenseType;
+    }
+
+    public void setLicenseType(String licenseType) {
+        this.licenseType = licenseType;
+    }
+
+    public String getLicenseNumber() {
+        return licenseNumber;
+    }
+
+    public void setLicenseNumber(String licenseNumber) {
+        this.licenseNumber = licenseNumber;
+    }
+
+    public LocalDateTime getLicenseExpiryDate() {
+        return licenseExpiryDate;
+    }
+
+    public void setLicenseExpiryDate(LocalDateTime licenseExpiryDate) {
+        this.licenseExpiryDate = licenseExpiryDate;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
+
+    public String getEmergencyContact() {
+        return emergencyContact;
+    }
+
+    public void setEmergencyContact(String emergencyContact) {
+        this.emergencyContact = emergencyContact;
+    }
+
+    public String getEmergencyPhone() {
+        return emergencyPhone;
+    }
+
+    public void setEmergencyPhone(String emergencyPhone) {
+        this.emergencyPhone = emergencyPhone;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    public LocalDateTime getHireDate() {
+        return hireDate;
+    }
+
+    public void setHireDate(LocalDateTime hireDate) {
+        this.hireDate = hireDate;
+    }
+
+    public int getYearsOfExperience() {
+        return yearsOfExperience;
+    }
+
+    public void setYearsOfExperience(int yearsOfExperience) {
+        this.yearsOfExperience = yearsOfExperience;
+    }
+
+    public String getCertifications() {
+        return certifications;
+    }
+
+    public void setCertifications(String certifications) {
+        this.certifications = certifications;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+
+    public String getCostCenter() {
+        return costCenter;
+    }
+
+    public void setCostCenter(String costCenter) {
+        this.costCenter = costCenter;
+    }
+
+    public String getShift() {
+        return shift;
+    }
+
+    public void setShift(String shift) {
+        this.shift = shift;
+    }
+
+    public LocalDateTime getLastHealthCheck() {
+        return lastHealthCheck;
+    }
+
+    public void setLastHealthCheck(LocalDateTime lastHealthCheck) {
+        this.lastHealthCheck = lastHealthCheck;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+
+    @Override
+    public String toString() {
+        return "DriverRequest{" +
+                "userId=" + userId +
+                ", licenseType='" + licenseType + '\'' +
+                ", licenseNumber='" + licenseNumber + '\'' +
+                ", licenseExpiryDate=" + licenseExpiryDate +
+                '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.platform.vehicle.application.dto;
+
+import java.time.LocalDateTime;
+
+public class NotificationResponse {
+
+    private String id;
+    private String type;
+    private String title;
+    private String message;
+    private LocalDateTime timestamp;
+    private Long userId;
+    private boolean read;
+    private String actionUrl;
+
+    // Constructors
+    public NotificationResponse() {}
+
+    public NotificationResponse(String id, String type, String title, String message,
+                                LocalDateTime timestamp, Long userId, String actionUrl) {
+        this.id = id;
+        this.type = type;
+        this.title = title;
+        this.message = message;
+        this.timestamp = timestamp;
+        this.userId = userId;
+        this.actionUrl = actionUrl;
+    }
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+    public LocalDateTime getTimestamp() { return timestamp; }
+    public void setTimestamp(LocalDateTime timestamp) { this.timestamp = timestamp; }
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    public boolean isRead() { return read; }
+    public void setRead(boolean read) { this.read = read; }
+    public String getActionUrl() { return actionUrl; }
+    public void setActionUrl(String actionUrl) { this.actionUrl = actionUrl; }
+}
@@ -0,0 +1,70 @@
+package com.platform.vehicle.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of creating a recurring booking. Every occurrence within the
+ * horizon is listed, either with the booking created for it or with the
+ * bookings it conflicts with.
+ */
+public class RecurringBookingResult {
+
+    private String recurringPattern;
+    private int createdOccurrences;
+    private int skippedOccurrences;
+    private boolean horizonReached;
+    private long durationMs;
+    private List<Occurrence> occurrences = new ArrayList<>();
+
+    // Constructors
+    public RecurringBookingResult() {}
+
+    // Getters and Setters
+    public String getRecurringPattern() { return recurringPattern; }
+    public void setRecurringPattern(String recurringPattern) { this.recurringPattern = recurringPattern; }
+    public int getCreatedOccurrences() { return createdOccurrences; }
+    public void setCreatedOccurrences(int createdOccurrences) { this.createdOccurrences = createdOccurrences; }
+    public int getSkippedOccurrences() { return skippedOccurrences; }
+    public void setSkippedOccurrences(int skippedOccurrences) { this.skippedOccurrences = skippedOccurrences; }
+    public boolean isHorizonReached() { return horizonReached; }
+    public void setHorizonReached(boolean horizonReached) { this.horizonReached = horizonReached; }
+    public long getDurationMs() { return durationMs; }
+    public void setDurationMs(long durationMs) { this.durationMs = durationMs; }
+    public List<Occurrence> getOccurrences() { return occurrences; }
+    public void setOccurrences(List<Occurrence> occurrences) { this.occurrences = occurrences; }
+
+    /**
+     * One occurrence of the series.
+     */
+    public static class Occurrence {
+
+        private LocalDateTime startTime;
+        private LocalDateTime endTime;
+        private Long bookingId;
+        private String bookingReference;
+        private List<Long> conflictingBookingIds = new ArrayList<>();
+
+        public Occurrence() {}
+
+        public Occurrence(LocalDateTime startTime, LocalDateTime endTime) {
+            this.startTime = startTime;
+            this.endTime = endTime;
+        }
+
+        public LocalDateTime getStartTime() { return startTime; }
+        public void setStartTime(LocalDateTime startTime) { this.startTime = startTime; }
+        public LocalDateTime getEndTime() { return endTime; }
+        public void setEndTime(LocalDateTime endTime) { this.endTime = endTime; }
+        public Long getBookingId() { return bookingId; }
+        public void setBookingId(Long bookingId) { this.bookingId = bookingId; }
+        public String getBookingReference() { return bookingReference; }
+        public void setBookingReference(String bookingReference) { this.bookingReference = bookingReference; }
+        public List<Long> getConflictingBookingIds() { return conflictingBookingIds; }
+        public void setConflictingBookingIds(List<Long> conflictingBookingIds) {
+            this.conflictingBookingIds = conflictingBookingIds;
+        }
+        public boolean isCreated() { return bookingId != null; }
+    }
+}
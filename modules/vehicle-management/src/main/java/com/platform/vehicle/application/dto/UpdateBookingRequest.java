@@ -0,0 +1,105 @@
+package com.platform.vehicle.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Changes to a pending booking. Fields left null keep their current value.
+ */
+public class UpdateBookingRequest {
+    
+    private String purpose;
+    private String description;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String pickupLocation;
+    private String destination;
+    private String returnLocation;
+    private Integer estimatedPassengers;
+    private String additionalRequirements;
+
+    // Constructors
+    public UpdateBookingRequest() {}
+
+    // Getters and Setters
+    public String getPurpose() {
+        return purpose;
+    }
+
+    public void setPurpose(String purpose) {
+        this.purpose = purpose;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalDateTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalDateTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public String getPickupLocation() {
+        return pickupLocation;
+    }
+
+    public void setPickupLocation(String pickupLocation) {
+        this.pickupLocation = pickupLocation;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public void setDestination(String destination) {
+        this.destination = destination;
+    }
+
+    public String getReturnLocation() {
+        return returnLocation;
+    }
+
+    public void setReturnLocation(String returnLocation) {
+        this.returnLocation = returnLocation;
+    }
+
+    public Integer getEstimatedPassengers() {
+        return estimatedPassengers;
+    }
+
+    public void setEstimatedPassengers(Integer estimatedPassengers) {
+        this.estimatedPassengers = estimatedPassengers;
+    }
+
+    public String getAdditionalRequirements() {
+        return additionalRequirements;
+    }
+
+    public void setAdditionalRequirements(String additionalRequirements) {
+        this.additionalRequirements = additionalRequirements;
+    }
+
+    @Override
+    public String toString() {
+        return "UpdateBookingRequest{" +
+                "purpose='" + purpose + '\'' +
+                ", startTime=" + startTime +
+                ", endTime=" + endTime +
+                ", destination='" + destination + '\'' +
+                '}';
+    }
+}
\ No newline at end of file
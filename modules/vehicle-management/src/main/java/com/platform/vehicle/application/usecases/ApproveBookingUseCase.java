@@ -0,0 +1,74 @@
+package com.platform.vehicle.application.usecases;
+
+import com.platform.vehicle.application.usecases.CreateBookingUseCase.BookingValidationException;
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.infrastructure.AggregateLockManager;
+import com.platform.vehicle.infrastructure.AggregateLockManager.Key;
+import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class ApproveBookingUseCase {
+
+    private final VehicleManagementRepository vehicleManagementRepository;
+    private final BookingValidationService bookingValidationService;
+    private final AggregateLockManager aggregateLocks;
+
+    public ApproveBookingUseCase(
+            VehicleManagementRepository vehicleManagementRepository,
+            BookingValidationService bookingValidationService,
+            AggregateLockManager aggregateLocks) {
+        this.vehicleManagementRepository = vehicleManagementRepository;
+        this.bookingValidationService = bookingValidationService;
+        this.aggregateLocks = aggregateLocks;
+    }
+
+    /**
+     * Approve a pending booking and reserve its vehicle.
+     * The booking and vehicle updates are flushed together when the transaction commits.
+     * Both are versioned, so a concurrent change to either fails the commit with an
+     * optimistic locking error; callers retry through ConflictRetry. The vehicle and
+     * driver are locked until the transaction completes, so approvals sharing either
+     * of them on this instance do not race for the booking window in the first place.
+     *
+     * @param bookingId The ID of the booking to approve
+     * @param approverId The ID of the approving manager
+     * @param comment The approval comment
+     * @return The approved booking
+     * @throws BookingValidationException if the booking does not exist, cannot be approved
+     *         or its vehicle or driver is already booked for the period
+     */
+    @Transactional(rollbackFor = BookingValidationException.class)
+    public Booking execute(Long bookingId, Long approverId, String comment) throws BookingValidationException {
+        // 1. Load the booking
+        Booking booking = vehicleManagementRepository.findBookingById(bookingId)
+                .orElseThrow(() -> new BookingValidationException("Booking not found: " + bookingId));
+
+        // 2. Lock the vehicle and driver before claiming their window
+        if (booking.getDriverId() != null) {
+            aggregateLocks.lockUntilCompletion(Key.vehicle(booking.getVehicleId()), Key.driver(booking.getDriverId()));
+        } else {
+            aggregateLocks.lockUntilCompletion(Key.vehicle(booking.getVehicleId()));
+        }
+
+        // 3. Apply the state transition
+        try {
+            booking.approve(String.valueOf(approverId), comment);
+        } catch (IllegalStateException e) {
+            throw new BookingValidationException(e.getMessage(), e);
+        }
+
+        // 4. Claim the booking window; released again if the transaction rolls back
+        bookingValidationService.reserveBookingWindow(booking);
+        Booking savedBooking = vehicleManagementRepository.saveBooking(booking);
+
+        // 5. Reserve the vehicle
+        vehicleManagementRepository.findVehicleById(savedBooking.getVehicleId()).ifPresent(vehicle -> {
+            vehicle.setBooked();
+            vehicleManagementRepository.saveVehicle(vehicle);
+        });
+
+        return savedBooking;
+    }
+}
@@ -0,0 +1,66 @@
+package com.platform.vehicle.application.usecases;
+
+import com.platform.vehicle.domain.Driver;
+import com.platform.vehicle.domain.Vehicle;
+import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import com.platform.vehicle.infrastructure.availability.BookingAvailabilityIndex;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Set-based availability search for a time window.
+ * Answers with one bookable-resource query plus an in-memory index sweep,
+ * or with a single anti-join query while the index is still loading.
+ */
+@Service
+public class AvailabilitySearchService {
+
+    private final VehicleManagementRepository vehicleManagementRepository;
+    private final BookingAvailabilityIndex availabilityIndex;
+
+    public AvailabilitySearchService(VehicleManagementRepository vehicleManagementRepository,
+                                     BookingAvailabilityIndex availabilityIndex) {
+        this.vehicleManagementRepository = vehicleManagementRepository;
+        this.availabilityIndex = availabilityIndex;
+    }
+
+    /**
+     * Find all bookable vehicles without a blocking booking in the given period.
+     *
+     * @param startTime The start time
+     * @param endTime The end time
+     * @return The free vehicles
+     */
+    public List<Vehicle> findAvailableVehicles(LocalDateTime startTime, LocalDateTime endTime) {
+        if (!availabilityIndex.isReady()) {
+            return vehicleManagementRepository.findVehiclesAvailableBetween(startTime, endTime);
+        }
+
+        Set<Long> busyVehicles = availabilityIndex.findBusyVehicles(startTime, endTime);
+        return vehicleManagementRepository.findAllAvailableVehiclesForBooking().stream()
+                .filter(vehicle -> !busyVehicles.contains(vehicle.getId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Find all bookable drivers without a blocking booking in the given period.
+     *
+     * @param startTime The start time
+     * @param endTime The end time
+     * @return The free drivers
+     */
+    public List<Driver> findAvailableDrivers(LocalDateTime startTime, LocalDateTime endTime) {
+        if (!availabilityIndex.isReady()) {
+            return vehicleManagementRepository.findDriversAvailableBetween(startTime, endTime);
+        }
+
+        Set<Long> busyDrivers = availabilityIndex.findBusyDrivers(startTime, endTime);
+        return vehicleManagementRepository.findAvailableDrivers().stream()
+                .filter(driver -> !busyDrivers.contains(driver.getId()))
+                .collect(Collectors.toList());
+    }
+}
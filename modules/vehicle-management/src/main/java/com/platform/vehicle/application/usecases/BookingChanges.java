@@ -0,0 +1,45 @@
+package com.platform.vehicle.application.usecases;
+
+import com.platform.common.domain.core.DomainEvent;
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import com.platform.vehicle.infrastructure.events.BookingChange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Joins events relayed from the outbox with their bookings.
+ */
+final class BookingChanges {
+
+    private BookingChanges() {
+    }
+
+    /**
+     * Load the bookings of a batch of events with one query. The bookings are
+     * read in their current state, which may be ahead of the event when the
+     * relay is behind; events of deleted bookings are left out.
+     *
+     * @param repository The repository to read the bookings from
+     * @param events Committed booking events in log order
+     * @return The changes, in the order of the events
+     */
+    static List<BookingChange> load(VehicleManagementRepository repository, List<DomainEvent> events) {
+        Set<String> references = events.stream().map(DomainEvent::getAggregateId).collect(Collectors.toSet());
+        Map<String, Booking> bookings = repository.findBookingsByReferences(references).stream()
+                .collect(Collectors.toMap(Booking::getBookingReference, Function.identity()));
+        List<BookingChange> changes = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            Booking booking = bookings.get(event.getAggregateId());
+            if (booking != null) {
+                changes.add(new BookingChange(booking, event));
+            }
+        }
+        return changes;
+    }
+}
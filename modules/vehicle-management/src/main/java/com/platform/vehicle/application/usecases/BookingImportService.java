@@ -0,0 +1,544 @@
+package com.platform.vehicle.application.usecases;
+
+import com.platform.vehicle.application.dto.BookingImportResult;
+import com.platform.vehicle.application.dto.CreateBookingRequest;
+import com.platform.vehicle.application.usecases.CreateBookingUseCase.BookingValidationException;
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.domain.Driver;
+import com.platform.vehicle.domain.Vehicle;
+import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import com.platform.vehicle.infrastructure.availability.BookingAvailabilityIndex;
+import com.platform.vehicle.infrastructure.imports.ImportFormat;
+import com.platform.vehicle.infrastructure.imports.ImportRecord;
+import com.platform.vehicle.infrastructure.imports.ImportRecordReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk booking import from a CSV or NDJSON stream.
+ *
+ * The input is read in chunks. Each chunk is validated in parallel with the
+ * {@link BookingValidationService} import rules while the previous chunk is
+ * written. Conflicts are then resolved in input order against the live
+ * availability index and against a window index of the rows accepted so far
+ * in this import. Only APPROVED, CONFIRMED and ACTIVE rows block their
+ * vehicle and driver, the same statuses the live availability checks see.
+ * Accepted rows are inserted with one batched save per chunk, and the
+ * blocking ones claim their windows in the availability index before the
+ * insert commits; if either fails, the chunk is retried row by row so that
+ * only the offending rows are rejected. Rejected rows are reported with
+ * their line number and never abort the load.
+ *
+ * Imported bookings carry no events, so they are not relayed to subscribers
+ * and send no notifications. The window index holds every blocking row of
+ * the import, so very large loads should be split into several requests.
+ */
+@Service
+public class BookingImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingImportService.class);
+
+    private final VehicleManagementRepository vehicleManagementRepository;
+    private final BookingValidationService bookingValidationService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int validationThreads;
+    private final int maxReportedErrors;
+    private final ExecutorService validationExecutor;
+
+    public BookingImportService(VehicleManagementRepository vehicleManagementRepository,
+                                BookingValidationService bookingValidationService,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${bpr.vehicle.import.chunk-size:1000}") int chunkSize,
+                                @Value("${bpr.vehicle.import.validation-threads:0}") int validationThreads,
+                                @Value("${bpr.vehicle.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.vehicleManagementRepository = vehicleManagementRepository;
+        this.bookingValidationService = bookingValidationService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.validationThreads = validationThreads > 0 ? validationThreads : Runtime.getRuntime().availableProcessors();
+        this.maxReportedErrors = maxReportedErrors;
+        AtomicInteger counter = new AtomicInteger();
+        this.validationExecutor = Executors.newFixedThreadPool(this.validationThreads, runnable -> {
+            Thread thread = new Thread(runnable, "booking-import-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Import bookings from a stream.
+     *
+     * @param input The CSV or NDJSON input
+     * @param format The input format
+     * @param defaultRequesterId The requester for rows without a requesterId (nullable)
+     * @param importedBy Recorded as the creator of the imported bookings
+     * @return The counts and the rejected rows
+     * @throws IOException if the input cannot be read
+     */
+    public BookingImportResult importBookings(Reader input, ImportFormat format, Long defaultRequesterId,
+                                              String importedBy) throws IOException {
+        long started = System.currentTimeMillis();
+        ImportRun run = new ImportRun(defaultRequesterId, importedBy);
+
+        try (ImportRecordReader reader = ImportRecordReader.open(format, input, objectMapper)) {
+            // Validate the next chunk while the previous one is written
+            CompletableFuture<List<ImportRow>> pending = null;
+            List<ImportRecord> chunk;
+            while (!(chunk = readChunk(reader)).isEmpty()) {
+                CompletableFuture<List<ImportRow>> validated = validate(chunk, run);
+                if (pending != null) {
+                    write(pending.join(), run);
+                }
+                pending = validated;
+            }
+            if (pending != null) {
+                write(pending.join(), run);
+            }
+        }
+
+        run.result.setDurationMs(System.currentTimeMillis() - started);
+        logger.info("Booking import by {} finished: {} rows, {} imported, {} rejected in {} ms",
+                importedBy, run.result.getTotalRows(), run.result.getImportedRows(),
+                run.result.getRejectedRows(), run.result.getDurationMs());
+        return run.result;
+    }
+
+    private List<ImportRecord> readChunk(ImportRecordReader reader) throws IOException {
+        List<ImportRecord> chunk = new ArrayList<>(chunkSize);
+        ImportRecord record;
+        while (chunk.size() < chunkSize && (record = reader.next()) != null) {
+            chunk.add(record);
+        }
+        return chunk;
+    }
+
+    /**
+     * Parse the chunk, load the vehicles and drivers it references, then
+     * validate it in slices on the validation threads.
+     *
+     * @return The rows in input order, each either valid or carrying its error
+     */
+    private CompletableFuture<List<ImportRow>> validate(List<ImportRecord> chunk, ImportRun run) {
+        // 1. Parse the records
+        List<ImportRow> rows = chunk.stream()
+                .map(record -> toRow(record, run.defaultRequesterId))
+                .collect(Collectors.toList());
+
+        // 2. Load reference data not seen in earlier chunks
+        run.loadReferences(rows);
+
+        // 3. Validate the slices in parallel
+        int sliceSize = Math.max(1, (rows.size() + validationThreads - 1) / validationThreads);
+        List<CompletableFuture<Void>> slices = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += sliceSize) {
+            List<ImportRow> slice = rows.subList(from, Math.min(from + sliceSize, rows.size()));
+            slices.add(CompletableFuture.runAsync(() -> slice.forEach(row -> validate(row, run)), validationExecutor));
+        }
+        return CompletableFuture.allOf(slices.toArray(new CompletableFuture[0])).thenApply(ignored -> rows);
+    }
+
+    private void validate(ImportRow row, ImportRun run) {
+        if (row.error != null) {
+            return;
+        }
+        try {
+            CreateBookingRequest request = row.request;
+            Vehicle vehicle = run.vehicles.get(request.getVehicleId());
+            if (vehicle == null) {
+                throw new BookingValidationException("Vehicle not found: " + request.getVehicleId());
+            }
+            Driver driver = null;
+            if (request.getDriverId() != null) {
+                driver = run.drivers.get(request.getDriverId());
+                if (driver == null) {
+                    throw new BookingValidationException("Driver not found: " + request.getDriverId());
+                }
+            }
+
+            bookingValidationService.validateImportedBooking(request, vehicle, driver);
+
+            // Conflicts with bookings already in the database; conflicts within the import are resolved in order
+            if (row.blocks()) {
+                if (bookingValidationService.hasVehicleConflict(
+                        request.getVehicleId(), request.getStartTime(), request.getEndTime())) {
+                    throw new BookingValidationException("Vehicle is already booked for the requested time period");
+                }
+                if (driver != null && bookingValidationService.hasDriverConflict(
+                        request.getDriverId(), request.getStartTime(), request.getEndTime())) {
+                    throw new BookingValidationException(
+                            "Driver is already assigned to another booking during this time");
+                }
+            }
+            row.booking = toBooking(row, run.importedBy);
+        } catch (BookingValidationException e) {
+            row.error = e.getMessage();
+        } catch (RuntimeException e) {
+            row.error = "Validation failed: " + e.getMessage();
+        }
+    }
+
+    /**
+     * Resolve conflicts within the import in input order, then insert the accepted rows.
+     */
+    private void write(List<ImportRow> rows, ImportRun run) {
+        List<ImportRow> accepted = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            run.result.setTotalRows(run.result.getTotalRows() + 1);
+            if (row.error == null && row.blocks()) {
+                row.error = run.windows.claim(row);
+            }
+            if (row.error != null) {
+                run.reject(row.line, row.error);
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            save(accepted, run);
+        } catch (DataAccessException | WindowTakenException e) {
+            // Isolate the rows the database refuses, e.g. duplicate booking references, or whose window was taken
+            logger.debug("Batched import insert failed, retrying {} rows one by one: {}", accepted.size(),
+                    e instanceof DataAccessException ? ((DataAccessException) e).getMostSpecificCause().getMessage()
+                            : e.getMessage());
+            for (ImportRow row : accepted) {
+                try {
+                    save(List.of(row), run);
+                } catch (DataAccessException rowFailure) {
+                    run.windows.release(row);
+                    run.reject(row.line, "Insert failed: " + rowFailure.getMostSpecificCause().getMessage());
+                } catch (WindowTakenException rowFailure) {
+                    run.windows.release(row);
+                    run.reject(row.line, rowFailure.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Insert the rows, then claim the windows of the blocking ones in the
+     * availability index in the same transaction. The IDs the claims are
+     * keyed by are assigned by the insert, and a claim that fails rolls the
+     * insert back, so no blocking row commits without its window.
+     */
+    private void save(List<ImportRow> rows, ImportRun run) {
+        List<Booking> bookings = rows.stream().map(row -> row.booking).collect(Collectors.toList());
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Booking saved : vehicleManagementRepository.saveImportedBookings(bookings)) {
+                if (BookingAvailabilityIndex.BLOCKING_STATUSES.contains(saved.getStatus())) {
+                    reserve(saved);
+                }
+            }
+        });
+        run.result.setImportedRows(run.result.getImportedRows() + bookings.size());
+    }
+
+    private void reserve(Booking booking) {
+        try {
+            bookingValidationService.reserveBookingWindow(booking);
+        } catch (BookingValidationException e) {
+            throw new WindowTakenException(e.getMessage());
+        }
+    }
+
+    private static ImportRow toRow(ImportRecord record, Long defaultRequesterId) {
+        ImportRow row = new ImportRow(record.getLine());
+        if (record.isMalformed()) {
+            row.error = record.getError();
+            return row;
+        }
+        try {
+            CreateBookingRequest request = new CreateBookingRequest();
+            request.setVehicleId(parse(record, "vehicleId", Long::valueOf, true));
+            request.setDriverId(parse(record, "driverId", Long::valueOf, false));
+            request.setPurpose(record.get("purpose"));
+            request.setDescription(record.get("description"));
+            request.setStartTime(parse(record, "startTime", LocalDateTime::parse, true));
+            request.setEndTime(parse(record, "endTime", LocalDateTime::parse, true));
+            request.setPickupLocation(record.get("pickupLocation"));
+            request.setDestination(record.get("destination"));
+            request.setReturnLocation(record.get("returnLocation"));
+            Integer passengers = parse(record, "estimatedPassengers", Integer::valueOf, false);
+            if (passengers != null) {
+                request.setEstimatedPassengers(passengers);
+            }
+            request.setManagerName(record.get("managerName"));
+            request.setCostCenter(record.get("costCenter"));
+            request.setAdditionalRequirements(record.get("additionalRequirements"));
+            // Unknown types and statuses are errors here instead of falling back to a default
+            Booking.BookingType type = parse(record, "bookingType",
+                    value -> Booking.BookingType.valueOf(value.toUpperCase()), false);
+            if (type != null) {
+                request.setBookingType(type.getValue());
+            }
+            Booking.BookingStatus status = parse(record, "status",
+                    value -> Booking.BookingStatus.valueOf(value.toUpperCase()), false);
+
+            Long requesterId = parse(record, "requesterId", Long::valueOf, false);
+            row.requesterId = requesterId != null ? requesterId : defaultRequesterId;
+            if (row.requesterId == null) {
+                throw new IllegalArgumentException("Missing value for requesterId");
+            }
+            row.request = request;
+            row.status = status != null ? status : Booking.BookingStatus.PENDING;
+            row.bookingReference = record.get("bookingReference");
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            row.error = e.getMessage();
+        }
+        return row;
+    }
+
+    private static <T> T parse(ImportRecord record, String field, Function<String, T> parser, boolean required) {
+        String value = record.get(field);
+        if (value == null) {
+            if (required) {
+                throw new IllegalArgumentException("Missing value for " + field);
+            }
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid value for " + field + ": " + value);
+        }
+    }
+
+    private static Booking toBooking(ImportRow row, String importedBy) {
+        CreateBookingRequest request = row.request;
+        Booking booking = new Booking();
+        if (row.bookingReference != null) {
+            booking.setBookingReference(row.bookingReference);
+        }
+        booking.setStatus(row.status);
+        booking.setVehicleId(request.getVehicleId());
+        booking.setDriverId(request.getDriverId());
+        booking.setRequesterId(row.requesterId);
+        booking.setPurpose(request.getPurpose());
+        booking.setDescription(request.getDescription());
+        booking.setStartTime(request.getStartTime());
+        booking.setEndTime(request.getEndTime());
+        booking.setPickupLocation(request.getPickupLocation());
+        booking.setDestination(request.getDestination());
+        booking.setReturnLocation(request.getReturnLocation());
+        booking.setEstimatedPassengers(request.getEstimatedPassengers());
+        booking.setManagerName(request.getManagerName());
+        booking.setCostCenter(request.getCostCenter());
+        booking.setAdditionalRequirements(request.getAdditionalRequirements());
+        if (request.getBookingType() != null) {
+            booking.setType(Booking.BookingType.fromString(request.getBookingType()));
+        }
+        booking.markCreated(importedBy);
+        return booking;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        validationExecutor.shutdown();
+        try {
+            if (!validationExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                validationExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            validationExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * State of one import.
+     */
+    private final class ImportRun {
+
+        private final Long defaultRequesterId;
+        private final String importedBy;
+        private final BookingImportResult result = new BookingImportResult();
+        // Read by the validation threads
+        private final Map<Long, Vehicle> vehicles = new ConcurrentHashMap<>();
+        private final Map<Long, Driver> drivers = new ConcurrentHashMap<>();
+        private final Set<Long> loadedVehicleIds = new HashSet<>();
+        private final Set<Long> loadedDriverIds = new HashSet<>();
+        private final ImportWindows windows = new ImportWindows();
+
+        private ImportRun(Long defaultRequesterId, String importedBy) {
+            this.defaultRequesterId = defaultRequesterId;
+            this.importedBy = importedBy;
+        }
+
+        private void loadReferences(List<ImportRow> rows) {
+            Set<Long> vehicleIds = new HashSet<>();
+            Set<Long> driverIds = new HashSet<>();
+            for (ImportRow row : rows) {
+                if (row.request == null) {
+                    continue;
+                }
+                if (loadedVehicleIds.add(row.request.getVehicleId())) {
+                    vehicleIds.add(row.request.getVehicleId());
+                }
+                if (row.request.getDriverId() != null && loadedDriverIds.add(row.request.getDriverId())) {
+                    driverIds.add(row.request.getDriverId());
+                }
+            }
+            if (!vehicleIds.isEmpty()) {
+                vehicleManagementRepository.findVehiclesByIds(vehicleIds)
+                        .forEach(vehicle -> vehicles.put(vehicle.getId(), vehicle));
+            }
+            if (!driverIds.isEmpty()) {
+                vehicleManagementRepository.findDriversByIds(driverIds)
+                        .forEach(driver -> drivers.put(driver.getId(), driver));
+            }
+        }
+
+        private void reject(long line, String message) {
+            result.setRejectedRows(result.getRejectedRows() + 1);
+            if (result.getErrors().size() < maxReportedErrors) {
+                result.getErrors().add(new BookingImportResult.RowError(line, message));
+            } else {
+                result.setErrorsTruncated(true);
+            }
+        }
+    }
+
+    /**
+     * Windows claimed by the rows of one import, per vehicle and driver.
+     * Claimed windows of a resource never overlap, so the only candidate for
+     * an overlap is the window starting last before the new one ends.
+     */
+    private static final class ImportWindows {
+
+        private final Map<Long, NavigableMap<LocalDateTime, Claim>> vehicleWindows = new HashMap<>();
+        private final Map<Long, NavigableMap<LocalDateTime, Claim>> driverWindows = new HashMap<>();
+
+        /**
+         * @return null if the row's windows were claimed, otherwise the conflict
+         */
+        private String claim(ImportRow row) {
+            CreateBookingRequest request = row.request;
+            Claim vehicleConflict = overlapping(vehicleWindows, request.getVehicleId(), request);
+            if (vehicleConflict != null) {
+                return "Vehicle is already booked by line " + vehicleConflict.line;
+            }
+            Claim driverConflict = overlapping(driverWindows, request.getDriverId(), request);
+            if (driverConflict != null) {
+                return "Driver is already assigned by line " + driverConflict.line;
+            }
+            Claim claim = new Claim(request.getEndTime(), row.line);
+            vehicleWindows.computeIfAbsent(request.getVehicleId(), id -> new TreeMap<>())
+                    .put(request.getStartTime(), claim);
+            if (request.getDriverId() != null) {
+                driverWindows.computeIfAbsent(request.getDriverId(), id -> new TreeMap<>())
+                        .put(request.getStartTime(), claim);
+            }
+            return null;
+        }
+
+        private void release(ImportRow row) {
+            CreateBookingRequest request = row.request;
+            release(vehicleWindows, request.getVehicleId(), request.getStartTime());
+            release(driverWindows, request.getDriverId(), request.getStartTime());
+        }
+
+        private static Claim overlapping(Map<Long, NavigableMap<LocalDateTime, Claim>> windows, Long resourceId,
+                                         CreateBookingRequest request) {
+            if (resourceId == null) {
+                return null;
+            }
+            NavigableMap<LocalDateTime, Claim> claims = windows.get(resourceId);
+            if (claims == null) {
+                return null;
+            }
+            Map.Entry<LocalDateTime, Claim> candidate = claims.lowerEntry(request.getEndTime());
+            return candidate != null && candidate.getValue().end.isAfter(request.getStartTime())
+                    ? candidate.getValue() : null;
+        }
+
+        private static void release(Map<Long, NavigableMap<LocalDateTime, Claim>> windows, Long resourceId,
+                                    LocalDateTime start) {
+            if (resourceId == null) {
+                return;
+            }
+            NavigableMap<LocalDateTime, Claim> claims = windows.get(resourceId);
+            if (claims != null) {
+                claims.remove(start);
+            }
+        }
+    }
+
+    private static final class Claim {
+
+        private final LocalDateTime end;
+        private final long line;
+
+        private Claim(LocalDateTime end, long line) {
+            this.end = end;
+            this.line = line;
+        }
+    }
+
+    /**
+     * A parsed input row and its validation outcome.
+     */
+    private static final class ImportRow {
+
+        private final long line;
+        private CreateBookingRequest request;
+        private Long requesterId;
+        private Booking.BookingStatus status;
+        private String bookingReference;
+        private Booking booking;
+        // Written by one validation thread, read after the chunk future completes
+        private String error;
+
+        private ImportRow(long line) {
+            this.line = line;
+        }
+
+        private boolean blocks() {
+            return BookingAvailabilityIndex.BLOCKING_STATUSES.contains(status);
+        }
+    }
+
+    /**
+     * A blocking row lost its window to a booking committed since it was validated.
+     */
+    private static final class WindowTakenException extends RuntimeException {
+
+        private WindowTakenException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.platform.vehicle.application.usecases;
+
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.domain.BookingLifecyclePolicy;
+import com.platform.vehicle.domain.BookingLifecyclePolicy.Transition;
+import com.platform.vehicle.domain.Driver;
+import com.platform.vehicle.domain.Vehicle;
+import com.platform.vehicle.infrastructure.AggregateLockManager;
+import com.platform.vehicle.infrastructure.AggregateLockManager.Key;
+import com.platform.vehicle.infrastructure.ConflictRetry;
+import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import com.platform.vehicle.infrastructure.lifecycle.BookingTimerQueue;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Drives the time-based booking transitions: pending bookings expire at their
+ * start, approved bookings are confirmed ahead of it, chauffeured bookings are
+ * activated at it and unclaimed self-drive bookings become no-shows after a
+ * grace period (see {@link BookingLifecyclePolicy}).
+ *
+ * Every tick takes the due timers from the {@link BookingTimerQueue} and applies
+ * them in batches, one transaction per batch. Each booking is re-read in the
+ * batch and only moved if its current state is still due, so a booking changed
+ * by a user in the meantime, or by another instance running the same sweep, is
+ * left alone; a version conflict re-runs the batch. A batch that fails for any
+ * other reason is split into single-booking transactions so one bad booking
+ * cannot hold back the rest, and its timer is retried later. Bookings that
+ * expire or become no-shows release their vehicle and driver in the same
+ * transaction, locked as {@link CompleteBookingUseCase} locks them.
+ *
+ * After downtime the first load finds every overdue booking at once. The
+ * backlog is worked off a bounded number of batches per tick, so it does not
+ * starve the other scheduled tasks, and the sweep reports itself as catching up
+ * until no due timer is left behind. The transition counts, lag and catch-up
+ * state are published as meters under bpr.vehicle.lifecycle.
+ */
+@Service
+public class BookingLifecycleScheduler implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingLifecycleScheduler.class);
+
+    private final VehicleManagementRepository vehicleManagementRepository;
+    private final BookingTimerQueue timerQueue;
+    private final ConflictRetry conflictRetry;
+    private final AggregateLockManager aggregateLocks;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingLifecyclePolicy policy;
+    private final int batchSize;
+    private final int maxBatchesPerTick;
+    private final long retryDelayMs;
+
+    private final AtomicLongArray transitionCounts = new AtomicLongArray(Transition.values().length);
+    private final LongAdder failures = new LongAdder();
+    // Written by the tick, read by the metrics getters
+    private volatile boolean ready = false;
+    private volatile boolean catchingUp = false;
+    private volatile long lastFireLagMs;
+    private volatile long maxFireLagMs;
+    private long catchUpStartedAt;
+    private long catchUpApplied;
+
+    public BookingLifecycleScheduler(VehicleManagementRepository vehicleManagementRepository,
+                                     BookingTimerQueue timerQueue,
+                                     ConflictRetry conflictRetry,
+                                     AggregateLockManager aggregateLocks,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${bpr.vehicle.lifecycle.batch-size:100}") int batchSize,
+                                     @Value("${bpr.vehicle.lifecycle.max-batches-per-tick:10}") int maxBatchesPerTick,
+                                     @Value("${bpr.vehicle.lifecycle.retry-delay-ms:60000}") long retryDelayMs) {
+        this.vehicleManagementRepository = vehicleManagementRepository;
+        this.timerQueue = timerQueue;
+        this.conflictRetry = conflictRetry;
+        this.aggregateLocks = aggregateLocks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.policy = timerQueue.getPolicy();
+        this.batchSize = batchSize;
+        this.maxBatchesPerTick = maxBatchesPerTick;
+        this.retryDelayMs = retryDelayMs;
+    }
+
+    /**
+     * Load the first window, including every booking that became due while the
+     * application was down.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        LocalDateTime now = LocalDateTime.now();
+        int loaded = timerQueue.load(now);
+        Duration lag = timerQueue.getLag(now);
+        ready = true;
+        logger.info("Booking lifecycle timers loaded: {} bookings up to {}, oldest due timer {} s overdue",
+                loaded, timerQueue.getLoadedUntil(), lag.getSeconds());
+    }
+
+    /**
+     * Extend the timer window if needed and apply the transitions that are due.
+     */
+    @Scheduled(fixedDelayString = "${bpr.vehicle.lifecycle.tick-ms:1000}")
+    public synchronized void tick() {
+        if (!ready) {
+            return;
+        }
+        try {
+            timerQueue.load(LocalDateTime.now());
+            int applied = 0;
+            int batches = 0;
+            while (batches < maxBatchesPerTick) {
+                LocalDateTime now = LocalDateTime.now();
+                List<BookingTimerQueue.Timer> due = timerQueue.pollDue(now, batchSize);
+                if (due.isEmpty()) {
+                    break;
+                }
+                applied += apply(due, now);
+                batches++;
+            }
+            // Timers still due after a full tick mean the sweep is behind
+            boolean behind = batches == maxBatchesPerTick && !timerQueue.getLag(LocalDateTime.now()).isZero();
+            updateCatchUp(behind, applied);
+        } catch (Exception e) {
+            logger.error("Booking lifecycle sweep failed", e);
+        }
+    }
+
+    /**
+     * @return The number of transitions applied
+     */
+    private int apply(List<BookingTimerQueue.Timer> due, LocalDateTime now) {
+        List<Long> bookingIds = due.stream().map(BookingTimerQueue.Timer::getBookingId).collect(Collectors.toList());
+        Map<Transition, Integer> applied;
+        try {
+            applied = applyInTransaction(bookingIds, now);
+        } catch (RuntimeException e) {
+            if (due.size() == 1) {
+                failed(due.get(0), now, e);
+                return 0;
+            }
+            // Find the booking that fails and apply the others
+            logger.warn("Lifecycle batch of {} bookings failed, applying them one by one: {}",
+                    due.size(), e.getMessage());
+            int total = 0;
+            for (BookingTimerQueue.Timer timer : due) {
+                total += apply(List.of(timer), now);
+            }
+            return total;
+        }
+
+        for (BookingTimerQueue.Timer timer : due) {
+            long lagMs = Math.max(0, Duration.between(timer.getFireAt(), now).toMillis());
+            lastFireLagMs = lagMs;
+            if (lagMs > maxFireLagMs) {
+                maxFireLagMs = lagMs;
+            }
+        }
+        int total = 0;
+        for (Map.Entry<Transition, Integer> entry : applied.entrySet()) {
+            transitionCounts.addAndGet(entry.getKey().ordinal(), entry.getValue());
+            total += entry.getValue();
+        }
+        return total;
+    }
+
+    private Map<Transition, Integer> applyInTransaction(List<Long> bookingIds, LocalDateTime now) {
+        // Each attempt re-reads the bookings in a new transaction
+        return conflictRetry.execute(() -> transactionTemplate.execute(status -> {
+            Map<Transition, Integer> applied = new EnumMap<>(Transition.class);
+            List<Booking> ended = new ArrayList<>();
+            for (Booking booking : vehicleManagementRepository.findBookingsByIds(bookingIds)) {
+                List<Transition> transitions = policy.applyDue(booking, now);
+                if (transitions.isEmpty()) {
+                    // Changed since the timer was armed; wait for what its state is due for now
+                    timerQueue.schedule(booking);
+                    continue;
+                }
+                for (Transition transition : transitions) {
+                    applied.merge(transition, 1, Integer::sum);
+                }
+                // The committed save re-arms the booking's next timer
+                vehicleManagementRepository.saveBooking(booking);
+                if (BookingLifecyclePolicy.endsBooking(transitions.get(transitions.size() - 1))) {
+                    ended.add(booking);
+                }
+            }
+            release(ended);
+            return applied;
+        }));
+    }
+
+    /**
+     * Make the vehicles and drivers of ended bookings available again. They are
+     * all locked in one call before they are read; a vehicle or driver that
+     * was taken out of service in the meantime keeps its status.
+     */
+    private void release(List<Booking> ended) {
+        if (ended.isEmpty()) {
+            return;
+        }
+        List<Key> keys = new ArrayList<>();
+        for (Booking booking : ended) {
+            keys.add(Key.vehicle(booking.getVehicleId()));
+            if (booking.getDriverId() != null) {
+                keys.add(Key.driver(booking.getDriverId()));
+            }
+        }
+        aggregateLocks.lockUntilCompletion(keys.toArray(new Key[0]));
+
+        for (Booking booking : ended) {
+            vehicleManagementRepository.findVehicleById(booking.getVehicleId())
+                    .filter(Vehicle::isBooked)
+                    .ifPresent(vehicle -> {
+                        vehicle.setAvailable();
+                        vehicleManagementRepository.saveVehicle(vehicle);
+                    });
+            if (booking.getDriverId() != null) {
+                vehicleManagementRepository.findDriverById(booking.getDriverId())
+                        .filter(Driver::isAssigned)
+                        .ifPresent(driver -> {
+                            driver.setAvailable();
+                            vehicleManagementRepository.saveDriver(driver);
+                        });
+            }
+        }
+    }
+
+    private void failed(BookingTimerQueue.Timer timer, LocalDateTime now, RuntimeException e) {
+        failures.increment();
+        timerQueue.retry(timer, now.plus(Duration.ofMillis(retryDelayMs)));
+        logger.error("Lifecycle transition {} of booking {} failed, retrying in {} ms",
+                timer.getTransition(), timer.getBookingId(), retryDelayMs, e);
+    }
+
+    private void updateCatchUp(boolean behind, int applied) {
+        if (behind && !catchingUp) {
+            catchingUp = true;
+            catchUpStartedAt = System.currentTimeMillis();
+            catchUpApplied = 0;
+            logger.info("Booking lifecycle sweep catching up, {} timers queued", timerQueue.size());
+        }
+        if (catchingUp) {
+            catchUpApplied += applied;
+            if (!behind) {
+                catchingUp = false;
+                logger.info("Booking lifecycle sweep caught up: {} transitions applied in {} ms",
+                        catchUpApplied, System.currentTimeMillis() - catchUpStartedAt);
+            }
+        }
+    }
+
+    // Metrics
+    public boolean isCatchingUp() { return catchingUp; }
+    public int getQueuedTimers() { return timerQueue.size(); }
+    public long getTransitionCount(Transition transition) { return transitionCounts.get(transition.ordinal()); }
+    public long getFailureCount() { return failures.sum(); }
+
+    /**
+     * @return How long the earliest timer that has not fired yet is overdue
+     */
+    public Duration getLag() {
+        return timerQueue.getLag(LocalDateTime.now());
+    }
+
+    /**
+     * @return How late the most recently applied timer fired, in milliseconds
+     */
+    public long getLastFireLagMs() {
+        return lastFireLagMs;
+    }
+
+    /**
+     * @return How late any timer fired since startup, in milliseconds
+     */
+    public long getMaxFireLagMs() {
+        return maxFireLagMs;
+    }
+
+    /**
+     * @return Transitions applied since startup, per kind
+     */
+    public Map<Transition, Long> getTransitionCounts() {
+        Map<Transition, Long> counts = new EnumMap<>(Transition.class);
+        for (Transition transition : Transition.values()) {
+            counts.put(transition, transitionCounts.get(transition.ordinal()));
+        }
+        return counts;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Transition transition : Transition.values()) {
+            FunctionCounter.builder("bpr.vehicle.lifecycle.transitions", this, s -> s.getTransitionCount(transition))
+                    .tag("transition", transition.name())
+                    .register(registry);
+        }
+        FunctionCounter.builder("bpr.vehicle.lifecycle.failures", this, BookingLifecycleScheduler::getFailureCount)
+                .register(registry);
+        TimeGauge.builder("bpr.vehicle.lifecycle.lag", this, TimeUnit.MILLISECONDS, s -> s.getLag().toMillis())
+                .description("How long the earliest pending timer is overdue")
+                .register(registry);
+        TimeGauge.builder("bpr.vehicle.lifecycle.fire.lag.last", this, TimeUnit.MILLISECONDS,
+                        BookingLifecycleScheduler::getLastFireLagMs)
+                .register(registry);
+        TimeGauge.builder("bpr.vehicle.lifecycle.fire.lag.max", this, TimeUnit.MILLISECONDS,
+                        BookingLifecycleScheduler::getMaxFireLagMs)
+                .register(registry);
+        Gauge.builder("bpr.vehicle.lifecycle.timers", this, BookingLifecycleScheduler::getQueuedTimers)
+                .register(registry);
+        Gauge.builder("bpr.vehicle.lifecycle.catching-up", this, s -> s.isCatchingUp() ? 1 : 0)
+                .register(registry);
+    }
+}
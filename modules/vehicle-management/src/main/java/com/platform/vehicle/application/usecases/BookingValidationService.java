@@ -5,18 +5,35 @@ import com.platform.vehicle.domain.Booking;
 import com.platform.vehicle.domain.Vehicle;
 import com.platform.vehicle.domain.Driver;
 import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import com.platform.vehicle.infrastructure.availability.BookingAvailabilityIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class BookingValidationService {
     
+    private static final Logger logger = LoggerFactory.getLogger(BookingValidationService.class);
+
     private final VehicleManagementRepository vehicleManagementRepository;
+    private final BookingAvailabilityIndex availabilityIndex;
+
+    @Value("${bpr.vehicle.availability-index.verify:false}")
+    private boolean verifyIndex;
 
-    public BookingValidationService(VehicleManagementRepository vehicleManagementRepository) {
+    public BookingValidationService(VehicleManagementRepository vehicleManagementRepository,
+                                    BookingAvailabilityIndex availabilityIndex) {
         this.vehicleManagementRepository = vehicleManagementRepository;
+        this.availabilityIndex = availabilityIndex;
     }
 
     /**
@@ -46,6 +63,31 @@ public class BookingValidationService {
         validateBusinessRules(request, vehicle);
     }
 
+    /**
+     * Validate an imported booking against the rules that do not depend on the
+     * current time or the current resource status, so that historical bookings
+     * can be loaded. Conflicts are resolved by the caller.
+     *
+     * @param request The booking request to validate
+     * @param vehicle The vehicle for the booking
+     * @param driver The driver for the booking (nullable)
+     * @throws CreateBookingUseCase.BookingValidationException if validation fails
+     */
+    public void validateImportedBooking(CreateBookingRequest request, Vehicle vehicle, Driver driver)
+            throws CreateBookingUseCase.BookingValidationException {
+
+        // 1. Validate the driver's license covers the vehicle
+        if (driver != null) {
+            validateDriverCanDriveVehicle(driver, vehicle);
+        }
+
+        // 2. Validate the booking window
+        validateDuration(request);
+
+        // 3. Validate business rules
+        validateBusinessRules(request, vehicle);
+    }
+
     private void validateVehicleAvailability(Vehicle vehicle, LocalDateTime startTime, LocalDateTime endTime) 
             throws CreateBookingUseCase.BookingValidationException {
         
@@ -60,10 +102,7 @@ public class BookingValidationService {
         }
         
         // Check for overlapping bookings
-        List<Booking> conflictingBookings = vehicleManagementRepository.findConflictingBookings(
-            vehicle.getId(), startTime, endTime);
-        
-        if (!conflictingBookings.isEmpty()) {
+        if (hasVehicleConflict(vehicle.getId(), startTime, endTime)) {
             throw new CreateBookingUseCase.BookingValidationException(
                 "Vehicle is already booked for the requested time period");
         }
@@ -93,10 +132,7 @@ public class BookingValidationService {
         }
         
         // Check for overlapping driver bookings
-        List<Booking> conflictingBookings = vehicleManagementRepository.findConflictingBookingsForDriver(
-            driver.getId(), startTime, endTime);
-        
-        if (!conflictingBookings.isEmpty()) {
+        if (hasDriverConflict(driver.getId(), startTime, endTime)) {
             throw new CreateBookingUseCase.BookingValidationException(
                 "Driver is already assigned to another booking during this time");
         }
@@ -120,6 +156,20 @@ public class BookingValidationService {
                 "Start time cannot be in the past");
         }
         
+        validateDuration(request);
+        
+        // Validate advance booking limits
+        long advanceDays = LocalDateTime.now().until(request.getStartTime(), java.time.temporal.ChronoUnit.DAYS);
+        
+        if (advanceDays > 90) { // 3 months advance
+            throw new CreateBookingUseCase.BookingValidationException(
+                "Bookings cannot be made more than 3 months in advance");
+        }
+    }
+
+    private void validateDuration(CreateBookingRequest request)
+            throws CreateBookingUseCase.BookingValidationException {
+        
         if (request.getEndTime().isBefore(request.getStartTime())) {
             throw new CreateBookingUseCase.BookingValidationException(
                 "End time must be after start time");
@@ -137,14 +187,6 @@ public class BookingValidationService {
             throw new CreateBookingUseCase.BookingValidationException(
                 "Maximum booking duration is 7 days");
         }
-        
-        // Validate advance booking limits
-        long advanceDays = LocalDateTime.now().until(request.getStartTime(), java.time.temporal.ChronoUnit.DAYS);
-        
-        if (advanceDays > 90) { // 3 months advance
-            throw new CreateBookingUseCase.BookingValidationException(
-                "Bookings cannot be made more than 3 months in advance");
-        }
     }
 
     private void validateBusinessRules(CreateBookingRequest request, Vehicle vehicle) 
@@ -197,10 +239,7 @@ public class BookingValidationService {
             }
             
             // Check for vehicle conflicts
-            List<Booking> conflictingVehicleBookings = vehicleManagementRepository.findConflictingBookings(
-                vehicleId, startTime, endTime);
-            
-            if (!conflictingVehicleBookings.isEmpty()) {
+            if (hasVehicleConflict(vehicleId, startTime, endTime)) {
                 return false;
             }
             
@@ -211,10 +250,7 @@ public class BookingValidationService {
                     return false;
                 }
                 
-                List<Booking> conflictingDriverBookings = vehicleManagementRepository.findConflictingBookingsForDriver(
-                    driverId, startTime, endTime);
-                
-                if (!conflictingDriverBookings.isEmpty()) {
+                if (hasDriverConflict(driverId, startTime, endTime)) {
                     return false;
                 }
             }
@@ -226,4 +262,149 @@ public class BookingValidationService {
             return false;
         }
     }
+
+    /**
+     * Claim a booking's window when it moves into a blocking status.
+     * With the availability index loaded, checking and claiming are one atomic
+     * step, so two concurrent transitions cannot both find the slot free; the
+     * claim is released if the transaction rolls back. While the index is
+     * loading the conflict queries are used, and the database constraints
+     * catch what they miss.
+     *
+     * @param booking The booking, already persisted
+     * @throws CreateBookingUseCase.BookingValidationException if the vehicle or driver is already booked
+     */
+    public void reserveBookingWindow(Booking booking) throws CreateBookingUseCase.BookingValidationException {
+        if (!availabilityIndex.isReady()) {
+            boolean vehicleConflict = vehicleManagementRepository.findConflictingBookings(
+                    booking.getVehicleId(), booking.getStartTime(), booking.getEndTime()).stream()
+                    .anyMatch(other -> !other.getId().equals(booking.getId()));
+            boolean driverConflict = booking.getDriverId() != null
+                    && vehicleManagementRepository.findConflictingBookingsForDriver(
+                            booking.getDriverId(), booking.getStartTime(), booking.getEndTime()).stream()
+                    .anyMatch(other -> !other.getId().equals(booking.getId()));
+            if (vehicleConflict || driverConflict) {
+                throw new CreateBookingUseCase.BookingValidationException(
+                    "Vehicle or driver is already booked for the requested time period");
+            }
+            return;
+        }
+
+        List<Long> conflicts = availabilityIndex.tryReserve(booking.getId(), booking.getVehicleId(),
+                booking.getDriverId(), booking.getStartTime(), booking.getEndTime());
+        if (!conflicts.isEmpty()) {
+            throw new CreateBookingUseCase.BookingValidationException(
+                "Vehicle or driver is already booked for the requested time period (bookings " + conflicts + ")");
+        }
+    }
+
+    /**
+     * Check a batch of windows for blocking bookings, such as the occurrences
+     * of a recurring booking. Answered from the availability index in one pass
+     * once it is loaded; before that, one conflict query per vehicle and
+     * driver covers the span of the whole batch.
+     *
+     * @param bookings The bookings to check; only their vehicle, driver and times are read
+     * @return IDs of the blocking bookings by position in the list; positions without conflicts are absent
+     */
+    public Map<Integer, List<Long>> findConflicts(List<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            return Map.of();
+        }
+        if (availabilityIndex.isReady()) {
+            return availabilityIndex.findConflicts(bookings);
+        }
+
+        // 1. Load the blocking bookings of each resource over the whole span
+        LocalDateTime spanStart = bookings.get(0).getStartTime();
+        LocalDateTime spanEnd = bookings.get(0).getEndTime();
+        for (Booking booking : bookings) {
+            spanStart = booking.getStartTime().isBefore(spanStart) ? booking.getStartTime() : spanStart;
+            spanEnd = booking.getEndTime().isAfter(spanEnd) ? booking.getEndTime() : spanEnd;
+        }
+        Map<Long, List<Booking>> vehicleBookings = new HashMap<>();
+        Map<Long, List<Booking>> driverBookings = new HashMap<>();
+        for (Booking booking : bookings) {
+            if (booking.getVehicleId() != null && !vehicleBookings.containsKey(booking.getVehicleId())) {
+                vehicleBookings.put(booking.getVehicleId(), vehicleManagementRepository.findConflictingBookings(
+                        booking.getVehicleId(), spanStart, spanEnd));
+            }
+            if (booking.getDriverId() != null && !driverBookings.containsKey(booking.getDriverId())) {
+                driverBookings.put(booking.getDriverId(), vehicleManagementRepository.findConflictingBookingsForDriver(
+                        booking.getDriverId(), spanStart, spanEnd));
+            }
+        }
+
+        // 2. Match them against each window in memory
+        Map<Integer, List<Long>> conflicts = new HashMap<>();
+        for (int i = 0; i < bookings.size(); i++) {
+            Booking booking = bookings.get(i);
+            Set<Long> ids = new LinkedHashSet<>();
+            collectOverlapping(vehicleBookings.get(booking.getVehicleId()), booking, ids);
+            collectOverlapping(driverBookings.get(booking.getDriverId()), booking, ids);
+            if (!ids.isEmpty()) {
+                conflicts.put(i, new ArrayList<>(ids));
+            }
+        }
+        return conflicts;
+    }
+
+    private static void collectOverlapping(List<Booking> blocking, Booking booking, Set<Long> ids) {
+        if (blocking == null) {
+            return;
+        }
+        for (Booking other : blocking) {
+            if (other.getStartTime().isBefore(booking.getEndTime())
+                    && other.getEndTime().isAfter(booking.getStartTime())) {
+                ids.add(other.getId());
+            }
+        }
+    }
+
+    /**
+     * Check whether a vehicle has a blocking booking in the given period.
+     * Answered from the availability index once it is loaded; the repository
+     * query is used before that and, when verification is enabled, to
+     * cross-check every index answer.
+     */
+    public boolean hasVehicleConflict(Long vehicleId, LocalDateTime startTime, LocalDateTime endTime) {
+        if (!availabilityIndex.isReady()) {
+            return !vehicleManagementRepository.findConflictingBookings(vehicleId, startTime, endTime).isEmpty();
+        }
+        
+        boolean conflict = availabilityIndex.hasVehicleConflict(vehicleId, startTime, endTime);
+        if (verifyIndex) {
+            List<Booking> conflictingBookings = vehicleManagementRepository.findConflictingBookings(
+                vehicleId, startTime, endTime);
+            if (conflict == conflictingBookings.isEmpty()) {
+                logger.warn("Availability index mismatch for vehicle {} between {} and {}: index={}, database={}",
+                        vehicleId, startTime, endTime, conflict, !conflictingBookings.isEmpty());
+                return !conflictingBookings.isEmpty();
+            }
+        }
+        return conflict;
+    }
+
+    /**
+     * Check whether a driver has a blocking booking in the given period.
+     *
+     * @see #hasVehicleConflict(Long, LocalDateTime, LocalDateTime)
+     */
+    public boolean hasDriverConflict(Long driverId, LocalDateTime startTime, LocalDateTime endTime) {
+        if (!availabilityIndex.isReady()) {
+            return !vehicleManagementRepository.findConflictingBookingsForDriver(driverId, startTime, endTime).isEmpty();
+        }
+        
+        boolean conflict = availabilityIndex.hasDriverConflict(driverId, startTime, endTime);
+        if (verifyIndex) {
+            List<Booking> conflictingBookings = vehicleManagementRepository.findConflictingBookingsForDriver(
+                driverId, startTime, endTime);
+            if (conflict == conflictingBookings.isEmpty()) {
+                logger.warn("Availability index mismatch for driver {} between {} and {}: index={}, database={}",
+                        driverId, startTime, endTime, conflict, !conflictingBookings.isEmpty());
+                return !conflictingBookings.isEmpty();
+            }
+        }
+        return conflict;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.platform.vehicle.application.usecases;
+
+import com.platform.vehicle.application.usecases.CreateBookingUseCase.BookingValidationException;
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class CancelBookingUseCase {
+
+    private final VehicleManagementRepository vehicleManagementRepository;
+
+    public CancelBookingUseCase(
+            VehicleManagementRepository vehicleManagementRepository) {
+        this.vehicleManagementRepository = vehicleManagementRepository;
+    }
+
+    /**
+     * Cancel a booking that has not started yet.
+     *
+     * @param bookingId The ID of the booking to cancel
+     * @param reason The cancellation reason
+     * @return The cancelled booking
+     * @throws BookingValidationException if the booking does not exist or cannot be cancelled
+     */
+    @Transactional(rollbackFor = BookingValidationException.class)
+    public Booking execute(Long bookingId, String reason) throws BookingValidationException {
+        // 1. Load the booking
+        Booking booking = vehicleManagementRepository.findBookingById(bookingId)
+                .orElseThrow(() -> new BookingValidationException("Booking not found: " + bookingId));
+
+        // 2. Apply the state transition
+        if (!booking.canBeCancelled()) {
+            throw new BookingValidationException("Booking cannot be cancelled in current status: " + booking.getStatus());
+        }
+        booking.cancel(reason);
+        return vehicleManagementRepository.saveBooking(booking);
+    }
+}
@@ -0,0 +1,79 @@
+package com.platform.vehicle.application.usecases;
+
+import com.platform.vehicle.application.usecases.CreateBookingUseCase.BookingValidationException;
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.infrastructure.AggregateLockManager;
+import com.platform.vehicle.infrastructure.AggregateLockManager.Key;
+import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public class CompleteBookingUseCase {
+
+    private final VehicleManagementRepository vehicleManagementRepository;
+    private final AggregateLockManager aggregateLocks;
+
+    public CompleteBookingUseCase(
+            VehicleManagementRepository vehicleManagementRepository,
+            AggregateLockManager aggregateLocks) {
+        this.vehicleManagementRepository = vehicleManagementRepository;
+        this.aggregateLocks = aggregateLocks;
+    }
+
+    /**
+     * Complete an active booking and release its vehicle and driver.
+     * All updates are flushed together when the transaction commits. The vehicle and
+     * driver stay locked until then; the trip itself is added to their mileage and
+     * trip count with relative updates, so concurrent completions never lose a trip.
+     *
+     * @param bookingId The ID of the booking to complete
+     * @param feedback The trip feedback
+     * @param actualMileage The distance driven
+     * @return The completed booking
+     * @throws BookingValidationException if the booking does not exist or cannot be completed
+     */
+    @Transactional(rollbackFor = BookingValidationException.class)
+    public Booking execute(Long bookingId, String feedback, double actualMileage) throws BookingValidationException {
+        // 1. Load the booking
+        Booking booking = vehicleManagementRepository.findBookingById(bookingId)
+                .orElseThrow(() -> new BookingValidationException("Booking not found: " + bookingId));
+
+        // 2. Apply the state transition
+        try {
+            booking.complete(feedback, actualMileage);
+        } catch (IllegalStateException e) {
+            throw new BookingValidationException(e.getMessage(), e);
+        }
+        Booking savedBooking = vehicleManagementRepository.saveBooking(booking);
+
+        // 3. Lock the vehicle and driver before reading them
+        if (savedBooking.getDriverId() != null) {
+            aggregateLocks.lockUntilCompletion(Key.vehicle(savedBooking.getVehicleId()),
+                    Key.driver(savedBooking.getDriverId()));
+        } else {
+            aggregateLocks.lockUntilCompletion(Key.vehicle(savedBooking.getVehicleId()));
+        }
+
+        // 4. Release the vehicle
+        vehicleManagementRepository.findVehicleById(savedBooking.getVehicleId()).ifPresent(vehicle -> {
+            vehicle.setAvailable();
+            vehicleManagementRepository.saveVehicle(vehicle);
+        });
+
+        // 5. Release the driver
+        if (savedBooking.getDriverId() != null) {
+            vehicleManagementRepository.findDriverById(savedBooking.getDriverId()).ifPresent(driver -> {
+                driver.setAvailable();
+                vehicleManagementRepository.saveDriver(driver);
+            });
+        }
+
+        // 6. Add the trip to the vehicle's mileage and the driver's statistics
+        vehicleManagementRepository.recordCompletedTrips(List.of(savedBooking));
+
+        return savedBooking;
+    }
+}
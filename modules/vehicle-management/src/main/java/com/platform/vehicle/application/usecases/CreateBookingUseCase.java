@@ -6,7 +6,6 @@ import com.platform.vehicle.domain.Booking;
 import com.platform.vehicle.domain.Vehicle;
 import com.platform.vehicle.domain.Driver;
 import com.platform.vehicle.infrastructure.VehicleManagementRepository;
-import com.platform.vehicle.domain.events.BookingEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,18 +14,12 @@ public class CreateBookingUseCase {
     
     private final VehicleManagementRepository vehicleManagementRepository;
     private final BookingValidationService bookingValidationService;
-    private final NotificationService notificationService;
-    private final EventPublisher eventPublisher;
 
     public CreateBookingUseCase(
             VehicleManagementRepository vehicleManagementRepository,
-            BookingValidationService bookingValidationService,
-            NotificationService notificationService,
-            EventPublisher eventPublisher) {
+            BookingValidationService bookingValidationService) {
         this.vehicleManagementRepository = vehicleManagementRepository;
         this.bookingValidationService = bookingValidationService;
-        this.notificationService = notificationService;
-        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -37,7 +30,7 @@ public class CreateBookingUseCase {
      * @return The created booking response
      * @throws BookingValidationException if validation fails
      */
-    @Transactional
+    @Transactional(rollbackFor = BookingValidationException.class)
     public BookingResponse execute(CreateBookingRequest request, Long requesterId) throws BookingValidationException {
         // 1. Validate vehicle exists and is available
         Vehicle vehicle = vehicleManagementRepository.findVehicleById(request.getVehicleId())
@@ -78,48 +71,25 @@ public class CreateBookingUseCase {
         // Mark created by requester
         booking.markCreated(String.valueOf(requesterId));
 
+        // Recorded in the event log with the booking; the outbox relay publishes it after commit
+        booking.addEvent("BOOKING_CREATED",
+                String.format("Booking created: %s for %s", booking.getPurpose(), booking.getStartTime()),
+                String.valueOf(requesterId));
+
         // 5. Save the booking
         Booking savedBooking = vehicleManagementRepository.saveBooking(booking);
 
-        // 6. Update vehicle status if needed
+        // 6. Claim the window and update the vehicle status if the booking blocks it
         if (savedBooking.getStatus() == Booking.BookingStatus.APPROVED) {
+            bookingValidationService.reserveBookingWindow(savedBooking);
             vehicle.setBooked();
             vehicleManagementRepository.saveVehicle(vehicle);
         }
 
-        // 7. Publish domain events
-        publishBookingCreatedEvent(savedBooking);
-
-        // 8. Send notifications
-        sendBookingCreatedNotifications(savedBooking);
-
-        // 9. Convert to response DTO
+        // 7. Convert to response DTO (notifications are sent after commit by NotificationService)
         return mapToBookingResponse(savedBooking);
     }
 
-    private void publishBookingCreatedEvent(Booking booking) {
-        BookingEvent event = new BookingEvent(
-            booking.getBookingReference(),
-            "BOOKING_CREATED",
-            String.format("Booking created: %s for %s", booking.getPurpose(), booking.getStartTime()),
-            String.valueOf(booking.getRequesterId())
-        );
-        eventPublisher.publishEvent(event);
-    }
-
-    private void sendBookingCreatedNotifications(Booking booking) {
-        // Notify requester
-        notificationService.sendBookingCreatedNotification(booking);
-        
-        // Notify approver
-        if (booking.getManagerName() != null) {
-            notificationService.sendApprovalRequestNotification(booking);
-        }
-        
-        // Notify admin
-        notificationService.sendNewBookingNotificationToAdmin(booking);
-    }
-
     private BookingResponse mapToBookingResponse(Booking booking) {
         // This will be implemented with proper mapping
         // For now, return a basic response
@@ -1,72 +1,66 @@
 package com.platform.vehicle.application.usecases;
 
 import com.platform.common.domain.core.DomainEvent;
+import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import com.platform.vehicle.infrastructure.events.BookingChange;
+import com.platform.vehicle.infrastructure.events.DomainEventBus;
+import com.platform.vehicle.infrastructure.outbox.OutboxSubscriber;
 import org.springframework.stereotype.Service;
-import org.springframework.context.ApplicationEventPublisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
+/**
+ * Publishes committed booking events to the live subscribers of {@link DomainEventBus}.
+ *
+ * Booking events are not published by the use cases; they are recorded on the
+ * booking and written to the event log in the same transaction, and the outbox
+ * relay delivers them here once committed, together with the booking they
+ * belong to.
+ */
 @Service
-public class EventPublisher {
-    
+public class EventPublisher implements OutboxSubscriber {
+
     private static final Logger logger = LoggerFactory.getLogger(EventPublisher.class);
-    private final ApplicationEventPublisher eventPublisher;
+    private final VehicleManagementRepository vehicleManagementRepository;
+    private final DomainEventBus domainEventBus;
 
-    public EventPublisher(ApplicationEventPublisher eventPublisher) {
-        this.eventPublisher = eventPublisher;
+    public EventPublisher(VehicleManagementRepository vehicleManagementRepository, DomainEventBus domainEventBus) {
+        this.vehicleManagementRepository = vehicleManagementRepository;
+        this.domainEventBus = domainEventBus;
     }
 
-    /**
-     * Publish a domain event to the application event system.
-     * 
-     * @param event The domain event to publish
-     */
-    public void publishEvent(DomainEvent event) {
-        try {
-            // Publish the event to Spring's application event system
-            eventPublisher.publishEvent(new DomainEventWrapper(event));
-            
-            // Log the event for audit purposes
-            logger.info("Domain event published: {} for aggregate: {} at {}", 
-                       event.getEventType(), 
-                       event.getAggregateId(), 
-                       event.getTimestamp());
-                       
-        } catch (Exception e) {
-            // Log error but don't throw to prevent business operation failure
-            logger.error("Failed to publish domain event: {} for aggregate: {}", 
-                        event.getEventType(), 
-                        event.getAggregateId(), 
-                        e);
-        }
+    @Override
+    public String getSubscriberName() {
+        return "in-process";
     }
 
     /**
-     * Publish multiple events in batch.
-     * 
-     * @param events List of domain events to publish
+     * The bus feeds the subscriptions of clients connected to this instance,
+     * so every instance needs every event.
      */
-    public void publishEvents(java.util.List<DomainEvent> events) {
-        events.forEach(this::publishEvent);
+    @Override
+    public boolean isPerInstance() {
+        return true;
     }
 
     /**
-     * Wrapper class to make DomainEvent compatible with Spring's ApplicationEvent.
+     * Deliver events relayed from the outbox.
+     * Publishing never blocks; a subscriber that falls behind loses updates on the bus.
+     *
+     * @param events Committed events in log order
      */
-    public static class DomainEventWrapper {
-        private final DomainEvent event;
-        private final long timestamp = System.currentTimeMillis();
+    @Override
+    public void deliver(List<DomainEvent> events) {
+        for (BookingChange change : BookingChanges.load(vehicleManagementRepository, events)) {
+            domainEventBus.publish(change);
 
-        public DomainEventWrapper(DomainEvent event) {
-            this.event = event;
-        }
-
-        public DomainEvent getEvent() {
-            return event;
-        }
-
-        public long getTimestamp() {
-            return timestamp;
+            // Log the event for audit purposes
+            logger.info("Domain event published: {} for aggregate: {} at {}",
+                       change.getEventType(),
+                       change.getEvent().getAggregateId(),
+                       change.getEvent().getTimestamp());
         }
     }
-}
\ No newline at end of file
+}
@@ -1,115 +1,199 @@
 package com.platform.vehicle.application.usecases;
 
+import com.platform.common.domain.core.DomainEvent;
 import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import com.platform.vehicle.infrastructure.events.BookingChange;
+import com.platform.vehicle.infrastructure.notifications.NotificationChannel;
+import com.platform.vehicle.infrastructure.notifications.NotificationDispatcher;
+import com.platform.vehicle.infrastructure.notifications.OutboundNotification;
+import com.platform.vehicle.infrastructure.outbox.OutboxSubscriber;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Turns committed booking changes into notifications.
+ *
+ * The service is an outbox subscriber with its own checkpoint, so notifications
+ * are only sent for committed changes, never from inside a use case transaction,
+ * and none is lost to a crash or a slow dispatcher. Messages are handed to
+ * {@link NotificationDispatcher}, which delivers them asynchronously. When its
+ * queue is full the batch fails and the relay delivers it again after a backoff;
+ * as with any redelivery, a recipient may then get a notification twice.
+ */
 @Service
-public class NotificationService {
+public class NotificationService implements OutboxSubscriber {
+
+    private final VehicleManagementRepository vehicleManagementRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final String adminRecipient;
+
+    public NotificationService(VehicleManagementRepository vehicleManagementRepository,
+                               NotificationDispatcher notificationDispatcher,
+                               @Value("${bpr.vehicle.notifications.admin-recipient:transport-admin}") String adminRecipient) {
+        this.vehicleManagementRepository = vehicleManagementRepository;
+        this.notificationDispatcher = notificationDispatcher;
+        this.adminRecipient = adminRecipient;
+    }
+
+    @Override
+    public String getSubscriberName() {
+        return "notifications";
+    }
+
+    /**
+     * @param events Committed events in log order
+     * @throws IllegalStateException if the dispatcher queue is full; the batch is delivered again
+     */
+    @Override
+    public void deliver(List<DomainEvent> events) {
+        for (BookingChange change : BookingChanges.load(vehicleManagementRepository, events)) {
+            if ("BOOKING_CREATED".equals(change.getEventType())) {
+                onBookingCreated(change.getBooking());
+            } else {
+                onBookingChanged(change);
+            }
+        }
+    }
+
+    private void onBookingCreated(Booking booking) {
+        // Notify requester
+        sendBookingCreatedNotification(booking);
+
+        // Notify approver
+        if (booking.getManagerName() != null) {
+            sendApprovalRequestNotification(booking);
+        }
+
+        // Notify admin
+        sendNewBookingNotificationToAdmin(booking);
+    }
+
+    private void onBookingChanged(BookingChange change) {
+        Booking booking = change.getBooking();
+        switch (change.getEventType()) {
+            case "BOOKING_APPROVED":
+                sendBookingApprovedNotification(booking);
+                break;
+            case "BOOKING_REJECTED":
+                sendBookingRejectedNotification(booking);
+                break;
+            case "BOOKING_COMPLETED":
+                sendTripCompletedNotification(booking);
+                break;
+            case "BOOKING_CANCELLED":
+                sendBookingCancelledNotification(booking);
+                break;
+            default:
+                // Other transitions are visible through the notification subscription only
+                break;
+        }
+    }
 
     /**
      * Send booking created notification to the requester.
      */
     public void sendBookingCreatedNotification(Booking booking) {
-        // TODO: Implement actual notification logic
-        System.out.println("📧 Booking Created Notification:");
-        System.out.println("  Booking Reference: " + booking.getBookingReference());
-        System.out.println("  Requester: " + booking.getRequesterId());
-        System.out.println("  Purpose: " + booking.getPurpose());
-        System.out.println("  Status: " + booking.getStatus());
+        notifyRequester(booking, "Booking Created: " + booking.getBookingReference(),
+                "Purpose: " + booking.getPurpose() + "\n"
+                        + "Status: " + booking.getStatus());
     }
 
     /**
      * Send approval request notification to the manager.
      */
     public void sendApprovalRequestNotification(Booking booking) {
-        // TODO: Implement actual notification logic
-        System.out.println("🔔 Approval Request Notification:");
-        System.out.println("  Manager: " + booking.getManagerName());
-        System.out.println("  Booking Reference: " + booking.getBookingReference());
-        System.out.println("  Requester: " + booking.getRequesterId());
-        System.out.println("  Purpose: " + booking.getPurpose());
-        System.out.println("  Time: " + booking.getStartTime() + " to " + booking.getEndTime());
+        submit(new OutboundNotification(NotificationChannel.EMAIL, booking.getManagerName(),
+                "Approval Request: " + booking.getBookingReference(),
+                "Requester: " + booking.getRequesterId() + "\n"
+                        + "Purpose: " + booking.getPurpose() + "\n"
+                        + "Time: " + booking.getStartTime() + " to " + booking.getEndTime()));
     }
 
     /**
      * Send new booking notification to admin/transport department.
      */
     public void sendNewBookingNotificationToAdmin(Booking booking) {
-        // TODO: Implement actual notification logic
-        System.out.println("🚗 New Booking Notification for Admin:");
-        System.out.println("  Booking Reference: " + booking.getBookingReference());
-        System.out.println("  Vehicle ID: " + booking.getVehicleId());
-        System.out.println("  Driver ID: " + booking.getDriverId());
-        System.out.println("  Purpose: " + booking.getPurpose());
-        System.out.println("  Pickup: " + booking.getPickupLocation());
-        System.out.println("  Destination: " + booking.getDestination());
+        submit(new OutboundNotification(NotificationChannel.EMAIL, adminRecipient,
+                "New Booking: " + booking.getBookingReference(),
+                "Vehicle ID: " + booking.getVehicleId() + "\n"
+                        + "Driver ID: " + booking.getDriverId() + "\n"
+                        + "Purpose: " + booking.getPurpose() + "\n"
+                        + "Pickup: " + booking.getPickupLocation() + "\n"
+                        + "Destination: " + booking.getDestination()));
     }
 
     /**
      * Send booking approval notification.
      */
     public void sendBookingApprovedNotification(Booking booking) {
-        // TODO: Implement actual notification logic
-        System.out.println("✅ Booking Approved Notification:");
-        System.out.println("  Booking Reference: " + booking.getBookingReference());
-        System.out.println("  Approved by: " + booking.getApproverId());
-        System.out.println("  Comment: " + booking.getApprovalComment());
+        notifyRequester(booking, "Booking Approved: " + booking.getBookingReference(),
+                "Approved by: " + booking.getApproverId() + "\n"
+                        + "Comment: " + booking.getApprovalComment());
     }
 
     /**
      * Send booking rejection notification.
      */
     public void sendBookingRejectedNotification(Booking booking) {
-        // TODO: Implement actual notification logic
-        System.out.println("❌ Booking Rejected Notification:");
-        System.out.println("  Booking Reference: " + booking.getBookingReference());
-        System.out.println("  Rejected by: " + booking.getApproverId());
-        System.out.println("  Reason: " + booking.getRejectionReason());
+        notifyRequester(booking, "Booking Rejected: " + booking.getBookingReference(),
+                "Rejected by: " + booking.getApproverId() + "\n"
+                        + "Reason: " + booking.getRejectionReason());
     }
 
     /**
      * Send trip reminder notification before trip start.
      */
     public void sendTripReminderNotification(Booking booking) {
-        // TODO: Implement actual notification logic
-        System.out.println("⏰ Trip Reminder Notification:");
-        System.out.println("  Booking Reference: " + booking.getBookingReference());
-        System.out.println("  Trip starts in: " + booking.getStartTime());
-        System.out.println("  Pickup Location: " + booking.getPickupLocation());
-        System.out.println("  Purpose: " + booking.getPurpose());
+        notifyRequester(booking, "Trip Reminder: " + booking.getBookingReference(),
+                "Trip starts at: " + booking.getStartTime() + "\n"
+                        + "Pickup Location: " + booking.getPickupLocation() + "\n"
+                        + "Purpose: " + booking.getPurpose());
     }
 
     /**
      * Send trip completion notification.
      */
     public void sendTripCompletedNotification(Booking booking) {
-        // TODO: Implement actual notification logic
-        System.out.println("🏁 Trip Completed Notification:");
-        System.out.println("  Booking Reference: " + booking.getBookingReference());
-        System.out.println("  Completed at: " + booking.getActualEndTime());
-        System.out.println("  Actual Mileage: " + booking.getActualMileage());
+        notifyRequester(booking, "Trip Completed: " + booking.getBookingReference(),
+                "Completed at: " + booking.getActualEndTime() + "\n"
+                        + "Actual Mileage: " + booking.getActualMileage());
     }
 
     /**
      * Send cancellation notification.
      */
     public void sendBookingCancelledNotification(Booking booking) {
-        // TODO: Implement actual notification logic
-        System.out.println("🚫 Booking Cancelled Notification:");
-        System.out.println("  Booking Reference: " + booking.getBookingReference());
-        System.out.println("  Reason: " + booking.getRejectionReason());
-        System.out.println("  Cancelled at: " + java.time.LocalDateTime.now());
+        notifyRequester(booking, "Booking Cancelled: " + booking.getBookingReference(),
+                "Reason: " + booking.getRejectionReason() + "\n"
+                        + "Cancelled at: " + LocalDateTime.now());
     }
 
     /**
      * Send status change notification to all relevant parties.
      */
     public void sendStatusChangeNotification(Booking booking, String oldStatus, String newStatus) {
-        // TODO: Implement actual notification logic
-        System.out.println("🔄 Status Change Notification:");
-        System.out.println("  Booking Reference: " + booking.getBookingReference());
-        System.out.println("  Old Status: " + oldStatus);
-        System.out.println("  New Status: " + newStatus);
-        System.out.println("  Changed at: " + java.time.LocalDateTime.now());
-    }
-}
\ No newline at end of file
+        notifyRequester(booking, "Status Change: " + booking.getBookingReference(),
+                "Old Status: " + oldStatus + "\n"
+                        + "New Status: " + newStatus + "\n"
+                        + "Changed at: " + LocalDateTime.now());
+    }
+
+    /**
+     * The requester is notified by email and in the app.
+     */
+    private void notifyRequester(Booking booking, String subject, String body) {
+        String recipient = "user:" + booking.getRequesterId();
+        submit(new OutboundNotification(NotificationChannel.EMAIL, recipient, subject, body));
+        submit(new OutboundNotification(NotificationChannel.IN_APP, recipient, subject, body));
+    }
+
+    private void submit(OutboundNotification notification) {
+        if (!notificationDispatcher.submit(notification)) {
+            throw new IllegalStateException("Notification queue is full");
+        }
+    }
+}
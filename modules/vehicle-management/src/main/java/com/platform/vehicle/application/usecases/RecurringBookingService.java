@@ -0,0 +1,208 @@
+package com.platform.vehicle.application.usecases;
+
+import com.platform.vehicle.application.dto.CreateBookingRequest;
+import com.platform.vehicle.application.dto.RecurringBookingResult;
+import com.platform.vehicle.application.usecases.CreateBookingUseCase.BookingValidationException;
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.domain.Driver;
+import com.platform.vehicle.domain.RecurrenceRule;
+import com.platform.vehicle.domain.Vehicle;
+import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates the bookings of a recurring request.
+ *
+ * The request's recurrence pattern is expanded lazily from its first window
+ * up to a horizon. The first occurrence is validated like a single booking;
+ * all occurrences are then checked for conflicts in one batch against the
+ * availability index. Free occurrences are created as pending bookings with
+ * batched inserts, and conflicting ones are skipped and reported.
+ *
+ * Only the first created occurrence records a BOOKING_CREATED event, so a
+ * series is announced to subscribers once rather than once per occurrence.
+ */
+@Service
+public class RecurringBookingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecurringBookingService.class);
+
+    // Width of bookings.recurring_pattern
+    private static final int MAX_PATTERN_LENGTH = 255;
+
+    private final VehicleManagementRepository vehicleManagementRepository;
+    private final BookingValidationService bookingValidationService;
+    private final int horizonDays;
+    private final int maxOccurrences;
+
+    public RecurringBookingService(VehicleManagementRepository vehicleManagementRepository,
+                                   BookingValidationService bookingValidationService,
+                                   @Value("${bpr.vehicle.recurrence.horizon-days:366}") int horizonDays,
+                                   @Value("${bpr.vehicle.recurrence.max-occurrences:400}") int maxOccurrences) {
+        this.vehicleManagementRepository = vehicleManagementRepository;
+        this.bookingValidationService = bookingValidationService;
+        this.horizonDays = horizonDays;
+        this.maxOccurrences = maxOccurrences;
+    }
+
+    /**
+     * Create a recurring booking.
+     *
+     * @param request The booking request; its window is the first occurrence
+     *                and its recurringPattern the repetition rule
+     * @param requesterId The ID of the user making the request
+     * @return The created and skipped occurrences
+     * @throws BookingValidationException if the pattern is invalid, the first occurrence
+     *         fails validation or no occurrence is free
+     */
+    @Transactional(rollbackFor = BookingValidationException.class)
+    public RecurringBookingResult createSeries(CreateBookingRequest request, Long requesterId)
+            throws BookingValidationException {
+        long startedAt = System.currentTimeMillis();
+
+        // 1. Parse the pattern
+        RecurrenceRule rule;
+        try {
+            rule = RecurrenceRule.parse(request.getRecurringPattern());
+        } catch (IllegalArgumentException e) {
+            throw new BookingValidationException(e.getMessage(), e);
+        }
+        if (rule.getPattern().length() > MAX_PATTERN_LENGTH) {
+            throw new BookingValidationException(
+                "Recurrence pattern cannot exceed " + MAX_PATTERN_LENGTH + " characters");
+        }
+
+        // 2. Validate the first occurrence like a single booking
+        Vehicle vehicle = vehicleManagementRepository.findVehicleById(request.getVehicleId())
+                .orElseThrow(() -> new BookingValidationException("Vehicle not found: " + request.getVehicleId()));
+        Driver driver = null;
+        if (request.getDriverId() != null) {
+            driver = vehicleManagementRepository.findDriverById(request.getDriverId())
+                    .orElseThrow(() -> new BookingValidationException("Driver not found: " + request.getDriverId()));
+        }
+        bookingValidationService.validateBookingRequest(request, vehicle, driver);
+
+        // 3. Expand the occurrences up to the horizon
+        RecurringBookingResult result = new RecurringBookingResult();
+        result.setRecurringPattern(rule.getPattern());
+        List<Booking> occurrences = expand(rule, request, requesterId, result);
+
+        // 4. Check all occurrences in one batch
+        Map<Integer, List<Long>> conflicts = bookingValidationService.findConflicts(occurrences);
+
+        // 5. Create the free ones
+        List<Booking> accepted = new ArrayList<>(occurrences.size() - conflicts.size());
+        for (int i = 0; i < occurrences.size(); i++) {
+            Booking occurrence = occurrences.get(i);
+            RecurringBookingResult.Occurrence entry =
+                    new RecurringBookingResult.Occurrence(occurrence.getStartTime(), occurrence.getEndTime());
+            List<Long> conflicting = conflicts.get(i);
+            if (conflicting != null) {
+                entry.setConflictingBookingIds(conflicting);
+            } else {
+                accepted.add(occurrence);
+            }
+            result.getOccurrences().add(entry);
+        }
+        if (accepted.isEmpty()) {
+            throw new BookingValidationException("Every occurrence conflicts with an existing booking");
+        }
+        List<Booking> saved = save(accepted, rule, requesterId);
+
+        // 6. Report the booking created for each free occurrence, in order
+        Iterator<Booking> savedBookings = saved.iterator();
+        for (RecurringBookingResult.Occurrence entry : result.getOccurrences()) {
+            if (entry.getConflictingBookingIds().isEmpty()) {
+                Booking booking = savedBookings.next();
+                entry.setBookingId(booking.getId());
+                entry.setBookingReference(booking.getBookingReference());
+            }
+        }
+        result.setCreatedOccurrences(saved.size());
+        result.setSkippedOccurrences(occurrences.size() - saved.size());
+        result.setDurationMs(System.currentTimeMillis() - startedAt);
+        logger.info("Recurring booking {} for vehicle {}: {} occurrences created, {} skipped in {} ms",
+                rule, request.getVehicleId(), result.getCreatedOccurrences(), result.getSkippedOccurrences(),
+                result.getDurationMs());
+        return result;
+    }
+
+    /**
+     * Materialize the occurrences, stopping at the horizon, the occurrence
+     * limit or the end of the rule, whichever comes first.
+     */
+    private List<Booking> expand(RecurrenceRule rule, CreateBookingRequest request, Long requesterId,
+                                 RecurringBookingResult result) throws BookingValidationException {
+        Duration duration = Duration.between(request.getStartTime(), request.getEndTime());
+        LocalDateTime horizon = request.getStartTime().plusDays(horizonDays);
+        List<Booking> occurrences = new ArrayList<>();
+        Iterator<LocalDateTime> starts = rule.occurrences(request.getStartTime());
+        LocalDateTime previousEnd = null;
+        while (starts.hasNext()) {
+            LocalDateTime start = starts.next();
+            if (start.isAfter(horizon) || occurrences.size() >= maxOccurrences) {
+                result.setHorizonReached(true);
+                break;
+            }
+            if (previousEnd != null && start.isBefore(previousEnd)) {
+                throw new BookingValidationException(
+                    "Occurrences of " + rule + " overlap; the booking is longer than the gap between them");
+            }
+            previousEnd = start.plus(duration);
+            occurrences.add(toBooking(request, requesterId, rule, start, previousEnd));
+        }
+        return occurrences;
+    }
+
+    private List<Booking> save(List<Booking> accepted, RecurrenceRule rule, Long requesterId) {
+        // The first occurrence is saved with the event history, the rest in one batch without
+        Booking first = accepted.get(0);
+        first.addEvent("BOOKING_CREATED",
+                String.format("Recurring booking created: %s for %s (%s, %d occurrences)",
+                        first.getPurpose(), first.getStartTime(), rule, accepted.size()),
+                String.valueOf(requesterId));
+        List<Booking> saved = new ArrayList<>(accepted.size());
+        saved.add(vehicleManagementRepository.saveBooking(first));
+        if (accepted.size() > 1) {
+            saved.addAll(vehicleManagementRepository.saveImportedBookings(accepted.subList(1, accepted.size())));
+        }
+        return saved;
+    }
+
+    private static Booking toBooking(CreateBookingRequest request, Long requesterId, RecurrenceRule rule,
+                                     LocalDateTime startTime, LocalDateTime endTime) {
+        Booking booking = new Booking();
+        booking.setVehicleId(request.getVehicleId());
+        booking.setDriverId(request.getDriverId());
+        booking.setRequesterId(requesterId);
+        booking.setPurpose(request.getPurpose());
+        booking.setDescription(request.getDescription());
+        booking.setStartTime(startTime);
+        booking.setEndTime(endTime);
+        booking.setPickupLocation(request.getPickupLocation());
+        booking.setDestination(request.getDestination());
+        booking.setReturnLocation(request.getReturnLocation());
+        booking.setEstimatedPassengers(request.getEstimatedPassengers());
+        booking.setManagerName(request.getManagerName());
+        booking.setCostCenter(request.getCostCenter());
+        booking.setAdditionalRequirements(request.getAdditionalRequirements());
+        if (request.getBookingType() != null) {
+            booking.setType(Booking.BookingType.fromString(request.getBookingType()));
+        }
+        booking.setRecurring(true);
+        booking.setRecurringPattern(rule.getPattern());
+        booking.markCreated(String.valueOf(requesterId));
+        return booking;
+    }
+}
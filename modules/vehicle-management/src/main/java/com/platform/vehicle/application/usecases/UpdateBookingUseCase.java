@@ -0,0 +1,104 @@
+package com.platform.vehicle.application.usecases;
+
+import com.platform.vehicle.application.dto.CreateBookingRequest;
+import com.platform.vehicle.application.dto.UpdateBookingRequest;
+import com.platform.vehicle.application.usecases.CreateBookingUseCase.BookingValidationException;
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.domain.Driver;
+import com.platform.vehicle.domain.Vehicle;
+import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class UpdateBookingUseCase {
+
+    private final VehicleManagementRepository vehicleManagementRepository;
+    private final BookingValidationService bookingValidationService;
+
+    public UpdateBookingUseCase(
+            VehicleManagementRepository vehicleManagementRepository,
+            BookingValidationService bookingValidationService) {
+        this.vehicleManagementRepository = vehicleManagementRepository;
+        this.bookingValidationService = bookingValidationService;
+    }
+
+    /**
+     * Change the details of a booking that is still pending approval. Approved
+     * bookings hold their window in the availability index, so they have to be
+     * cancelled and booked again instead.
+     *
+     * @param bookingId The ID of the booking to update
+     * @param request The changes; null fields keep their current value
+     * @return The updated booking
+     * @throws BookingValidationException if the booking does not exist, is no longer
+     *         pending, or the changed booking fails validation
+     */
+    @Transactional(rollbackFor = BookingValidationException.class)
+    public Booking execute(Long bookingId, UpdateBookingRequest request) throws BookingValidationException {
+        // 1. Load the booking
+        Booking booking = vehicleManagementRepository.findBookingById(bookingId)
+                .orElseThrow(() -> new BookingValidationException("Booking not found: " + bookingId));
+        if (booking.getStatus() != Booking.BookingStatus.PENDING) {
+            throw new BookingValidationException("Only pending bookings can be updated, current status: "
+                    + booking.getStatus());
+        }
+
+        // 2. Apply the changes
+        if (request.getPurpose() != null) {
+            booking.setPurpose(request.getPurpose());
+        }
+        if (request.getDescription() != null) {
+            booking.setDescription(request.getDescription());
+        }
+        if (request.getStartTime() != null) {
+            booking.setStartTime(request.getStartTime());
+        }
+        if (request.getEndTime() != null) {
+            booking.setEndTime(request.getEndTime());
+        }
+        if (request.getPickupLocation() != null) {
+            booking.setPickupLocation(request.getPickupLocation());
+        }
+        if (request.getDestination() != null) {
+            booking.setDestination(request.getDestination());
+        }
+        if (request.getReturnLocation() != null) {
+            booking.setReturnLocation(request.getReturnLocation());
+        }
+        if (request.getEstimatedPassengers() != null) {
+            booking.setEstimatedPassengers(request.getEstimatedPassengers());
+        }
+        if (request.getAdditionalRequirements() != null) {
+            booking.setAdditionalRequirements(request.getAdditionalRequirements());
+        }
+
+        // 3. Validate the result against the same rules as a new booking
+        validate(booking);
+
+        booking.addEvent("BOOKING_UPDATED",
+                String.format("Booking updated: %s for %s", booking.getPurpose(), booking.getStartTime()),
+                String.valueOf(booking.getRequesterId()));
+        return vehicleManagementRepository.saveBooking(booking);
+    }
+
+    private void validate(Booking booking) throws BookingValidationException {
+        Vehicle vehicle = vehicleManagementRepository.findVehicleById(booking.getVehicleId())
+                .orElseThrow(() -> new BookingValidationException("Vehicle not found: " + booking.getVehicleId()));
+        Driver driver = null;
+        if (booking.getDriverId() != null) {
+            driver = vehicleManagementRepository.findDriverById(booking.getDriverId())
+                    .orElseThrow(() -> new BookingValidationException("Driver not found: " + booking.getDriverId()));
+        }
+
+        CreateBookingRequest request = new CreateBookingRequest(booking.getVehicleId(), booking.getPurpose(),
+                booking.getStartTime(), booking.getEndTime());
+        request.setDriverId(booking.getDriverId());
+        request.setPickupLocation(booking.getPickupLocation());
+        request.setDestination(booking.getDestination());
+        request.setEstimatedPassengers(booking.getEstimatedPassengers());
+        request.setCostCenter(booking.getCostCenter());
+        // A pending booking does not block its window, so it cannot conflict with itself
+        bookingValidationService.validateBookingRequest(request, vehicle, driver);
+    }
+}
@@ -2,11 +2,13 @@ package com.platform.vehicle.domain;
 
 import com.platform.common.domain.core.BaseEntity;
 import com.platform.common.domain.core.DomainEvent;
+import com.platform.common.domain.id.IdGenerators;
 import com.platform.vehicle.domain.events.BookingEvent;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -39,6 +41,20 @@ public class Booking extends BaseEntity {
                     .orElse(PENDING);
         }
 
+        public String getDisplayName() {
+            switch (this) {
+                case PENDING: return "Pending Approval";
+                case APPROVED: return "Approved";
+                case REJECTED: return "Rejected";
+                case CONFIRMED: return "Confirmed";
+                case ACTIVE: return "In Progress";
+                case COMPLETED: return "Completed";
+                case CANCELLED: return "Cancelled";
+                case NO_SHOW: return "No Show";
+                default: return status;
+            }
+        }
+
         public boolean canTransitionTo(BookingStatus newStatus) {
             switch (this) {
                 case PENDING:
@@ -127,6 +143,7 @@ public class Booking extends BaseEntity {
     
     // Tracking fields
     private List<DomainEvent> eventHistory;
+    private List<DomainEvent> uncommittedEvents; // Raised since the booking was loaded, not yet persisted
     private int approvalLevel; // For multi-level approval
     private boolean isRecurring; // For recurring bookings
     private String recurringPattern; // If recurring
@@ -139,6 +156,7 @@ public class Booking extends BaseEntity {
         this.approvalLevel = 1;
         this.estimatedPassengers = 1;
         this.eventHistory = new ArrayList<>();
+        this.uncommittedEvents = new ArrayList<>();
         generateBookingReference();
     }
 
@@ -153,7 +171,7 @@ public class Booking extends BaseEntity {
 
     // Business Methods
     private void generateBookingReference() {
-        this.bookingReference = "BKG-" + System.currentTimeMillis() + "-" + (1000 + (int)(Math.random() * 9000));
+        this.bookingReference = "BKG-" + IdGenerators.nextId();
     }
 
     public boolean isOverlapping(LocalDateTime start, LocalDateTime end) {
@@ -164,28 +182,23 @@ public class Booking extends BaseEntity {
     }
 
     public boolean isCurrent() {
-        LocalDateTime now = LocalDateTime.now();
-        return startTime.isBefore(now) && endTime.isAfter(now) && status == BookingStatus.ACTIVE;
+        return BookingDerivedFields.isCurrent(status, startTime, endTime, LocalDateTime.now());
     }
 
     public boolean isUpcoming() {
-        return startTime.isAfter(LocalDateTime.now()) && 
-               (status == BookingStatus.APPROVED || status == BookingStatus.CONFIRMED);
+        return BookingDerivedFields.isUpcoming(status, startTime, LocalDateTime.now());
     }
 
     public boolean canBeCancelled() {
-        return status == BookingStatus.PENDING || 
-               status == BookingStatus.APPROVED || 
-               status == BookingStatus.CONFIRMED;
+        return BookingDerivedFields.canBeCancelled(status);
     }
 
     public boolean needsApproval() {
-        return status == BookingStatus.PENDING;
+        return BookingDerivedFields.needsApproval(status);
     }
 
     public boolean isExpired() {
-        return startTime.isBefore(LocalDateTime.now()) && 
-               (status == BookingStatus.PENDING || status == BookingStatus.APPROVED);
+        return BookingDerivedFields.isExpired(status, startTime, LocalDateTime.now());
     }
 
     public void approve(String approverId, String comment) {
@@ -265,10 +278,28 @@ public class Booking extends BaseEntity {
     public void addEvent(String eventType, String eventData, String causedBy) {
         BookingEvent event = new BookingEvent(getBookingReference(), eventType, eventData, causedBy);
         eventHistory.add(event);
+        uncommittedEvents.add(event);
+    }
+
+    /**
+     * @return Events raised since the booking was loaded that still have to be persisted
+     */
+    public List<DomainEvent> getUncommittedEvents() {
+        return Collections.unmodifiableList(uncommittedEvents);
+    }
+
+    /**
+     * Mark events as persisted once the transaction that wrote them has
+     * committed. Events raised since they were written stay uncommitted.
+     *
+     * @param events The events that were written
+     */
+    public void markEventsCommitted(List<DomainEvent> events) {
+        uncommittedEvents.removeIf(event -> events.stream().anyMatch(written -> written == event));
     }
 
     public long getDurationInHours() {
-        return startTime.until(endTime, java.time.temporal.ChronoUnit.HOURS);
+        return BookingDerivedFields.durationInHours(startTime, endTime);
     }
 
     public long getActualDurationInHours() {
@@ -279,17 +310,7 @@ public class Booking extends BaseEntity {
     }
 
     public String getDisplayStatus() {
-        switch (status) {
-            case PENDING: return "Pending Approval";
-            case APPROVED: return "Approved";
-            case REJECTED: return "Rejected";
-            case CONFIRMED: return "Confirmed";
-            case ACTIVE: return "In Progress";
-            case COMPLETED: return "Completed";
-            case CANCELLED: return "Cancelled";
-            case NO_SHOW: return "No Show";
-            default: return status.getValue();
-        }
+        return BookingDerivedFields.displayStatus(status);
     }
 
     public String getTimeRange() {
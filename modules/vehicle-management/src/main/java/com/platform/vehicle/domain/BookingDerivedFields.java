@@ -0,0 +1,62 @@
+package com.platform.vehicle.domain;
+
+import com.platform.vehicle.domain.Booking.BookingStatus;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * The fields derived from a booking's status and times.
+ *
+ * The domain {@link Booking}, the list projections and the field-selection
+ * query all expose these fields but hold the underlying values in different
+ * shapes, so they pass them in here instead of repeating the rules.
+ */
+public final class BookingDerivedFields {
+
+    private BookingDerivedFields() {
+    }
+
+    public static long durationInHours(LocalDateTime startTime, LocalDateTime endTime) {
+        return startTime.until(endTime, ChronoUnit.HOURS);
+    }
+
+    public static String displayStatus(BookingStatus status) {
+        return status.getDisplayName();
+    }
+
+    /**
+     * @return true if the booking has not started and can still be cancelled
+     */
+    public static boolean canBeCancelled(BookingStatus status) {
+        return status == BookingStatus.PENDING
+                || status == BookingStatus.APPROVED
+                || status == BookingStatus.CONFIRMED;
+    }
+
+    public static boolean needsApproval(BookingStatus status) {
+        return status == BookingStatus.PENDING;
+    }
+
+    /**
+     * @return true if the trip is in progress at the given time
+     */
+    public static boolean isCurrent(BookingStatus status, LocalDateTime startTime, LocalDateTime endTime,
+                                    LocalDateTime now) {
+        return status == BookingStatus.ACTIVE && startTime.isBefore(now) && endTime.isAfter(now);
+    }
+
+    /**
+     * @return true if an accepted booking starts after the given time
+     */
+    public static boolean isUpcoming(BookingStatus status, LocalDateTime startTime, LocalDateTime now) {
+        return startTime.isAfter(now) && (status == BookingStatus.APPROVED || status == BookingStatus.CONFIRMED);
+    }
+
+    /**
+     * @return true if the booking is past its start time without having been confirmed
+     */
+    public static boolean isExpired(BookingStatus status, LocalDateTime startTime, LocalDateTime now) {
+        return startTime.isBefore(now) && (status == BookingStatus.PENDING || status == BookingStatus.APPROVED);
+    }
+}
@@ -0,0 +1,125 @@
+package com.platform.vehicle.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The time-driven transitions of a booking.
+ *
+ * <ul>
+ *   <li>A booking still PENDING at its start time has expired and is cancelled.</li>
+ *   <li>An APPROVED booking is confirmed a lead time before its start.</li>
+ *   <li>A CONFIRMED booking with a driver is activated at its start; the driver
+ *       takes it from there.</li>
+ *   <li>A CONFIRMED self-drive booking that nobody has activated by its start
+ *       plus a grace period is marked as a no-show.</li>
+ * </ul>
+ *
+ * A booking has at most one pending transition, which follows from its status
+ * alone, so the next one can always be recomputed from the stored state.
+ * Expiry and no-shows end the booking, so its vehicle and driver are released.
+ */
+public final class BookingLifecyclePolicy {
+
+    public enum Transition {
+        EXPIRE, CONFIRM, ACTIVATE, NO_SHOW
+    }
+
+    private final Duration confirmLead;
+    private final Duration noShowGrace;
+
+    public BookingLifecyclePolicy(Duration confirmLead, Duration noShowGrace) {
+        this.confirmLead = confirmLead;
+        this.noShowGrace = noShowGrace;
+    }
+
+    /**
+     * @param booking The booking
+     * @return The transition the booking waits for, or null if time does not move it
+     */
+    public Transition nextTransition(Booking booking) {
+        if (booking.getStatus() == null || booking.getStartTime() == null) {
+            return null;
+        }
+        switch (booking.getStatus()) {
+            case PENDING:
+                return Transition.EXPIRE;
+            case APPROVED:
+                return Transition.CONFIRM;
+            case CONFIRMED:
+                return booking.getDriverId() != null ? Transition.ACTIVATE : Transition.NO_SHOW;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @param booking The booking
+     * @param transition One of the booking's transitions
+     * @return When the transition is due
+     */
+    public LocalDateTime dueAt(Booking booking, Transition transition) {
+        switch (transition) {
+            case CONFIRM:
+                return booking.getStartTime().minus(confirmLead);
+            case NO_SHOW:
+                return booking.getStartTime().plus(noShowGrace);
+            case EXPIRE:
+            case ACTIVATE:
+            default:
+                return booking.getStartTime();
+        }
+    }
+
+    /**
+     * Apply the transitions that are due, in order; a booking found after
+     * downtime may have several (an approved booking past its start is
+     * confirmed and then activated).
+     *
+     * @param booking The booking to update
+     * @param now The current time
+     * @return The transitions applied, empty if none was due
+     */
+    public List<Transition> applyDue(Booking booking, LocalDateTime now) {
+        List<Transition> applied = new ArrayList<>(2);
+        Transition transition = nextTransition(booking);
+        while (transition != null && !dueAt(booking, transition).isAfter(now)) {
+            apply(booking, transition);
+            applied.add(transition);
+            transition = nextTransition(booking);
+        }
+        return applied;
+    }
+
+    /**
+     * @param transition A transition
+     * @return true if the transition ends the booking, so it no longer holds its vehicle and driver
+     */
+    public static boolean endsBooking(Transition transition) {
+        return transition == Transition.EXPIRE || transition == Transition.NO_SHOW;
+    }
+
+    private static void apply(Booking booking, Transition transition) {
+        switch (transition) {
+            case EXPIRE:
+                booking.cancel("Expired: not approved before the start time");
+                break;
+            case CONFIRM:
+                booking.confirm();
+                break;
+            case ACTIVATE:
+                booking.activate();
+                break;
+            case NO_SHOW:
+                booking.markNoShow();
+                break;
+            default:
+                throw new IllegalStateException("Unsupported lifecycle transition: " + transition);
+        }
+    }
+
+    public Duration getConfirmLead() { return confirmLead; }
+    public Duration getNoShowGrace() { return noShowGrace; }
+}
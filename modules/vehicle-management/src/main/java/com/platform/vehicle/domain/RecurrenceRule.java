@@ -0,0 +1,274 @@
+package com.platform.vehicle.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Repetition rule of a recurring booking, written as a subset of the iCalendar
+ * RRULE syntax (RFC 5545):
+ *
+ * <pre>
+ * FREQ=WEEKLY;BYDAY=MO,WE,FR;COUNT=52
+ * FREQ=DAILY;INTERVAL=2;UNTIL=20261231
+ * RRULE:FREQ=MONTHLY;UNTIL=20270630T235959Z
+ * </pre>
+ *
+ * Supported parts are FREQ (DAILY, WEEKLY or MONTHLY), INTERVAL, COUNT, UNTIL
+ * and, for weekly rules, BYDAY. As in RFC 5545 the first start always counts
+ * as an occurrence; further occurrences keep its time of day. Monthly rules
+ * skip months that do not have the first start's day. UNTIL is inclusive and
+ * read as local time.
+ */
+public final class RecurrenceRule {
+
+    public enum Frequency {
+        DAILY, WEEKLY, MONTHLY
+    }
+
+    private static final DateTimeFormatter UNTIL_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter UNTIL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final String pattern;
+    private final Frequency frequency;
+    private final int interval;
+    private final Integer count;
+    private final LocalDateTime until;
+    private final Set<DayOfWeek> byDay;
+
+    private RecurrenceRule(String pattern, Frequency frequency, int interval, Integer count,
+                           LocalDateTime until, Set<DayOfWeek> byDay) {
+        this.pattern = pattern;
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byDay = byDay;
+    }
+
+    /**
+     * @param pattern The rule, with or without the RRULE: prefix
+     * @return The parsed rule
+     * @throws IllegalArgumentException if the pattern is not a supported rule
+     */
+    public static RecurrenceRule parse(String pattern) {
+        if (pattern == null || pattern.isBlank()) {
+            throw new IllegalArgumentException("Recurrence pattern is required");
+        }
+        String rule = pattern.trim();
+        if (rule.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            rule = rule.substring(6);
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        Integer count = null;
+        LocalDateTime until = null;
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+        for (String part : rule.split(";")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            int separator = part.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid recurrence rule part: " + part);
+            }
+            String name = part.substring(0, separator).trim().toUpperCase(Locale.ROOT);
+            String value = part.substring(separator + 1).trim().toUpperCase(Locale.ROOT);
+            switch (name) {
+                case "FREQ":
+                    frequency = parseFrequency(value);
+                    break;
+                case "INTERVAL":
+                    interval = parsePositive(name, value);
+                    break;
+                case "COUNT":
+                    count = parsePositive(name, value);
+                    break;
+                case "UNTIL":
+                    until = parseUntil(value);
+                    break;
+                case "BYDAY":
+                    for (String day : value.split(",")) {
+                        byDay.add(parseDay(day.trim()));
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported recurrence rule part: " + name);
+            }
+        }
+
+        if (frequency == null) {
+            throw new IllegalArgumentException("Recurrence rule needs a FREQ: " + pattern);
+        }
+        if (count != null && until != null) {
+            throw new IllegalArgumentException("Recurrence rule cannot have both COUNT and UNTIL: " + pattern);
+        }
+        if (!byDay.isEmpty() && frequency != Frequency.WEEKLY) {
+            throw new IllegalArgumentException("BYDAY is only supported for weekly rules: " + pattern);
+        }
+        return new RecurrenceRule(pattern.trim(), frequency, interval, count, until, byDay);
+    }
+
+    /**
+     * Iterate the occurrence start times in order, computing each on demand.
+     * Rules without COUNT or UNTIL never end, so callers stop at a horizon.
+     *
+     * @param firstStart The start of the first occurrence
+     * @return The start times, beginning with firstStart
+     */
+    public Iterator<LocalDateTime> occurrences(LocalDateTime firstStart) {
+        return new OccurrenceIterator(firstStart);
+    }
+
+    /**
+     * @return true if the rule ends by itself (COUNT or UNTIL)
+     */
+    public boolean isBounded() {
+        return count != null || until != null;
+    }
+
+    public String getPattern() { return pattern; }
+    public Frequency getFrequency() { return frequency; }
+    public int getInterval() { return interval; }
+    public Integer getCount() { return count; }
+    public LocalDateTime getUntil() { return until; }
+
+    private static Frequency parseFrequency(String value) {
+        try {
+            return Frequency.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported recurrence frequency: " + value);
+        }
+    }
+
+    private static int parsePositive(String name, String value) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number > 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException(name + " must be a positive number: " + value);
+    }
+
+    private static LocalDateTime parseUntil(String value) {
+        String local = value.endsWith("Z") ? value.substring(0, value.length() - 1) : value;
+        try {
+            if (local.length() == 8) {
+                // A date covers the whole day
+                return LocalDate.parse(local, UNTIL_DATE).atTime(LocalTime.MAX);
+            }
+            return LocalDateTime.parse(local, UNTIL_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("UNTIL must be yyyyMMdd or yyyyMMddTHHmmss: " + value);
+        }
+    }
+
+    private static DayOfWeek parseDay(String value) {
+        switch (value) {
+            case "MO": return DayOfWeek.MONDAY;
+            case "TU": return DayOfWeek.TUESDAY;
+            case "WE": return DayOfWeek.WEDNESDAY;
+            case "TH": return DayOfWeek.THURSDAY;
+            case "FR": return DayOfWeek.FRIDAY;
+            case "SA": return DayOfWeek.SATURDAY;
+            case "SU": return DayOfWeek.SUNDAY;
+            default:
+                throw new IllegalArgumentException("Unsupported BYDAY value: " + value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    private final class OccurrenceIterator implements Iterator<LocalDateTime> {
+
+        private final LocalDateTime firstStart;
+        private final LocalDate firstWeek;
+        private final DayOfWeek[] days;
+        private LocalDateTime next;
+        private int produced;
+        // Periods (days, weeks or months) stepped so far, and position within a weekly period
+        private long period;
+        private int day = -1;
+
+        private OccurrenceIterator(LocalDateTime firstStart) {
+            this.firstStart = firstStart;
+            this.firstWeek = firstStart.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            Set<DayOfWeek> weekDays = byDay.isEmpty() ? EnumSet.of(firstStart.getDayOfWeek()) : byDay;
+            this.days = weekDays.toArray(new DayOfWeek[0]);
+            this.next = firstStart;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public LocalDateTime next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            LocalDateTime current = next;
+            produced++;
+            next = count != null && produced >= count ? null : advance(current);
+            return current;
+        }
+
+        /**
+         * @return The first occurrence after the previous one, or null past UNTIL
+         */
+        private LocalDateTime advance(LocalDateTime previous) {
+            LocalDateTime candidate;
+            switch (frequency) {
+                case DAILY:
+                    candidate = firstStart.plusDays(++period * interval);
+                    break;
+                case WEEKLY:
+                    candidate = nextWeekly(previous);
+                    break;
+                case MONTHLY:
+                    do {
+                        candidate = firstStart.plusMonths(++period * interval);
+                        // plusMonths clamps the 31st to shorter months; those months are skipped
+                    } while (candidate.getDayOfMonth() != firstStart.getDayOfMonth());
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported recurrence frequency: " + frequency);
+            }
+            return until != null && candidate.isAfter(until) ? null : candidate;
+        }
+
+        private LocalDateTime nextWeekly(LocalDateTime previous) {
+            // Days are in week order (EnumSet), so the next slot is the next day or the next period's first
+            // day; slots of the first week before the first start are passed over
+            while (true) {
+                if (++day >= days.length) {
+                    day = 0;
+                    period++;
+                }
+                LocalDateTime candidate = firstWeek.plusWeeks(period * interval)
+                        .plusDays(days[day].getValue() - 1L)
+                        .atTime(firstStart.toLocalTime());
+                if (candidate.isAfter(previous)) {
+                    return candidate;
+                }
+            }
+        }
+    }
+}
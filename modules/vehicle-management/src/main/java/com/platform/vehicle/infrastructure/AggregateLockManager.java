@@ -0,0 +1,232 @@
+package com.platform.vehicle.infrastructure;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serializes read-modify-write updates of one vehicle or driver.
+ *
+ * Aggregates are mapped onto a fixed array of lock stripes by type and id, so
+ * updates of the same vehicle or driver run one after another while updates
+ * of different aggregates only wait for each other in the rare case that
+ * they share a stripe. Several aggregates are always locked in stripe order,
+ * which rules out deadlocks between callers locking the same set.
+ *
+ * The locks only coordinate threads of this instance; the version columns
+ * still catch conflicting writes from other instances. Acquisitions, waits and
+ * timeouts are published as meters under bpr.vehicle.aggregate-locks.
+ */
+@Component
+public class AggregateLockManager implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(AggregateLockManager.class);
+
+    private static final int VEHICLE = 1;
+    private static final int DRIVER = 2;
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final long timeoutMs;
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder contended = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+    public AggregateLockManager(@Value("${bpr.vehicle.aggregate-locks.stripes:1024}") int stripes,
+                                @Value("${bpr.vehicle.aggregate-locks.timeout-ms:5000}") long timeoutMs) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Lock stripe count must be positive: " + stripes);
+        }
+        // Round up to a power of two so the stripe is picked with a mask
+        int size = Integer.highestOneBit(stripes);
+        if (size < stripes) {
+            size <<= 1;
+        }
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * A vehicle or driver to lock.
+     */
+    public static final class Key {
+
+        private final int type;
+        private final long id;
+
+        private Key(int type, long id) {
+            this.type = type;
+            this.id = id;
+        }
+
+        public static Key vehicle(Long vehicleId) {
+            return new Key(VEHICLE, vehicleId);
+        }
+
+        public static Key driver(Long driverId) {
+            return new Key(DRIVER, driverId);
+        }
+
+        @Override
+        public String toString() {
+            return (type == VEHICLE ? "vehicle " : "driver ") + id;
+        }
+    }
+
+    /**
+     * Run an operation while holding the locks of the given aggregates.
+     * The operation should start and finish its own transactions, so that
+     * its writes are committed before the locks are released.
+     *
+     * @param operation The operation
+     * @param keys The aggregates the operation updates
+     * @return The operation's result
+     * @throws CannotAcquireLockException if a lock is not available within the timeout
+     * @throws E if the operation fails
+     */
+    public <T, E extends Exception> T execute(ConflictRetry.Operation<T, E> operation, Key... keys) throws E {
+        int[] held = acquire(keys);
+        try {
+            return operation.run();
+        } finally {
+            release(held);
+        }
+    }
+
+    /**
+     * Lock the given aggregates until the current transaction completes,
+     * so that the next writer reads the committed state. Call it before
+     * loading the aggregates in the transaction, and lock everything the
+     * transaction updates in one call.
+     *
+     * @param keys The aggregates the transaction updates
+     * @throws CannotAcquireLockException if a lock is not available within the timeout
+     * @throws IllegalStateException if no transaction is active
+     */
+    public void lockUntilCompletion(Key... keys) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Aggregate locks held until completion need an active transaction");
+        }
+        int[] held = acquire(keys);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                release(held);
+            }
+        });
+    }
+
+    private int[] acquire(Key... keys) {
+        // 1. Resolve the distinct stripes in ascending order
+        int[] indexes = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            indexes[i] = stripe(keys[i]);
+        }
+        Arrays.sort(indexes);
+        int count = 0;
+        for (int i = 0; i < indexes.length; i++) {
+            if (i == 0 || indexes[i] != indexes[i - 1]) {
+                indexes[count++] = indexes[i];
+            }
+        }
+        int[] held = Arrays.copyOf(indexes, count);
+
+        // 2. Lock them in that order, undoing everything if one times out
+        for (int i = 0; i < held.length; i++) {
+            if (!lock(stripes[held[i]])) {
+                release(Arrays.copyOf(held, i));
+                timeouts.increment();
+                throw new CannotAcquireLockException("Timed out after " + timeoutMs
+                        + " ms waiting for the lock of " + Arrays.toString(keys));
+            }
+        }
+        return held;
+    }
+
+    private boolean lock(ReentrantLock lock) {
+        acquisitions.increment();
+        if (lock.tryLock()) {
+            return true;
+        }
+        contended.increment();
+        long start = System.nanoTime();
+        boolean locked;
+        try {
+            locked = lock.tryLock(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            locked = false;
+        }
+        long waited = System.nanoTime() - start;
+        waitNanos.add(waited);
+        maxWaitNanos.accumulate(waited);
+        if (logger.isDebugEnabled() && waited > TimeUnit.MILLISECONDS.toNanos(100)) {
+            logger.debug("Waited {} ms for an aggregate lock", TimeUnit.NANOSECONDS.toMillis(waited));
+        }
+        return locked;
+    }
+
+    private void release(int[] held) {
+        for (int i = held.length - 1; i >= 0; i--) {
+            stripes[held[i]].unlock();
+        }
+    }
+
+    private int stripe(Key key) {
+        // Murmur3 finalizer, so neighbouring ids land on unrelated stripes
+        long h = key.id * 31 + key.type;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    // Metrics
+    public long getAcquisitionCount() { return acquisitions.sum(); }
+    public long getContendedCount() { return contended.sum(); }
+    public long getTimeoutCount() { return timeouts.sum(); }
+    public long getTotalWaitMs() { return TimeUnit.NANOSECONDS.toMillis(waitNanos.sum()); }
+    public long getMaxWaitMs() { return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()); }
+    public int getStripeCount() { return stripes.length; }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("bpr.vehicle.aggregate-locks.acquisitions", this,
+                        AggregateLockManager::getAcquisitionCount)
+                .register(registry);
+        FunctionCounter.builder("bpr.vehicle.aggregate-locks.contended", this, AggregateLockManager::getContendedCount)
+                .description("Acquisitions that had to wait for another holder")
+                .register(registry);
+        FunctionCounter.builder("bpr.vehicle.aggregate-locks.timeouts", this, AggregateLockManager::getTimeoutCount)
+                .register(registry);
+        FunctionCounter.builder("bpr.vehicle.aggregate-locks.wait", this, AggregateLockManager::getTotalWaitMs)
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("bpr.vehicle.aggregate-locks.wait.max", this, AggregateLockManager::getMaxWaitMs)
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+}
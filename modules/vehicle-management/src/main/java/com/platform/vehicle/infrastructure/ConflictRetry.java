@@ -0,0 +1,107 @@
+package com.platform.vehicle.infrastructure;
+
+import jakarta.persistence.OptimisticLockException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Re-runs a transactional operation that lost a race.
+ *
+ * A conflict is an optimistic locking failure (a row changed since it was
+ * read), a lock or serialization failure, or a violation of the PostgreSQL
+ * booking exclusion constraints. The operation must start its own
+ * transaction, so that every attempt reads fresh state; the retry then
+ * either succeeds or fails with the regular validation error. Attempts are
+ * spaced with jittered, doubling backoff.
+ */
+@Component
+public class ConflictRetry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConflictRetry.class);
+
+    // PostgreSQL exclusion_violation
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    public ConflictRetry(@Value("${bpr.vehicle.conflict-retry.max-attempts:3}") int maxAttempts,
+                         @Value("${bpr.vehicle.conflict-retry.initial-backoff-ms:10}") long initialBackoffMs) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+    }
+
+    /**
+     * An operation that may throw a checked exception.
+     */
+    @FunctionalInterface
+    public interface Operation<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    /**
+     * Run the operation, retrying it on conflicts.
+     *
+     * @param operation The operation; each call must run in a new transaction
+     * @return The operation's result
+     * @throws E if the operation fails for another reason
+     */
+    public <T, E extends Exception> T execute(Operation<T, E> operation) throws E {
+        long backoffMs = initialBackoffMs;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return operation.run();
+            } catch (RuntimeException e) {
+                if (!isConflict(e)) {
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    throw e;
+                }
+                retries.increment();
+                logger.debug("Conflict on attempt {}, retrying: {}", attempt, e.getMessage());
+                try {
+                    // Jitter keeps the losers of one race from colliding again
+                    Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMs / 2, backoffMs + 1));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+                backoffMs *= 2;
+            }
+        }
+    }
+
+    /**
+     * @return true if the failure is a lost race that a fresh attempt can resolve
+     */
+    public static boolean isConflict(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConcurrencyFailureException || cause instanceof OptimisticLockException) {
+                return true;
+            }
+            if (cause instanceof SQLException && EXCLUSION_VIOLATION.equals(((SQLException) cause).getSQLState())) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    // Metrics
+    public long getRetryCount() { return retries.sum(); }
+    public long getExhaustedCount() { return exhausted.sum(); }
+}
@@ -0,0 +1,47 @@
+package com.platform.vehicle.infrastructure;
+
+import com.platform.common.domain.id.IdGenerator;
+import com.platform.common.domain.id.IdGenerators;
+import com.platform.common.domain.id.SnowflakeIdGenerator;
+import com.platform.common.domain.id.UlidGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Installs the ID generator used for event IDs and booking references.
+ *
+ * Snowflake IDs are only unique across instances when every instance has its
+ * own node ID; ULIDs need no coordination at the cost of longer IDs.
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdGeneratorConfig.class);
+
+    public enum Strategy {
+        SNOWFLAKE,
+        ULID
+    }
+
+    @Bean
+    public IdGenerator idGenerator(@Value("${bpr.vehicle.ids.strategy:SNOWFLAKE}") Strategy strategy,
+                                   @Value("${bpr.vehicle.ids.node-id:-1}") int nodeId) {
+        IdGenerator generator;
+        if (strategy == Strategy.ULID) {
+            generator = new UlidGenerator();
+        } else {
+            if (nodeId < 0) {
+                nodeId = SnowflakeIdGenerator.randomNodeId();
+                logger.warn("No node ID configured (bpr.vehicle.ids.node-id), using random node ID {}; "
+                        + "configure a unique one per instance when running more than one", nodeId);
+            }
+            generator = new SnowflakeIdGenerator(nodeId);
+        }
+        IdGenerators.install(generator);
+        logger.info("Using {} IDs", strategy);
+        return generator;
+    }
+}
@@ -0,0 +1,44 @@
+package com.platform.vehicle.infrastructure;
+
+import java.util.List;
+
+/**
+ * One page of a keyset (cursor) paginated query.
+ * The caller derives the next cursor from the last item.
+ */
+public class KeysetPage<T> {
+
+    private final List<T> items;
+    private final boolean hasNext;
+
+    public KeysetPage(List<T> items, boolean hasNext) {
+        this.items = items;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * Build a page from a query that fetched one row more than the page size.
+     *
+     * @param rows The rows fetched with limit + 1
+     * @param limit The requested page size
+     * @return The page, trimmed to the requested size
+     */
+    public static <T> KeysetPage<T> fromOverfetch(List<T> rows, int limit) {
+        if (rows.size() > limit) {
+            return new KeysetPage<>(rows.subList(0, limit), true);
+        }
+        return new KeysetPage<>(rows, false);
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    public T getLast() {
+        return items.isEmpty() ? null : items.get(items.size() - 1);
+    }
+}
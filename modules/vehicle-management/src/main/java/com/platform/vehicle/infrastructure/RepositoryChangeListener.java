@@ -0,0 +1,90 @@
+package com.platform.vehicle.infrastructure;
+
+import com.platform.common.domain.core.DomainEvent;
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.domain.Driver;
+import com.platform.vehicle.domain.Vehicle;
+
+import java.util.List;
+
+/**
+ * Callback for components that mirror repository state in memory.
+ * Notifications are delivered after the surrounding transaction commits.
+ */
+public interface RepositoryChangeListener {
+
+    /**
+     * Called after a new booking has been inserted, before {@link #onBookingSaved(Booking)}.
+     *
+     * @param booking The booking as persisted
+     */
+    default void onBookingCreated(Booking booking) {
+    }
+
+    /**
+     * Called after a booking has been saved.
+     *
+     * @param booking The booking as persisted
+     */
+    default void onBookingSaved(Booking booking) {
+    }
+
+    /**
+     * Called after the events raised on a booking have been persisted, after {@link #onBookingSaved(Booking)}.
+     *
+     * @param booking The booking as persisted
+     * @param events The new events, in the order they were raised
+     */
+    default void onBookingEventsCommitted(Booking booking, List<DomainEvent> events) {
+    }
+
+    /**
+     * Called after a batch of bookings has been bulk imported. Imports carry no
+     * events and do not trigger {@link #onBookingCreated(Booking)} or
+     * {@link #onBookingSaved(Booking)}.
+     *
+     * @param bookings The bookings as persisted
+     */
+    default void onBookingsImported(List<Booking> bookings) {
+    }
+
+    /**
+     * Called after a booking has been deleted.
+     *
+     * @param bookingId The ID of the deleted booking
+     */
+    default void onBookingDeleted(Long bookingId) {
+    }
+
+    /**
+     * Called after a vehicle has been saved.
+     *
+     * @param vehicle The vehicle as persisted
+     */
+    default void onVehicleSaved(Vehicle vehicle) {
+    }
+
+    /**
+     * Called after a vehicle has been deleted.
+     *
+     * @param vehicleId The ID of the deleted vehicle
+     */
+    default void onVehicleDeleted(Long vehicleId) {
+    }
+
+    /**
+     * Called after a driver has been saved.
+     *
+     * @param driver The driver as persisted
+     */
+    default void onDriverSaved(Driver driver) {
+    }
+
+    /**
+     * Called after a driver has been deleted.
+     *
+     * @param driverId The ID of the deleted driver
+     */
+    default void onDriverDeleted(Long driverId) {
+    }
+}
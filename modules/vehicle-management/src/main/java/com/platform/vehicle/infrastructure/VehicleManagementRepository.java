@@ -1,14 +1,19 @@
 package com.platform.vehicle.infrastructure;
 
+import com.platform.common.domain.core.DomainEvent;
 import com.platform.vehicle.domain.Vehicle;
 import com.platform.vehicle.domain.Driver;
 import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.infrastructure.projections.BookingSummaryView;
+import com.platform.vehicle.infrastructure.projections.VehicleSummaryView;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -17,6 +22,7 @@ public interface VehicleManagementRepository {
     // Vehicle Repository Methods
     Optional<Vehicle> findVehicleById(Long id);
     Optional<Vehicle> findVehicleByPlateNumber(String plateNumber);
+    List<Vehicle> findVehiclesByIds(Collection<Long> ids);
     List<Vehicle> findVehiclesByStatus(Vehicle.VehicleStatus status);
     List<Vehicle> findAvailableVehicles();
     List<Vehicle> findVehiclesByType(Vehicle.VehicleType type);
@@ -27,6 +33,7 @@ public interface VehicleManagementRepository {
     // Driver Repository Methods
     Optional<Driver> findDriverById(Long id);
     Optional<Driver> findDriverByLicenseNumber(String licenseNumber);
+    List<Driver> findDriversByIds(Collection<Long> ids);
     List<Driver> findDriversByStatus(Driver.DriverStatus status);
     List<Driver> findAvailableDrivers();
     List<Driver> findDriversByLicenseType(Driver.LicenseType licenseType);
@@ -36,12 +43,18 @@ public interface VehicleManagementRepository {
     
     // Booking Repository Methods
     Optional<Booking> findBookingById(Long id);
+    // Loads without event history; new events are still appended on save
+    List<Booking> findBookingsByIds(Collection<Long> ids);
     Optional<Booking> findBookingByReference(String reference);
+    List<Booking> findBookingsByReferences(Collection<String> references);
     List<Booking> findBookingsByRequesterId(Long requesterId);
     List<Booking> findBookingsByVehicleId(Long vehicleId);
     List<Booking> findBookingsByDriverId(Long driverId);
     List<Booking> findBookingsByStatus(Booking.BookingStatus status);
+    // Bookings matching every given filter, ordered by start time; null filters are ignored
+    List<Booking> findBookings(Booking.BookingStatus status, Long requesterId, Long vehicleId, Long driverId);
     List<Booking> findBookingsByDateRange(LocalDateTime startDate, LocalDateTime endDate);
+    Map<Long, List<DomainEvent>> findEventsByBookingIds(Collection<Long> bookingIds);
     
     // Current/upcoming bookings
     List<Booking> findCurrentBookings();
@@ -75,11 +88,29 @@ public interface VehicleManagementRepository {
                                       @Param("startDate") LocalDateTime startDate,
                                       @Param("endDate") LocalDateTime endDate);
     
-    @Query("SELECT b FROM Booking b WHERE b.requesterId = :requesterId ORDER BY b.createdAt DESC")
-    List<Booking> findBookingsByRequesterIdOrderByCreatedAtDesc(@Param("requesterId") Long requesterId);
+    // Keyset pagination
+    KeysetPage<Vehicle> findVehiclesPage(Vehicle.VehicleStatus status, Vehicle.VehicleType type, Long afterId, int limit);
+    KeysetPage<Booking> findBookingsPage(Booking.BookingStatus status, Long requesterId, Long vehicleId, Long driverId,
+                                         LocalDateTime afterStartTime, Long afterId, int limit);
+    KeysetPage<Booking> findBookingsByRequesterIdPage(Long requesterId, LocalDateTime beforeCreatedAt, Long beforeId, int limit);
+    
+    // Keyset pagination over read-only projections, for list views that need no domain behaviour
+    KeysetPage<VehicleSummaryView> findVehicleSummariesPage(Vehicle.VehicleStatus status, Vehicle.VehicleType type,
+                                                            Long afterId, int limit);
+    KeysetPage<BookingSummaryView> findBookingSummariesPage(Booking.BookingStatus status, Long requesterId, Long vehicleId,
+                                                            Long driverId, LocalDateTime afterStartTime, Long afterId, int limit);
+    KeysetPage<BookingSummaryView> findBookingSummariesByRequesterIdPage(Long requesterId, LocalDateTime beforeCreatedAt,
+                                                                         Long beforeId, int limit);
     
     // Save operations
     Booking saveBooking(Booking booking);
+    // Inserts new bookings without events; listeners get one onBookingsImported call
+    List<Booking> saveImportedBookings(List<Booking> bookings);
+    // Adds the actual mileage of completed bookings to their vehicles and drivers in place
+    void recordCompletedTrips(List<Booking> completedBookings);
+    // Saves of existing vehicles and drivers keep their stored trip counters; these set them deliberately
+    void correctVehicleMileage(Long vehicleId, double mileage);
+    void correctDriverTripTotals(Long driverId, int tripsCompleted, double milesDriven);
     void deleteBooking(Long id);
     
     // Complex queries for dashboard
@@ -100,6 +131,10 @@ public interface VehicleManagementRepository {
            "AND b.startTime <= :currentTime AND b.endTime >= :currentTime AND b.driverId IS NOT NULL)")
     List<Driver> findDriversCurrentlyAvailable(@Param("currentTime") LocalDateTime currentTime);
     
+    // Time-window availability (single anti-join per search)
+    List<Vehicle> findVehiclesAvailableBetween(LocalDateTime startTime, LocalDateTime endTime);
+    List<Driver> findDriversAvailableBetween(LocalDateTime startTime, LocalDateTime endTime);
+    
     // Maintenance and expiry checks
     @Query("SELECT v FROM Vehicle v WHERE v.nextMaintenance IS NOT NULL AND v.nextMaintenance < :date")
     List<Vehicle> findVehiclesRequiringMaintenance(@Param("date") LocalDateTime date);
@@ -0,0 +1,345 @@
+package com.platform.vehicle.infrastructure.adapters;
+
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.domain.BookingDerivedFields;
+import com.platform.vehicle.infrastructure.entities.BookingEntity;
+import com.platform.vehicle.infrastructure.entities.DriverEntity;
+import com.platform.vehicle.infrastructure.entities.VehicleEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Booking list query narrowed to the fields a client asked for.
+ *
+ * Only the columns behind the requested fields are selected, and vehicles
+ * and drivers are joined only when their fields are requested. Rows are
+ * returned as maps keyed by GraphQL field name, including the derived
+ * fields (displayStatus, durationInHours, ...) computed from the selected
+ * columns.
+ */
+@Component
+public class BookingSelectionQuery {
+
+    private static final String VEHICLE = "vehicle";
+    private static final String DRIVER = "driver";
+
+    private static final Entity BOOKING_FIELDS = new Entity()
+            .column("id", "id")
+            .column("bookingReference", "bookingReference")
+            .column("status", "status", value -> Booking.BookingStatus.valueOf(((Enum<?>) value).name()))
+            .column("type", "type")
+            .column("vehicleId", "vehicleId")
+            .column("driverId", "driverId")
+            .column("startTime", "startTime")
+            .column("endTime", "endTime")
+            .column("actualStartTime", "actualStartTime")
+            .column("actualEndTime", "actualEndTime")
+            .column("purpose", "purpose")
+            .column("description", "description")
+            .column("pickupLocation", "pickupLocation")
+            .column("destination", "destination")
+            .column("returnLocation", "returnLocation")
+            .column("estimatedPassengers", "estimatedPassengers")
+            .column("managerName", "managerName")
+            .column("costCenter", "costCenter")
+            .column("approvalComment", "approvalComment")
+            .column("approvedAt", "approvedAt")
+            .column("rejectedAt", "rejectedAt")
+            .column("rejectionReason", "rejectionReason")
+            .column("feedback", "feedback")
+            .column("actualMileage", "actualMileage")
+            .column("additionalRequirements", "additionalRequirements")
+            .derived("displayStatus", Set.of("status"),
+                    row -> BookingDerivedFields.displayStatus(status(row)))
+            .derived("durationInHours", Set.of("startTime", "endTime"),
+                    row -> BookingDerivedFields.durationInHours(time(row, "startTime"), time(row, "endTime")))
+            .derived("canBeCancelled", Set.of("status"),
+                    row -> BookingDerivedFields.canBeCancelled(status(row)))
+            .derived("needsApproval", Set.of("status"),
+                    row -> BookingDerivedFields.needsApproval(status(row)))
+            .derived("isCurrent", Set.of("status", "startTime", "endTime"),
+                    row -> BookingDerivedFields.isCurrent(status(row), time(row, "startTime"), time(row, "endTime"),
+                            LocalDateTime.now()))
+            .derived("isUpcoming", Set.of("status", "startTime"),
+                    row -> BookingDerivedFields.isUpcoming(status(row), time(row, "startTime"), LocalDateTime.now()))
+            // Relations are resolved elsewhere from the foreign keys
+            .derived("eventHistory", Set.of("id"), row -> null)
+            .derived(VEHICLE, Set.of("vehicleId"), row -> null)
+            .derived(DRIVER, Set.of("driverId"), row -> null);
+
+    private static final Entity VEHICLE_FIELDS = new Entity()
+            .column("id", "id")
+            .column("plateNumber", "plateNumber")
+            .column("make", "make")
+            .column("model", "model")
+            .column("year", "manufactureYear")
+            .column("type", "type")
+            .column("status", "status")
+            .column("capacity", "capacity")
+            .column("color", "color")
+            .column("description", "description")
+            .column("location", "location")
+            .column("lastMaintenance", "lastMaintenance")
+            .column("nextMaintenance", "nextMaintenance")
+            .column("mileage", "mileage")
+            .column("fuelType", "fuelType")
+            .column("vehicleGroup", "vehicleGroup")
+            .column("costCenter", "costCenter")
+            .column("availableForBooking", "availableForBooking")
+            .derived("available", Set.of("status", "availableForBooking"),
+                    row -> row.get("status") == VehicleEntity.VehicleStatus.AVAILABLE
+                            && Boolean.TRUE.equals(row.get("availableForBooking")))
+            .derived("displayName", Set.of("year", "make", "model", "plateNumber"),
+                    row -> String.format("%s %s %s (%s)",
+                            row.get("year"), row.get("make"), row.get("model"), row.get("plateNumber")));
+
+    private static final Entity DRIVER_FIELDS = new Entity()
+            .column("id", "id")
+            .column("userId", "userId")
+            .column("status", "status")
+            .column("licenseType", "licenseType")
+            .column("licenseNumber", "licenseNumber")
+            .column("licenseExpiryDate", "licenseExpiryDate")
+            .column("phoneNumber", "phoneNumber")
+            .column("yearsOfExperience", "yearsOfExperience")
+            .column("availableForBooking", "availableForBooking")
+            .column("department", "department")
+            .column("costCenter", "costCenter")
+            .column("shift", "shift")
+            .column("lastHealthCheck", "lastHealthCheck")
+            .column("totalTripsCompleted", "totalTripsCompleted")
+            .column("totalMilesDriven", "totalMilesDriven")
+            .derived("displayName", Set.of("id", "userId"),
+                    row -> "Driver #" + row.get("id") + " ("
+                            + (row.get("userId") != null ? "User:" + row.get("userId") : "External") + ")");
+
+    private final EntityManager entityManager;
+
+    public BookingSelectionQuery(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * @return true if every requested booking field can be served by this query
+     */
+    public static boolean supportsBookingFields(Set<String> fields) {
+        return BOOKING_FIELDS.supports(fields);
+    }
+
+    /**
+     * @return true if the vehicle can be joined for the requested fields
+     */
+    public static boolean supportsVehicleFields(Set<String> fields) {
+        return VEHICLE_FIELDS.supports(fields);
+    }
+
+    /**
+     * @return true if the driver can be joined for the requested fields
+     */
+    public static boolean supportsDriverFields(Set<String> fields) {
+        return DRIVER_FIELDS.supports(fields);
+    }
+
+    /**
+     * Load bookings with only the requested fields.
+     * Without a filter, upcoming approved and confirmed bookings are returned.
+     *
+     * @param selection The requested fields
+     * @param status Status filter (nullable)
+     * @param requesterId Requester filter (nullable)
+     * @param vehicleId Vehicle filter (nullable)
+     * @param driverId Driver filter (nullable)
+     * @return One map per booking, ordered by start time
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findBookings(FieldSelection selection, Booking.BookingStatus status,
+                                                  Long requesterId, Long vehicleId, Long driverId) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<BookingEntity> booking = query.from(BookingEntity.class);
+
+        // 1. Select the booking columns; the ID is always needed for cursors and relations
+        Set<String> bookingAttributes = BOOKING_FIELDS.attributesFor(selection.bookingFields, "id");
+        List<Selection<?>> selections = new ArrayList<>();
+        addSelections(selections, booking, "b_", bookingAttributes);
+
+        // 2. Join the vehicle and driver only when their fields were requested
+        Set<String> vehicleAttributes = Set.of();
+        if (selection.vehicleFields != null) {
+            Join<BookingEntity, VehicleEntity> vehicle = booking.join(VEHICLE, JoinType.LEFT);
+            vehicleAttributes = VEHICLE_FIELDS.attributesFor(selection.vehicleFields, "id");
+            addSelections(selections, vehicle, "v_", vehicleAttributes);
+        }
+        Set<String> driverAttributes = Set.of();
+        if (selection.driverFields != null) {
+            Join<BookingEntity, DriverEntity> driver = booking.join(DRIVER, JoinType.LEFT);
+            driverAttributes = DRIVER_FIELDS.attributesFor(selection.driverFields, "id");
+            addSelections(selections, driver, "d_", driverAttributes);
+        }
+
+        // 3. Filters
+        List<Predicate> predicates = new ArrayList<>();
+        if (status != null) {
+            predicates.add(cb.equal(booking.get("status"), BookingEntity.BookingStatus.valueOf(status.name())));
+        }
+        if (requesterId != null) {
+            predicates.add(cb.equal(booking.get("requesterId"), requesterId));
+        }
+        if (vehicleId != null) {
+            predicates.add(cb.equal(booking.get("vehicleId"), vehicleId));
+        }
+        if (driverId != null) {
+            predicates.add(cb.equal(booking.get("driverId"), driverId));
+        }
+        if (predicates.isEmpty()) {
+            predicates.add(cb.greaterThan(booking.get("startTime"), LocalDateTime.now()));
+            predicates.add(booking.get("status").in(BookingEntity.BookingStatus.APPROVED, BookingEntity.BookingStatus.CONFIRMED));
+        }
+
+        query.multiselect(selections)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(booking.get("startTime")), cb.asc(booking.get("id")));
+
+        // 4. Build the rows
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            Map<String, Object> row = BOOKING_FIELDS.toRow(tuple, "b_", bookingAttributes, selection.bookingFields);
+            if (selection.vehicleFields != null) {
+                row.put(VEHICLE, tuple.get("v_id") == null ? null
+                        : VEHICLE_FIELDS.toRow(tuple, "v_", vehicleAttributes, selection.vehicleFields));
+            }
+            if (selection.driverFields != null) {
+                row.put(DRIVER, tuple.get("d_id") == null ? null
+                        : DRIVER_FIELDS.toRow(tuple, "d_", driverAttributes, selection.driverFields));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static void addSelections(List<Selection<?>> selections, From<?, ?> from,
+                                      String prefix, Set<String> attributes) {
+        for (String attribute : attributes) {
+            selections.add(from.get(attribute).alias(prefix + attribute));
+        }
+    }
+
+    private static Booking.BookingStatus status(Map<String, Object> row) {
+        return (Booking.BookingStatus) row.get("status");
+    }
+
+    private static LocalDateTime time(Map<String, Object> row, String field) {
+        return (LocalDateTime) row.get(field);
+    }
+
+    /**
+     * Fields requested for a booking list. A null vehicle or driver field set
+     * means the relation is not joined.
+     */
+    public static class FieldSelection {
+        private final Set<String> bookingFields;
+        private final Set<String> vehicleFields;
+        private final Set<String> driverFields;
+
+        public FieldSelection(Set<String> bookingFields, Set<String> vehicleFields, Set<String> driverFields) {
+            this.bookingFields = bookingFields;
+            this.vehicleFields = vehicleFields;
+            this.driverFields = driverFields;
+        }
+    }
+
+    /**
+     * Mapping of GraphQL fields to entity attributes for one entity.
+     */
+    private static final class Entity {
+
+        private final Map<String, String> attributes = new HashMap<>();
+        private final Map<String, Function<Object, Object>> converters = new HashMap<>();
+        private final Map<String, Set<String>> dependencies = new HashMap<>();
+        private final Map<String, Function<Map<String, Object>, Object>> derivations = new HashMap<>();
+
+        Entity column(String field, String attribute) {
+            attributes.put(field, attribute);
+            return this;
+        }
+
+        Entity column(String field, String attribute, Function<Object, Object> converter) {
+            converters.put(field, converter);
+            return column(field, attribute);
+        }
+
+        Entity derived(String field, Set<String> requires, Function<Map<String, Object>, Object> derivation) {
+            dependencies.put(field, requires);
+            derivations.put(field, derivation);
+            return this;
+        }
+
+        boolean supports(Set<String> fields) {
+            for (String field : fields) {
+                if (!attributes.containsKey(field) && !derivations.containsKey(field) && !field.startsWith("__")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return Entity attributes to select for the fields, plus the always-selected ones
+         */
+        Set<String> attributesFor(Set<String> fields, String... alwaysSelected) {
+            Set<String> columns = new LinkedHashSet<>();
+            for (String field : alwaysSelected) {
+                columns.add(attributes.get(field));
+            }
+            for (String field : fields) {
+                for (String column : dependencies.getOrDefault(field, Set.of(field))) {
+                    String attribute = attributes.get(column);
+                    if (attribute != null) {
+                        columns.add(attribute);
+                    }
+                }
+            }
+            return columns;
+        }
+
+        Map<String, Object> toRow(Tuple tuple, String prefix, Set<String> selectedAttributes, Set<String> fields) {
+            Map<String, Object> row = new HashMap<>();
+            attributes.forEach((field, attribute) -> {
+                if (selectedAttributes.contains(attribute)) {
+                    Object value = tuple.get(prefix + attribute);
+                    Function<Object, Object> converter = converters.get(field);
+                    row.put(field, converter != null && value != null ? converter.apply(value) : value);
+                }
+            });
+            for (String field : fields) {
+                Function<Map<String, Object>, Object> derivation = derivations.get(field);
+                if (derivation != null) {
+                    Object value = derivation.apply(row);
+                    if (value != null) {
+                        row.put(field, value);
+                    }
+                }
+            }
+            return row;
+        }
+    }
+}
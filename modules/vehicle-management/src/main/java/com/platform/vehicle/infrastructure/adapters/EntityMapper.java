@@ -3,6 +3,7 @@ package com.platform.vehicle.infrastructure.adapters;
 import com.platform.vehicle.domain.Vehicle;
 import com.platform.vehicle.domain.Driver;
 import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.domain.events.BookingEvent;
 import com.platform.vehicle.infrastructure.entities.VehicleEntity;
 import com.platform.vehicle.infrastructure.entities.DriverEntity;
 import com.platform.vehicle.infrastructure.entities.BookingEntity;
@@ -10,6 +11,7 @@ import com.platform.vehicle.infrastructure.entities.BookingEventEntity;
 import com.platform.common.domain.core.DomainEvent;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,6 +31,7 @@ public class EntityMapper {
         entity.setCreatedBy(vehicle.getCreatedBy());
         entity.setUpdatedBy(vehicle.getUpdatedBy());
         entity.setDeleted(vehicle.isDeleted());
+        entity.setVersion(vehicle.getVersion());
         
         entity.setPlateNumber(vehicle.getPlateNumber());
         entity.setMake(vehicle.getMake());
@@ -63,6 +66,7 @@ public class EntityMapper {
         vehicle.setCreatedBy(entity.getCreatedBy());
         vehicle.setUpdatedBy(entity.getUpdatedBy());
         vehicle.setDeleted(entity.isDeleted());
+        vehicle.setVersion(entity.getVersion());
         
         vehicle.setPlateNumber(entity.getPlateNumber());
         vehicle.setMake(entity.getMake());
@@ -173,6 +177,7 @@ public class EntityMapper {
         entity.setCreatedBy(booking.getCreatedBy());
         entity.setUpdatedBy(booking.getUpdatedBy());
         entity.setDeleted(booking.isDeleted());
+        entity.setVersion(booking.getVersion());
         
         entity.setBookingReference(booking.getBookingReference());
         entity.setStatus(BookingEntity.BookingStatus.valueOf(booking.getStatus().name()));
@@ -206,14 +211,7 @@ public class EntityMapper {
         entity.setRecurringPattern(booking.getRecurringPattern());
         entity.setEstimatedCost(booking.getEstimatedCost());
         
-        // Map events if available
-        if (booking.getEventHistory() != null && !booking.getEventHistory().isEmpty()) {
-            List<BookingEventEntity> events = booking.getEventHistory().stream()
-                    .map(this::toBookingEventEntity)
-                    .collect(Collectors.toList());
-            events.forEach(entity::addEvent);
-        }
-        
+        // Event history is not mapped; new events are appended by BookingEventJdbcRepository
         return entity;
     }
 
@@ -222,6 +220,39 @@ public class EntityMapper {
             return null;
         }
         
+        List<DomainEvent> events = new ArrayList<>();
+        if (entity.getEvents() != null) {
+            events = entity.getEvents().stream()
+                    .map(event -> toDomainEvent(event, entity.getBookingReference()))
+                    .collect(Collectors.toList());
+        }
+        return toDomainBooking(entity, events);
+    }
+
+    /**
+     * Map a booking row without touching its event history.
+     * Used for list queries; the history is loaded on demand in one batch
+     * (see VehicleManagementRepository#findEventsByBookingIds).
+     *
+     * @param entity The booking entity
+     * @return The domain booking with an empty event history
+     */
+    public Booking toDomainBookingWithoutHistory(BookingEntity entity) {
+        return toDomainBooking(entity, List.of());
+    }
+
+    /**
+     * Map a booking row with an event history that has been loaded separately.
+     *
+     * @param entity The booking entity
+     * @param eventHistory The events of the booking, oldest first
+     * @return The domain booking
+     */
+    public Booking toDomainBooking(BookingEntity entity, List<DomainEvent> eventHistory) {
+        if (entity == null) {
+            return null;
+        }
+        
         Booking booking = new Booking();
         booking.setId(entity.getId());
         booking.setCreatedAt(entity.getCreatedAt());
@@ -229,6 +260,7 @@ public class EntityMapper {
         booking.setCreatedBy(entity.getCreatedBy());
         booking.setUpdatedBy(entity.getUpdatedBy());
         booking.setDeleted(entity.isDeleted());
+        booking.setVersion(entity.getVersion());
         
         booking.setBookingReference(entity.getBookingReference());
         booking.setStatus(Booking.BookingStatus.valueOf(entity.getStatus().name()));
@@ -262,19 +294,13 @@ public class EntityMapper {
         booking.setRecurringPattern(entity.getRecurringPattern());
         booking.setEstimatedCost(entity.getEstimatedCost());
         
-        // Map events if available
-        if (entity.getEvents() != null && !entity.getEvents().isEmpty()) {
-            List<DomainEvent> events = entity.getEvents().stream()
-                    .map(this::toDomainEvent)
-                    .collect(Collectors.toList());
-            booking.setEventHistory(events);
-        }
+        booking.setEventHistory(new ArrayList<>(eventHistory));
         
         return booking;
     }
 
     // Event mappings
-    public BookingEventEntity toBookingEventEntity(DomainEvent domainEvent) {
+    public BookingEventEntity toBookingEventEntity(DomainEvent domainEvent, Long bookingId) {
         if (domainEvent == null) {
             return null;
         }
@@ -286,7 +312,7 @@ public class EntityMapper {
         entity.setCausedBy(domainEvent.getCausedBy());
         entity.setVersion(domainEvent.getVersion());
         entity.setTimestamp(domainEvent.getTimestamp());
-        entity.setBookingId(Long.valueOf(domainEvent.getAggregateId()));
+        entity.setBookingId(bookingId);
         
         return entity;
     }
@@ -295,23 +321,30 @@ public class EntityMapper {
         if (entity == null) {
             return null;
         }
+        return toDomainEvent(entity, entity.getBookingId().toString());
+    }
+
+    /**
+     * Map a stored event, keeping its original ID and timestamp.
+     *
+     * @param entity The event entity
+     * @param aggregateId The aggregate ID to report (the booking reference)
+     * @return The domain event
+     */
+    public DomainEvent toDomainEvent(BookingEventEntity entity, String aggregateId) {
+        if (entity == null) {
+            return null;
+        }
         
-        // Create a simple domain event for now
-        return new DomainEvent(
-            entity.getBookingId().toString(),
+        BookingEvent event = new BookingEvent(
+            aggregateId,
             entity.getEventType(),
             entity.getEventData(),
             entity.getCausedBy()
-        ) {
-            @Override
-            public void setEventId(String eventId) {
-                // Override to set from entity
-            }
-            
-            @Override
-            public void setTimestamp(java.time.LocalDateTime timestamp) {
-                // Override to set from entity
-            }
-        };
+        );
+        event.setEventId(entity.getEventId());
+        event.setTimestamp(entity.getTimestamp());
+        event.setVersion(entity.getVersion());
+        return event;
     }
 }
\ No newline at end of file
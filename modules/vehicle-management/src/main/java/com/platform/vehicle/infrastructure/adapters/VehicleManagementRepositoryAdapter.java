@@ -1,20 +1,47 @@
 package com.platform.vehicle.infrastructure.adapters;
 
+import com.platform.common.domain.core.DomainEvent;
 import com.platform.vehicle.domain.Vehicle;
 import com.platform.vehicle.domain.Driver;
 import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.infrastructure.KeysetPage;
+import com.platform.vehicle.infrastructure.RepositoryChangeListener;
+import com.platform.vehicle.infrastructure.TransactionCallbacks;
 import com.platform.vehicle.infrastructure.VehicleManagementRepository;
 import com.platform.vehicle.infrastructure.entities.BookingEntity;
+import com.platform.vehicle.infrastructure.entities.BookingEventEntity;
 import com.platform.vehicle.infrastructure.entities.DriverEntity;
 import com.platform.vehicle.infrastructure.entities.VehicleEntity;
+import com.platform.vehicle.infrastructure.projections.BookingSummaryView;
+import com.platform.vehicle.infrastructure.projections.VehicleSummaryView;
 import com.platform.vehicle.infrastructure.repositories.VehicleJpaRepository;
 import com.platform.vehicle.infrastructure.repositories.DriverJpaRepository;
 import com.platform.vehicle.infrastructure.repositories.BookingJpaRepository;
+import com.platform.vehicle.infrastructure.repositories.BookingEventJpaRepository;
+import com.platform.vehicle.infrastructure.repositories.BookingEventJdbcRepository;
+import com.platform.vehicle.infrastructure.repositories.TripStatisticsJdbcRepository;
+import com.platform.vehicle.infrastructure.repositories.TripStatisticsJdbcRepository.TripTotals;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -24,20 +51,41 @@ import java.util.stream.Collectors;
 @Component
 public class VehicleManagementRepositoryAdapter implements VehicleManagementRepository {
     
+    private static final Logger logger = LoggerFactory.getLogger(VehicleManagementRepositoryAdapter.class);
+
+    // Cursor sentinels for the first page of each keyset ordering
+    private static final LocalDateTime MIN_TIME = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 23, 59);
+
     private final VehicleJpaRepository vehicleJpaRepository;
     private final DriverJpaRepository driverJpaRepository;
     private final BookingJpaRepository bookingJpaRepository;
+    private final BookingEventJpaRepository bookingEventJpaRepository;
+    private final BookingEventJdbcRepository bookingEventJdbcRepository;
+    private final TripStatisticsJdbcRepository tripStatisticsJdbcRepository;
     private final EntityMapper entityMapper;
+    private final EntityManager entityManager;
+    private final List<RepositoryChangeListener> changeListeners;
 
     public VehicleManagementRepositoryAdapter(
             VehicleJpaRepository vehicleJpaRepository,
             DriverJpaRepository driverJpaRepository,
             BookingJpaRepository bookingJpaRepository,
-            EntityMapper entityMapper) {
+            BookingEventJpaRepository bookingEventJpaRepository,
+            BookingEventJdbcRepository bookingEventJdbcRepository,
+            TripStatisticsJdbcRepository tripStatisticsJdbcRepository,
+            EntityMapper entityMapper,
+            EntityManager entityManager,
+            List<RepositoryChangeListener> changeListeners) {
         this.vehicleJpaRepository = vehicleJpaRepository;
         this.driverJpaRepository = driverJpaRepository;
         this.bookingJpaRepository = bookingJpaRepository;
+        this.bookingEventJpaRepository = bookingEventJpaRepository;
+        this.bookingEventJdbcRepository = bookingEventJdbcRepository;
+        this.tripStatisticsJdbcRepository = tripStatisticsJdbcRepository;
         this.entityMapper = entityMapper;
+        this.entityManager = entityManager;
+        this.changeListeners = changeListeners;
     }
 
     // Vehicle Repository Methods
@@ -53,6 +101,15 @@ public class VehicleManagementRepositoryAdapter implements VehicleManagementRepo
                 .map(entityMapper::toDomainVehicle);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Vehicle> findVehiclesByIds(Collection<Long> ids) {
+        // Multi-load resolves cached vehicles from the second-level cache and batches the rest
+        return multiLoad(VehicleEntity.class, ids).stream()
+                .map(entityMapper::toDomainVehicle)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Vehicle> findVehiclesByStatus(Vehicle.VehicleStatus status) {
         return vehicleJpaRepository.findByStatus(
@@ -88,13 +145,20 @@ public class VehicleManagementRepositoryAdapter implements VehicleManagementRepo
     @Override
     public Vehicle saveVehicle(Vehicle vehicle) {
         VehicleEntity entity = entityMapper.toVehicleEntity(vehicle);
+        if (entity.getId() != null) {
+            // The mileage may be stale; the merge loads this row anyway and leaves the column out of the update
+            vehicleJpaRepository.findById(entity.getId()).ifPresent(stored -> entity.setMileage(stored.getMileage()));
+        }
         VehicleEntity savedEntity = vehicleJpaRepository.save(entity);
-        return entityMapper.toDomainVehicle(savedEntity);
+        Vehicle savedVehicle = entityMapper.toDomainVehicle(savedEntity);
+        notifyAfterCommit(listener -> listener.onVehicleSaved(savedVehicle));
+        return savedVehicle;
     }
 
     @Override
     public void deleteVehicle(Long id) {
         vehicleJpaRepository.deleteById(id);
+        notifyAfterCommit(listener -> listener.onVehicleDeleted(id));
     }
 
     // Driver Repository Methods
@@ -110,6 +174,14 @@ public class VehicleManagementRepositoryAdapter implements VehicleManagementRepo
                 .map(entityMapper::toDomainDriver);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Driver> findDriversByIds(Collection<Long> ids) {
+        return multiLoad(DriverEntity.class, ids).stream()
+                .map(entityMapper::toDomainDriver)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Driver> findDriversByStatus(Driver.DriverStatus status) {
         return driverJpaRepository.findByStatus(
@@ -145,22 +217,46 @@ public class VehicleManagementRepositoryAdapter implements VehicleManagementRepo
     @Override
     public Driver saveDriver(Driver driver) {
         DriverEntity entity = entityMapper.toDriverEntity(driver);
+        if (entity.getId() != null) {
+            // The trip totals may be stale; the merge loads this row anyway and leaves them out of the update
+            driverJpaRepository.findById(entity.getId()).ifPresent(stored -> {
+                entity.setTotalTripsCompleted(stored.getTotalTripsCompleted());
+                entity.setTotalMilesDriven(stored.getTotalMilesDriven());
+            });
+        }
         DriverEntity savedEntity = driverJpaRepository.save(entity);
-        return entityMapper.toDomainDriver(savedEntity);
+        Driver savedDriver = entityMapper.toDomainDriver(savedEntity);
+        notifyAfterCommit(listener -> listener.onDriverSaved(savedDriver));
+        return savedDriver;
     }
 
     @Override
     public void deleteDriver(Long id) {
         driverJpaRepository.deleteById(id);
+        notifyAfterCommit(listener -> listener.onDriverDeleted(id));
     }
 
     // Booking Repository Methods
     @Override
     public Optional<Booking> findBookingById(Long id) {
-        return bookingJpaRepository.findById(id)
+        return bookingJpaRepository.findWithEventsById(id)
                 .map(entityMapper::toDomainBooking);
     }
 
+    @Override
+    public List<Booking> findBookingsByIds(Collection<Long> ids) {
+        return multiLoad(BookingEntity.class, ids).stream()
+                .map(entityMapper::toDomainBookingWithoutHistory)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Booking> findBookingsByReferences(Collection<String> references) {
+        return bookingJpaRepository.findByBookingReferenceIn(references).stream()
+                .map(entityMapper::toDomainBookingWithoutHistory)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Booking> findBookingByReference(String reference) {
         return bookingJpaRepository.findByBookingReference(reference)
@@ -170,21 +266,21 @@ public class VehicleManagementRepositoryAdapter implements VehicleManagementRepo
     @Override
     public List<Booking> findBookingsByRequesterId(Long requesterId) {
         return bookingJpaRepository.findByRequesterId(requesterId).stream()
-                .map(entityMapper::toDomainBooking)
+                .map(entityMapper::toDomainBookingWithoutHistory)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<Booking> findBookingsByVehicleId(Long vehicleId) {
         return bookingJpaRepository.findByVehicleId(vehicleId).stream()
-                .map(entityMapper::toDomainBooking)
+                .map(entityMapper::toDomainBookingWithoutHistory)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<Booking> findBookingsByDriverId(Long driverId) {
         return bookingJpaRepository.findByDriverId(driverId).stream()
-                .map(entityMapper::toDomainBooking)
+                .map(entityMapper::toDomainBookingWithoutHistory)
                 .collect(Collectors.toList());
     }
 
@@ -193,56 +289,64 @@ public class VehicleManagementRepositoryAdapter implements VehicleManagementRepo
         return bookingJpaRepository.findByStatus(
                 BookingEntity.BookingStatus.valueOf(status.name())
         ).stream()
-                .map(entityMapper::toDomainBooking)
+                .map(entityMapper::toDomainBookingWithoutHistory)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<Booking> findBookingsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
         return bookingJpaRepository.findByDateRange(startDate, endDate).stream()
-                .map(entityMapper::toDomainBooking)
+                .map(entityMapper::toDomainBookingWithoutHistory)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Map<Long, List<DomainEvent>> findEventsByBookingIds(Collection<Long> bookingIds) {
+        return bookingEventJpaRepository.findByBookingIdInOrderByTimestampAsc(bookingIds).stream()
+                .collect(Collectors.groupingBy(
+                        BookingEventEntity::getBookingId,
+                        Collectors.mapping(entityMapper::toDomainEvent, Collectors.toList())));
+    }
+
     @Override
     public List<Booking> findCurrentBookings() {
         return bookingJpaRepository.findCurrentBookings().stream()
-                .map(entityMapper::toDomainBooking)
+                .map(entityMapper::toDomainBookingWithoutHistory)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<Booking> findUpcomingBookings() {
         return bookingJpaRepository.findUpcomingBookings(LocalDateTime.now()).stream()
-                .map(entityMapper::toDomainBooking)
+                .map(entityMapper::toDomainBookingWithoutHistory)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<Booking> findPendingBookings() {
         return bookingJpaRepository.findPendingBookings().stream()
-                .map(entityMapper::toDomainBooking)
+                .map(entityMapper::toDomainBookingWithoutHistory)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<Booking> findBookingsRequiringApproval(String managerName) {
         return bookingJpaRepository.findBookingsRequiringApproval(managerName).stream()
-                .map(entityMapper::toDomainBooking)
+                .map(entityMapper::toDomainBookingWithoutHistory)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<Booking> findConflictingBookings(Long vehicleId, LocalDateTime startTime, LocalDateTime endTime) {
         return bookingJpaRepository.findConflictingBookings(vehicleId, startTime, endTime).stream()
-                .map(entityMapper::toDomainBooking)
+                .map(entityMapper::toDomainBookingWithoutHistory)
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<Booking> findConflictingBookingsForDriver(Long driverId, LocalDateTime startTime, LocalDateTime endTime) {
         return bookingJpaRepository.findConflictingBookingsForDriver(driverId, startTime, endTime).stream()
-                .map(entityMapper::toDomainBooking)
+                .map(entityMapper::toDomainBookingWithoutHistory)
                 .collect(Collectors.toList());
     }
 
@@ -257,22 +361,189 @@ public class VehicleManagementRepositoryAdapter implements VehicleManagementRepo
     }
 
     @Override
-    public List<Booking> findBookingsByRequesterIdOrderByCreatedAtDesc(Long requesterId) {
-        return bookingJpaRepository.findByRequesterIdOrderByCreatedAtDesc(requesterId).stream()
-                .map(entityMapper::toDomainBooking)
+    public KeysetPage<Vehicle> findVehiclesPage(Vehicle.VehicleStatus status, Vehicle.VehicleType type,
+                                                Long afterId, int limit) {
+        List<VehicleEntity> rows = vehicleJpaRepository.findPageById(
+                status != null ? VehicleEntity.VehicleStatus.valueOf(status.name()) : null,
+                type != null ? VehicleEntity.VehicleType.valueOf(type.name()) : null,
+                afterId != null ? afterId : 0L,
+                PageRequest.of(0, limit + 1));
+        return toPage(rows, limit, entityMapper::toDomainVehicle);
+    }
+
+    @Override
+    public List<Booking> findBookings(Booking.BookingStatus status, Long requesterId, Long vehicleId, Long driverId) {
+        return bookingJpaRepository.findPageByStartTime(
+                status != null ? BookingEntity.BookingStatus.valueOf(status.name()) : null,
+                requesterId, vehicleId, driverId, MIN_TIME, 0L, Pageable.unpaged()).stream()
+                .map(entityMapper::toDomainBookingWithoutHistory)
                 .collect(Collectors.toList());
     }
 
     @Override
+    public KeysetPage<Booking> findBookingsPage(Booking.BookingStatus status, Long requesterId, Long vehicleId,
+                                                Long driverId, LocalDateTime afterStartTime, Long afterId, int limit) {
+        boolean firstPage = afterStartTime == null || afterId == null;
+        List<BookingEntity> rows = bookingJpaRepository.findPageByStartTime(
+                status != null ? BookingEntity.BookingStatus.valueOf(status.name()) : null,
+                requesterId, vehicleId, driverId,
+                firstPage ? MIN_TIME : afterStartTime,
+                firstPage ? 0L : afterId,
+                PageRequest.of(0, limit + 1));
+        return toPage(rows, limit, entityMapper::toDomainBookingWithoutHistory);
+    }
+
+    @Override
+    public KeysetPage<Booking> findBookingsByRequesterIdPage(Long requesterId, LocalDateTime beforeCreatedAt,
+                                                             Long beforeId, int limit) {
+        boolean firstPage = beforeCreatedAt == null || beforeId == null;
+        List<BookingEntity> rows = bookingJpaRepository.findPageByRequesterIdOrderByCreatedAtDesc(
+                requesterId,
+                firstPage ? MAX_TIME : beforeCreatedAt,
+                firstPage ? Long.MAX_VALUE : beforeId,
+                PageRequest.of(0, limit + 1));
+        return toPage(rows, limit, entityMapper::toDomainBookingWithoutHistory);
+    }
+
+    @Override
+    public KeysetPage<VehicleSummaryView> findVehicleSummariesPage(Vehicle.VehicleStatus status, Vehicle.VehicleType type,
+                                                                   Long afterId, int limit) {
+        List<VehicleSummaryView> rows = vehicleJpaRepository.findSummaryPageById(
+                status != null ? VehicleEntity.VehicleStatus.valueOf(status.name()) : null,
+                type != null ? VehicleEntity.VehicleType.valueOf(type.name()) : null,
+                afterId != null ? afterId : 0L,
+                PageRequest.of(0, limit + 1));
+        return KeysetPage.fromOverfetch(rows, limit);
+    }
+
+    @Override
+    public KeysetPage<BookingSummaryView> findBookingSummariesPage(Booking.BookingStatus status, Long requesterId,
+                                                                   Long vehicleId, Long driverId,
+                                                                   LocalDateTime afterStartTime, Long afterId, int limit) {
+        boolean firstPage = afterStartTime == null || afterId == null;
+        List<BookingSummaryView> rows = bookingJpaRepository.findSummaryPageByStartTime(
+                status != null ? BookingEntity.BookingStatus.valueOf(status.name()) : null,
+                requesterId, vehicleId, driverId,
+                firstPage ? MIN_TIME : afterStartTime,
+                firstPage ? 0L : afterId,
+                PageRequest.of(0, limit + 1));
+        return KeysetPage.fromOverfetch(rows, limit);
+    }
+
+    @Override
+    public KeysetPage<BookingSummaryView> findBookingSummariesByRequesterIdPage(Long requesterId,
+                                                                                LocalDateTime beforeCreatedAt,
+                                                                                Long beforeId, int limit) {
+        boolean firstPage = beforeCreatedAt == null || beforeId == null;
+        List<BookingSummaryView> rows = bookingJpaRepository.findSummaryPageByRequesterIdOrderByCreatedAtDesc(
+                requesterId,
+                firstPage ? MAX_TIME : beforeCreatedAt,
+                firstPage ? Long.MAX_VALUE : beforeId,
+                PageRequest.of(0, limit + 1));
+        return KeysetPage.fromOverfetch(rows, limit);
+    }
+
+    @Override
+    @Transactional
     public Booking saveBooking(Booking booking) {
+        boolean created = booking.getId() == null;
         BookingEntity entity = entityMapper.toBookingEntity(booking);
         BookingEntity savedEntity = bookingJpaRepository.save(entity);
-        return entityMapper.toDomainBooking(savedEntity);
+
+        // Only events raised since the booking was loaded are written
+        List<DomainEvent> newEvents = List.copyOf(booking.getUncommittedEvents());
+        if (!newEvents.isEmpty()) {
+            // Appended at commit, so a transaction that fails after this save leaves no gap in the event log
+            Long bookingId = savedEntity.getId();
+            TransactionCallbacks.beforeCommit(() -> {
+                // Sequence IDs defer the booking insert to the flush; the events reference the row
+                entityManager.flush();
+                bookingEventJdbcRepository.appendAll(bookingId, newEvents);
+            });
+            // Kept until the commit, so a rolled back save writes them again when retried
+            TransactionCallbacks.afterCommit(() -> booking.markEventsCommitted(newEvents));
+        }
+
+        Booking savedBooking = entityMapper.toDomainBooking(savedEntity, booking.getEventHistory());
+        if (created) {
+            notifyAfterCommit(listener -> listener.onBookingCreated(savedBooking));
+        }
+        notifyAfterCommit(listener -> listener.onBookingSaved(savedBooking));
+        if (!newEvents.isEmpty()) {
+            notifyAfterCommit(listener -> listener.onBookingEventsCommitted(savedBooking, newEvents));
+        }
+        return savedBooking;
+    }
+
+    @Override
+    @Transactional
+    public List<Booking> saveImportedBookings(List<Booking> bookings) {
+        List<BookingEntity> entities = bookings.stream()
+                .map(entityMapper::toBookingEntity)
+                .collect(Collectors.toList());
+        // Sequence IDs let Hibernate send these as JDBC batches
+        List<BookingEntity> savedEntities = bookingJpaRepository.saveAll(entities);
+        entityManager.flush();
+        List<Booking> savedBookings = savedEntities.stream()
+                .map(entity -> {
+                    // Keep the persistence context from growing over a long import
+                    entityManager.detach(entity);
+                    return entityMapper.toDomainBooking(entity, List.of());
+                })
+                .collect(Collectors.toList());
+        notifyAfterCommit(listener -> listener.onBookingsImported(savedBookings));
+        return savedBookings;
+    }
+
+    @Override
+    @Transactional
+    public void recordCompletedTrips(List<Booking> completedBookings) {
+        // 1. Sum the trips per vehicle and driver, so each row is updated once
+        SortedMap<Long, TripTotals> totalsByVehicle = new TreeMap<>();
+        SortedMap<Long, TripTotals> totalsByDriver = new TreeMap<>();
+        for (Booking booking : completedBookings) {
+            totalsByVehicle.computeIfAbsent(booking.getVehicleId(), id -> new TripTotals())
+                    .add(booking.getActualMileage());
+            if (booking.getDriverId() != null) {
+                totalsByDriver.computeIfAbsent(booking.getDriverId(), id -> new TripTotals())
+                        .add(booking.getActualMileage());
+            }
+        }
+
+        // 2. Add them with relative updates
+        tripStatisticsJdbcRepository.addVehicleMileage(totalsByVehicle);
+        tripStatisticsJdbcRepository.addDriverTrips(totalsByDriver);
+
+        // 3. Cached copies still hold the old totals, also those put by entity saves in this transaction
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        TransactionCallbacks.afterCommit(() -> {
+            totalsByVehicle.keySet().forEach(id -> cache.evict(VehicleEntity.class, id));
+            totalsByDriver.keySet().forEach(id -> cache.evict(DriverEntity.class, id));
+        });
+    }
+
+    @Override
+    public void correctVehicleMileage(Long vehicleId, double mileage) {
+        if (!tripStatisticsJdbcRepository.setVehicleMileage(vehicleId, mileage)) {
+            throw new IllegalArgumentException("Vehicle not found: " + vehicleId);
+        }
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        TransactionCallbacks.afterCommit(() -> cache.evict(VehicleEntity.class, vehicleId));
+    }
+
+    @Override
+    public void correctDriverTripTotals(Long driverId, int tripsCompleted, double milesDriven) {
+        if (!tripStatisticsJdbcRepository.setDriverTrips(driverId, tripsCompleted, milesDriven)) {
+            throw new IllegalArgumentException("Driver not found: " + driverId);
+        }
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        TransactionCallbacks.afterCommit(() -> cache.evict(DriverEntity.class, driverId));
     }
 
     @Override
     public void deleteBooking(Long id) {
         bookingJpaRepository.deleteById(id);
+        notifyAfterCommit(listener -> listener.onBookingDeleted(id));
     }
 
     @Override
@@ -303,6 +574,20 @@ public class VehicleManagementRepositoryAdapter implements VehicleManagementRepo
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Vehicle> findVehiclesAvailableBetween(LocalDateTime startTime, LocalDateTime endTime) {
+        return vehicleJpaRepository.findVehiclesAvailableBetween(startTime, endTime).stream()
+                .map(entityMapper::toDomainVehicle)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Driver> findDriversAvailableBetween(LocalDateTime startTime, LocalDateTime endTime) {
+        return driverJpaRepository.findDriversAvailableBetween(startTime, endTime).stream()
+                .map(entityMapper::toDomainDriver)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Vehicle> findVehiclesRequiringMaintenance(LocalDateTime date) {
         return vehicleJpaRepository.findVehiclesRequiringMaintenance(date).stream()
@@ -316,4 +601,32 @@ public class VehicleManagementRepositoryAdapter implements VehicleManagementRepo
                 .map(entityMapper::toDomainDriver)
                 .collect(Collectors.toList());
     }
+
+    private <E> List<E> multiLoad(Class<E> entityClass, Collection<Long> ids) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(entityClass)
+                .multiLoad(new ArrayList<>(ids)).stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    // Paging helpers
+    private static <E, T> KeysetPage<T> toPage(List<E> rows, int limit, Function<E, T> mapper) {
+        KeysetPage<E> page = KeysetPage.fromOverfetch(rows, limit);
+        return new KeysetPage<>(page.getItems().stream().map(mapper).collect(Collectors.toList()), page.hasNext());
+    }
+
+    // Change notification
+    private void notifyAfterCommit(Consumer<RepositoryChangeListener> notification) {
+        TransactionCallbacks.afterCommit(() -> {
+            for (RepositoryChangeListener listener : changeListeners) {
+                try {
+                    notification.accept(listener);
+                } catch (Exception e) {
+                    // Listeners only mirror state; never fail the committed operation
+                    logger.error("Repository change listener {} failed", listener.getClass().getSimpleName(), e);
+                }
+            }
+        });
+    }
 }
\ No newline at end of file
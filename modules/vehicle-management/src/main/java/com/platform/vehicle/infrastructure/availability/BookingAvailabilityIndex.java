@@ -0,0 +1,309 @@
+package com.platform.vehicle.infrastructure.availability;
+
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.infrastructure.RepositoryChangeListener;
+import com.platform.vehicle.infrastructure.TransactionCallbacks;
+import com.platform.vehicle.infrastructure.repositories.BookingJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of booking windows that block a vehicle or driver
+ * (APPROVED, CONFIRMED and ACTIVE bookings).
+ *
+ * Each resource owns an immutable {@link IntervalSet}; writers replace it
+ * copy-on-write under a single mutex while readers never block. The index is
+ * warmed from the database on startup and kept current from committed
+ * booking saves. Until warm-up has finished, {@link #isReady()} returns false
+ * and callers should fall back to the repository conflict queries.
+ *
+ * Transitions into a blocking status claim their window up front with
+ * {@link #tryReserve}, so two concurrent approvals cannot both see a free slot.
+ */
+@Component
+public class BookingAvailabilityIndex implements RepositoryChangeListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingAvailabilityIndex.class);
+
+    // Statuses whose window blocks the vehicle and driver
+    public static final Set<Booking.BookingStatus> BLOCKING_STATUSES = Collections.unmodifiableSet(EnumSet.of(
+            Booking.BookingStatus.APPROVED,
+            Booking.BookingStatus.CONFIRMED,
+            Booking.BookingStatus.ACTIVE));
+
+    private final BookingJpaRepository bookingJpaRepository;
+    private final Object writeLock = new Object();
+
+    private final Map<Long, IntervalSet> vehicleWindows = new ConcurrentHashMap<>();
+    private final Map<Long, IntervalSet> driverWindows = new ConcurrentHashMap<>();
+    private final Map<Long, Window> windowsByBooking = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    public BookingAvailabilityIndex(BookingJpaRepository bookingJpaRepository) {
+        this.bookingJpaRepository = bookingJpaRepository;
+    }
+
+    /**
+     * Rebuild the index from the database.
+     * Writers are held off for the duration, so saves committed while the
+     * snapshot is read are applied on top of it afterwards.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (writeLock) {
+            ready = false;
+            vehicleWindows.clear();
+            driverWindows.clear();
+            windowsByBooking.clear();
+
+            List<Object[]> rows = bookingJpaRepository.findBlockingBookingWindows();
+            for (Object[] row : rows) {
+                put(new Window((Long) row[0], (Long) row[1], (Long) row[2],
+                        toKey((LocalDateTime) row[3]), toKey((LocalDateTime) row[4])));
+            }
+            ready = true;
+            logger.info("Availability index loaded with {} booking windows for {} vehicles and {} drivers",
+                    windowsByBooking.size(), vehicleWindows.size(), driverWindows.size());
+        }
+    }
+
+    /**
+     * @return true once the index has been loaded and can answer queries
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean hasVehicleConflict(Long vehicleId, LocalDateTime startTime, LocalDateTime endTime) {
+        return windowsFor(vehicleWindows, vehicleId).overlaps(toKey(startTime), toKey(endTime));
+    }
+
+    public boolean hasDriverConflict(Long driverId, LocalDateTime startTime, LocalDateTime endTime) {
+        return windowsFor(driverWindows, driverId).overlaps(toKey(startTime), toKey(endTime));
+    }
+
+    /**
+     * @return IDs of the bookings blocking the vehicle in the given period
+     */
+    public List<Long> findVehicleConflicts(Long vehicleId, LocalDateTime startTime, LocalDateTime endTime) {
+        return windowsFor(vehicleWindows, vehicleId).overlapping(toKey(startTime), toKey(endTime));
+    }
+
+    /**
+     * @return IDs of the bookings blocking the driver in the given period
+     */
+    public List<Long> findDriverConflicts(Long driverId, LocalDateTime startTime, LocalDateTime endTime) {
+        return windowsFor(driverWindows, driverId).overlapping(toKey(startTime), toKey(endTime));
+    }
+
+    /**
+     * Check many windows in one pass, such as the occurrences of a recurring
+     * booking. The windows of each vehicle and driver are looked up once for
+     * the whole batch, and readers are not blocked.
+     *
+     * @param bookings The bookings to check; only their vehicle, driver and times are read
+     * @return IDs of the blocking bookings by position in the list; positions without conflicts are absent
+     */
+    public Map<Integer, List<Long>> findConflicts(List<Booking> bookings) {
+        Map<Long, IntervalSet> vehicleSnapshots = new HashMap<>();
+        Map<Long, IntervalSet> driverSnapshots = new HashMap<>();
+        Map<Integer, List<Long>> conflicts = new HashMap<>();
+        for (int i = 0; i < bookings.size(); i++) {
+            Booking booking = bookings.get(i);
+            long start = toKey(booking.getStartTime());
+            long end = toKey(booking.getEndTime());
+            IntervalSet vehicleSet = booking.getVehicleId() == null ? IntervalSet.EMPTY
+                    : vehicleSnapshots.computeIfAbsent(booking.getVehicleId(), id -> windowsFor(vehicleWindows, id));
+            IntervalSet driverSet = booking.getDriverId() == null ? IntervalSet.EMPTY
+                    : driverSnapshots.computeIfAbsent(booking.getDriverId(), id -> windowsFor(driverWindows, id));
+            if (vehicleSet.overlaps(start, end) || driverSet.overlaps(start, end)) {
+                Set<Long> ids = new LinkedHashSet<>(vehicleSet.overlapping(start, end));
+                ids.addAll(driverSet.overlapping(start, end));
+                conflicts.put(i, new ArrayList<>(ids));
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Check a booking's window against its vehicle and driver and claim it if
+     * both are free, as one step under the writer mutex. The claim is visible
+     * to other reservations at once, before the booking is committed; if the
+     * surrounding transaction rolls back, the booking's previous window is
+     * restored. Readers are not blocked.
+     *
+     * @param bookingId The booking claiming the window (its own window never conflicts)
+     * @param vehicleId The vehicle ID
+     * @param driverId The driver ID (nullable)
+     * @param startTime The start time
+     * @param endTime The end time
+     * @return IDs of the conflicting bookings, empty if the window was claimed
+     */
+    public List<Long> tryReserve(Long bookingId, Long vehicleId, Long driverId,
+                                 LocalDateTime startTime, LocalDateTime endTime) {
+        long start = toKey(startTime);
+        long end = toKey(endTime);
+        Window previous;
+        synchronized (writeLock) {
+            Set<Long> conflicts = new LinkedHashSet<>(windowsFor(vehicleWindows, vehicleId).overlapping(start, end));
+            conflicts.addAll(windowsFor(driverWindows, driverId).overlapping(start, end));
+            conflicts.remove(bookingId);
+            if (!conflicts.isEmpty()) {
+                return new ArrayList<>(conflicts);
+            }
+            previous = windowsByBooking.get(bookingId);
+            remove(bookingId);
+            put(new Window(bookingId, vehicleId, driverId, start, end));
+        }
+        TransactionCallbacks.afterRollback(() -> {
+            synchronized (writeLock) {
+                remove(bookingId);
+                if (previous != null) {
+                    put(previous);
+                }
+            }
+        });
+        return List.of();
+    }
+
+    /**
+     * Sweep all vehicles and collect those blocked in the given period.
+     *
+     * @return IDs of vehicles with at least one overlapping booking
+     */
+    public Set<Long> findBusyVehicles(LocalDateTime startTime, LocalDateTime endTime) {
+        return busyResources(vehicleWindows, toKey(startTime), toKey(endTime));
+    }
+
+    /**
+     * Sweep all drivers and collect those blocked in the given period.
+     *
+     * @return IDs of drivers with at least one overlapping booking
+     */
+    public Set<Long> findBusyDrivers(LocalDateTime startTime, LocalDateTime endTime) {
+        return busyResources(driverWindows, toKey(startTime), toKey(endTime));
+    }
+
+    @Override
+    public void onBookingSaved(Booking booking) {
+        if (booking.getId() == null) {
+            return;
+        }
+        synchronized (writeLock) {
+            apply(booking);
+        }
+    }
+
+    @Override
+    public void onBookingsImported(List<Booking> bookings) {
+        synchronized (writeLock) {
+            for (Booking booking : bookings) {
+                if (booking.getId() != null) {
+                    apply(booking);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onBookingDeleted(Long bookingId) {
+        synchronized (writeLock) {
+            remove(bookingId);
+        }
+    }
+
+    private void apply(Booking booking) {
+        remove(booking.getId());
+        if (BLOCKING_STATUSES.contains(booking.getStatus())
+                && booking.getStartTime() != null && booking.getEndTime() != null) {
+            put(new Window(booking.getId(), booking.getVehicleId(), booking.getDriverId(),
+                    toKey(booking.getStartTime()), toKey(booking.getEndTime())));
+        }
+    }
+
+    private void put(Window window) {
+        windowsByBooking.put(window.bookingId, window);
+        if (window.vehicleId != null) {
+            vehicleWindows.put(window.vehicleId,
+                    windowsFor(vehicleWindows, window.vehicleId).with(window.bookingId, window.start, window.end));
+        }
+        if (window.driverId != null) {
+            driverWindows.put(window.driverId,
+                    windowsFor(driverWindows, window.driverId).with(window.bookingId, window.start, window.end));
+        }
+    }
+
+    private void remove(Long bookingId) {
+        Window existing = windowsByBooking.remove(bookingId);
+        if (existing == null) {
+            return;
+        }
+        if (existing.vehicleId != null) {
+            replace(vehicleWindows, existing.vehicleId, windowsFor(vehicleWindows, existing.vehicleId).without(bookingId));
+        }
+        if (existing.driverId != null) {
+            replace(driverWindows, existing.driverId, windowsFor(driverWindows, existing.driverId).without(bookingId));
+        }
+    }
+
+    private static void replace(Map<Long, IntervalSet> windows, Long resourceId, IntervalSet set) {
+        if (set.isEmpty()) {
+            windows.remove(resourceId);
+        } else {
+            windows.put(resourceId, set);
+        }
+    }
+
+    private static Set<Long> busyResources(Map<Long, IntervalSet> windows, long start, long end) {
+        Set<Long> busy = new HashSet<>();
+        windows.forEach((resourceId, set) -> {
+            if (set.overlaps(start, end)) {
+                busy.add(resourceId);
+            }
+        });
+        return busy;
+    }
+
+    private static IntervalSet windowsFor(Map<Long, IntervalSet> windows, Long resourceId) {
+        if (resourceId == null) {
+            return IntervalSet.EMPTY;
+        }
+        return windows.getOrDefault(resourceId, IntervalSet.EMPTY);
+    }
+
+    static long toKey(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static final class Window {
+        private final Long bookingId;
+        private final Long vehicleId;
+        private final Long driverId;
+        private final long start;
+        private final long end;
+
+        private Window(Long bookingId, Long vehicleId, Long driverId, long start, long end) {
+            this.bookingId = bookingId;
+            this.vehicleId = vehicleId;
+            this.driverId = driverId;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.platform.vehicle.infrastructure.availability;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable set of half-open booking windows [start, end) for a single resource.
+ * Windows are kept sorted by start time with a max-end segment tree on top,
+ * so overlap checks run in O(log n) and listing runs in O(log n + m).
+ */
+final class IntervalSet {
+
+    static final IntervalSet EMPTY = new IntervalSet(new long[0], new long[0], new long[0]);
+
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] ids;
+    private final int leaves;
+    private final long[] maxEnd;
+
+    private IntervalSet(long[] starts, long[] ends, long[] ids) {
+        this.starts = starts;
+        this.ends = ends;
+        this.ids = ids;
+
+        int size = 1;
+        while (size < starts.length) {
+            size <<= 1;
+        }
+        this.leaves = size;
+        this.maxEnd = new long[2 * size];
+        Arrays.fill(maxEnd, Long.MIN_VALUE);
+        for (int i = 0; i < ends.length; i++) {
+            maxEnd[size + i] = ends[i];
+        }
+        for (int node = size - 1; node > 0; node--) {
+            maxEnd[node] = Math.max(maxEnd[2 * node], maxEnd[2 * node + 1]);
+        }
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    /**
+     * Return a copy with the window for the given ID inserted or replaced.
+     */
+    IntervalSet with(long id, long start, long end) {
+        IntervalSet base = without(id);
+        int n = base.ids.length;
+        int position = base.insertionPoint(start, id);
+
+        long[] newStarts = new long[n + 1];
+        long[] newEnds = new long[n + 1];
+        long[] newIds = new long[n + 1];
+        System.arraycopy(base.starts, 0, newStarts, 0, position);
+        System.arraycopy(base.ends, 0, newEnds, 0, position);
+        System.arraycopy(base.ids, 0, newIds, 0, position);
+        newStarts[position] = start;
+        newEnds[position] = end;
+        newIds[position] = id;
+        System.arraycopy(base.starts, position, newStarts, position + 1, n - position);
+        System.arraycopy(base.ends, position, newEnds, position + 1, n - position);
+        System.arraycopy(base.ids, position, newIds, position + 1, n - position);
+        return new IntervalSet(newStarts, newEnds, newIds);
+    }
+
+    /**
+     * Return a copy without the window for the given ID.
+     */
+    IntervalSet without(long id) {
+        int index = -1;
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                index = i;
+                break;
+            }
+        }
+        if (index < 0) {
+            return this;
+        }
+        if (ids.length == 1) {
+            return EMPTY;
+        }
+
+        int n = ids.length - 1;
+        long[] newStarts = new long[n];
+        long[] newEnds = new long[n];
+        long[] newIds = new long[n];
+        System.arraycopy(starts, 0, newStarts, 0, index);
+        System.arraycopy(ends, 0, newEnds, 0, index);
+        System.arraycopy(ids, 0, newIds, 0, index);
+        System.arraycopy(starts, index + 1, newStarts, index, n - index);
+        System.arraycopy(ends, index + 1, newEnds, index, n - index);
+        System.arraycopy(ids, index + 1, newIds, index, n - index);
+        return new IntervalSet(newStarts, newEnds, newIds);
+    }
+
+    /**
+     * Check whether any window overlaps [start, end).
+     */
+    boolean overlaps(long start, long end) {
+        int limit = firstStartAtOrAfter(end);
+        return limit > 0 && visit(1, 0, leaves, limit, start, null);
+    }
+
+    /**
+     * List the IDs of all windows overlapping [start, end), ordered by start time.
+     */
+    List<Long> overlapping(long start, long end) {
+        List<Long> result = new ArrayList<>();
+        int limit = firstStartAtOrAfter(end);
+        if (limit > 0) {
+            visit(1, 0, leaves, limit, start, result);
+        }
+        return result;
+    }
+
+    private boolean visit(int node, int lo, int hi, int limit, long start, List<Long> out) {
+        if (lo >= limit || maxEnd[node] <= start) {
+            return false;
+        }
+        if (hi - lo == 1) {
+            if (out != null) {
+                out.add(ids[lo]);
+            }
+            return true;
+        }
+        int mid = (lo + hi) >>> 1;
+        boolean found = visit(2 * node, lo, mid, limit, start, out);
+        if (found && out == null) {
+            return true;
+        }
+        return visit(2 * node + 1, mid, hi, limit, start, out) || found;
+    }
+
+    private int firstStartAtOrAfter(long time) {
+        int lo = 0;
+        int hi = starts.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] < time) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private int insertionPoint(long start, long id) {
+        int lo = 0;
+        int hi = starts.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] < start || (starts[mid] == start && ids[mid] < id)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
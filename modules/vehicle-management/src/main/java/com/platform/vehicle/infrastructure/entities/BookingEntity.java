@@ -1,9 +1,11 @@
 package com.platform.vehicle.infrastructure.entities;
 
+import com.platform.common.domain.id.IdGenerators;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,12 +19,25 @@ import java.util.List;
  * Maps the domain Booking entity to database persistence.
  */
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        // Conflict detection: resource + blocking status + overlapping window
+        @Index(name = "idx_bookings_vehicle_window", columnList = "vehicle_id, status, start_time, end_time"),
+        @Index(name = "idx_bookings_driver_window", columnList = "driver_id, status, start_time, end_time"),
+        // Upcoming bookings and status lists ordered by start time
+        @Index(name = "idx_bookings_status_start", columnList = "status, start_time"),
+        // Pending approvals per manager, oldest first
+        @Index(name = "idx_bookings_status_manager_created", columnList = "status, manager_name, created_at"),
+        // Requester history and keyset pages
+        @Index(name = "idx_bookings_requester_created", columnList = "requester_id, created_at, id"),
+        @Index(name = "idx_bookings_start_id", columnList = "start_time, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class BookingEntity {
     
+    // Pooled sequence: one round trip per 50 IDs, and inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_seq", allocationSize = 50)
     private Long id;
 
     @CreatedDate
@@ -42,6 +57,11 @@ public class BookingEntity {
     @Column(name = "deleted", nullable = false)
     private boolean deleted = false;
 
+    // Checked and incremented on every update; null until the booking is first saved
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @Column(name = "booking_reference", nullable = false, unique = true)
     @NotBlank
     @Size(max = 50)
@@ -165,7 +185,10 @@ public class BookingEntity {
     @JoinColumn(name = "driver_id", insertable = false, updatable = false)
     private DriverEntity driver;
 
-    @OneToMany(mappedBy = "booking", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    // Append-only: events are inserted directly, only removal cascades from the booking.
+    // Lazy access from a list is initialized for up to 50 bookings per query.
+    @OneToMany(mappedBy = "booking", cascade = CascadeType.REMOVE, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<BookingEventEntity> events = new ArrayList<>();
 
     // Constructors
@@ -187,7 +210,7 @@ public class BookingEntity {
 
     // Helper methods
     private void generateBookingReference() {
-        this.bookingReference = "BKG-" + System.currentTimeMillis() + "-" + (1000 + (int)(Math.random() * 9000));
+        this.bookingReference = "BKG-" + IdGenerators.nextId();
     }
 
     public void markCreated(String createdBy) {
@@ -248,6 +271,14 @@ public class BookingEntity {
         this.deleted = deleted;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getBookingReference() {
         return bookingReference;
     }
@@ -10,10 +10,14 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "booking_events")
+@Table(name = "booking_events", indexes = {
+        @Index(name = "idx_booking_events_booking_id", columnList = "booking_id, timestamp")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class BookingEventEntity {
     
+    // Stays IDENTITY: rows are inserted by BookingEventJdbcRepository in JDBC batches,
+    // and the outbox relay relies on IDs following insert order
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -4,6 +4,9 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -15,11 +18,17 @@ import java.util.List;
 
 @Entity
 @Table(name = "drivers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "drivers")
 @EntityListeners(AuditingEntityListener.class)
+// Updates only write changed columns, so a save never rewrites the trip counters
+@DynamicUpdate
 public class DriverEntity {
     
+    // Pooled sequence: one round trip per 50 IDs, and inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "drivers_seq")
+    @SequenceGenerator(name = "drivers_seq", sequenceName = "drivers_seq", allocationSize = 50)
     private Long id;
 
     @CreatedDate
@@ -105,6 +114,7 @@ public class DriverEntity {
     @Column(name = "notes")
     private String notes;
 
+    // Trips are added with TripStatisticsJdbcRepository; saves of existing drivers keep the stored values
     @Column(name = "total_trips_completed", nullable = false)
     private int totalTripsCompleted = 0;
 
@@ -6,6 +6,9 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -13,10 +16,16 @@ import java.util.List;
 
 @Entity
 @Table(name = "vehicles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "vehicles")
+// Updates only write changed columns, so a save never rewrites the trip counters
+@DynamicUpdate
 public class VehicleEntity extends BaseEntity {
     
+    // Pooled sequence: one round trip per 50 IDs, and inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vehicles_seq")
+    @SequenceGenerator(name = "vehicles_seq", sequenceName = "vehicles_seq", allocationSize = 50)
     private Long id;
     
     @Enumerated(EnumType.STRING)
@@ -72,6 +81,7 @@ public class VehicleEntity extends BaseEntity {
     @Column(name = "available_for_booking", nullable = false)
     private boolean availableForBooking = true;
 
+    // Trips are added with TripStatisticsJdbcRepository; saves of existing vehicles keep the stored value
     @Column(name = "mileage", nullable = false)
     private double mileage = 0.0;
 
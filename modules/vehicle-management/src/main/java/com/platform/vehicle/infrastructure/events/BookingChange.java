@@ -0,0 +1,30 @@
+package com.platform.vehicle.infrastructure.events;
+
+import com.platform.common.domain.core.DomainEvent;
+import com.platform.vehicle.domain.Booking;
+
+/**
+ * A committed booking event together with the booking state it produced.
+ */
+public class BookingChange {
+
+    private final Booking booking;
+    private final DomainEvent event;
+
+    public BookingChange(Booking booking, DomainEvent event) {
+        this.booking = booking;
+        this.event = event;
+    }
+
+    public Booking getBooking() {
+        return booking;
+    }
+
+    public DomainEvent getEvent() {
+        return event;
+    }
+
+    public String getEventType() {
+        return event.getEventType();
+    }
+}
@@ -0,0 +1,218 @@
+package com.platform.vehicle.infrastructure.events;
+
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.domain.Driver;
+import com.platform.vehicle.domain.Vehicle;
+import com.platform.vehicle.infrastructure.RepositoryChangeListener;
+import com.platform.vehicle.infrastructure.repositories.DriverJpaRepository;
+import com.platform.vehicle.infrastructure.repositories.VehicleJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process fan-out of committed changes to live subscribers.
+ *
+ * Each topic is a multicast sink that never blocks the publisher: every
+ * subscriber gets its own bounded buffer, and a subscriber that falls behind
+ * loses updates according to the configured overflow strategy instead of
+ * slowing down the others. Only committed state is published: booking events
+ * arrive through the outbox relay, and saves and status changes through
+ * {@link RepositoryChangeListener} callbacks.
+ *
+ * Vehicle and driver saves are published as status changes only when the
+ * status differs from the last one seen. The last statuses are loaded from the
+ * database on startup; a save of an aggregate with no known status, such as a
+ * newly created vehicle, records its status without publishing a change.
+ *
+ * The bus is for live views only. Consumers that must not miss an event read
+ * the event log as an outbox subscriber with their own checkpoint instead.
+ */
+@Component
+public class DomainEventBus implements RepositoryChangeListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(DomainEventBus.class);
+
+    private static final String BOOKING_CREATED = "BOOKING_CREATED";
+
+    /**
+     * What a subscriber loses when its buffer is full.
+     */
+    public enum OverflowStrategy {
+        /** Drop the oldest buffered update to make room for the new one */
+        DROP_OLDEST,
+        /** Drop the new update */
+        DROP_LATEST,
+        /** Keep only the most recent update; suits state snapshots */
+        LATEST
+    }
+
+    private final Topic<Booking> bookingCreated = new Topic<>("bookingCreated");
+    private final Topic<Booking> bookingSaved = new Topic<>("bookingSaved");
+    private final Topic<BookingChange> bookingChanges = new Topic<>("bookingChanges");
+    private final Topic<Vehicle> vehicleStatusChanged = new Topic<>("vehicleStatusChanged");
+    private final Topic<Driver> driverStatusChanged = new Topic<>("driverStatusChanged");
+
+    // Last known status, to turn saves into status changes
+    private final Map<Long, Vehicle.VehicleStatus> vehicleStatuses = new ConcurrentHashMap<>();
+    private final Map<Long, Driver.DriverStatus> driverStatuses = new ConcurrentHashMap<>();
+
+    private final VehicleJpaRepository vehicleJpaRepository;
+    private final DriverJpaRepository driverJpaRepository;
+    private final LongAdder droppedUpdates = new LongAdder();
+    private final int bufferSize;
+    private final OverflowStrategy overflowStrategy;
+
+    public DomainEventBus(VehicleJpaRepository vehicleJpaRepository,
+                          DriverJpaRepository driverJpaRepository,
+                          @Value("${bpr.vehicle.subscriptions.buffer-size:256}") int bufferSize,
+                          @Value("${bpr.vehicle.subscriptions.overflow-strategy:DROP_OLDEST}") OverflowStrategy overflowStrategy) {
+        this.vehicleJpaRepository = vehicleJpaRepository;
+        this.driverJpaRepository = driverJpaRepository;
+        this.bufferSize = bufferSize;
+        this.overflowStrategy = overflowStrategy;
+    }
+
+    /**
+     * Load the current vehicle and driver statuses, so the first save of each
+     * after startup is compared with its stored status.
+     * Statuses recorded by saves in the meantime are newer and kept.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadStatuses() {
+        for (Object[] row : vehicleJpaRepository.findAllStatuses()) {
+            vehicleStatuses.putIfAbsent((Long) row[0], Vehicle.VehicleStatus.valueOf(((Enum<?>) row[1]).name()));
+        }
+        for (Object[] row : driverJpaRepository.findAllStatuses()) {
+            driverStatuses.putIfAbsent((Long) row[0], Driver.DriverStatus.valueOf(((Enum<?>) row[1]).name()));
+        }
+        logger.info("Status change tracking loaded for {} vehicles and {} drivers",
+                vehicleStatuses.size(), driverStatuses.size());
+    }
+
+    // Publishing
+    /**
+     * Publish a committed booking event relayed from the outbox.
+     * A BOOKING_CREATED event is also published as a created booking.
+     *
+     * @param change The event and its booking
+     */
+    public void publish(BookingChange change) {
+        if (BOOKING_CREATED.equals(change.getEventType())) {
+            bookingCreated.emit(change.getBooking());
+        }
+        bookingChanges.emit(change);
+    }
+
+    @Override
+    public void onBookingSaved(Booking booking) {
+        bookingSaved.emit(booking);
+    }
+
+    @Override
+    public void onVehicleSaved(Vehicle vehicle) {
+        Vehicle.VehicleStatus previous = vehicleStatuses.put(vehicle.getId(), vehicle.getStatus());
+        if (previous != null && previous != vehicle.getStatus()) {
+            vehicleStatusChanged.emit(vehicle);
+        }
+    }
+
+    @Override
+    public void onVehicleDeleted(Long vehicleId) {
+        vehicleStatuses.remove(vehicleId);
+    }
+
+    @Override
+    public void onDriverSaved(Driver driver) {
+        Driver.DriverStatus previous = driverStatuses.put(driver.getId(), driver.getStatus());
+        if (previous != null && previous != driver.getStatus()) {
+            driverStatusChanged.emit(driver);
+        }
+    }
+
+    @Override
+    public void onDriverDeleted(Long driverId) {
+        driverStatuses.remove(driverId);
+    }
+
+    // Subscribing
+    public Flux<Booking> bookingCreated() {
+        return bookingCreated.flux(overflowStrategy);
+    }
+
+    public Flux<Booking> bookingSaved() {
+        return bookingSaved.flux(overflowStrategy);
+    }
+
+    public Flux<BookingChange> bookingChanges() {
+        return bookingChanges.flux(overflowStrategy);
+    }
+
+    public Flux<Vehicle> vehicleStatusChanged() {
+        return vehicleStatusChanged.flux(OverflowStrategy.LATEST);
+    }
+
+    public Flux<Driver> driverStatusChanged() {
+        return driverStatusChanged.flux(OverflowStrategy.LATEST);
+    }
+
+    /**
+     * @return Updates dropped for slow subscribers since startup
+     */
+    public long getDroppedUpdates() {
+        return droppedUpdates.sum();
+    }
+
+    /**
+     * One multicast sink. Emission never blocks and never fails the caller;
+     * with no subscribers updates are discarded.
+     */
+    private final class Topic<T> {
+
+        private final String name;
+        private final Sinks.Many<T> sink = Sinks.many().multicast().directBestEffort();
+
+        private Topic(String name) {
+            this.name = name;
+        }
+
+        void emit(T value) {
+            // Concurrent emitters spin briefly instead of failing
+            Sinks.EmitResult result = sink.tryEmitNext(value);
+            if (result == Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+                sink.emitNext(value, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+            } else if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+                logger.warn("Update on {} not delivered: {}", name, result);
+            }
+        }
+
+        Flux<T> flux(OverflowStrategy strategy) {
+            Flux<T> updates = sink.asFlux();
+            switch (strategy) {
+                case LATEST:
+                    return updates.onBackpressureLatest();
+                case DROP_LATEST:
+                    return updates.onBackpressureBuffer(bufferSize, this::dropped, BufferOverflowStrategy.DROP_LATEST);
+                case DROP_OLDEST:
+                default:
+                    return updates.onBackpressureBuffer(bufferSize, this::dropped, BufferOverflowStrategy.DROP_OLDEST);
+            }
+        }
+
+        private void dropped(T value) {
+            droppedUpdates.increment();
+            logger.debug("Slow subscriber on {} dropped an update", name);
+        }
+    }
+}
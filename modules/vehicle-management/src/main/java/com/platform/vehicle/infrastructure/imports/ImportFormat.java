@@ -0,0 +1,11 @@
+package com.platform.vehicle.infrastructure.imports;
+
+/**
+ * Supported bulk import formats.
+ */
+public enum ImportFormat {
+    // Header line with column names, then one record per line
+    CSV,
+    // One JSON object per line
+    NDJSON
+}
@@ -0,0 +1,69 @@
+package com.platform.vehicle.infrastructure.imports;
+
+import java.util.Map;
+
+/**
+ * One record of an import file: the field values by normalized name, or the
+ * reason the line could not be read.
+ */
+public class ImportRecord {
+
+    private final long line;
+    private final Map<String, String> fields;
+    private final String error;
+
+    private ImportRecord(long line, Map<String, String> fields, String error) {
+        this.line = line;
+        this.fields = fields;
+        this.error = error;
+    }
+
+    static ImportRecord of(long line, Map<String, String> fields) {
+        return new ImportRecord(line, fields, null);
+    }
+
+    static ImportRecord malformed(long line, String error) {
+        return new ImportRecord(line, Map.of(), error);
+    }
+
+    /**
+     * Normalize a field name so that "vehicleId", "vehicle_id" and "Vehicle-ID" match.
+     */
+    static String normalize(String name) {
+        StringBuilder normalized = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c != '_' && c != '-' && c != '\uFEFF' && !Character.isWhitespace(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * @return The 1-based line number in the input
+     */
+    public long getLine() {
+        return line;
+    }
+
+    public boolean isMalformed() {
+        return error != null;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * @param name The field name in any casing, with or without separators
+     * @return The trimmed value, or null if the field is missing or blank
+     */
+    public String get(String name) {
+        String value = fields.get(normalize(name));
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+}
@@ -0,0 +1,179 @@
+package com.platform.vehicle.infrastructure.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams records from CSV or NDJSON input one line at a time, so the size
+ * of an import is not limited by memory. A line that cannot be read is
+ * returned as a malformed record instead of failing the whole input.
+ *
+ * CSV values may be quoted (with "" for a literal quote) but a record must
+ * fit on one line.
+ */
+public abstract class ImportRecordReader implements Closeable {
+
+    private final BufferedReader reader;
+    private long line;
+
+    private ImportRecordReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    /**
+     * @param format The input format
+     * @param reader The input
+     * @param objectMapper The mapper used to parse NDJSON lines
+     * @return A reader positioned before the first record
+     */
+    public static ImportRecordReader open(ImportFormat format, Reader reader, ObjectMapper objectMapper) {
+        switch (format) {
+            case CSV:
+                return new CsvReader(reader);
+            case NDJSON:
+                return new NdjsonReader(reader, objectMapper);
+            default:
+                throw new IllegalArgumentException("Unsupported import format: " + format);
+        }
+    }
+
+    /**
+     * @return The next record, or null at the end of the input
+     */
+    public ImportRecord next() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (!text.isBlank()) {
+                ImportRecord record = parse(line, text);
+                if (record != null) {
+                    return record;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The record on the line, or null if the line holds no record
+     */
+    protected abstract ImportRecord parse(long line, String text);
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static final class CsvReader extends ImportRecordReader {
+
+        private List<String> header;
+
+        private CsvReader(Reader reader) {
+            super(reader);
+        }
+
+        @Override
+        protected ImportRecord parse(long line, String text) {
+            List<String> values = split(text);
+            if (values == null) {
+                return ImportRecord.malformed(line, "Unterminated quoted value");
+            }
+            if (header == null) {
+                // The first line names the columns
+                header = new ArrayList<>(values.size());
+                for (String name : values) {
+                    header.add(ImportRecord.normalize(name));
+                }
+                return null;
+            }
+            if (values.size() != header.size()) {
+                return ImportRecord.malformed(line,
+                        "Expected " + header.size() + " values but found " + values.size());
+            }
+            Map<String, String> fields = new HashMap<>(header.size() * 2);
+            for (int i = 0; i < header.size(); i++) {
+                fields.put(header.get(i), values.get(i));
+            }
+            return ImportRecord.of(line, fields);
+        }
+
+        /**
+         * @return The values on the line, or null if a quoted value is not closed
+         */
+        private static List<String> split(String text) {
+            List<String> values = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (quoted) {
+                    if (c == '"') {
+                        if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                            value.append('"');
+                            i++;
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        value.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(value.toString());
+                    value.setLength(0);
+                } else {
+                    value.append(c);
+                }
+            }
+            if (quoted) {
+                return null;
+            }
+            values.add(value.toString());
+            return values;
+        }
+    }
+
+    private static final class NdjsonReader extends ImportRecordReader {
+
+        private final ObjectMapper objectMapper;
+
+        private NdjsonReader(Reader reader, ObjectMapper objectMapper) {
+            super(reader);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        protected ImportRecord parse(long line, String text) {
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(text);
+            } catch (JsonProcessingException e) {
+                return ImportRecord.malformed(line, "Invalid JSON: " + e.getOriginalMessage());
+            }
+            if (node == null || !node.isObject()) {
+                return ImportRecord.malformed(line, "Expected a JSON object");
+            }
+            Map<String, String> fields = new HashMap<>(node.size() * 2);
+            Iterator<Map.Entry<String, JsonNode>> entries = node.fields();
+            while (entries.hasNext()) {
+                Map.Entry<String, JsonNode> entry = entries.next();
+                JsonNode value = entry.getValue();
+                fields.put(ImportRecord.normalize(entry.getKey()),
+                        value.isNull() ? null : value.isValueNode() ? value.asText() : value.toString());
+            }
+            return ImportRecord.of(line, fields);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.platform.vehicle.infrastructure.lifecycle;
+
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.domain.BookingLifecyclePolicy;
+import com.platform.vehicle.infrastructure.RepositoryChangeListener;
+import com.platform.vehicle.infrastructure.adapters.EntityMapper;
+import com.platform.vehicle.infrastructure.entities.BookingEntity;
+import com.platform.vehicle.infrastructure.repositories.BookingJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Timers for the time-driven booking transitions, ordered by when they are due.
+ *
+ * Only bookings starting within a window ahead of now are held. The window is
+ * extended incrementally: once half of the lookahead has been used up, the next
+ * slice of start times is read in keyset pages, so every booking is read once
+ * as its start approaches instead of on every poll. The first load has no lower
+ * bound, which picks up everything that became due while the application was down.
+ *
+ * Committed saves, imports and deletes inside the window re-arm or drop the
+ * booking's timer. A timer only says when to look at a booking: whoever fires it
+ * re-reads the booking and derives the transition from its current state, so a
+ * stale timer costs one read and never a wrong transition.
+ */
+@Component
+public class BookingTimerQueue implements RepositoryChangeListener {
+
+    // Start of the first window, before any booking in the table
+    private static final LocalDateTime MIN_TIME = LocalDateTime.of(1900, 1, 1, 0, 0);
+
+    private final BookingJpaRepository bookingJpaRepository;
+    private final EntityMapper entityMapper;
+    private final BookingLifecyclePolicy policy;
+    private final Duration lookahead;
+    private final int pageSize;
+
+    // Guarded by this; superseded timers stay in the heap until they surface
+    private final PriorityQueue<Timer> timers = new PriorityQueue<>();
+    private final Map<Long, Timer> armed = new HashMap<>();
+    private LocalDateTime loadedUntil;
+    private LocalDateTime cursorStartTime = MIN_TIME;
+    private long cursorId;
+
+    public BookingTimerQueue(BookingJpaRepository bookingJpaRepository,
+                             EntityMapper entityMapper,
+                             @Value("${bpr.vehicle.lifecycle.confirm-lead-ms:86400000}") long confirmLeadMs,
+                             @Value("${bpr.vehicle.lifecycle.no-show-grace-ms:1800000}") long noShowGraceMs,
+                             @Value("${bpr.vehicle.lifecycle.lookahead-ms:3600000}") long lookaheadMs,
+                             @Value("${bpr.vehicle.lifecycle.page-size:500}") int pageSize) {
+        this.bookingJpaRepository = bookingJpaRepository;
+        this.entityMapper = entityMapper;
+        this.policy = new BookingLifecyclePolicy(Duration.ofMillis(confirmLeadMs), Duration.ofMillis(noShowGraceMs));
+        this.lookahead = Duration.ofMillis(lookaheadMs);
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Extend the window so that it covers every timer due within the lookahead.
+     * Confirmations fire a lead time before the start, so the window runs that
+     * much further in start times.
+     *
+     * @param now The current time
+     * @return The number of bookings read
+     */
+    public int load(LocalDateTime now) {
+        LocalDateTime until = now.plus(policy.getConfirmLead()).plus(lookahead);
+        LocalDateTime from;
+        long fromId;
+        synchronized (this) {
+            if (loadedUntil != null && loadedUntil.isAfter(until.minus(lookahead.dividedBy(2)))) {
+                return 0;
+            }
+            // Saves committed while the slice is read are armed by the listener from here on
+            loadedUntil = until;
+            from = cursorStartTime;
+            fromId = cursorId;
+        }
+
+        int read = 0;
+        while (true) {
+            List<BookingEntity> rows = bookingJpaRepository.findLifecyclePageByStartTime(
+                    from, fromId, until, PageRequest.of(0, pageSize));
+            synchronized (this) {
+                for (BookingEntity row : rows) {
+                    Booking booking = entityMapper.toDomainBookingWithoutHistory(row);
+                    // A timer armed by a save is at least as recent as this read
+                    if (!armed.containsKey(booking.getId())) {
+                        arm(booking);
+                    }
+                }
+                if (!rows.isEmpty()) {
+                    BookingEntity last = rows.get(rows.size() - 1);
+                    from = last.getStartTime();
+                    fromId = last.getId();
+                    cursorStartTime = from;
+                    cursorId = fromId;
+                }
+            }
+            read += rows.size();
+            if (rows.size() < pageSize) {
+                return read;
+            }
+        }
+    }
+
+    /**
+     * Remove and return the timers that are due, earliest first.
+     *
+     * @param now The current time
+     * @param limit The maximum number of timers to return
+     * @return The due timers
+     */
+    public synchronized List<Timer> pollDue(LocalDateTime now, int limit) {
+        List<Timer> due = new ArrayList<>(Math.min(limit, armed.size()));
+        while (due.size() < limit && !timers.isEmpty() && !timers.peek().fireAt.isAfter(now)) {
+            Timer timer = timers.poll();
+            if (armed.get(timer.bookingId) == timer) {
+                armed.remove(timer.bookingId);
+                due.add(timer);
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Arm the booking's next timer from its current state, or drop it if time
+     * no longer moves the booking.
+     *
+     * @param booking The booking as persisted
+     */
+    public synchronized void schedule(Booking booking) {
+        if (loadedUntil == null || booking.getStartTime() == null || booking.getStartTime().isAfter(loadedUntil)) {
+            // Outside the window; read when the window reaches it
+            armed.remove(booking.getId());
+            return;
+        }
+        arm(booking);
+    }
+
+    /**
+     * Fire a timer again later, e.g. after the transition failed.
+     *
+     * @param timer The timer that was polled
+     * @param fireAt When to fire it again
+     */
+    public synchronized void retry(Timer timer, LocalDateTime fireAt) {
+        if (!armed.containsKey(timer.bookingId)) {
+            push(new Timer(timer.bookingId, timer.transition, fireAt));
+        }
+    }
+
+    private void arm(Booking booking) {
+        BookingLifecyclePolicy.Transition transition = policy.nextTransition(booking);
+        if (transition == null) {
+            armed.remove(booking.getId());
+            return;
+        }
+        push(new Timer(booking.getId(), transition, policy.dueAt(booking, transition)));
+    }
+
+    private void push(Timer timer) {
+        armed.put(timer.bookingId, timer);
+        timers.add(timer);
+        if (timers.size() > 2 * armed.size() + 1024) {
+            // Mostly superseded timers; rebuild from the armed ones
+            timers.clear();
+            timers.addAll(armed.values());
+        }
+    }
+
+    public BookingLifecyclePolicy getPolicy() { return policy; }
+
+    // RepositoryChangeListener
+    @Override
+    public void onBookingSaved(Booking booking) {
+        schedule(booking);
+    }
+
+    @Override
+    public void onBookingsImported(List<Booking> bookings) {
+        for (Booking booking : bookings) {
+            schedule(booking);
+        }
+    }
+
+    @Override
+    public synchronized void onBookingDeleted(Long bookingId) {
+        armed.remove(bookingId);
+    }
+
+    // Metrics
+    public synchronized int size() { return armed.size(); }
+    public synchronized LocalDateTime getLoadedUntil() { return loadedUntil; }
+
+    /**
+     * @param now The current time
+     * @return How long the earliest due timer is overdue, zero if none is
+     */
+    public synchronized Duration getLag(LocalDateTime now) {
+        while (!timers.isEmpty() && armed.get(timers.peek().bookingId) != timers.peek()) {
+            timers.poll();
+        }
+        Timer next = timers.peek();
+        return next != null && next.fireAt.isBefore(now) ? Duration.between(next.fireAt, now) : Duration.ZERO;
+    }
+
+    /**
+     * A booking's next transition and when it is due.
+     */
+    public static final class Timer implements Comparable<Timer> {
+
+        private final Long bookingId;
+        private final BookingLifecyclePolicy.Transition transition;
+        private final LocalDateTime fireAt;
+
+        private Timer(Long bookingId, BookingLifecyclePolicy.Transition transition, LocalDateTime fireAt) {
+            this.bookingId = bookingId;
+            this.transition = transition;
+            this.fireAt = fireAt;
+        }
+
+        public Long getBookingId() { return bookingId; }
+        public BookingLifecyclePolicy.Transition getTransition() { return transition; }
+        public LocalDateTime getFireAt() { return fireAt; }
+
+        @Override
+        public int compareTo(Timer other) {
+            int byTime = fireAt.compareTo(other.fireAt);
+            return byTime != 0 ? byTime : bookingId.compareTo(other.bookingId);
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.platform.vehicle.infrastructure.metrics;
+
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.domain.Driver;
+import com.platform.vehicle.domain.Vehicle;
+import com.platform.vehicle.infrastructure.RepositoryChangeListener;
+import com.platform.vehicle.infrastructure.adapters.EntityMapper;
+import com.platform.vehicle.infrastructure.repositories.BookingJpaRepository;
+import com.platform.vehicle.infrastructure.repositories.DriverJpaRepository;
+import com.platform.vehicle.infrastructure.repositories.VehicleJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Pre-aggregated dashboard counters.
+ *
+ * Counters are kept per status and moved on every committed vehicle, driver and
+ * booking save, so reading the dashboard never touches the database. The last known
+ * status of each vehicle, driver and open booking is remembered to turn a save into a
+ * transition. Upcoming bookings are kept ordered by start time and leave the
+ * upcoming count once their start time has passed, without waiting for the
+ * lifecycle save that follows. A periodic reconciliation reloads the statuses
+ * from the database to correct any drift.
+ */
+@Component
+public class DashboardMetrics implements RepositoryChangeListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardMetrics.class);
+
+    private static final Set<Booking.BookingStatus> OPEN_STATUSES = EnumSet.of(
+            Booking.BookingStatus.PENDING,
+            Booking.BookingStatus.APPROVED,
+            Booking.BookingStatus.CONFIRMED,
+            Booking.BookingStatus.ACTIVE);
+
+    private final VehicleJpaRepository vehicleJpaRepository;
+    private final DriverJpaRepository driverJpaRepository;
+    private final BookingJpaRepository bookingJpaRepository;
+    private final EntityMapper entityMapper;
+    private final Object writeLock = new Object();
+
+    private final Map<Long, Vehicle.VehicleStatus> vehicleStatuses = new ConcurrentHashMap<>();
+    private final AtomicLongArray vehicleCounts = new AtomicLongArray(Vehicle.VehicleStatus.values().length);
+
+    private final Map<Long, Driver.DriverStatus> driverStatuses = new ConcurrentHashMap<>();
+    private final AtomicLongArray driverCounts = new AtomicLongArray(Driver.DriverStatus.values().length);
+
+    private final Map<Long, BookingState> openBookings = new ConcurrentHashMap<>();
+    private final AtomicLongArray bookingCounts = new AtomicLongArray(Booking.BookingStatus.values().length);
+    private final AtomicLong totalBookings = new AtomicLong();
+    private final AtomicLong upcomingBookings = new AtomicLong();
+    // Open bookings counted as upcoming, by start time; guarded by writeLock
+    private final NavigableSet<BookingState> upcomingByStartTime = new TreeSet<>(
+            Comparator.comparing((BookingState state) -> state.startTime).thenComparing(state -> state.bookingId));
+    private volatile LocalDateTime nextUpcomingStart;
+
+    private final RingBuffer<Booking> recentActivity;
+    private volatile boolean ready = false;
+
+    public DashboardMetrics(VehicleJpaRepository vehicleJpaRepository,
+                            DriverJpaRepository driverJpaRepository,
+                            BookingJpaRepository bookingJpaRepository,
+                            EntityMapper entityMapper,
+                            @Value("${bpr.vehicle.dashboard.recent-activity-size:20}") int recentActivitySize) {
+        this.vehicleJpaRepository = vehicleJpaRepository;
+        this.driverJpaRepository = driverJpaRepository;
+        this.bookingJpaRepository = bookingJpaRepository;
+        this.entityMapper = entityMapper;
+        this.recentActivity = new RingBuffer<>(recentActivitySize);
+    }
+
+    /**
+     * Load the counters on startup and seed the activity feed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        bookingJpaRepository.findByOrderByUpdatedAtDesc(PageRequest.ofSize(recentActivity.capacity())).stream()
+                .map(entityMapper::toDomainBookingWithoutHistory)
+                .sorted(DashboardMetrics::compareUpdatedAt)
+                .forEach(recentActivity::add);
+        reconcile();
+    }
+
+    /**
+     * Rebuild all counters from the database.
+     * Saves committed while the snapshot is read are applied on top of it afterwards.
+     * A booking created while the total is counted can be counted twice until the
+     * next reconciliation; the status counts are keyed by booking and exact.
+     */
+    @Scheduled(fixedDelayString = "${bpr.vehicle.dashboard.reconcile-interval-ms:300000}",
+               initialDelayString = "${bpr.vehicle.dashboard.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        synchronized (writeLock) {
+            vehicleStatuses.clear();
+            resetCounts(vehicleCounts);
+            for (Object[] row : vehicleJpaRepository.findAllStatuses()) {
+                applyVehicle((Long) row[0], Vehicle.VehicleStatus.valueOf(((Enum<?>) row[1]).name()));
+            }
+
+            driverStatuses.clear();
+            resetCounts(driverCounts);
+            for (Object[] row : driverJpaRepository.findAllStatuses()) {
+                applyDriver((Long) row[0], Driver.DriverStatus.valueOf(((Enum<?>) row[1]).name()));
+            }
+
+            openBookings.clear();
+            resetCounts(bookingCounts);
+            upcomingBookings.set(0);
+            upcomingByStartTime.clear();
+            LocalDateTime now = LocalDateTime.now();
+            for (Object[] row : bookingJpaRepository.findOpenBookingStates()) {
+                applyBooking((Long) row[0], Booking.BookingStatus.valueOf(((Enum<?>) row[1]).name()),
+                        (LocalDateTime) row[2], now);
+            }
+            updateNextUpcomingStart();
+            totalBookings.set(bookingJpaRepository.count());
+
+            ready = true;
+            logger.debug("Dashboard metrics reconciled: {} vehicles, {} drivers, {} open of {} bookings",
+                    vehicleStatuses.size(), driverStatuses.size(), openBookings.size(), totalBookings.get());
+        }
+    }
+
+    public boolean isReady() { return ready; }
+
+    // Vehicle counters
+    public long getTotalVehicles() { return vehicleStatuses.size(); }
+    public long getVehicleCount(Vehicle.VehicleStatus status) { return vehicleCounts.get(status.ordinal()); }
+
+    // Driver counters
+    public long getTotalDrivers() { return driverStatuses.size(); }
+    public long getDriverCount(Driver.DriverStatus status) { return driverCounts.get(status.ordinal()); }
+
+    // Booking counters
+    public long getTotalBookings() { return totalBookings.get(); }
+
+    /**
+     * @return Approved and confirmed bookings that have not started yet
+     */
+    public long getUpcomingBookings() {
+        LocalDateTime next = nextUpcomingStart;
+        if (next != null) {
+            LocalDateTime now = LocalDateTime.now();
+            if (!next.isAfter(now)) {
+                synchronized (writeLock) {
+                    expireUpcoming(now);
+                }
+            }
+        }
+        return upcomingBookings.get();
+    }
+
+    /**
+     * @param status An open booking status (PENDING, APPROVED, CONFIRMED or ACTIVE)
+     * @return The number of bookings currently in that status
+     */
+    public long getBookingCount(Booking.BookingStatus status) { return bookingCounts.get(status.ordinal()); }
+
+    /**
+     * @param limit The maximum number of bookings to return
+     * @return The most recently saved bookings, newest first, one entry per booking
+     */
+    public List<Booking> getRecentActivity(int limit) {
+        List<Booking> result = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (Booking booking : recentActivity.newestFirst()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (booking.getId() == null || seen.add(booking.getId())) {
+                result.add(booking);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void onVehicleSaved(Vehicle vehicle) {
+        if (vehicle.getId() == null || vehicle.getStatus() == null) {
+            return;
+        }
+        synchronized (writeLock) {
+            applyVehicle(vehicle.getId(), vehicle.getStatus());
+        }
+    }
+
+    @Override
+    public void onVehicleDeleted(Long vehicleId) {
+        synchronized (writeLock) {
+            Vehicle.VehicleStatus previous = vehicleStatuses.remove(vehicleId);
+            if (previous != null) {
+                vehicleCounts.decrementAndGet(previous.ordinal());
+            }
+        }
+    }
+
+    @Override
+    public void onDriverSaved(Driver driver) {
+        if (driver.getId() == null || driver.getStatus() == null) {
+            return;
+        }
+        synchronized (writeLock) {
+            applyDriver(driver.getId(), driver.getStatus());
+        }
+    }
+
+    @Override
+    public void onDriverDeleted(Long driverId) {
+        synchronized (writeLock) {
+            Driver.DriverStatus previous = driverStatuses.remove(driverId);
+            if (previous != null) {
+                driverCounts.decrementAndGet(previous.ordinal());
+            }
+        }
+    }
+
+    @Override
+    public void onBookingCreated(Booking booking) {
+        // Under the lock, so the increment cannot land between the reset and reload of a reconciliation
+        synchronized (writeLock) {
+            totalBookings.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void onBookingSaved(Booking booking) {
+        if (booking.getId() == null || booking.getStatus() == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (writeLock) {
+            applyBooking(booking.getId(), booking.getStatus(), booking.getStartTime(), now);
+            expireUpcoming(now);
+        }
+        recentActivity.add(booking);
+    }
+
+    @Override
+    public void onBookingsImported(List<Booking> bookings) {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (writeLock) {
+            for (Booking booking : bookings) {
+                if (booking.getId() == null || booking.getStatus() == null) {
+                    continue;
+                }
+                totalBookings.incrementAndGet();
+                applyBooking(booking.getId(), booking.getStatus(), booking.getStartTime(), now);
+            }
+            expireUpcoming(now);
+        }
+        // Imports are history, not activity; the recent activity feed is left alone
+    }
+
+    @Override
+    public void onBookingDeleted(Long bookingId) {
+        synchronized (writeLock) {
+            removeBooking(bookingId);
+            updateNextUpcomingStart();
+            totalBookings.decrementAndGet();
+        }
+    }
+
+    private void applyVehicle(Long vehicleId, Vehicle.VehicleStatus status) {
+        Vehicle.VehicleStatus previous = vehicleStatuses.put(vehicleId, status);
+        if (previous != status) {
+            if (previous != null) {
+                vehicleCounts.decrementAndGet(previous.ordinal());
+            }
+            vehicleCounts.incrementAndGet(status.ordinal());
+        }
+    }
+
+    private void applyDriver(Long driverId, Driver.DriverStatus status) {
+        Driver.DriverStatus previous = driverStatuses.put(driverId, status);
+        if (previous != status) {
+            if (previous != null) {
+                driverCounts.decrementAndGet(previous.ordinal());
+            }
+            driverCounts.incrementAndGet(status.ordinal());
+        }
+    }
+
+    private void applyBooking(Long bookingId, Booking.BookingStatus status, LocalDateTime startTime, LocalDateTime now) {
+        removeBooking(bookingId);
+        if (!OPEN_STATUSES.contains(status)) {
+            return;
+        }
+        boolean upcoming = (status == Booking.BookingStatus.APPROVED || status == Booking.BookingStatus.CONFIRMED)
+                && startTime != null && startTime.isAfter(now);
+        BookingState state = new BookingState(bookingId, status, startTime);
+        openBookings.put(bookingId, state);
+        bookingCounts.incrementAndGet(status.ordinal());
+        if (upcoming) {
+            upcomingByStartTime.add(state);
+            upcomingBookings.incrementAndGet();
+        }
+    }
+
+    private void removeBooking(Long bookingId) {
+        BookingState previous = openBookings.remove(bookingId);
+        if (previous != null) {
+            bookingCounts.decrementAndGet(previous.status.ordinal());
+            if (previous.startTime != null && upcomingByStartTime.remove(previous)) {
+                upcomingBookings.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Drop the bookings whose start time has passed from the upcoming count.
+     */
+    private void expireUpcoming(LocalDateTime now) {
+        while (!upcomingByStartTime.isEmpty() && !upcomingByStartTime.first().startTime.isAfter(now)) {
+            upcomingByStartTime.pollFirst();
+            upcomingBookings.decrementAndGet();
+        }
+        updateNextUpcomingStart();
+    }
+
+    private void updateNextUpcomingStart() {
+        nextUpcomingStart = upcomingByStartTime.isEmpty() ? null : upcomingByStartTime.first().startTime;
+    }
+
+    private static void resetCounts(AtomicLongArray counts) {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    private static int compareUpdatedAt(Booking a, Booking b) {
+        if (a.getUpdatedAt() == null || b.getUpdatedAt() == null) {
+            return 0;
+        }
+        return a.getUpdatedAt().compareTo(b.getUpdatedAt());
+    }
+
+    private static final class BookingState {
+        private final Long bookingId;
+        private final Booking.BookingStatus status;
+        private final LocalDateTime startTime;
+
+        private BookingState(Long bookingId, Booking.BookingStatus status, LocalDateTime startTime) {
+            this.bookingId = bookingId;
+            this.status = status;
+            this.startTime = startTime;
+        }
+    }
+}
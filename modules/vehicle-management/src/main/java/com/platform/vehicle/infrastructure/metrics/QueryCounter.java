@@ -0,0 +1,116 @@
+package com.platform.vehicle.infrastructure.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the SQL statements Hibernate prepares, in total and per scope.
+ *
+ * A scope covers everything the current thread executes between
+ * {@link #open()} and {@link Scope#close()}, which makes N+1 regressions
+ * visible as a statement count that grows with the number of rows:
+ *
+ * <pre>
+ * try (QueryCounter.Scope scope = queryCounter.open()) {
+ *     repository.findPendingBookings();
+ *     scope.assertAtMost(1);
+ * }
+ * </pre>
+ *
+ * Statements issued through JdbcTemplate bypass Hibernate and are not counted.
+ *
+ * Only registered with bpr.vehicle.query-counter.enabled, which the query
+ * count tests set; production runs without the inspector.
+ */
+@Component
+@ConditionalOnProperty(prefix = "bpr.vehicle.query-counter", name = "enabled", havingValue = "true")
+public class QueryCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private final LongAdder totalStatements = new LongAdder();
+    private final ThreadLocal<Scope> currentScope = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        totalStatements.increment();
+        Scope scope = currentScope.get();
+        if (scope != null) {
+            scope.statements.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Start counting the statements of the current thread.
+     * Scopes nest; closing a scope restores the enclosing one.
+     *
+     * @return The new scope
+     */
+    public Scope open() {
+        Scope scope = new Scope(currentScope.get());
+        currentScope.set(scope);
+        return scope;
+    }
+
+    /**
+     * @return Statements prepared since startup on all threads
+     */
+    public long getTotalStatements() {
+        return totalStatements.sum();
+    }
+
+    /**
+     * Statements recorded for one thread between open and close.
+     */
+    public final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final List<String> statements = new ArrayList<>();
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int getCount() {
+            return statements.size();
+        }
+
+        public List<String> getStatements() {
+            return Collections.unmodifiableList(statements);
+        }
+
+        /**
+         * @param expected The maximum number of statements
+         * @throws IllegalStateException listing the statements if more were executed
+         */
+        public void assertAtMost(int expected) {
+            if (statements.size() > expected) {
+                throw new IllegalStateException("Expected at most " + expected + " SQL statements but "
+                        + statements.size() + " were executed:\n" + String.join("\n", statements));
+            }
+        }
+
+        @Override
+        public void close() {
+            if (parent != null) {
+                parent.statements.addAll(statements);
+                currentScope.set(parent);
+            } else {
+                currentScope.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.platform.vehicle.infrastructure.metrics;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hit/miss statistics of the second-level cache regions holding vehicle and driver
+ * reference data, plus the query cache used for plate and license number lookups.
+ */
+@Component
+public class ReferenceDataCacheMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataCacheMetrics.class);
+
+    public static final String VEHICLE_REGION = "vehicles";
+    public static final String DRIVER_REGION = "drivers";
+
+    private final Statistics statistics;
+
+    public ReferenceDataCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public long getHitCount(String region) {
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        return regionStatistics != null ? regionStatistics.getHitCount() : 0;
+    }
+
+    public long getMissCount(String region) {
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        return regionStatistics != null ? regionStatistics.getMissCount() : 0;
+    }
+
+    public long getPutCount(String region) {
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        return regionStatistics != null ? regionStatistics.getPutCount() : 0;
+    }
+
+    public long getQueryCacheHitCount() {
+        return statistics.getQueryCacheHitCount();
+    }
+
+    public long getQueryCacheMissCount() {
+        return statistics.getQueryCacheMissCount();
+    }
+
+    /**
+     * @return Hits divided by lookups for the region, or 0 before the first lookup
+     */
+    public double getHitRatio(String region) {
+        long hits = getHitCount(region);
+        long lookups = hits + getMissCount(region);
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    @Scheduled(fixedDelayString = "${bpr.vehicle.cache.stats-log-interval-ms:600000}",
+               initialDelayString = "${bpr.vehicle.cache.stats-log-interval-ms:600000}")
+    public void logStatistics() {
+        logger.info("Reference data cache: vehicles {}/{} hit/miss, drivers {}/{} hit/miss, queries {}/{} hit/miss",
+                getHitCount(VEHICLE_REGION), getMissCount(VEHICLE_REGION),
+                getHitCount(DRIVER_REGION), getMissCount(DRIVER_REGION),
+                getQueryCacheHitCount(), getQueryCacheMissCount());
+    }
+}
@@ -0,0 +1,50 @@
+package com.platform.vehicle.infrastructure.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size buffer that keeps the most recently added elements.
+ * Writers claim a slot with a single atomic increment and never block;
+ * readers may observe a slot that is being overwritten, which is acceptable
+ * for a best-effort activity feed.
+ */
+final class RingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLong cursor = new AtomicLong();
+
+    RingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    void add(T element) {
+        long sequence = cursor.getAndIncrement();
+        slots.set((int) (sequence % slots.length()), element);
+    }
+
+    /**
+     * @return The buffered elements, newest first
+     */
+    List<T> newestFirst() {
+        long end = cursor.get();
+        int count = (int) Math.min(end, slots.length());
+        List<T> result = new ArrayList<>(count);
+        for (long sequence = end - 1; sequence >= end - count; sequence--) {
+            T element = slots.get((int) (sequence % slots.length()));
+            if (element != null) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,32 @@
+package com.platform.vehicle.infrastructure.notifications;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Default in-app sender. Live clients already receive booking changes through
+ * the notification subscription, so this sender only records the delivery.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class InAppNotificationSender implements NotificationSender {
+
+    private static final Logger logger = LoggerFactory.getLogger(InAppNotificationSender.class);
+
+    @Override
+    public NotificationChannel getChannel() {
+        return NotificationChannel.IN_APP;
+    }
+
+    @Override
+    public void send(List<OutboundNotification> notifications) {
+        for (OutboundNotification notification : notifications) {
+            logger.info("In-app notification for {}: {}", notification.getRecipient(), notification.getSubject());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.platform.vehicle.infrastructure.notifications;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Stand-in for an SMTP server.
+ * Emails are logged and the most recent ones are kept in memory so they can be
+ * inspected, e.g. by tests. Declare another EMAIL sender to deliver for real.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class LocalMailbox implements NotificationSender {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalMailbox.class);
+
+    private final Deque<OutboundNotification> messages = new ArrayDeque<>();
+    private final int capacity;
+
+    public LocalMailbox(@Value("${bpr.vehicle.notifications.mailbox-capacity:100}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public NotificationChannel getChannel() {
+        return NotificationChannel.EMAIL;
+    }
+
+    @Override
+    public synchronized void send(List<OutboundNotification> notifications) {
+        for (OutboundNotification notification : notifications) {
+            logger.info("Email to {}: {}\n{}", notification.getRecipient(), notification.getSubject(), notification.getBody());
+            if (messages.size() == capacity) {
+                messages.removeFirst();
+            }
+            messages.addLast(notification);
+        }
+    }
+
+    /**
+     * @return The most recent emails, oldest first
+     */
+    public synchronized List<OutboundNotification> getMessages() {
+        return new ArrayList<>(messages);
+    }
+
+    public synchronized void clear() {
+        messages.clear();
+    }
+}
@@ -0,0 +1,21 @@
+package com.platform.vehicle.infrastructure.notifications;
+
+/**
+ * Delivery channels for notifications.
+ */
+public enum NotificationChannel {
+    /** Batched into one digest per recipient */
+    EMAIL(true),
+    /** Delivered as individual messages, in batches */
+    IN_APP(false);
+
+    private final boolean digest;
+
+    NotificationChannel(boolean digest) {
+        this.digest = digest;
+    }
+
+    public boolean isDigest() {
+        return digest;
+    }
+}
@@ -0,0 +1,255 @@
+package com.platform.vehicle.infrastructure.notifications;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers notifications off the request path.
+ *
+ * Notifications are offered to a bounded queue and never block the caller; when
+ * the queue is full the notification is dropped and counted. A single worker
+ * collects notifications for up to one batch window, groups them by channel
+ * (digest channels are further merged into one message per recipient) and hands
+ * each group to the channel's {@link NotificationSender}. Failed batches are
+ * retried with exponential backoff.
+ *
+ * The queue depth, drops, retries and delivery outcomes are published as
+ * meters under bpr.vehicle.notifications.
+ */
+@Component
+public class NotificationDispatcher implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private final BlockingQueue<OutboundNotification> queue;
+    private final Map<NotificationChannel, NotificationSender> senders = new EnumMap<>(NotificationChannel.class);
+    private final int batchSize;
+    private final long batchWindowMs;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+
+    public NotificationDispatcher(List<NotificationSender> senders,
+                                  @Value("${bpr.vehicle.notifications.queue-capacity:1000}") int queueCapacity,
+                                  @Value("${bpr.vehicle.notifications.batch-size:50}") int batchSize,
+                                  @Value("${bpr.vehicle.notifications.batch-window-ms:2000}") long batchWindowMs,
+                                  @Value("${bpr.vehicle.notifications.max-attempts:3}") int maxAttempts,
+                                  @Value("${bpr.vehicle.notifications.initial-backoff-ms:500}") long initialBackoffMs) {
+        // Senders arrive in precedence order; the first one per channel wins
+        for (NotificationSender sender : senders) {
+            this.senders.putIfAbsent(sender.getChannel(), sender);
+        }
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.batchWindowMs = batchWindowMs;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.worker = new Thread(this::run, "notification-dispatcher");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Queue a notification for delivery.
+     *
+     * @param notification The notification
+     * @return false if the queue was full and the notification was dropped
+     */
+    public boolean submit(OutboundNotification notification) {
+        if (!queue.offer(notification)) {
+            dropped.increment();
+            long total = dropped.sum();
+            if (total == 1 || total % 100 == 0) {
+                logger.warn("Notification queue full, {} notifications dropped so far", total);
+            }
+            return false;
+        }
+        submitted.increment();
+        return true;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                List<OutboundNotification> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    dispatch(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Notification dispatch failed", e);
+            }
+        }
+    }
+
+    /**
+     * Wait for the first notification, then collect more until the batch is
+     * full or the batch window has passed.
+     */
+    private List<OutboundNotification> nextBatch() throws InterruptedException {
+        List<OutboundNotification> batch = new ArrayList<>(batchSize);
+        OutboundNotification first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchWindowMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            OutboundNotification next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void dispatch(List<OutboundNotification> batch) throws InterruptedException {
+        Map<NotificationChannel, List<OutboundNotification>> byChannel = batch.stream()
+                .collect(Collectors.groupingBy(OutboundNotification::getChannel,
+                        () -> new EnumMap<>(NotificationChannel.class), Collectors.toList()));
+
+        for (Map.Entry<NotificationChannel, List<OutboundNotification>> entry : byChannel.entrySet()) {
+            NotificationSender sender = senders.get(entry.getKey());
+            if (sender == null) {
+                logger.warn("No sender for channel {}, dropping {} notifications", entry.getKey(), entry.getValue().size());
+                failed.add(entry.getValue().size());
+                continue;
+            }
+            List<OutboundNotification> messages = entry.getKey().isDigest() ? digest(entry.getValue()) : entry.getValue();
+            deliver(sender, messages, entry.getValue().size());
+        }
+    }
+
+    /**
+     * @param count Notifications represented by the messages, for the metrics
+     */
+    private void deliver(NotificationSender sender, List<OutboundNotification> messages, int count)
+            throws InterruptedException {
+        long backoffMs = initialBackoffMs;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                sender.send(messages);
+                delivered.add(count);
+                return;
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    failed.add(count);
+                    logger.error("Giving up on {} {} notifications after {} attempts",
+                            count, sender.getChannel(), attempt, e);
+                    return;
+                }
+                retries.increment();
+                logger.warn("Delivering {} {} notifications failed (attempt {}), retrying in {} ms: {}",
+                        count, sender.getChannel(), attempt, backoffMs, e.getMessage());
+                Thread.sleep(backoffMs);
+                backoffMs *= 2;
+            }
+        }
+    }
+
+    /**
+     * Merge the notifications for each recipient into one message.
+     */
+    private static List<OutboundNotification> digest(List<OutboundNotification> notifications) {
+        Map<String, List<OutboundNotification>> byRecipient = notifications.stream()
+                .collect(Collectors.groupingBy(OutboundNotification::getRecipient, LinkedHashMap::new, Collectors.toList()));
+
+        List<OutboundNotification> digests = new ArrayList<>(byRecipient.size());
+        byRecipient.forEach((recipient, items) -> {
+            if (items.size() == 1) {
+                digests.add(items.get(0));
+                return;
+            }
+            String body = items.stream()
+                    .map(item -> item.getSubject() + "\n" + item.getBody())
+                    .collect(Collectors.joining("\n\n"));
+            digests.add(new OutboundNotification(items.get(0).getChannel(), recipient,
+                    items.size() + " booking updates", body, items.get(0).getCreatedAt()));
+        });
+        return digests;
+    }
+
+    // Metrics
+    public int getQueueDepth() { return queue.size(); }
+    public long getSubmittedCount() { return submitted.sum(); }
+    public long getDroppedCount() { return dropped.sum(); }
+    public long getDeliveredCount() { return delivered.sum(); }
+    public long getFailedCount() { return failed.sum(); }
+    public long getRetryCount() { return retries.sum(); }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("bpr.vehicle.notifications.queue.depth", this, NotificationDispatcher::getQueueDepth)
+                .description("Notifications waiting for the dispatcher")
+                .register(registry);
+        FunctionCounter.builder("bpr.vehicle.notifications.submitted", this,
+                        NotificationDispatcher::getSubmittedCount)
+                .register(registry);
+        FunctionCounter.builder("bpr.vehicle.notifications.dropped", this, NotificationDispatcher::getDroppedCount)
+                .description("Notifications dropped because the queue was full")
+                .register(registry);
+        FunctionCounter.builder("bpr.vehicle.notifications.delivered", this,
+                        NotificationDispatcher::getDeliveredCount)
+                .register(registry);
+        FunctionCounter.builder("bpr.vehicle.notifications.failed", this, NotificationDispatcher::getFailedCount)
+                .description("Notifications given up on after the last attempt or without a sender")
+                .register(registry);
+        FunctionCounter.builder("bpr.vehicle.notifications.retries", this, NotificationDispatcher::getRetryCount)
+                .description("Batch deliveries retried after a failure")
+                .register(registry);
+    }
+
+    /**
+     * Deliver what is still queued, then stop the worker.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+            if (worker.isAlive()) {
+                worker.interrupt();
+            }
+            List<OutboundNotification> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            if (!remaining.isEmpty()) {
+                dispatch(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
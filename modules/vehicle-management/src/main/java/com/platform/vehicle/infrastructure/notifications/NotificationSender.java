@@ -0,0 +1,26 @@
+package com.platform.vehicle.infrastructure.notifications;
+
+import java.util.List;
+
+/**
+ * Delivers notifications for one channel.
+ *
+ * Senders are picked up as beans; when several senders serve the same channel
+ * the one with the highest precedence ({@link org.springframework.core.annotation.Order})
+ * is used, so an application can replace the built-in senders by declaring its own.
+ */
+public interface NotificationSender {
+
+    /**
+     * @return The channel this sender delivers
+     */
+    NotificationChannel getChannel();
+
+    /**
+     * Deliver a batch of notifications. A failure fails the whole batch, which is retried.
+     *
+     * @param notifications The notifications to deliver
+     * @throws Exception if delivery failed
+     */
+    void send(List<OutboundNotification> notifications) throws Exception;
+}
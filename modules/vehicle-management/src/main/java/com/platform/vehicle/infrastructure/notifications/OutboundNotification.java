@@ -0,0 +1,39 @@
+package com.platform.vehicle.infrastructure.notifications;
+
+import java.time.LocalDateTime;
+
+/**
+ * A notification waiting to be delivered.
+ */
+public class OutboundNotification {
+
+    private final NotificationChannel channel;
+    private final String recipient;
+    private final String subject;
+    private final String body;
+    private final LocalDateTime createdAt;
+
+    public OutboundNotification(NotificationChannel channel, String recipient, String subject, String body) {
+        this(channel, recipient, subject, body, LocalDateTime.now());
+    }
+
+    public OutboundNotification(NotificationChannel channel, String recipient, String subject, String body,
+                                LocalDateTime createdAt) {
+        this.channel = channel;
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.createdAt = createdAt;
+    }
+
+    public NotificationChannel getChannel() { return channel; }
+    public String getRecipient() { return recipient; }
+    public String getSubject() { return subject; }
+    public String getBody() { return body; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    @Override
+    public String toString() {
+        return channel + " to " + recipient + ": " + subject;
+    }
+}
@@ -0,0 +1,25 @@
+package com.platform.vehicle.infrastructure.outbox;
+
+import com.platform.common.domain.core.DomainEvent;
+
+/**
+ * An event read from the outbox with its position in the log.
+ */
+public class OutboxEntry {
+
+    private final long position;
+    private final DomainEvent event;
+
+    public OutboxEntry(long position, DomainEvent event) {
+        this.position = position;
+        this.event = event;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public DomainEvent getEvent() {
+        return event;
+    }
+}
@@ -0,0 +1,278 @@
+package com.platform.vehicle.infrastructure.outbox;
+
+import com.platform.common.domain.core.DomainEvent;
+import com.platform.vehicle.infrastructure.repositories.OutboxJdbcRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the booking event log to {@link OutboxSubscriber}s.
+ *
+ * Events are written to booking_events in the same transaction as the booking
+ * change, so the log is the outbox: nothing is published for a rolled back
+ * change and nothing committed is lost on a crash. Each subscriber has its own
+ * checkpoint, the position of the last event it acknowledged, which is only
+ * advanced after a batch was delivered. A failing subscriber is retried with
+ * backoff and does not hold back the others.
+ *
+ * With several instances, a shared subscriber's batch is read, delivered and
+ * acknowledged while its checkpoint row is locked (FOR UPDATE SKIP LOCKED), so
+ * only one instance delivers each event; the others skip the subscriber for
+ * that poll. Per-instance subscribers, such as the live event bus, keep their
+ * checkpoint in memory and receive every event on every instance.
+ *
+ * Positions are assigned when a row is inserted, not when it commits, so a
+ * concurrent transaction can commit a lower position after a higher one has
+ * been read. The relay therefore stops at a gap in the positions and only
+ * skips it once it is older than the gap timeout (rolled back inserts leave
+ * permanent gaps). Events are appended just before their transaction commits,
+ * so a use case that fails after saving a booking, such as a create losing the
+ * race for its window, writes no event and leaves no gap. Only a failure of the
+ * commit itself does, and it holds every subscriber back for up to the gap
+ * timeout once.
+ *
+ * The lag and delivery counts are published as meters under bpr.vehicle.outbox,
+ * tagged with the subscriber name. The lag is the age of the oldest event
+ * after the checkpoint, including while delivery waits on a gap; an instance
+ * that did not hold a shared subscriber's claim reports no lag for it.
+ */
+@Component
+public class OutboxRelay implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final long MAX_BACKOFF_MS = 60_000;
+
+    private final OutboxJdbcRepository outboxJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, SubscriberState> subscribers = new LinkedHashMap<>();
+    private final int batchSize;
+    private final long gapTimeoutMs;
+    private final long initialBackoffMs;
+
+    public OutboxRelay(OutboxJdbcRepository outboxJdbcRepository,
+                       List<OutboxSubscriber> subscribers,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${bpr.vehicle.outbox.batch-size:100}") int batchSize,
+                       @Value("${bpr.vehicle.outbox.gap-timeout-ms:10000}") long gapTimeoutMs,
+                       @Value("${bpr.vehicle.outbox.initial-backoff-ms:1000}") long initialBackoffMs) {
+        this.outboxJdbcRepository = outboxJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (OutboxSubscriber subscriber : subscribers) {
+            this.subscribers.put(subscriber.getSubscriberName(), new SubscriberState(subscriber));
+        }
+        this.batchSize = batchSize;
+        this.gapTimeoutMs = gapTimeoutMs;
+        this.initialBackoffMs = initialBackoffMs;
+    }
+
+    /**
+     * Deliver the next batch to every subscriber that is not backing off.
+     */
+    @Scheduled(fixedDelayString = "${bpr.vehicle.outbox.poll-interval-ms:200}")
+    public synchronized void relay() {
+        long latestPosition = outboxJdbcRepository.findLatestPosition();
+        for (SubscriberState state : subscribers.values()) {
+            try {
+                relay(state, latestPosition);
+            } catch (Exception e) {
+                logger.error("Outbox relay for {} failed", state.subscriber.getSubscriberName(), e);
+            }
+        }
+    }
+
+    private void relay(SubscriberState state, long latestPosition) {
+        long now = System.currentTimeMillis();
+        if (now < state.nextAttemptAt) {
+            return;
+        }
+        String name = state.subscriber.getSubscriberName();
+        if (state.subscriber.isPerInstance()) {
+            if (state.checkpoint < 0) {
+                // Per-instance subscribers start at the head of the log on every start
+                state.checkpoint = latestPosition;
+            }
+            deliverNext(state, latestPosition, now);
+            return;
+        }
+
+        if (state.checkpoint < 0) {
+            // New subscribers start at the head of the log instead of replaying history
+            outboxJdbcRepository.createCheckpointIfAbsent(name, latestPosition);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            Long claimed = outboxJdbcRepository.claimCheckpoint(name);
+            if (claimed == null) {
+                // Another instance is delivering to this subscriber
+                state.clearLag();
+                return;
+            }
+            if (claimed != state.checkpoint) {
+                // Advanced by another instance since this one last held the claim
+                state.checkpoint = claimed;
+                state.gapSince = 0;
+            }
+            if (deliverNext(state, latestPosition, now)) {
+                outboxJdbcRepository.saveCheckpoint(name, state.checkpoint);
+            }
+        });
+    }
+
+    /**
+     * Deliver the batch after the subscriber's checkpoint and advance the
+     * in-memory checkpoint past it.
+     *
+     * @return true if the checkpoint was advanced
+     */
+    private boolean deliverNext(SubscriberState state, long latestPosition, long now) {
+        if (state.checkpoint >= latestPosition) {
+            state.updateLag(latestPosition, null);
+            return false;
+        }
+
+        // 1. Read the next batch and cut it at the first unexpired gap
+        List<OutboxEntry> entries = contiguous(state, outboxJdbcRepository.findAfter(state.checkpoint, batchSize), now);
+        if (entries.isEmpty()) {
+            state.updateLag(latestPosition, outboxJdbcRepository.findOldestTimestampAfter(state.checkpoint));
+            return false;
+        }
+
+        // 2. Deliver, then advance the checkpoint
+        List<DomainEvent> events = entries.stream().map(OutboxEntry::getEvent).collect(Collectors.toList());
+        try {
+            state.subscriber.deliver(events);
+        } catch (Exception e) {
+            state.failures++;
+            long backoffMs = Math.min(initialBackoffMs << Math.min(state.failures - 1, 16), MAX_BACKOFF_MS);
+            state.nextAttemptAt = now + backoffMs;
+            state.updateLag(latestPosition, outboxJdbcRepository.findOldestTimestampAfter(state.checkpoint));
+            logger.warn("Outbox delivery to {} failed ({} in a row), retrying in {} ms: {}",
+                    state.subscriber.getSubscriberName(), state.failures, backoffMs, e.getMessage());
+            return false;
+        }
+        state.failures = 0;
+        state.delivered += events.size();
+        state.checkpoint = entries.get(entries.size() - 1).getPosition();
+        state.updateLag(latestPosition, state.checkpoint < latestPosition
+                ? outboxJdbcRepository.findOldestTimestampAfter(state.checkpoint) : null);
+        return true;
+    }
+
+    /**
+     * @return The leading entries without a gap, or up to an expired gap
+     */
+    private List<OutboxEntry> contiguous(SubscriberState state, List<OutboxEntry> entries, long now) {
+        List<OutboxEntry> result = new ArrayList<>(entries.size());
+        long expected = state.checkpoint + 1;
+        for (OutboxEntry entry : entries) {
+            if (entry.getPosition() != expected) {
+                if (state.gapSince == 0) {
+                    state.gapSince = now;
+                }
+                if (!result.isEmpty() || now - state.gapSince < gapTimeoutMs) {
+                    break;
+                }
+                logger.debug("Skipping outbox positions {} to {} for {}",
+                        expected, entry.getPosition() - 1, state.subscriber.getSubscriberName());
+            }
+            state.gapSince = 0;
+            result.add(entry);
+            expected = entry.getPosition() + 1;
+        }
+        return result;
+    }
+
+    // Metrics
+    /**
+     * @return Events not yet acknowledged, per subscriber
+     */
+    public Map<String, Long> getLagEvents() {
+        return subscribers.values().stream()
+                .collect(Collectors.toMap(state -> state.subscriber.getSubscriberName(), state -> state.lagEvents,
+                        (a, b) -> a, LinkedHashMap::new));
+    }
+
+    /**
+     * @return Age of the oldest event not yet acknowledged, per subscriber
+     */
+    public Map<String, Duration> getLag() {
+        return subscribers.values().stream()
+                .collect(Collectors.toMap(state -> state.subscriber.getSubscriberName(),
+                        state -> Duration.ofMillis(state.lagMillis), (a, b) -> a, LinkedHashMap::new));
+    }
+
+    public Map<String, Long> getDeliveredCounts() {
+        return subscribers.values().stream()
+                .collect(Collectors.toMap(state -> state.subscriber.getSubscriberName(), state -> state.delivered,
+                        (a, b) -> a, LinkedHashMap::new));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (SubscriberState state : subscribers.values()) {
+            String name = state.subscriber.getSubscriberName();
+            Gauge.builder("bpr.vehicle.outbox.lag.events", state, s -> s.lagEvents)
+                    .tag("subscriber", name)
+                    .description("Events in the log not yet acknowledged by the subscriber")
+                    .register(registry);
+            TimeGauge.builder("bpr.vehicle.outbox.lag", state, TimeUnit.MILLISECONDS, s -> s.lagMillis)
+                    .tag("subscriber", name)
+                    .description("Age of the oldest event not yet acknowledged by the subscriber")
+                    .register(registry);
+            FunctionCounter.builder("bpr.vehicle.outbox.delivered", state, s -> s.delivered)
+                    .tag("subscriber", name)
+                    .register(registry);
+        }
+    }
+
+    private static final class SubscriberState {
+
+        private final OutboxSubscriber subscriber;
+        private long checkpoint = -1;
+        private long gapSince;
+        private int failures;
+        private long nextAttemptAt;
+        // Read by the metrics getters without holding the relay lock
+        private volatile long delivered;
+        private volatile long lagEvents;
+        private volatile long lagMillis;
+
+        private SubscriberState(OutboxSubscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        /**
+         * @param oldestPending When the oldest event after the checkpoint was written, or null if none is
+         */
+        private void updateLag(long latestPosition, LocalDateTime oldestPending) {
+            lagEvents = Math.max(0, latestPosition - checkpoint);
+            lagMillis = oldestPending != null
+                    ? Math.max(0, Duration.between(oldestPending, LocalDateTime.now()).toMillis())
+                    : 0;
+        }
+
+        private void clearLag() {
+            lagEvents = 0;
+            lagMillis = 0;
+        }
+    }
+}
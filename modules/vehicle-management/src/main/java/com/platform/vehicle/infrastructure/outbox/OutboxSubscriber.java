@@ -0,0 +1,42 @@
+package com.platform.vehicle.infrastructure.outbox;
+
+import com.platform.common.domain.core.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Receives committed events from {@link OutboxRelay}.
+ *
+ * Delivery is at least once: a batch whose delivery fails, or that was
+ * delivered just before a crash, is delivered again. Subscribers should be
+ * idempotent on {@link DomainEvent#getEventId()}. An adapter for an external
+ * broker implements this interface and throws when the broker does not
+ * acknowledge the batch.
+ */
+public interface OutboxSubscriber {
+
+    /**
+     * @return Stable name under which the subscriber's checkpoint is stored and its meters are tagged
+     */
+    String getSubscriberName();
+
+    /**
+     * Shared subscribers, such as a broker or the notification sender, get
+     * every event once across all instances: an instance locks the stored
+     * checkpoint while it delivers a batch. Per-instance subscribers feed
+     * state held in the instance itself, so every instance delivers every
+     * event to them from an in-memory position that starts at the head of the
+     * log.
+     *
+     * @return true if each instance delivers to its own copy of the subscriber
+     */
+    default boolean isPerInstance() {
+        return false;
+    }
+
+    /**
+     * @param events Events in log order
+     * @throws Exception if the batch was not delivered; it is retried from the same position
+     */
+    void deliver(List<DomainEvent> events) throws Exception;
+}
@@ -0,0 +1,93 @@
+package com.platform.vehicle.infrastructure.projections;
+
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.domain.BookingDerivedFields;
+import com.platform.vehicle.infrastructure.entities.BookingEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a booking row for list queries.
+ * Selects the scheduling and routing columns and skips the free-text columns
+ * (description, approval comment, rejection reason, feedback, notes and
+ * additional requirements). Property names match the GraphQL Booking type;
+ * vehicle, driver and event history are resolved from the IDs by the batch loaders.
+ */
+public interface BookingSummaryView {
+
+    Long getId();
+
+    String getBookingReference();
+
+    BookingEntity.BookingStatus getStatus();
+
+    BookingEntity.BookingType getType();
+
+    Long getVehicleId();
+
+    Long getDriverId();
+
+    Long getRequesterId();
+
+    Long getApproverId();
+
+    LocalDateTime getStartTime();
+
+    LocalDateTime getEndTime();
+
+    LocalDateTime getActualStartTime();
+
+    LocalDateTime getActualEndTime();
+
+    String getPurpose();
+
+    String getPickupLocation();
+
+    String getDestination();
+
+    String getReturnLocation();
+
+    int getEstimatedPassengers();
+
+    String getManagerName();
+
+    String getCostCenter();
+
+    LocalDateTime getApprovedAt();
+
+    LocalDateTime getRejectedAt();
+
+    double getActualMileage();
+
+    LocalDateTime getCreatedAt();
+
+    // Derived fields, computed by the same rules as the domain Booking
+
+    default long getDurationInHours() {
+        return BookingDerivedFields.durationInHours(getStartTime(), getEndTime());
+    }
+
+    default String getDisplayStatus() {
+        return BookingDerivedFields.displayStatus(domainStatus());
+    }
+
+    default boolean canBeCancelled() {
+        return BookingDerivedFields.canBeCancelled(domainStatus());
+    }
+
+    default boolean isCurrent() {
+        return BookingDerivedFields.isCurrent(domainStatus(), getStartTime(), getEndTime(), LocalDateTime.now());
+    }
+
+    default boolean isUpcoming() {
+        return BookingDerivedFields.isUpcoming(domainStatus(), getStartTime(), LocalDateTime.now());
+    }
+
+    default boolean needsApproval() {
+        return BookingDerivedFields.needsApproval(domainStatus());
+    }
+
+    private Booking.BookingStatus domainStatus() {
+        return Booking.BookingStatus.valueOf(getStatus().name());
+    }
+}
@@ -0,0 +1,55 @@
+package com.platform.vehicle.infrastructure.projections;
+
+import com.platform.vehicle.infrastructure.entities.VehicleEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a vehicle row for list queries.
+ * Selects the columns shown in vehicle lists and skips the free-text description;
+ * property names match the GraphQL Vehicle type so it can be returned as is.
+ */
+public interface VehicleSummaryView {
+
+    Long getId();
+
+    String getPlateNumber();
+
+    String getMake();
+
+    String getModel();
+
+    Integer getYear();
+
+    VehicleEntity.VehicleType getType();
+
+    VehicleEntity.VehicleStatus getStatus();
+
+    int getCapacity();
+
+    String getColor();
+
+    String getLocation();
+
+    LocalDateTime getLastMaintenance();
+
+    LocalDateTime getNextMaintenance();
+
+    double getMileage();
+
+    String getFuelType();
+
+    String getVehicleGroup();
+
+    String getCostCenter();
+
+    boolean isAvailableForBooking();
+
+    default boolean isAvailable() {
+        return getStatus() == VehicleEntity.VehicleStatus.AVAILABLE && isAvailableForBooking();
+    }
+
+    default String getDisplayName() {
+        return String.format("%s %s %s (%s)", getYear(), getMake(), getModel(), getPlateNumber());
+    }
+}
@@ -0,0 +1,53 @@
+package com.platform.vehicle.infrastructure.repositories;
+
+import com.platform.common.domain.core.DomainEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Append-only writer for the booking event log.
+ * Events are inserted with one batched statement instead of being cascaded
+ * through the booking entity, so the cost of a save depends only on the
+ * number of new events.
+ */
+@Repository
+public class BookingEventJdbcRepository {
+
+    private static final String INSERT_EVENT =
+            "INSERT INTO booking_events (event_id, event_type, event_data, timestamp, caused_by, version, booking_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int BATCH_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BookingEventJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Append events to the history of a booking.
+     *
+     * @param bookingId The booking ID
+     * @param events The events to insert, in the order they were raised
+     */
+    public void appendAll(Long bookingId, List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT, events, BATCH_SIZE, (statement, event) -> {
+            LocalDateTime timestamp = event.getTimestamp() != null ? event.getTimestamp() : LocalDateTime.now();
+            statement.setString(1, event.getEventId());
+            statement.setString(2, event.getEventType());
+            statement.setString(3, event.getEventData());
+            statement.setTimestamp(4, Timestamp.valueOf(timestamp));
+            statement.setString(5, event.getCausedBy());
+            statement.setInt(6, event.getVersion());
+            statement.setLong(7, bookingId);
+        });
+    }
+}
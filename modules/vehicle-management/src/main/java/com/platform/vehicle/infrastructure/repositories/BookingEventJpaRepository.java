@@ -0,0 +1,14 @@
+package com.platform.vehicle.infrastructure.repositories;
+
+import com.platform.vehicle.infrastructure.entities.BookingEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BookingEventJpaRepository extends JpaRepository<BookingEventEntity, Long> {
+    
+    List<BookingEventEntity> findByBookingIdInOrderByTimestampAsc(Collection<Long> bookingIds);
+}
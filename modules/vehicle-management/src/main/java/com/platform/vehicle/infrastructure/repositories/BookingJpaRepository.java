@@ -1,20 +1,41 @@
 package com.platform.vehicle.infrastructure.repositories;
 
 import com.platform.vehicle.infrastructure.entities.BookingEntity;
+import com.platform.vehicle.infrastructure.projections.BookingSummaryView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BookingJpaRepository extends JpaRepository<BookingEntity, Long> {
     
+    // Select list of BookingSummaryView; free-text columns are left out
+    String SUMMARY_COLUMNS = "b.id AS id, b.bookingReference AS bookingReference, b.status AS status, b.type AS type, " +
+            "b.vehicleId AS vehicleId, b.driverId AS driverId, b.requesterId AS requesterId, b.approverId AS approverId, " +
+            "b.startTime AS startTime, b.endTime AS endTime, b.actualStartTime AS actualStartTime, " +
+            "b.actualEndTime AS actualEndTime, b.purpose AS purpose, b.pickupLocation AS pickupLocation, " +
+            "b.destination AS destination, b.returnLocation AS returnLocation, " +
+            "b.estimatedPassengers AS estimatedPassengers, b.managerName AS managerName, b.costCenter AS costCenter, " +
+            "b.approvedAt AS approvedAt, b.rejectedAt AS rejectedAt, b.actualMileage AS actualMileage, " +
+            "b.createdAt AS createdAt";
+    
+    // Single-booking lookups load the event history with the booking in one query
+    @EntityGraph(attributePaths = "events")
+    Optional<BookingEntity> findWithEventsById(Long id);
+
+    @EntityGraph(attributePaths = "events")
     Optional<BookingEntity> findByBookingReference(String bookingReference);
     
+    List<BookingEntity> findByBookingReferenceIn(Collection<String> bookingReferences);
+    
     List<BookingEntity> findByRequesterId(Long requesterId);
     
     List<BookingEntity> findByVehicleId(Long vehicleId);
@@ -23,7 +44,52 @@ public interface BookingJpaRepository extends JpaRepository<BookingEntity, Long>
     
     List<BookingEntity> findByStatus(BookingEntity.BookingStatus status);
     
-    List<BookingEntity> findByRequesterIdOrderByCreatedAtDesc(Long requesterId);
+    // Keyset pagination on (startTime, id); null filters are ignored
+    @Query("SELECT b FROM BookingEntity b WHERE (:status IS NULL OR b.status = :status) " +
+           "AND (:requesterId IS NULL OR b.requesterId = :requesterId) " +
+           "AND (:vehicleId IS NULL OR b.vehicleId = :vehicleId) " +
+           "AND (:driverId IS NULL OR b.driverId = :driverId) " +
+           "AND (b.startTime > :afterStartTime OR (b.startTime = :afterStartTime AND b.id > :afterId)) " +
+           "ORDER BY b.startTime, b.id")
+    List<BookingEntity> findPageByStartTime(@Param("status") BookingEntity.BookingStatus status,
+                                            @Param("requesterId") Long requesterId,
+                                            @Param("vehicleId") Long vehicleId,
+                                            @Param("driverId") Long driverId,
+                                            @Param("afterStartTime") LocalDateTime afterStartTime,
+                                            @Param("afterId") Long afterId,
+                                            Pageable pageable);
+    
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM BookingEntity b WHERE (:status IS NULL OR b.status = :status) " +
+           "AND (:requesterId IS NULL OR b.requesterId = :requesterId) " +
+           "AND (:vehicleId IS NULL OR b.vehicleId = :vehicleId) " +
+           "AND (:driverId IS NULL OR b.driverId = :driverId) " +
+           "AND (b.startTime > :afterStartTime OR (b.startTime = :afterStartTime AND b.id > :afterId)) " +
+           "ORDER BY b.startTime, b.id")
+    List<BookingSummaryView> findSummaryPageByStartTime(@Param("status") BookingEntity.BookingStatus status,
+                                                        @Param("requesterId") Long requesterId,
+                                                        @Param("vehicleId") Long vehicleId,
+                                                        @Param("driverId") Long driverId,
+                                                        @Param("afterStartTime") LocalDateTime afterStartTime,
+                                                        @Param("afterId") Long afterId,
+                                                        Pageable pageable);
+    
+    // Keyset pagination on (createdAt, id), newest first
+    @Query("SELECT b FROM BookingEntity b WHERE b.requesterId = :requesterId " +
+           "AND (b.createdAt < :beforeCreatedAt OR (b.createdAt = :beforeCreatedAt AND b.id < :beforeId)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingEntity> findPageByRequesterIdOrderByCreatedAtDesc(@Param("requesterId") Long requesterId,
+                                                                  @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                                                  @Param("beforeId") Long beforeId,
+                                                                  Pageable pageable);
+    
+    @Query("SELECT " + SUMMARY_COLUMNS + " FROM BookingEntity b WHERE b.requesterId = :requesterId " +
+           "AND (b.createdAt < :beforeCreatedAt OR (b.createdAt = :beforeCreatedAt AND b.id < :beforeId)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingSummaryView> findSummaryPageByRequesterIdOrderByCreatedAtDesc(
+            @Param("requesterId") Long requesterId,
+            @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable);
     
     @Query("SELECT b FROM BookingEntity b WHERE b.startTime >= :startDate AND b.endTime <= :endDate ORDER BY b.startTime")
     List<BookingEntity> findByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
@@ -38,6 +104,16 @@ public interface BookingJpaRepository extends JpaRepository<BookingEntity, Long>
     @Query("SELECT b FROM BookingEntity b WHERE b.status = 'PENDING' ORDER BY b.createdAt")
     List<BookingEntity> findPendingBookings();
     
+    // Bookings waiting for a time-driven transition, paged on (startTime, id) for the lifecycle scheduler
+    @Query("SELECT b FROM BookingEntity b WHERE b.status IN ('PENDING', 'APPROVED', 'CONFIRMED') " +
+           "AND b.startTime <= :until " +
+           "AND (b.startTime > :afterStartTime OR (b.startTime = :afterStartTime AND b.id > :afterId)) " +
+           "ORDER BY b.startTime, b.id")
+    List<BookingEntity> findLifecyclePageByStartTime(@Param("afterStartTime") LocalDateTime afterStartTime,
+                                                     @Param("afterId") Long afterId,
+                                                     @Param("until") LocalDateTime until,
+                                                     Pageable pageable);
+    
     @Query("SELECT b FROM BookingEntity b WHERE b.status = 'PENDING' AND b.managerName = :managerName ORDER BY b.createdAt")
     List<BookingEntity> findBookingsRequiringApproval(@Param("managerName") String managerName);
     
@@ -54,6 +130,19 @@ public interface BookingJpaRepository extends JpaRepository<BookingEntity, Long>
                                                   @Param("startTime") LocalDateTime startTime, 
                                                   @Param("endTime") LocalDateTime endTime);
     
+    // Booking windows that block a vehicle or driver, used to warm the availability index
+    @Query("SELECT b.id, b.vehicleId, b.driverId, b.startTime, b.endTime FROM BookingEntity b " +
+           "WHERE b.status IN ('APPROVED', 'CONFIRMED', 'ACTIVE')")
+    List<Object[]> findBlockingBookingWindows();
+
+    // Bookings that have not reached a final status, used to reconcile the dashboard metrics
+    @Query("SELECT b.id, b.status, b.startTime FROM BookingEntity b " +
+           "WHERE b.status IN ('PENDING', 'APPROVED', 'CONFIRMED', 'ACTIVE')")
+    List<Object[]> findOpenBookingStates();
+    
+    // Most recently saved bookings, used to seed the dashboard activity feed
+    List<BookingEntity> findByOrderByUpdatedAtDesc(Pageable pageable);
+    
     // Analytics queries
     @Query("SELECT COUNT(b) FROM BookingEntity b WHERE b.vehicle.id = :vehicleId AND b.status = 'COMPLETED' " +
            "AND b.actualStartTime >= :startDate AND b.actualStartTime <= :endDate")
@@ -1,8 +1,11 @@
 package com.platform.vehicle.infrastructure.repositories;
 
 import com.platform.vehicle.infrastructure.entities.DriverEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -13,6 +16,7 @@ import java.util.Optional;
 @Repository
 public interface DriverJpaRepository extends JpaRepository<DriverEntity, Long> {
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<DriverEntity> findByLicenseNumber(String licenseNumber);
     
     List<DriverEntity> findByUserId(Long userId);
@@ -21,6 +25,10 @@ public interface DriverJpaRepository extends JpaRepository<DriverEntity, Long> {
     
     List<DriverEntity> findByLicenseType(DriverEntity.LicenseType licenseType);
     
+    // Driver statuses, used to reconcile the dashboard metrics
+    @Query("SELECT d.id, d.status FROM DriverEntity d")
+    List<Object[]> findAllStatuses();
+    
     @Query("SELECT d FROM DriverEntity d WHERE d.status = 'AVAILABLE' AND d.availableForBooking = true")
     List<DriverEntity> findAvailableDrivers();
     
@@ -31,4 +39,10 @@ public interface DriverJpaRepository extends JpaRepository<DriverEntity, Long> {
            "(SELECT b.driver.id FROM BookingEntity b WHERE b.status IN ('APPROVED', 'CONFIRMED', 'ACTIVE') " +
            "AND b.startTime <= :currentTime AND b.endTime >= :currentTime AND b.driver.id IS NOT NULL)")
     List<DriverEntity> findDriversCurrentlyAvailable(@Param("currentTime") LocalDateTime currentTime);
+    
+    @Query("SELECT d FROM DriverEntity d WHERE d.status = 'AVAILABLE' AND d.availableForBooking = true AND NOT EXISTS " +
+           "(SELECT b.id FROM BookingEntity b WHERE b.driverId = d.id AND b.status IN ('APPROVED', 'CONFIRMED', 'ACTIVE') " +
+           "AND b.startTime < :endTime AND b.endTime > :startTime)")
+    List<DriverEntity> findDriversAvailableBetween(@Param("startTime") LocalDateTime startTime,
+                                                   @Param("endTime") LocalDateTime endTime);
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.platform.vehicle.infrastructure.repositories;
+
+import com.platform.vehicle.domain.events.BookingEvent;
+import com.platform.vehicle.infrastructure.outbox.OutboxEntry;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reads the booking event log as an outbox and stores how far each
+ * subscriber has consumed it.
+ *
+ * A checkpoint row doubles as the delivery lease of its subscriber: the
+ * instance that locks it with {@link #claimCheckpoint} delivers the next
+ * batch, and the others skip the subscriber until the lock is released.
+ */
+@Repository
+public class OutboxJdbcRepository {
+
+    private static final String SELECT_AFTER =
+            "SELECT e.id, e.event_id, e.event_type, e.event_data, e.timestamp, e.caused_by, e.version, " +
+            "b.booking_reference " +
+            "FROM booking_events e JOIN bookings b ON b.id = e.booking_id " +
+            "WHERE e.id > ? ORDER BY e.id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param afterId Position of the last consumed event
+     * @param limit Maximum number of events to return
+     * @return The following events in log order
+     */
+    public List<OutboxEntry> findAfter(long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_AFTER, (rs, rowNum) -> {
+            BookingEvent event = new BookingEvent(
+                    rs.getString("booking_reference"),
+                    rs.getString("event_type"),
+                    rs.getString("event_data"),
+                    rs.getString("caused_by"));
+            event.setEventId(rs.getString("event_id"));
+            Timestamp timestamp = rs.getTimestamp("timestamp");
+            event.setTimestamp(timestamp != null ? timestamp.toLocalDateTime() : null);
+            event.setVersion(rs.getInt("version"));
+            return new OutboxEntry(rs.getLong("id"), event);
+        }, afterId, limit);
+    }
+
+    /**
+     * @return Position of the newest event, or 0 if the log is empty
+     */
+    public long findLatestPosition() {
+        Long latest = jdbcTemplate.queryForObject("SELECT MAX(id) FROM booking_events", Long.class);
+        return latest != null ? latest : 0L;
+    }
+
+    /**
+     * @param afterId Position of the last consumed event
+     * @return When the oldest event after the position was written, or null if there is none
+     */
+    public LocalDateTime findOldestTimestampAfter(long afterId) {
+        Timestamp oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(timestamp) FROM booking_events WHERE id > ?", Timestamp.class, afterId);
+        return oldest != null ? oldest.toLocalDateTime() : null;
+    }
+
+    /**
+     * Store the initial checkpoint of a subscriber unless one exists, such as
+     * one written by another instance. Runs in its own statement, outside the
+     * claiming transaction, so a lost insert race does not abort it.
+     *
+     * @param position Position to start after
+     */
+    public void createCheckpointIfAbsent(String subscriber, long position) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_checkpoints WHERE subscriber = ?", Integer.class, subscriber);
+        if (existing != null && existing > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO outbox_checkpoints (subscriber, last_event_id, updated_at) VALUES (?, ?, ?)",
+                    subscriber, position, Timestamp.valueOf(LocalDateTime.now()));
+        } catch (DuplicateKeyException e) {
+            // Another instance created it first
+        }
+    }
+
+    /**
+     * Lock the checkpoint row of a subscriber until the surrounding transaction
+     * ends. Must be called in a transaction.
+     *
+     * @return The stored checkpoint, or null if another instance holds the row
+     */
+    public Long claimCheckpoint(String subscriber) {
+        List<Long> positions = jdbcTemplate.queryForList(
+                "SELECT last_event_id FROM outbox_checkpoints WHERE subscriber = ? FOR UPDATE SKIP LOCKED",
+                Long.class, subscriber);
+        return positions.isEmpty() ? null : positions.get(0);
+    }
+
+    /**
+     * Advance a checkpoint claimed with {@link #claimCheckpoint} in the same transaction.
+     */
+    public void saveCheckpoint(String subscriber, long position) {
+        jdbcTemplate.update(
+                "UPDATE outbox_checkpoints SET last_event_id = ?, updated_at = ? WHERE subscriber = ?",
+                position, Timestamp.valueOf(LocalDateTime.now()), subscriber);
+    }
+}
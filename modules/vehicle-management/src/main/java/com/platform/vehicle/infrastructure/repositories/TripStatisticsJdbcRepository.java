@@ -0,0 +1,116 @@
+package com.platform.vehicle.infrastructure.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Adds completed trips to the running totals of vehicles and drivers.
+ *
+ * Each row gets a single relative update, so concurrent completions add up
+ * in the database instead of overwriting each other, and only the counter
+ * columns are written. Saves of existing vehicles and drivers keep the stored
+ * totals, so a regular save never writes back a stale one; deliberate
+ * corrections set them here. The updates bypass the persistence context and
+ * the second-level cache; callers evict the rows.
+ */
+@Repository
+public class TripStatisticsJdbcRepository {
+
+    private static final String ADD_VEHICLE_MILEAGE =
+            "UPDATE vehicles SET mileage = mileage + ? WHERE id = ?";
+
+    private static final String ADD_DRIVER_TRIPS =
+            "UPDATE drivers SET total_trips_completed = total_trips_completed + ?, " +
+            "total_miles_driven = total_miles_driven + ? WHERE id = ?";
+
+    private static final String SET_VEHICLE_MILEAGE =
+            "UPDATE vehicles SET mileage = ? WHERE id = ?";
+
+    private static final String SET_DRIVER_TRIPS =
+            "UPDATE drivers SET total_trips_completed = ?, total_miles_driven = ? WHERE id = ?";
+
+    private static final int BATCH_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TripStatisticsJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Trips and distance to add to one vehicle or driver.
+     */
+    public static final class TripTotals {
+
+        private int trips;
+        private double miles;
+
+        public void add(double miles) {
+            this.trips++;
+            this.miles += miles;
+        }
+
+        public int getTrips() { return trips; }
+        public double getMiles() { return miles; }
+    }
+
+    /**
+     * Add driven distance to the odometer of each vehicle.
+     * Rows are updated in id order, so concurrent batches lock them in the same order.
+     *
+     * @param totalsByVehicle The totals to add, keyed by vehicle ID
+     */
+    public void addVehicleMileage(SortedMap<Long, TripTotals> totalsByVehicle) {
+        if (totalsByVehicle.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ADD_VEHICLE_MILEAGE, entries(totalsByVehicle), BATCH_SIZE, (statement, entry) -> {
+            statement.setDouble(1, entry.getValue().getMiles());
+            statement.setLong(2, entry.getKey());
+        });
+    }
+
+    /**
+     * Add completed trips and their distance to each driver.
+     * Rows are updated in id order, so concurrent batches lock them in the same order.
+     *
+     * @param totalsByDriver The totals to add, keyed by driver ID
+     */
+    public void addDriverTrips(SortedMap<Long, TripTotals> totalsByDriver) {
+        if (totalsByDriver.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ADD_DRIVER_TRIPS, entries(totalsByDriver), BATCH_SIZE, (statement, entry) -> {
+            statement.setInt(1, entry.getValue().getTrips());
+            statement.setDouble(2, entry.getValue().getMiles());
+            statement.setLong(3, entry.getKey());
+        });
+    }
+
+    /**
+     * Overwrite a vehicle's odometer, e.g. to correct it after a reading.
+     *
+     * @return Whether the vehicle exists
+     */
+    public boolean setVehicleMileage(Long vehicleId, double mileage) {
+        return jdbcTemplate.update(SET_VEHICLE_MILEAGE, mileage, vehicleId) > 0;
+    }
+
+    /**
+     * Overwrite a driver's trip totals, e.g. to correct them after a migration.
+     *
+     * @return Whether the driver exists
+     */
+    public boolean setDriverTrips(Long driverId, int tripsCompleted, double milesDriven) {
+        return jdbcTemplate.update(SET_DRIVER_TRIPS, tripsCompleted, milesDriven, driverId) > 0;
+    }
+
+    private static List<Map.Entry<Long, TripTotals>> entries(SortedMap<Long, TripTotals> totals) {
+        return new ArrayList<>(totals.entrySet());
+    }
+}
@@ -1,8 +1,13 @@
 package com.platform.vehicle.infrastructure.repositories;
 
 import com.platform.vehicle.infrastructure.entities.VehicleEntity;
+import com.platform.vehicle.infrastructure.projections.VehicleSummaryView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -13,6 +18,7 @@ import java.util.Optional;
 @Repository
 public interface VehicleJpaRepository extends JpaRepository<VehicleEntity, Long> {
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<VehicleEntity> findByPlateNumber(String plateNumber);
     
     List<VehicleEntity> findByStatus(VehicleEntity.VehicleStatus status);
@@ -24,6 +30,30 @@ public interface VehicleJpaRepository extends JpaRepository<VehicleEntity, Long>
     @Query("SELECT v FROM VehicleEntity v WHERE v.status = 'AVAILABLE' AND v.availableForBooking = true")
     List<VehicleEntity> findAvailableVehicles();
     
+    // Vehicle statuses, used to reconcile the dashboard metrics
+    @Query("SELECT v.id, v.status FROM VehicleEntity v")
+    List<Object[]> findAllStatuses();
+    
+    // Keyset pagination on id; null filters are ignored
+    @Query("SELECT v FROM VehicleEntity v WHERE (:status IS NULL OR v.status = :status) " +
+           "AND (:type IS NULL OR v.type = :type) AND v.id > :afterId ORDER BY v.id")
+    List<VehicleEntity> findPageById(@Param("status") VehicleEntity.VehicleStatus status,
+                                     @Param("type") VehicleEntity.VehicleType type,
+                                     @Param("afterId") Long afterId,
+                                     Pageable pageable);
+    
+    @Query("SELECT v.id AS id, v.plateNumber AS plateNumber, v.make AS make, v.model AS model, " +
+           "v.manufactureYear AS year, v.type AS type, v.status AS status, v.capacity AS capacity, " +
+           "v.color AS color, v.location AS location, v.lastMaintenance AS lastMaintenance, " +
+           "v.nextMaintenance AS nextMaintenance, v.mileage AS mileage, v.fuelType AS fuelType, " +
+           "v.vehicleGroup AS vehicleGroup, v.costCenter AS costCenter, v.availableForBooking AS availableForBooking " +
+           "FROM VehicleEntity v WHERE (:status IS NULL OR v.status = :status) " +
+           "AND (:type IS NULL OR v.type = :type) AND v.id > :afterId ORDER BY v.id")
+    List<VehicleSummaryView> findSummaryPageById(@Param("status") VehicleEntity.VehicleStatus status,
+                                                 @Param("type") VehicleEntity.VehicleType type,
+                                                 @Param("afterId") Long afterId,
+                                                 Pageable pageable);
+    
     @Query("SELECT v FROM VehicleEntity v WHERE v.nextMaintenance IS NOT NULL AND v.nextMaintenance < :date")
     List<VehicleEntity> findVehiclesRequiringMaintenance(@Param("date") LocalDateTime date);
     
@@ -31,4 +61,10 @@ public interface VehicleJpaRepository extends JpaRepository<VehicleEntity, Long>
            "(SELECT b.vehicle.id FROM BookingEntity b WHERE b.status IN ('APPROVED', 'CONFIRMED', 'ACTIVE') " +
            "AND b.startTime <= :currentTime AND b.endTime >= :currentTime)")
     List<VehicleEntity> findVehiclesCurrentlyAvailable(@Param("currentTime") LocalDateTime currentTime);
+    
+    @Query("SELECT v FROM VehicleEntity v WHERE v.status = 'AVAILABLE' AND v.availableForBooking = true AND NOT EXISTS " +
+           "(SELECT b.id FROM BookingEntity b WHERE b.vehicleId = v.id AND b.status IN ('APPROVED', 'CONFIRMED', 'ACTIVE') " +
+           "AND b.startTime < :endTime AND b.endTime > :startTime)")
+    List<VehicleEntity> findVehiclesAvailableBetween(@Param("startTime") LocalDateTime startTime,
+                                                     @Param("endTime") LocalDateTime endTime);
 }
\ No newline at end of file
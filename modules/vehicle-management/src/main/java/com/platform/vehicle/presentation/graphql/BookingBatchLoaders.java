@@ -0,0 +1,59 @@
+package com.platform.vehicle.presentation.graphql;
+
+import com.platform.common.domain.core.DomainEvent;
+import com.platform.vehicle.domain.Driver;
+import com.platform.vehicle.domain.Vehicle;
+import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Registers the DataLoaders used to resolve the relations of the GraphQL Booking type.
+ * All IDs requested during one GraphQL execution are coalesced into a single
+ * IN (...) query per relation, so booking lists cost a constant number of queries.
+ */
+@Component
+public class BookingBatchLoaders {
+
+    public static final String VEHICLE_LOADER = "vehicleById";
+    public static final String DRIVER_LOADER = "driverById";
+    public static final String EVENT_HISTORY_LOADER = "eventHistoryByBookingId";
+
+    private final VehicleManagementRepository vehicleManagementRepository;
+
+    public BookingBatchLoaders(BatchLoaderRegistry registry, VehicleManagementRepository vehicleManagementRepository) {
+        this.vehicleManagementRepository = vehicleManagementRepository;
+
+        registry.<Long, Vehicle>forName(VEHICLE_LOADER)
+                .registerMappedBatchLoader((ids, environment) -> Mono.fromCallable(() -> loadVehicles(ids)));
+        registry.<Long, Driver>forName(DRIVER_LOADER)
+                .registerMappedBatchLoader((ids, environment) -> Mono.fromCallable(() -> loadDrivers(ids)));
+        registry.<Long, List<DomainEvent>>forName(EVENT_HISTORY_LOADER)
+                .registerMappedBatchLoader((ids, environment) -> Mono.fromCallable(() -> loadEventHistory(ids)));
+    }
+
+    private Map<Long, Vehicle> loadVehicles(Set<Long> ids) {
+        return vehicleManagementRepository.findVehiclesByIds(ids).stream()
+                .collect(Collectors.toMap(Vehicle::getId, Function.identity()));
+    }
+
+    private Map<Long, Driver> loadDrivers(Set<Long> ids) {
+        return vehicleManagementRepository.findDriversByIds(ids).stream()
+                .collect(Collectors.toMap(Driver::getId, Function.identity()));
+    }
+
+    private Map<Long, List<DomainEvent>> loadEventHistory(Set<Long> bookingIds) {
+        Map<Long, List<DomainEvent>> events = new HashMap<>(vehicleManagementRepository.findEventsByBookingIds(bookingIds));
+        // Bookings without events still resolve to an empty history
+        bookingIds.forEach(id -> events.putIfAbsent(id, List.of()));
+        return events;
+    }
+}
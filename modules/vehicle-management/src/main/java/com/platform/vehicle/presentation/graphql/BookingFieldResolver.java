@@ -0,0 +1,85 @@
+package com.platform.vehicle.presentation.graphql;
+
+import com.platform.common.domain.core.DomainEvent;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.PropertyDataFetcher;
+import org.dataloader.DataLoader;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Field resolvers for the relations of the GraphQL Booking type.
+ * Relations are resolved through the batch loaders in {@link BookingBatchLoaders};
+ * foreign keys are read as plain properties so any booking representation can be the source.
+ */
+@Component
+public class BookingFieldResolver {
+
+    private static final PropertyDataFetcher<Object> ID = PropertyDataFetcher.fetching("id");
+    private static final PropertyDataFetcher<Object> VEHICLE_ID = PropertyDataFetcher.fetching("vehicleId");
+    private static final PropertyDataFetcher<Object> DRIVER_ID = PropertyDataFetcher.fetching("driverId");
+    private static final PropertyDataFetcher<Object> PRELOADED_VEHICLE = PropertyDataFetcher.fetching("vehicle");
+    private static final PropertyDataFetcher<Object> PRELOADED_DRIVER = PropertyDataFetcher.fetching("driver");
+
+    public DataFetcher<CompletableFuture<Object>> getVehicle() {
+        return dataFetchingEnvironment -> {
+            if (isPreloaded(dataFetchingEnvironment, "vehicle")) {
+                return CompletableFuture.completedFuture(PRELOADED_VEHICLE.get(dataFetchingEnvironment));
+            }
+            Long vehicleId = toLong(VEHICLE_ID.get(dataFetchingEnvironment));
+            if (vehicleId == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            DataLoader<Long, Object> loader = dataFetchingEnvironment.getDataLoader(BookingBatchLoaders.VEHICLE_LOADER);
+            return loader.load(vehicleId);
+        };
+    }
+
+    public DataFetcher<CompletableFuture<Object>> getDriver() {
+        return dataFetchingEnvironment -> {
+            if (isPreloaded(dataFetchingEnvironment, "driver")) {
+                return CompletableFuture.completedFuture(PRELOADED_DRIVER.get(dataFetchingEnvironment));
+            }
+            Long driverId = toLong(DRIVER_ID.get(dataFetchingEnvironment));
+            if (driverId == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            DataLoader<Long, Object> loader = dataFetchingEnvironment.getDataLoader(BookingBatchLoaders.DRIVER_LOADER);
+            return loader.load(driverId);
+        };
+    }
+
+    public DataFetcher<CompletableFuture<List<DomainEvent>>> getEventHistory() {
+        return dataFetchingEnvironment -> {
+            Long bookingId = toLong(ID.get(dataFetchingEnvironment));
+            if (bookingId == null) {
+                return CompletableFuture.completedFuture(List.of());
+            }
+            DataLoader<Long, List<DomainEvent>> loader =
+                    dataFetchingEnvironment.getDataLoader(BookingBatchLoaders.EVENT_HISTORY_LOADER);
+            return loader.load(bookingId);
+        };
+    }
+
+    /**
+     * @return true if the source row already carries the relation (joined by BookingSelectionQuery)
+     */
+    private static boolean isPreloaded(DataFetchingEnvironment dataFetchingEnvironment, String relation) {
+        Object source = dataFetchingEnvironment.getSource();
+        return source instanceof Map && ((Map<?, ?>) source).containsKey(relation);
+    }
+
+    private static Long toLong(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return Long.valueOf(value.toString());
+    }
+}
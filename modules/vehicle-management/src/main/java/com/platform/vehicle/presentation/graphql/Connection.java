@@ -0,0 +1,64 @@
+package com.platform.vehicle.presentation.graphql;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Relay-style connection returned by the paginated list queries.
+ */
+public class Connection<T> {
+
+    private final List<Edge<T>> edges;
+    private final PageInfo pageInfo;
+
+    public Connection(List<Edge<T>> edges, PageInfo pageInfo) {
+        this.edges = edges;
+        this.pageInfo = pageInfo;
+    }
+
+    /**
+     * Build a connection from one page of nodes.
+     *
+     * @param nodes The nodes of the page, in cursor order
+     * @param cursorOf Produces the opaque cursor for a node
+     * @param hasNextPage Whether more nodes follow the last one
+     * @return The connection
+     */
+    public static <T> Connection<T> of(List<T> nodes, Function<T, String> cursorOf, boolean hasNextPage) {
+        List<Edge<T>> edges = nodes.stream()
+                .map(node -> new Edge<>(cursorOf.apply(node), node))
+                .collect(Collectors.toList());
+        String endCursor = edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor();
+        return new Connection<>(edges, new PageInfo(hasNextPage, endCursor));
+    }
+
+    public List<Edge<T>> getEdges() { return edges; }
+    public PageInfo getPageInfo() { return pageInfo; }
+
+    public static class Edge<T> {
+        private final String cursor;
+        private final T node;
+
+        public Edge(String cursor, T node) {
+            this.cursor = cursor;
+            this.node = node;
+        }
+
+        public String getCursor() { return cursor; }
+        public T getNode() { return node; }
+    }
+
+    public static class PageInfo {
+        private final boolean hasNextPage;
+        private final String endCursor;
+
+        public PageInfo(boolean hasNextPage, String endCursor) {
+            this.hasNextPage = hasNextPage;
+            this.endCursor = endCursor;
+        }
+
+        public boolean isHasNextPage() { return hasNextPage; }
+        public String getEndCursor() { return endCursor; }
+    }
+}
@@ -0,0 +1,73 @@
+package com.platform.vehicle.presentation.graphql;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Encodes keyset positions as opaque GraphQL cursors.
+ * A cursor is the base64url form of either {@code id} or {@code timestamp|id}.
+ */
+final class CursorCodec {
+
+    private static final char SEPARATOR = '|';
+
+    private CursorCodec() {
+    }
+
+    static String encode(Long id) {
+        return toBase64(String.valueOf(id));
+    }
+
+    static String encode(LocalDateTime time, Long id) {
+        return toBase64(time.toString() + SEPARATOR + id);
+    }
+
+    /**
+     * @return The ID held by the cursor, or null for a missing cursor
+     */
+    static Long decodeId(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        String value = fromBase64(cursor);
+        int separator = value.indexOf(SEPARATOR);
+        try {
+            return Long.valueOf(separator < 0 ? value : value.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    /**
+     * @return The timestamp held by the cursor, or null for a missing cursor
+     */
+    static LocalDateTime decodeTime(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        String value = fromBase64(cursor);
+        int separator = value.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        try {
+            return LocalDateTime.parse(value.substring(0, separator));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static String toBase64(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String fromBase64(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.platform.vehicle.presentation.graphql;
+
+import graphql.GraphQLContext;
+import graphql.execution.CoercedVariables;
+import graphql.language.StringValue;
+import graphql.language.Value;
+import graphql.schema.Coercing;
+import graphql.schema.CoercingParseLiteralException;
+import graphql.schema.CoercingParseValueException;
+import graphql.schema.CoercingSerializeException;
+import graphql.schema.GraphQLScalarType;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * The DateTime scalar of the schema, backed by {@link LocalDateTime} like the
+ * domain model. Values are written as ISO-8601 local date-times, dates as their
+ * start of day; input with an offset is accepted and converted to the server's
+ * time zone.
+ */
+final class DateTimeScalar {
+
+    static final GraphQLScalarType INSTANCE = GraphQLScalarType.newScalar()
+            .name("DateTime")
+            .description("ISO-8601 date-time, e.g. 2026-03-02T09:00:00")
+            .coercing(new LocalDateTimeCoercing())
+            .build();
+
+    private DateTimeScalar() {
+    }
+
+    private static final class LocalDateTimeCoercing implements Coercing<LocalDateTime, String> {
+
+        @Override
+        public String serialize(Object dataFetcherResult, GraphQLContext graphQLContext, Locale locale) {
+            LocalDateTime value;
+            if (dataFetcherResult instanceof LocalDateTime) {
+                value = (LocalDateTime) dataFetcherResult;
+            } else if (dataFetcherResult instanceof LocalDate) {
+                // Driver license and health check dates
+                value = ((LocalDate) dataFetcherResult).atStartOfDay();
+            } else if (dataFetcherResult instanceof Timestamp) {
+                // Rows read by BookingSelectionQuery
+                value = ((Timestamp) dataFetcherResult).toLocalDateTime();
+            } else if (dataFetcherResult instanceof String) {
+                value = parse((String) dataFetcherResult);
+                if (value == null) {
+                    throw new CoercingSerializeException("Invalid DateTime: " + dataFetcherResult);
+                }
+            } else {
+                throw new CoercingSerializeException("Expected a LocalDateTime but was "
+                        + (dataFetcherResult == null ? "null" : dataFetcherResult.getClass().getName()));
+            }
+            return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value);
+        }
+
+        @Override
+        public LocalDateTime parseValue(Object input, GraphQLContext graphQLContext, Locale locale) {
+            if (input instanceof LocalDateTime) {
+                return (LocalDateTime) input;
+            }
+            LocalDateTime value = input instanceof String ? parse((String) input) : null;
+            if (value == null) {
+                throw new CoercingParseValueException("Invalid DateTime: " + input);
+            }
+            return value;
+        }
+
+        @Override
+        public LocalDateTime parseLiteral(Value<?> input, CoercedVariables variables,
+                                          GraphQLContext graphQLContext, Locale locale) {
+            LocalDateTime value = input instanceof StringValue ? parse(((StringValue) input).getValue()) : null;
+            if (value == null) {
+                throw new CoercingParseLiteralException("Invalid DateTime literal: " + input);
+            }
+            return value;
+        }
+
+        /**
+         * @return The date-time, or null if the text is not ISO-8601
+         */
+        private static LocalDateTime parse(String text) {
+            try {
+                return LocalDateTime.parse(text);
+            } catch (DateTimeParseException e) {
+                // Try again with an offset or zone
+            }
+            try {
+                return ZonedDateTime.parse(text).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.platform.vehicle.presentation.graphql;
+
+import graphql.ErrorClassification;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps resolver exceptions to GraphQL errors.
+ */
+@Component
+public class GraphQLExceptionResolver extends DataFetcherExceptionResolverAdapter {
+
+    static final ErrorClassification SERVICE_UNAVAILABLE = ErrorClassification.errorClassification("SERVICE_UNAVAILABLE");
+
+    @Override
+    protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+        if (ex instanceof MutationRejectedException) {
+            return GraphqlErrorBuilder.newError(env)
+                    .errorType(SERVICE_UNAVAILABLE)
+                    .message(ex.getMessage())
+                    .build();
+        }
+        return null;
+    }
+}
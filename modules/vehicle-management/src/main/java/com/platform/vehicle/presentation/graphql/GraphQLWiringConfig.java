@@ -0,0 +1,70 @@
+package com.platform.vehicle.presentation.graphql;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.RuntimeWiringConfigurer;
+
+/**
+ * Wires field resolvers into the GraphQL schema.
+ */
+@Configuration
+public class GraphQLWiringConfig {
+
+    @Bean
+    public RuntimeWiringConfigurer scalarWiring() {
+        return wiringBuilder -> wiringBuilder.scalar(DateTimeScalar.INSTANCE);
+    }
+
+    @Bean
+    public RuntimeWiringConfigurer bookingRelationsWiring(BookingFieldResolver bookingFieldResolver) {
+        return wiringBuilder -> wiringBuilder.type("Booking", typeWiring -> typeWiring
+                .dataFetcher("vehicle", bookingFieldResolver.getVehicle())
+                .dataFetcher("driver", bookingFieldResolver.getDriver())
+                .dataFetcher("eventHistory", bookingFieldResolver.getEventHistory()));
+    }
+
+    @Bean
+    public RuntimeWiringConfigurer queryWiring(VehicleManagementQueryResolver queryResolver) {
+        return wiringBuilder -> wiringBuilder.type("Query", typeWiring -> typeWiring
+                .dataFetcher("availableVehicles", queryResolver.getAvailableVehicles())
+                .dataFetcher("availableDrivers", queryResolver.getAvailableDrivers())
+                .dataFetcher("bookings", queryResolver.getBookings())
+                .dataFetcher("myBookings", queryResolver.getMyBookings())
+                .dataFetcher("vehiclesConnection", queryResolver.getVehiclesConnection())
+                .dataFetcher("bookingsConnection", queryResolver.getBookingsConnection())
+                .dataFetcher("myBookingsConnection", queryResolver.getMyBookingsConnection())
+                .dataFetcher("dashboard", queryResolver.getDashboard()));
+    }
+
+    @Bean
+    public RuntimeWiringConfigurer mutationWiring(VehicleManagementMutationResolver mutationResolver) {
+        return wiringBuilder -> wiringBuilder.type("Mutation", typeWiring -> typeWiring
+                .dataFetcher("createBooking", mutationResolver.createBooking())
+                .dataFetcher("updateBooking", mutationResolver.updateBooking())
+                .dataFetcher("cancelBooking", mutationResolver.cancelBooking())
+                .dataFetcher("approveBooking", mutationResolver.approveBooking())
+                .dataFetcher("rejectBooking", mutationResolver.rejectBooking())
+                .dataFetcher("activateBooking", mutationResolver.activateBooking())
+                .dataFetcher("completeBooking", mutationResolver.completeBooking())
+                .dataFetcher("createVehicle", mutationResolver.createVehicle())
+                .dataFetcher("updateVehicle", mutationResolver.updateVehicle())
+                .dataFetcher("deleteVehicle", mutationResolver.deleteVehicle())
+                .dataFetcher("setVehicleStatus", mutationResolver.setVehicleStatus())
+                .dataFetcher("createDriver", mutationResolver.createDriver())
+                .dataFetcher("updateDriver", mutationResolver.updateDriver())
+                .dataFetcher("deleteDriver", mutationResolver.deleteDriver())
+                .dataFetcher("setDriverStatus", mutationResolver.setDriverStatus()));
+    }
+
+    @Bean
+    public RuntimeWiringConfigurer subscriptionWiring(VehicleManagementSubscriptionResolver subscriptionResolver) {
+        return wiringBuilder -> wiringBuilder.type("Subscription", typeWiring -> typeWiring
+                .dataFetcher("bookingCreated", subscriptionResolver.bookingCreated())
+                .dataFetcher("bookingStatusChanged", subscriptionResolver.bookingStatusChanged())
+                .dataFetcher("bookingUpdated", subscriptionResolver.bookingUpdated())
+                .dataFetcher("bookingCancelled", subscriptionResolver.bookingCancelled())
+                .dataFetcher("vehicleStatusChanged", subscriptionResolver.vehicleStatusChanged())
+                .dataFetcher("driverStatusChanged", subscriptionResolver.driverStatusChanged())
+                .dataFetcher("notification", subscriptionResolver.notification()));
+    }
+}
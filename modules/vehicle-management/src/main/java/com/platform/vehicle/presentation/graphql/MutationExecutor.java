@@ -0,0 +1,208 @@
+package com.platform.vehicle.presentation.graphql;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs GraphQL mutation work off the request thread and away from the common fork-join pool.
+ *
+ * Two modes are supported:
+ * - PLATFORM: a fixed pool of platform threads in front of a bounded queue
+ * - VIRTUAL: one virtual thread per task, with the number of in-flight tasks capped
+ *
+ * In both modes, work beyond the configured limit is rejected immediately with a
+ * {@link MutationRejectedException} rather than queued without bound. Virtual
+ * threads are looked up when the executor starts, so the module can be built
+ * for Java 17 and still use them on a Java 21 runtime; older runtimes fall back
+ * to the platform pool. The counters and the queue depth are published as
+ * meters under bpr.vehicle.mutations.
+ */
+@Component
+public class MutationExecutor implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(MutationExecutor.class);
+
+    public enum Mode {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    private final Mode mode;
+    private final ExecutorService executor;
+    private final ThreadPoolExecutor platformPool;
+    private final Semaphore inFlightPermits;
+    private final int maxInFlight;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public MutationExecutor(@Value("${bpr.vehicle.mutations.mode:PLATFORM}") Mode requestedMode,
+                            @Value("${bpr.vehicle.mutations.pool-size:16}") int poolSize,
+                            @Value("${bpr.vehicle.mutations.queue-capacity:200}") int queueCapacity) {
+        ExecutorService virtualExecutor = requestedMode == Mode.VIRTUAL ? newVirtualThreadExecutor() : null;
+
+        this.maxInFlight = poolSize + queueCapacity;
+        if (virtualExecutor != null) {
+            this.mode = Mode.VIRTUAL;
+            this.executor = virtualExecutor;
+            this.platformPool = null;
+            this.inFlightPermits = new Semaphore(maxInFlight);
+        } else {
+            this.mode = Mode.PLATFORM;
+            this.platformPool = new ThreadPoolExecutor(
+                    poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    namedThreadFactory("graphql-mutation-"),
+                    new ThreadPoolExecutor.AbortPolicy());
+            this.executor = platformPool;
+            this.inFlightPermits = null;
+        }
+        logger.info("Mutation executor started in {} mode with at most {} tasks in flight", mode, maxInFlight);
+    }
+
+    /**
+     * Run the supplier on the mutation executor.
+     *
+     * @param supplier The mutation work
+     * @return A future completed with the result, or failed with
+     *         {@link MutationRejectedException} if the executor is saturated
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        if (inFlightPermits != null && !inFlightPermits.tryAcquire()) {
+            return reject();
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(supplier.get());
+                    completed.increment();
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                    failed.increment();
+                } finally {
+                    if (inFlightPermits != null) {
+                        inFlightPermits.release();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            if (inFlightPermits != null) {
+                inFlightPermits.release();
+            }
+            return reject();
+        }
+        submitted.increment();
+        return future;
+    }
+
+    private <T> CompletableFuture<T> reject() {
+        rejected.increment();
+        long total = rejected.sum();
+        if (total == 1 || total % 100 == 0) {
+            logger.warn("Mutation executor saturated, {} mutations rejected so far", total);
+        }
+        return CompletableFuture.failedFuture(
+                new MutationRejectedException("Server is busy, please retry the mutation later"));
+    }
+
+    // Metrics
+    public Mode getMode() { return mode; }
+    public int getMaxInFlight() { return maxInFlight; }
+    public long getSubmittedCount() { return submitted.sum(); }
+    public long getRejectedCount() { return rejected.sum(); }
+    public long getCompletedCount() { return completed.sum(); }
+    public long getFailedCount() { return failed.sum(); }
+
+    /**
+     * @return Tasks waiting for a thread (platform mode) or running (virtual mode)
+     */
+    public int getQueueDepth() {
+        if (platformPool != null) {
+            return platformPool.getQueue().size();
+        }
+        return maxInFlight - inFlightPermits.availablePermits();
+    }
+
+    public int getActiveCount() {
+        if (platformPool != null) {
+            return platformPool.getActiveCount();
+        }
+        return maxInFlight - inFlightPermits.availablePermits();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("bpr.vehicle.mutations.submitted", this, MutationExecutor::getSubmittedCount)
+                .description("Mutations accepted by the executor").tag("mode", mode.name()).register(registry);
+        FunctionCounter.builder("bpr.vehicle.mutations.rejected", this, MutationExecutor::getRejectedCount)
+                .description("Mutations rejected because the executor was saturated").tag("mode", mode.name())
+                .register(registry);
+        FunctionCounter.builder("bpr.vehicle.mutations.completed", this, MutationExecutor::getCompletedCount)
+                .tag("mode", mode.name()).register(registry);
+        FunctionCounter.builder("bpr.vehicle.mutations.failed", this, MutationExecutor::getFailedCount)
+                .tag("mode", mode.name()).register(registry);
+        Gauge.builder("bpr.vehicle.mutations.queue.depth", this, MutationExecutor::getQueueDepth)
+                .description("Mutations waiting for a thread (platform) or running (virtual)")
+                .tag("mode", mode.name()).register(registry);
+        Gauge.builder("bpr.vehicle.mutations.active", this, MutationExecutor::getActiveCount)
+                .tag("mode", mode.name()).register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Virtual threads need a Java 21 runtime; on older runtimes fall back to the platform pool.
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            logger.warn("Virtual threads are not available on this runtime, using the platform thread pool");
+            return null;
+        }
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
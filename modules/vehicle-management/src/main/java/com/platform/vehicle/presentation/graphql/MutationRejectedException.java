@@ -0,0 +1,11 @@
+package com.platform.vehicle.presentation.graphql;
+
+/**
+ * Thrown when the mutation executor is saturated and refuses new work.
+ */
+public class MutationRejectedException extends RuntimeException {
+
+    public MutationRejectedException(String message) {
+        super(message);
+    }
+}
@@ -2,15 +2,28 @@ package com.platform.vehicle.presentation.graphql;
 
 import com.platform.vehicle.application.dto.CreateBookingRequest;
 import com.platform.vehicle.application.dto.BookingResponse;
+import com.platform.vehicle.application.dto.DriverRequest;
+import com.platform.vehicle.application.dto.UpdateBookingRequest;
+import com.platform.vehicle.application.dto.VehicleRequest;
+import com.platform.vehicle.application.usecases.ApproveBookingUseCase;
+import com.platform.vehicle.application.usecases.CancelBookingUseCase;
+import com.platform.vehicle.application.usecases.CompleteBookingUseCase;
 import com.platform.vehicle.application.usecases.CreateBookingUseCase;
 import com.platform.vehicle.application.usecases.BookingValidationService;
+import com.platform.vehicle.application.usecases.UpdateBookingUseCase;
 import com.platform.vehicle.domain.Booking;
 import com.platform.vehicle.domain.Vehicle;
 import com.platform.vehicle.domain.Driver;
+import com.platform.vehicle.infrastructure.AggregateLockManager;
+import com.platform.vehicle.infrastructure.ConflictRetry;
 import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -18,28 +31,53 @@ import java.util.concurrent.CompletableFuture;
 public class VehicleManagementMutationResolver {
     
     private final CreateBookingUseCase createBookingUseCase;
+    private final ApproveBookingUseCase approveBookingUseCase;
+    private final CompleteBookingUseCase completeBookingUseCase;
+    private final CancelBookingUseCase cancelBookingUseCase;
+    private final UpdateBookingUseCase updateBookingUseCase;
     private final VehicleManagementRepository vehicleManagementRepository;
     private final BookingValidationService bookingValidationService;
+    private final MutationExecutor mutationExecutor;
+    private final ConflictRetry conflictRetry;
+    private final AggregateLockManager aggregateLocks;
+    private final ObjectMapper objectMapper;
 
     public VehicleManagementMutationResolver(
             CreateBookingUseCase createBookingUseCase,
+            ApproveBookingUseCase approveBookingUseCase,
+            CompleteBookingUseCase completeBookingUseCase,
+            CancelBookingUseCase cancelBookingUseCase,
+            UpdateBookingUseCase updateBookingUseCase,
             VehicleManagementRepository vehicleManagementRepository,
-            BookingValidationService bookingValidationService) {
+            BookingValidationService bookingValidationService,
+            MutationExecutor mutationExecutor,
+            ConflictRetry conflictRetry,
+            AggregateLockManager aggregateLocks,
+            ObjectMapper objectMapper) {
         this.createBookingUseCase = createBookingUseCase;
+        this.approveBookingUseCase = approveBookingUseCase;
+        this.completeBookingUseCase = completeBookingUseCase;
+        this.cancelBookingUseCase = cancelBookingUseCase;
+        this.updateBookingUseCase = updateBookingUseCase;
         this.vehicleManagementRepository = vehicleManagementRepository;
         this.bookingValidationService = bookingValidationService;
+        this.mutationExecutor = mutationExecutor;
+        this.conflictRetry = conflictRetry;
+        this.aggregateLocks = aggregateLocks;
+        this.objectMapper = objectMapper;
     }
 
     // Booking Mutations
     public DataFetcher<CompletableFuture<BookingResponse>> createBooking() {
         return dataFetchingEnvironment -> {
             try {
-                CreateBookingRequest request = dataFetchingEnvironment.getArgument("request");
-                Long requesterId = Long.valueOf(dataFetchingEnvironment.getArgument("requesterId"));
+                CreateBookingRequest request =
+                        inputArgument(dataFetchingEnvironment, "request", CreateBookingRequest.class);
+                Long requesterId = idArgument(dataFetchingEnvironment, "requesterId");
                 
-                return CompletableFuture.supplyAsync(() -> {
+                return mutationExecutor.supplyAsync(() -> {
                     try {
-                        return createBookingUseCase.execute(request, requesterId);
+                        return conflictRetry.execute(() -> createBookingUseCase.execute(request, requesterId));
                     } catch (CreateBookingUseCase.BookingValidationException e) {
                         throw new RuntimeException("Booking validation failed: " + e.getMessage(), e);
                     }
@@ -55,13 +93,16 @@ public class VehicleManagementMutationResolver {
     public DataFetcher<CompletableFuture<Booking>> updateBooking() {
         return dataFetchingEnvironment -> {
             try {
-                Long id = Long.valueOf(dataFetchingEnvironment.getArgument("id"));
-                Object request = dataFetchingEnvironment.getArgument("request");
+                Long id = idArgument(dataFetchingEnvironment, "id");
+                UpdateBookingRequest request =
+                        inputArgument(dataFetchingEnvironment, "request", UpdateBookingRequest.class);
                 
-                return CompletableFuture.supplyAsync(() -> {
-                    // TODO: Implement update booking logic
-                    // This would involve validation, updating the booking, and saving
-                    throw new UnsupportedOperationException("Update booking not yet implemented");
+                return mutationExecutor.supplyAsync(() -> {
+                    try {
+                        return conflictRetry.execute(() -> updateBookingUseCase.execute(id, request));
+                    } catch (CreateBookingUseCase.BookingValidationException e) {
+                        throw new RuntimeException("Booking update failed: " + e.getMessage(), e);
+                    }
                 });
             } catch (Exception e) {
                 CompletableFuture<Booking> future = new CompletableFuture<>();
@@ -74,23 +115,16 @@ public class VehicleManagementMutationResolver {
     public DataFetcher<CompletableFuture<Boolean>> cancelBooking() {
         return dataFetchingEnvironment -> {
             try {
-                Long id = Long.valueOf(dataFetchingEnvironment.getArgument("id"));
+                Long id = idArgument(dataFetchingEnvironment, "id");
                 String reason = dataFetchingEnvironment.getArgument("reason");
                 
-                return CompletableFuture.supplyAsync(() -> {
-                    Optional<Booking> bookingOpt = vehicleManagementRepository.findBookingById(id);
-                    if (bookingOpt.isEmpty()) {
-                        throw new RuntimeException("Booking not found: " + id);
-                    }
-                    
-                    Booking booking = bookingOpt.get();
-                    if (!booking.canBeCancelled()) {
-                        throw new RuntimeException("Booking cannot be cancelled in current status: " + booking.getStatus());
+                return mutationExecutor.supplyAsync(() -> {
+                    try {
+                        conflictRetry.execute(() -> cancelBookingUseCase.execute(id, reason));
+                        return true;
+                    } catch (CreateBookingUseCase.BookingValidationException e) {
+                        throw new RuntimeException("Booking cancellation failed: " + e.getMessage(), e);
                     }
-                    
-                    booking.cancel(reason);
-                    vehicleManagementRepository.saveBooking(booking);
-                    return true;
                 });
             } catch (Exception e) {
                 CompletableFuture<Boolean> future = new CompletableFuture<>();
@@ -103,29 +137,16 @@ public class VehicleManagementMutationResolver {
     public DataFetcher<CompletableFuture<Booking>> approveBooking() {
         return dataFetchingEnvironment -> {
             try {
-                Long id = Long.valueOf(dataFetchingEnvironment.getArgument("id"));
-                Long approverId = Long.valueOf(dataFetchingEnvironment.getArgument("approverId"));
+                Long id = idArgument(dataFetchingEnvironment, "id");
+                Long approverId = idArgument(dataFetchingEnvironment, "approverId");
                 String comment = dataFetchingEnvironment.getArgument("comment");
                 
-                return CompletableFuture.supplyAsync(() -> {
-                    Optional<Booking> bookingOpt = vehicleManagementRepository.findBookingById(id);
-                    if (bookingOpt.isEmpty()) {
-                        throw new RuntimeException("Booking not found: " + id);
-                    }
-                    
-                    Booking booking = bookingOpt.get();
-                    booking.approve(String.valueOf(approverId), comment);
-                    Booking savedBooking = vehicleManagementRepository.saveBooking(booking);
-                    
-                    // Update vehicle status if needed
-                    Optional<Vehicle> vehicleOpt = vehicleManagementRepository.findVehicleById(savedBooking.getVehicleId());
-                    if (vehicleOpt.isPresent()) {
-                        Vehicle vehicle = vehicleOpt.get();
-                        vehicle.setBooked();
-                        vehicleManagementRepository.saveVehicle(vehicle);
+                return mutationExecutor.supplyAsync(() -> {
+                    try {
+                        return conflictRetry.execute(() -> approveBookingUseCase.execute(id, approverId, comment));
+                    } catch (CreateBookingUseCase.BookingValidationException e) {
+                        throw new RuntimeException("Booking approval failed: " + e.getMessage(), e);
                     }
-                    
-                    return savedBooking;
                 });
             } catch (Exception e) {
                 CompletableFuture<Booking> future = new CompletableFuture<>();
@@ -138,11 +159,11 @@ public class VehicleManagementMutationResolver {
     public DataFetcher<CompletableFuture<Booking>> rejectBooking() {
         return dataFetchingEnvironment -> {
             try {
-                Long id = Long.valueOf(dataFetchingEnvironment.getArgument("id"));
-                Long approverId = Long.valueOf(dataFetchingEnvironment.getArgument("approverId"));
+                Long id = idArgument(dataFetchingEnvironment, "id");
+                Long approverId = idArgument(dataFetchingEnvironment, "approverId");
                 String reason = dataFetchingEnvironment.getArgument("reason");
                 
-                return CompletableFuture.supplyAsync(() -> {
+                return mutationExecutor.supplyAsync(() -> conflictRetry.execute(() -> {
                     Optional<Booking> bookingOpt = vehicleManagementRepository.findBookingById(id);
                     if (bookingOpt.isEmpty()) {
                         throw new RuntimeException("Booking not found: " + id);
@@ -151,7 +172,7 @@ public class VehicleManagementMutationResolver {
                     Booking booking = bookingOpt.get();
                     booking.reject(String.valueOf(approverId), reason);
                     return vehicleManagementRepository.saveBooking(booking);
-                });
+                }));
             } catch (Exception e) {
                 CompletableFuture<Booking> future = new CompletableFuture<>();
                 future.completeExceptionally(e);
@@ -163,9 +184,9 @@ public class VehicleManagementMutationResolver {
     public DataFetcher<CompletableFuture<Booking>> activateBooking() {
         return dataFetchingEnvironment -> {
             try {
-                Long id = Long.valueOf(dataFetchingEnvironment.getArgument("id"));
+                Long id = idArgument(dataFetchingEnvironment, "id");
                 
-                return CompletableFuture.supplyAsync(() -> {
+                return mutationExecutor.supplyAsync(() -> conflictRetry.execute(() -> {
                     Optional<Booking> bookingOpt = vehicleManagementRepository.findBookingById(id);
                     if (bookingOpt.isEmpty()) {
                         throw new RuntimeException("Booking not found: " + id);
@@ -174,7 +195,7 @@ public class VehicleManagementMutationResolver {
                     Booking booking = bookingOpt.get();
                     booking.activate();
                     return vehicleManagementRepository.saveBooking(booking);
-                });
+                }));
             } catch (Exception e) {
                 CompletableFuture<Booking> future = new CompletableFuture<>();
                 future.completeExceptionally(e);
@@ -186,40 +207,16 @@ public class VehicleManagementMutationResolver {
     public DataFetcher<CompletableFuture<Booking>> completeBooking() {
         return dataFetchingEnvironment -> {
             try {
-                Long id = Long.valueOf(dataFetchingEnvironment.getArgument("id"));
+                Long id = idArgument(dataFetchingEnvironment, "id");
                 String feedback = dataFetchingEnvironment.getArgument("feedback");
-                double actualMileage = dataFetchingEnvironment.getArgument("actualMileage");
+                double actualMileage = ((Number) dataFetchingEnvironment.getArgument("actualMileage")).doubleValue();
                 
-                return CompletableFuture.supplyAsync(() -> {
-                    Optional<Booking> bookingOpt = vehicleManagementRepository.findBookingById(id);
-                    if (bookingOpt.isEmpty()) {
-                        throw new RuntimeException("Booking not found: " + id);
-                    }
-                    
-                    Booking booking = bookingOpt.get();
-                    booking.complete(feedback, actualMileage);
-                    Booking savedBooking = vehicleManagementRepository.saveBooking(booking);
-                    
-                    // Reset vehicle and driver status
-                    Optional<Vehicle> vehicleOpt = vehicleManagementRepository.findVehicleById(savedBooking.getVehicleId());
-                    if (vehicleOpt.isPresent()) {
-                        Vehicle vehicle = vehicleOpt.get();
-                        vehicle.setAvailable();
-                        vehicle.updateMileage(actualMileage);
-                        vehicleManagementRepository.saveVehicle(vehicle);
-                    }
-                    
-                    if (savedBooking.getDriverId() != null) {
-                        Optional<Driver> driverOpt = vehicleManagementRepository.findDriverById(savedBooking.getDriverId());
-                        if (driverOpt.isPresent()) {
-                            Driver driver = driverOpt.get();
-                            driver.setAvailable();
-                            driver.completeTrip(actualMileage);
-                            vehicleManagementRepository.saveDriver(driver);
-                        }
+                return mutationExecutor.supplyAsync(() -> {
+                    try {
+                        return conflictRetry.execute(() -> completeBookingUseCase.execute(id, feedback, actualMileage));
+                    } catch (CreateBookingUseCase.BookingValidationException e) {
+                        throw new RuntimeException("Booking completion failed: " + e.getMessage(), e);
                     }
-                    
-                    return savedBooking;
                 });
             } catch (Exception e) {
                 CompletableFuture<Booking> future = new CompletableFuture<>();
@@ -233,12 +230,16 @@ public class VehicleManagementMutationResolver {
     public DataFetcher<CompletableFuture<Vehicle>> createVehicle() {
         return dataFetchingEnvironment -> {
             try {
-                Object request = dataFetchingEnvironment.getArgument("request");
+                VehicleRequest request = inputArgument(dataFetchingEnvironment, "request", VehicleRequest.class);
                 
-                return CompletableFuture.supplyAsync(() -> {
-                    // TODO: Implement vehicle creation
-                    // This would involve mapping the request to domain entity and saving
-                    throw new UnsupportedOperationException("Create vehicle not yet implemented");
+                return mutationExecutor.supplyAsync(() -> {
+                    if (vehicleManagementRepository.findVehicleByPlateNumber(request.getPlateNumber()).isPresent()) {
+                        throw new RuntimeException("Vehicle already exists: " + request.getPlateNumber());
+                    }
+                    
+                    Vehicle vehicle = new Vehicle();
+                    applyVehicleRequest(vehicle, request);
+                    return vehicleManagementRepository.saveVehicle(vehicle);
                 });
             } catch (Exception e) {
                 CompletableFuture<Vehicle> future = new CompletableFuture<>();
@@ -251,13 +252,24 @@ public class VehicleManagementMutationResolver {
     public DataFetcher<CompletableFuture<Vehicle>> updateVehicle() {
         return dataFetchingEnvironment -> {
             try {
-                Long id = Long.valueOf(dataFetchingEnvironment.getArgument("id"));
-                Object request = dataFetchingEnvironment.getArgument("request");
+                Long id = idArgument(dataFetchingEnvironment, "id");
+                VehicleRequest request = inputArgument(dataFetchingEnvironment, "request", VehicleRequest.class);
                 
-                return CompletableFuture.supplyAsync(() -> {
-                    // TODO: Implement vehicle update
-                    throw new UnsupportedOperationException("Update vehicle not yet implemented");
-                });
+                return mutationExecutor.supplyAsync(() -> aggregateLocks.execute(() -> {
+                    Optional<Vehicle> vehicleOpt = vehicleManagementRepository.findVehicleById(id);
+                    if (vehicleOpt.isEmpty()) {
+                        throw new RuntimeException("Vehicle not found: " + id);
+                    }
+                    Optional<Vehicle> samePlate =
+                            vehicleManagementRepository.findVehicleByPlateNumber(request.getPlateNumber());
+                    if (samePlate.isPresent() && !samePlate.get().getId().equals(id)) {
+                        throw new RuntimeException("Vehicle already exists: " + request.getPlateNumber());
+                    }
+                    
+                    Vehicle vehicle = vehicleOpt.get();
+                    applyVehicleRequest(vehicle, request);
+                    return vehicleManagementRepository.saveVehicle(vehicle);
+                }, AggregateLockManager.Key.vehicle(id)));
             } catch (Exception e) {
                 CompletableFuture<Vehicle> future = new CompletableFuture<>();
                 future.completeExceptionally(e);
@@ -269,9 +281,9 @@ public class VehicleManagementMutationResolver {
     public DataFetcher<CompletableFuture<Boolean>> deleteVehicle() {
         return dataFetchingEnvironment -> {
             try {
-                Long id = Long.valueOf(dataFetchingEnvironment.getArgument("id"));
+                Long id = idArgument(dataFetchingEnvironment, "id");
                 
-                return CompletableFuture.supplyAsync(() -> {
+                return mutationExecutor.supplyAsync(() -> {
                     try {
                         vehicleManagementRepository.deleteVehicle(id);
                         return true;
@@ -290,10 +302,12 @@ public class VehicleManagementMutationResolver {
     public DataFetcher<CompletableFuture<Vehicle>> setVehicleStatus() {
         return dataFetchingEnvironment -> {
             try {
-                Long id = Long.valueOf(dataFetchingEnvironment.getArgument("id"));
-                Vehicle.VehicleStatus status = dataFetchingEnvironment.getArgument("status");
+                Long id = idArgument(dataFetchingEnvironment, "id");
+                Vehicle.VehicleStatus status =
+                        enumArgument(dataFetchingEnvironment, "status", Vehicle.VehicleStatus.class);
                 
-                return CompletableFuture.supplyAsync(() -> {
+                // Held until saveVehicle has committed, so status changes of one vehicle do not interleave
+                return mutationExecutor.supplyAsync(() -> aggregateLocks.execute(() -> {
                     Optional<Vehicle> vehicleOpt = vehicleManagementRepository.findVehicleById(id);
                     if (vehicleOpt.isEmpty()) {
                         throw new RuntimeException("Vehicle not found: " + id);
@@ -319,7 +333,7 @@ public class VehicleManagementMutationResolver {
                     }
                     
                     return vehicleManagementRepository.saveVehicle(vehicle);
-                });
+                }, AggregateLockManager.Key.vehicle(id)));
             } catch (Exception e) {
                 CompletableFuture<Vehicle> future = new CompletableFuture<>();
                 future.completeExceptionally(e);
@@ -332,11 +346,17 @@ public class VehicleManagementMutationResolver {
     public DataFetcher<CompletableFuture<Driver>> createDriver() {
         return dataFetchingEnvironment -> {
             try {
-                Object request = dataFetchingEnvironment.getArgument("request");
+                DriverRequest request = inputArgument(dataFetchingEnvironment, "request", DriverRequest.class);
                 
-                return CompletableFuture.supplyAsync(() -> {
-                    // TODO: Implement driver creation
-                    throw new UnsupportedOperationException("Create driver not yet implemented");
+                return mutationExecutor.supplyAsync(() -> {
+                    String licenseNumber = request.getLicenseNumber();
+                    if (vehicleManagementRepository.findDriverByLicenseNumber(licenseNumber).isPresent()) {
+                        throw new RuntimeException("Driver already exists with license: " + licenseNumber);
+                    }
+                    
+                    Driver driver = new Driver();
+                    applyDriverRequest(driver, request);
+                    return vehicleManagementRepository.saveDriver(driver);
                 });
             } catch (Exception e) {
                 CompletableFuture<Driver> future = new CompletableFuture<>();
@@ -349,13 +369,24 @@ public class VehicleManagementMutationResolver {
     public DataFetcher<CompletableFuture<Driver>> updateDriver() {
         return dataFetchingEnvironment -> {
             try {
-                Long id = Long.valueOf(dataFetchingEnvironment.getArgument("id"));
-                Object request = dataFetchingEnvironment.getArgument("request");
+                Long id = idArgument(dataFetchingEnvironment, "id");
+                DriverRequest request = inputArgument(dataFetchingEnvironment, "request", DriverRequest.class);
                 
-                return CompletableFuture.supplyAsync(() -> {
-                    // TODO: Implement driver update
-                    throw new UnsupportedOperationException("Update driver not yet implemented");
-                });
+                return mutationExecutor.supplyAsync(() -> aggregateLocks.execute(() -> {
+                    Optional<Driver> driverOpt = vehicleManagementRepository.findDriverById(id);
+                    if (driverOpt.isEmpty()) {
+                        throw new RuntimeException("Driver not found: " + id);
+                    }
+                    Optional<Driver> sameLicense =
+                            vehicleManagementRepository.findDriverByLicenseNumber(request.getLicenseNumber());
+                    if (sameLicense.isPresent() && !sameLicense.get().getId().equals(id)) {
+                        throw new RuntimeException("Driver already exists with license: " + request.getLicenseNumber());
+                    }
+                    
+                    Driver driver = driverOpt.get();
+                    applyDriverRequest(driver, request);
+                    return vehicleManagementRepository.saveDriver(driver);
+                }, AggregateLockManager.Key.driver(id)));
             } catch (Exception e) {
                 CompletableFuture<Driver> future = new CompletableFuture<>();
                 future.completeExceptionally(e);
@@ -367,9 +398,9 @@ public class VehicleManagementMutationResolver {
     public DataFetcher<CompletableFuture<Boolean>> deleteDriver() {
         return dataFetchingEnvironment -> {
             try {
-                Long id = Long.valueOf(dataFetchingEnvironment.getArgument("id"));
+                Long id = idArgument(dataFetchingEnvironment, "id");
                 
-                return CompletableFuture.supplyAsync(() -> {
+                return mutationExecutor.supplyAsync(() -> {
                     try {
                         vehicleManagementRepository.deleteDriver(id);
                         return true;
@@ -388,10 +419,10 @@ public class VehicleManagementMutationResolver {
     public DataFetcher<CompletableFuture<Driver>> setDriverStatus() {
         return dataFetchingEnvironment -> {
             try {
-                Long id = Long.valueOf(dataFetchingEnvironment.getArgument("id"));
-                Driver.DriverStatus status = dataFetchingEnvironment.getArgument("status");
+                Long id = idArgument(dataFetchingEnvironment, "id");
+                Driver.DriverStatus status = enumArgument(dataFetchingEnvironment, "status", Driver.DriverStatus.class);
                 
-                return CompletableFuture.supplyAsync(() -> {
+                return mutationExecutor.supplyAsync(() -> aggregateLocks.execute(() -> {
                     Optional<Driver> driverOpt = vehicleManagementRepository.findDriverById(id);
                     if (driverOpt.isEmpty()) {
                         throw new RuntimeException("Driver not found: " + id);
@@ -420,7 +451,7 @@ public class VehicleManagementMutationResolver {
                     }
                     
                     return vehicleManagementRepository.saveDriver(driver);
-                });
+                }, AggregateLockManager.Key.driver(id)));
             } catch (Exception e) {
                 CompletableFuture<Driver> future = new CompletableFuture<>();
                 future.completeExceptionally(e);
@@ -428,4 +459,63 @@ public class VehicleManagementMutationResolver {
             }
         };
     }
-}
\ No newline at end of file
+
+    private static void applyVehicleRequest(Vehicle vehicle, VehicleRequest request) {
+        vehicle.setPlateNumber(request.getPlateNumber());
+        vehicle.setMake(request.getMake());
+        vehicle.setModel(request.getModel());
+        vehicle.setYear(request.getYear());
+        vehicle.setType(Vehicle.VehicleType.fromString(request.getType()));
+        vehicle.setCapacity(request.getCapacity());
+        vehicle.setColor(request.getColor());
+        vehicle.setDescription(request.getDescription());
+        vehicle.setLocation(request.getLocation());
+        vehicle.setFuelType(request.getFuelType());
+        vehicle.setVehicleGroup(request.getVehicleGroup());
+        vehicle.setCostCenter(request.getCostCenter());
+    }
+
+    private static void applyDriverRequest(Driver driver, DriverRequest request) {
+        driver.setUserId(request.getUserId());
+        driver.setLicenseType(Driver.LicenseType.fromString(request.getLicenseType()));
+        driver.setLicenseNumber(request.getLicenseNumber());
+        driver.setLicenseExpiryDate(toDate(request.getLicenseExpiryDate()));
+        driver.setPhoneNumber(request.getPhoneNumber());
+        driver.setEmergencyContact(request.getEmergencyContact());
+        driver.setEmergencyPhone(request.getEmergencyPhone());
+        driver.setAddress(request.getAddress());
+        driver.setHireDate(toDate(request.getHireDate()));
+        driver.setYearsOfExperience(request.getYearsOfExperience());
+        driver.setCertifications(request.getCertifications());
+        driver.setDepartment(request.getDepartment());
+        driver.setCostCenter(request.getCostCenter());
+        driver.setShift(request.getShift());
+        driver.setLastHealthCheck(toDate(request.getLastHealthCheck()));
+        driver.setNotes(request.getNotes());
+    }
+
+    private static LocalDate toDate(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toLocalDate() : null;
+    }
+
+    /**
+     * Input objects arrive as maps of coerced values; bind them onto the request DTO.
+     */
+    private <T> T inputArgument(DataFetchingEnvironment dataFetchingEnvironment, String name, Class<T> type) {
+        return objectMapper.convertValue(dataFetchingEnvironment.getArgument(name), type);
+    }
+
+    private static Long idArgument(DataFetchingEnvironment dataFetchingEnvironment, String name) {
+        Object value = dataFetchingEnvironment.getArgument(name);
+        return value != null ? Long.valueOf(value.toString()) : null;
+    }
+
+    private static <E extends Enum<E>> E enumArgument(DataFetchingEnvironment dataFetchingEnvironment,
+                                                      String name, Class<E> type) {
+        Object value = dataFetchingEnvironment.getArgument(name);
+        if (value == null || type.isInstance(value)) {
+            return type.cast(value);
+        }
+        return Enum.valueOf(type, value.toString());
+    }
+}
@@ -1,26 +1,63 @@
 package com.platform.vehicle.presentation.graphql;
 
 import com.platform.vehicle.application.dto.VehicleResponse;
+import com.platform.vehicle.application.usecases.AvailabilitySearchService;
 import com.platform.vehicle.domain.Vehicle;
 import com.platform.vehicle.domain.Driver;
 import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.infrastructure.KeysetPage;
 import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import com.platform.vehicle.infrastructure.adapters.BookingSelectionQuery;
+import com.platform.vehicle.infrastructure.metrics.DashboardMetrics;
+import com.platform.vehicle.infrastructure.projections.BookingSummaryView;
+import com.platform.vehicle.infrastructure.projections.VehicleSummaryView;
 import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.SelectedField;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
 public class VehicleManagementQueryResolver {
     
+    private static final int RECENT_ACTIVITY_LIMIT = 10;
+
+    // GraphQL fields available on the list projections (including relations resolved by ID)
+    private static final Set<String> VEHICLE_SUMMARY_FIELDS = Set.of(
+            "__typename", "id", "plateNumber", "make", "model", "year", "type", "status", "capacity", "color",
+            "location", "lastMaintenance", "nextMaintenance", "mileage", "fuelType", "vehicleGroup", "costCenter",
+            "available", "displayName");
+
+    private static final Set<String> BOOKING_SUMMARY_FIELDS = Set.of(
+            "__typename", "id", "bookingReference", "status", "type", "vehicle", "driver", "startTime", "endTime",
+            "actualStartTime", "actualEndTime", "purpose", "pickupLocation", "destination", "returnLocation",
+            "estimatedPassengers", "managerName", "costCenter", "approvedAt", "rejectedAt", "displayStatus",
+            "actualMileage", "durationInHours", "canBeCancelled", "isCurrent", "isUpcoming", "needsApproval",
+            "eventHistory");
+
     private final VehicleManagementRepository vehicleManagementRepository;
+    private final AvailabilitySearchService availabilitySearchService;
+    private final DashboardMetrics dashboardMetrics;
+    private final BookingSelectionQuery bookingSelectionQuery;
 
-    public VehicleManagementQueryResolver(VehicleManagementRepository vehicleManagementRepository) {
+    @Value("${bpr.vehicle.pagination.max-page-size:100}")
+    private int maxPageSize = 100;
+
+    public VehicleManagementQueryResolver(VehicleManagementRepository vehicleManagementRepository,
+                                          AvailabilitySearchService availabilitySearchService,
+                                          DashboardMetrics dashboardMetrics,
+                                          BookingSelectionQuery bookingSelectionQuery) {
         this.vehicleManagementRepository = vehicleManagementRepository;
+        this.availabilitySearchService = availabilitySearchService;
+        this.dashboardMetrics = dashboardMetrics;
+        this.bookingSelectionQuery = bookingSelectionQuery;
     }
 
     // Vehicle Queries
@@ -72,11 +109,8 @@ public class VehicleManagementQueryResolver {
             LocalDateTime startTime = dataFetchingEnvironment.getArgument("startTime");
             LocalDateTime endTime = dataFetchingEnvironment.getArgument("endTime");
             
-            List<Vehicle> allAvailable = vehicleManagementRepository.findAllAvailableVehiclesForBooking();
-            
-            // Filter out vehicles that have conflicts in the requested time range
-            return allAvailable.stream()
-                    .filter(vehicle -> isVehicleAvailableForTimeRange(vehicle.getId(), startTime, endTime))
+            // One set-based search instead of a conflict query per vehicle
+            return availabilitySearchService.findAvailableVehicles(startTime, endTime).stream()
                     .map(this::convertToVehicleResponse)
                     .collect(Collectors.toList());
         };
@@ -120,12 +154,8 @@ public class VehicleManagementQueryResolver {
             LocalDateTime startTime = dataFetchingEnvironment.getArgument("startTime");
             LocalDateTime endTime = dataFetchingEnvironment.getArgument("endTime");
             
-            List<Driver> allAvailable = vehicleManagementRepository.findAvailableDrivers();
-            
-            // Filter out drivers that have conflicts in the requested time range
-            return allAvailable.stream()
-                    .filter(driver -> isDriverAvailableForTimeRange(driver.getId(), startTime, endTime))
-                    .collect(Collectors.toList());
+            // One set-based search instead of a conflict query per driver
+            return availabilitySearchService.findAvailableDrivers(startTime, endTime);
         };
     }
 
@@ -137,21 +167,22 @@ public class VehicleManagementQueryResolver {
     }
 
     // Booking Queries
-    public DataFetcher<List<Booking>> getBookings() {
+    public DataFetcher<List<?>> getBookings() {
         return dataFetchingEnvironment -> {
-            Booking.BookingStatus status = dataFetchingEnvironment.getArgument("status");
-            Long requesterId = dataFetchingEnvironment.getArgument("requesterId");
-            Long vehicleId = dataFetchingEnvironment.getArgument("vehicleId");
-            Long driverId = dataFetchingEnvironment.getArgument("driverId");
-
-            if (status != null) {
-                return vehicleManagementRepository.findBookingsByStatus(status);
-            } else if (requesterId != null) {
-                return vehicleManagementRepository.findBookingsByRequesterId(requesterId);
-            } else if (vehicleId != null) {
-                return vehicleManagementRepository.findBookingsByVehicleId(vehicleId);
-            } else if (driverId != null) {
-                return vehicleManagementRepository.findBookingsByDriverId(driverId);
+            Booking.BookingStatus status = enumArgument(dataFetchingEnvironment, "status", Booking.BookingStatus.class);
+            Long requesterId = idArgument(dataFetchingEnvironment, "requesterId");
+            Long vehicleId = idArgument(dataFetchingEnvironment, "vehicleId");
+            Long driverId = idArgument(dataFetchingEnvironment, "driverId");
+
+            // Select only the requested columns when every requested field maps to one
+            BookingSelectionQuery.FieldSelection selection = fieldSelection(dataFetchingEnvironment);
+            if (selection != null) {
+                return bookingSelectionQuery.findBookings(selection, status, requesterId, vehicleId, driverId);
+            }
+
+            // Same semantics as the selection query: every given filter must match
+            if (status != null || requesterId != null || vehicleId != null || driverId != null) {
+                return vehicleManagementRepository.findBookings(status, requesterId, vehicleId, driverId);
             } else {
                 // Return recent bookings (in a real implementation, this would be paginated)
                 return vehicleManagementRepository.findUpcomingBookings();
@@ -175,11 +206,13 @@ public class VehicleManagementQueryResolver {
 
     public DataFetcher<List<Booking>> getMyBookings() {
         return dataFetchingEnvironment -> {
-            Long requesterId = Long.valueOf(dataFetchingEnvironment.getArgument("requesterId"));
+            Long requesterId = idArgument(dataFetchingEnvironment, "requesterId");
             Boolean includeHistory = dataFetchingEnvironment.getArgument("includeHistory");
             
             if (includeHistory != null && includeHistory) {
-                return vehicleManagementRepository.findBookingsByRequesterIdOrderByCreatedAtDesc(requesterId);
+                // Newest bookings first, one page at most; older history is paged through myBookingsConnection
+                return vehicleManagementRepository.findBookingsByRequesterIdPage(requesterId, null, null, maxPageSize)
+                        .getItems();
             } else {
                 return vehicleManagementRepository.findBookingsByRequesterId(requesterId);
             }
@@ -201,24 +234,161 @@ public class VehicleManagementQueryResolver {
         return dataFetchingEnvironment -> vehicleManagementRepository.findUpcomingBookings();
     }
 
+    // Paginated (Relay connection) queries
+    // Nodes are read through column projections unless the client selects a field outside them
+    public DataFetcher<Connection<?>> getVehiclesConnection() {
+        return dataFetchingEnvironment -> {
+            Vehicle.VehicleStatus status = enumArgument(dataFetchingEnvironment, "status", Vehicle.VehicleStatus.class);
+            Vehicle.VehicleType type = enumArgument(dataFetchingEnvironment, "type", Vehicle.VehicleType.class);
+            String after = dataFetchingEnvironment.getArgument("after");
+            Long afterId = CursorCodec.decodeId(after);
+            int limit = pageSize(dataFetchingEnvironment);
+
+            if (selectsOnly(dataFetchingEnvironment, VEHICLE_SUMMARY_FIELDS)) {
+                KeysetPage<VehicleSummaryView> page =
+                        vehicleManagementRepository.findVehicleSummariesPage(status, type, afterId, limit);
+                return Connection.of(page.getItems(), vehicle -> CursorCodec.encode(vehicle.getId()), page.hasNext());
+            }
+
+            KeysetPage<Vehicle> page = vehicleManagementRepository.findVehiclesPage(status, type, afterId, limit);
+            List<VehicleResponse> vehicles = page.getItems().stream()
+                    .map(this::convertToVehicleResponse)
+                    .collect(Collectors.toList());
+            return Connection.of(vehicles, vehicle -> CursorCodec.encode(vehicle.getId()), page.hasNext());
+        };
+    }
+
+    public DataFetcher<Connection<?>> getBookingsConnection() {
+        return dataFetchingEnvironment -> {
+            Booking.BookingStatus status = enumArgument(dataFetchingEnvironment, "status", Booking.BookingStatus.class);
+            Long requesterId = idArgument(dataFetchingEnvironment, "requesterId");
+            Long vehicleId = idArgument(dataFetchingEnvironment, "vehicleId");
+            Long driverId = idArgument(dataFetchingEnvironment, "driverId");
+            String after = dataFetchingEnvironment.getArgument("after");
+            int limit = pageSize(dataFetchingEnvironment);
+
+            if (selectsOnly(dataFetchingEnvironment, BOOKING_SUMMARY_FIELDS)) {
+                KeysetPage<BookingSummaryView> page = vehicleManagementRepository.findBookingSummariesPage(
+                        status, requesterId, vehicleId, driverId,
+                        CursorCodec.decodeTime(after), CursorCodec.decodeId(after), limit);
+                return Connection.of(page.getItems(),
+                        booking -> CursorCodec.encode(booking.getStartTime(), booking.getId()),
+                        page.hasNext());
+            }
+
+            KeysetPage<Booking> page = vehicleManagementRepository.findBookingsPage(
+                    status, requesterId, vehicleId, driverId,
+                    CursorCodec.decodeTime(after), CursorCodec.decodeId(after), limit);
+            return Connection.of(page.getItems(),
+                    booking -> CursorCodec.encode(booking.getStartTime(), booking.getId()),
+                    page.hasNext());
+        };
+    }
+
+    public DataFetcher<Connection<?>> getMyBookingsConnection() {
+        return dataFetchingEnvironment -> {
+            Long requesterId = idArgument(dataFetchingEnvironment, "requesterId");
+            String after = dataFetchingEnvironment.getArgument("after");
+            int limit = pageSize(dataFetchingEnvironment);
+
+            if (selectsOnly(dataFetchingEnvironment, BOOKING_SUMMARY_FIELDS)) {
+                KeysetPage<BookingSummaryView> page = vehicleManagementRepository.findBookingSummariesByRequesterIdPage(
+                        requesterId, CursorCodec.decodeTime(after), CursorCodec.decodeId(after), limit);
+                return Connection.of(page.getItems(),
+                        booking -> CursorCodec.encode(booking.getCreatedAt(), booking.getId()),
+                        page.hasNext());
+            }
+
+            KeysetPage<Booking> page = vehicleManagementRepository.findBookingsByRequesterIdPage(
+                    requesterId, CursorCodec.decodeTime(after), CursorCodec.decodeId(after), limit);
+            return Connection.of(page.getItems(),
+                    booking -> CursorCodec.encode(booking.getCreatedAt(), booking.getId()),
+                    page.hasNext());
+        };
+    }
+
     // Dashboard Query
     public DataFetcher<Dashboard> getDashboard() {
         return dataFetchingEnvironment -> {
-            // This would be implemented with proper aggregation queries
-            // For now, return a basic dashboard
+            // Served from pre-aggregated counters, no queries per request
             Dashboard dashboard = new Dashboard();
-            // Populate dashboard with real data
+            dashboard.setTotalVehicles((int) dashboardMetrics.getTotalVehicles());
+            dashboard.setAvailableVehicles((int) dashboardMetrics.getVehicleCount(Vehicle.VehicleStatus.AVAILABLE));
+            dashboard.setInUseVehicles((int) dashboardMetrics.getVehicleCount(Vehicle.VehicleStatus.IN_USE));
+            dashboard.setTotalDrivers((int) dashboardMetrics.getTotalDrivers());
+            dashboard.setAvailableDrivers((int) dashboardMetrics.getDriverCount(Driver.DriverStatus.AVAILABLE));
+            dashboard.setOnDutyDrivers((int) dashboardMetrics.getDriverCount(Driver.DriverStatus.ON_DUTY));
+            dashboard.setTotalBookings((int) dashboardMetrics.getTotalBookings());
+            dashboard.setPendingBookings((int) dashboardMetrics.getBookingCount(Booking.BookingStatus.PENDING));
+            dashboard.setUpcomingBookings((int) dashboardMetrics.getUpcomingBookings());
+            dashboard.setCurrentBookings((int) dashboardMetrics.getBookingCount(Booking.BookingStatus.ACTIVE));
+            dashboard.setRecentActivity(dashboardMetrics.getRecentActivity(RECENT_ACTIVITY_LIMIT));
             return dashboard;
         };
     }
 
     // Helper methods
-    private boolean isVehicleAvailableForTimeRange(Long vehicleId, LocalDateTime startTime, LocalDateTime endTime) {
-        return vehicleManagementRepository.findConflictingBookings(vehicleId, startTime, endTime).isEmpty();
+    /**
+     * @return true if every field selected on the connection nodes is served by the given set
+     */
+    private static boolean selectsOnly(DataFetchingEnvironment dataFetchingEnvironment, Set<String> fields) {
+        return dataFetchingEnvironment.getSelectionSet().getFields("edges/node/*").stream()
+                .map(SelectedField::getName)
+                .allMatch(fields::contains);
+    }
+
+    /**
+     * Requested booking fields, or null if the selection query cannot serve them.
+     * Vehicles and drivers are joined only when selected with supported fields;
+     * otherwise they stay with the batch loaders.
+     */
+    private static BookingSelectionQuery.FieldSelection fieldSelection(DataFetchingEnvironment dataFetchingEnvironment) {
+        Set<String> bookingFields = dataFetchingEnvironment.getSelectionSet().getImmediateFields().stream()
+                .map(SelectedField::getName)
+                .collect(Collectors.toSet());
+        if (!BookingSelectionQuery.supportsBookingFields(bookingFields)) {
+            return null;
+        }
+        Set<String> vehicleFields = relationFields(dataFetchingEnvironment, bookingFields, "vehicle");
+        Set<String> driverFields = relationFields(dataFetchingEnvironment, bookingFields, "driver");
+        return new BookingSelectionQuery.FieldSelection(bookingFields,
+                vehicleFields != null && BookingSelectionQuery.supportsVehicleFields(vehicleFields) ? vehicleFields : null,
+                driverFields != null && BookingSelectionQuery.supportsDriverFields(driverFields) ? driverFields : null);
+    }
+
+    private static Set<String> relationFields(DataFetchingEnvironment dataFetchingEnvironment,
+                                              Set<String> bookingFields, String relation) {
+        if (!bookingFields.contains(relation)) {
+            return null;
+        }
+        return dataFetchingEnvironment.getSelectionSet().getFields(relation + "/*").stream()
+                .map(SelectedField::getName)
+                .collect(Collectors.toSet());
+    }
+
+    private int pageSize(DataFetchingEnvironment dataFetchingEnvironment) {
+        Integer first = dataFetchingEnvironment.getArgument("first");
+        if (first == null) {
+            return Math.min(20, maxPageSize);
+        }
+        if (first < 1) {
+            throw new IllegalArgumentException("first must be positive");
+        }
+        return Math.min(first, maxPageSize);
+    }
+
+    private static Long idArgument(DataFetchingEnvironment dataFetchingEnvironment, String name) {
+        Object value = dataFetchingEnvironment.getArgument(name);
+        return value != null ? Long.valueOf(value.toString()) : null;
     }
 
-    private boolean isDriverAvailableForTimeRange(Long driverId, LocalDateTime startTime, LocalDateTime endTime) {
-        return vehicleManagementRepository.findConflictingBookingsForDriver(driverId, startTime, endTime).isEmpty();
+    private static <E extends Enum<E>> E enumArgument(DataFetchingEnvironment dataFetchingEnvironment,
+                                                      String name, Class<E> type) {
+        Object value = dataFetchingEnvironment.getArgument(name);
+        if (value == null || type.isInstance(value)) {
+            return type.cast(value);
+        }
+        return Enum.valueOf(type, value.toString());
     }
 
     private VehicleResponse convertToVehicleResponse(Vehicle vehicle) {
@@ -0,0 +1,91 @@
+package com.platform.vehicle.presentation.graphql;
+
+import com.platform.vehicle.application.dto.NotificationResponse;
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.domain.Driver;
+import com.platform.vehicle.domain.Vehicle;
+import com.platform.vehicle.infrastructure.events.BookingChange;
+import com.platform.vehicle.infrastructure.events.DomainEventBus;
+import graphql.schema.DataFetcher;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Resolvers for the Subscription type.
+ * Every subscription is a view on {@link DomainEventBus}, so subscribers share one
+ * in-process fan-out and never query the database. Booking creations, status
+ * changes and notifications come from the events relayed out of the booking
+ * event log; as delivery is at least once, a client may see an event twice
+ * after the relay retried a batch.
+ */
+@Component
+public class VehicleManagementSubscriptionResolver {
+
+    private static final String BOOKING_CREATED = "BOOKING_CREATED";
+    private static final String BOOKING_CANCELLED = "BOOKING_CANCELLED";
+
+    private final DomainEventBus domainEventBus;
+
+    public VehicleManagementSubscriptionResolver(DomainEventBus domainEventBus) {
+        this.domainEventBus = domainEventBus;
+    }
+
+    public DataFetcher<Flux<Booking>> bookingCreated() {
+        return dataFetchingEnvironment -> domainEventBus.bookingCreated();
+    }
+
+    /**
+     * Every booking event after creation is raised by a state transition.
+     */
+    public DataFetcher<Flux<Booking>> bookingStatusChanged() {
+        return dataFetchingEnvironment -> domainEventBus.bookingChanges()
+                .filter(change -> !BOOKING_CREATED.equals(change.getEventType()))
+                .map(BookingChange::getBooking);
+    }
+
+    public DataFetcher<Flux<Booking>> bookingUpdated() {
+        return dataFetchingEnvironment -> domainEventBus.bookingSaved();
+    }
+
+    public DataFetcher<Flux<Booking>> bookingCancelled() {
+        return dataFetchingEnvironment -> domainEventBus.bookingChanges()
+                .filter(change -> BOOKING_CANCELLED.equals(change.getEventType()))
+                .map(BookingChange::getBooking);
+    }
+
+    public DataFetcher<Flux<Vehicle>> vehicleStatusChanged() {
+        return dataFetchingEnvironment -> domainEventBus.vehicleStatusChanged();
+    }
+
+    public DataFetcher<Flux<Driver>> driverStatusChanged() {
+        return dataFetchingEnvironment -> domainEventBus.driverStatusChanged();
+    }
+
+    /**
+     * Notifications about the bookings a user requested.
+     */
+    public DataFetcher<Flux<NotificationResponse>> notification() {
+        return dataFetchingEnvironment -> {
+            Long userId = Long.valueOf(dataFetchingEnvironment.getArgument("userId").toString());
+
+            return domainEventBus.bookingChanges()
+                    .filter(change -> Objects.equals(change.getBooking().getRequesterId(), userId))
+                    .map(VehicleManagementSubscriptionResolver::toNotification);
+        };
+    }
+
+    private static NotificationResponse toNotification(BookingChange change) {
+        Booking booking = change.getBooking();
+        return new NotificationResponse(
+                change.getEvent().getEventId(),
+                change.getEventType(),
+                "Booking " + booking.getBookingReference() + ": " + booking.getDisplayStatus(),
+                change.getEvent().getEventData(),
+                change.getEvent().getTimestamp() != null ? change.getEvent().getTimestamp() : LocalDateTime.now(),
+                booking.getRequesterId(),
+                "/bookings/" + booking.getId());
+    }
+}
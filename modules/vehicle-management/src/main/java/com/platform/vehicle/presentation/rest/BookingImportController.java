@@ -0,0 +1,65 @@
+package com.platform.vehicle.presentation.rest;
+
+import com.platform.vehicle.application.dto.BookingImportResult;
+import com.platform.vehicle.application.usecases.BookingImportService;
+import com.platform.vehicle.infrastructure.imports.ImportFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Bulk booking import. The request body is streamed straight into the
+ * importer, so uploads of any size are read without buffering them first.
+ *
+ * Rows are rejected individually; the response lists them by line number.
+ */
+@RestController
+@RequestMapping("/api/bookings/import")
+public class BookingImportController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final BookingImportService bookingImportService;
+
+    public BookingImportController(BookingImportService bookingImportService) {
+        this.bookingImportService = bookingImportService;
+    }
+
+    /**
+     * @param requesterId The requester for rows without a requesterId column
+     */
+    @PostMapping(consumes = TEXT_CSV_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public BookingImportResult importCsv(HttpServletRequest request,
+                                         @RequestParam(required = false) Long requesterId) throws IOException {
+        return importBookings(request, ImportFormat.CSV, requesterId);
+    }
+
+    /**
+     * @param requesterId The requester for rows without a requesterId field
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public BookingImportResult importNdjson(HttpServletRequest request,
+                                            @RequestParam(required = false) Long requesterId) throws IOException {
+        return importBookings(request, ImportFormat.NDJSON, requesterId);
+    }
+
+    private BookingImportResult importBookings(HttpServletRequest request, ImportFormat format, Long requesterId)
+            throws IOException {
+        // UTF-8 unless the request names a charset
+        Charset charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding()) : StandardCharsets.UTF_8;
+        String importedBy = requesterId != null ? String.valueOf(requesterId) : "bulk-import";
+        try (Reader reader = new InputStreamReader(request.getInputStream(), charset)) {
+            return bookingImportService.importBookings(reader, format, requesterId, importedBy);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.platform.vehicle.presentation.rest;
+
+import com.platform.vehicle.application.dto.CreateBookingRequest;
+import com.platform.vehicle.application.dto.RecurringBookingResult;
+import com.platform.vehicle.application.usecases.CreateBookingUseCase.BookingValidationException;
+import com.platform.vehicle.application.usecases.RecurringBookingService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Recurring bookings. The request body is a regular booking request whose
+ * window is the first occurrence and whose recurringPattern is an RRULE such
+ * as FREQ=WEEKLY;BYDAY=MO;COUNT=52.
+ *
+ * Occurrences that conflict with existing bookings are skipped and listed in
+ * the response; an invalid pattern or first occurrence rejects the request.
+ */
+@RestController
+@RequestMapping("/api/bookings/recurring")
+public class RecurringBookingController {
+
+    private final RecurringBookingService recurringBookingService;
+
+    public RecurringBookingController(RecurringBookingService recurringBookingService) {
+        this.recurringBookingService = recurringBookingService;
+    }
+
+    /**
+     * @param requesterId The ID of the user making the request
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public RecurringBookingResult createRecurringBooking(@RequestBody CreateBookingRequest request,
+                                                         @RequestParam Long requesterId) {
+        try {
+            return recurringBookingService.createSeries(request, requesterId);
+        } catch (BookingValidationException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+}
@@ -70,39 +70,39 @@ INSERT INTO drivers (id, status, license_type, user_id, license_number, license_
 (15, 'AVAILABLE', 'COMMERCIAL', 8, 'DL00000015', DATEADD('YEAR', 6, CURRENT_TIMESTAMP), '555-0115', 'Kevin Garcia Emergency', '555-99915', '468 Redwood Ct, City, State 12359', DATEADD('YEAR', -9, CURRENT_TIMESTAMP), 9, 'DOT Certified, Hazmat License', true, 'Transportation', 'CC-002', 'Morning', DATEADD('MONTH', -10, CURRENT_TIMESTAMP), 'Lead commercial driver, heavy equipment experience', 145, 98500.1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
 -- Insert sample bookings
-INSERT INTO bookings (id, booking_reference, status, type, vehicle_id, driver_id, requester_id, approver_id, start_time, end_time, actual_start_time, actual_end_time, pickup_location, destination, return_location, estimated_passengers, manager_name, cost_center, approval_comment, approved_at, actual_mileage, additional_requirements, duration_in_hours, display_status, created_at, updated_at) VALUES
+INSERT INTO bookings (id, booking_reference, status, type, vehicle_id, driver_id, requester_id, approver_id, start_time, end_time, actual_start_time, actual_end_time, pickup_location, destination, return_location, purpose, estimated_passengers, manager_name, cost_center, approval_comment, approved_at, actual_mileage, additional_requirements, duration_in_hours, display_status, created_at, updated_at) VALUES
 -- Past completed bookings
-(1, 'BKG00000001', 'COMPLETED', 'BUSINESS_TRIP', 1, 1, 3, 2, DATEADD('HOUR', -(5*24+9), CURRENT_TIMESTAMP), DATEADD('HOUR', -(5*24+13), CURRENT_TIMESTAMP), DATEADD('HOUR', -(5*24+9), CURRENT_TIMESTAMP), DATEADD('HOUR', -(5*24+13), CURRENT_TIMESTAMP), 'Main Office - Floor 1', 'Client Office - North', 'Main Office - Floor 1', 2, 'John Manager', 'CC-002', 'Approved for client meeting', DATEADD('DAY', -6, CURRENT_TIMESTAMP), 125.5, 'Need GPS navigation', 4, 'COMPLETED', DATEADD('DAY', -6, CURRENT_TIMESTAMP), DATEADD('DAY', -4, CURRENT_TIMESTAMP)),
-(2, 'BKG00000002', 'COMPLETED', 'MEETING', 2, 2, 5, 8, DATEADD('HOUR', -(3*24+10), CURRENT_TIMESTAMP), DATEADD('HOUR', -(3*24+12), CURRENT_TIMESTAMP), DATEADD('HOUR', -(3*24+10), CURRENT_TIMESTAMP), DATEADD('HOUR', -(3*24+12), CURRENT_TIMESTAMP), 'Branch Office - South', 'Conference Center', 'Branch Office - South', 3, 'James Manager', 'CC-001', 'Approved for team meeting', DATEADD('DAY', -4, CURRENT_TIMESTAMP), 65.2, 'Bring presentation materials', 2, 'COMPLETED', DATEADD('DAY', -4, CURRENT_TIMESTAMP), DATEADD('DAY', -2, CURRENT_TIMESTAMP)),
-(3, 'BKG00000003', 'CANCELLED', 'DELIVERY', 16, 3, 6, 2, DATEADD('HOUR', -(7*24+8), CURRENT_TIMESTAMP), DATEADD('HOUR', -(7*24+16), CURRENT_TIMESTAMP), NULL, NULL, 'Warehouse - Downtown', 'Government Building', 'Warehouse - Downtown', 1, 'John Manager', 'CC-003', 'Cancelled due to weather', DATEADD('DAY', -8, CURRENT_TIMESTAMP), 0.0, 'Weather contingency', 8, 'CANCELLED', DATEADD('DAY', -8, CURRENT_TIMESTAMP), DATEADD('DAY', -7, CURRENT_TIMESTAMP)),
+(1, 'BKG00000001', 'COMPLETED', 'BUSINESS_TRIP', 1, 1, 3, 2, DATEADD('HOUR', -(5*24+9), CURRENT_TIMESTAMP), DATEADD('HOUR', -(5*24+13), CURRENT_TIMESTAMP), DATEADD('HOUR', -(5*24+9), CURRENT_TIMESTAMP), DATEADD('HOUR', -(5*24+13), CURRENT_TIMESTAMP), 'Main Office - Floor 1', 'Client Office - North', 'Main Office - Floor 1', 'Business trip to Client Office - North', 2, 'John Manager', 'CC-002', 'Approved for client meeting', DATEADD('DAY', -6, CURRENT_TIMESTAMP), 125.5, 'Need GPS navigation', 4, 'COMPLETED', DATEADD('DAY', -6, CURRENT_TIMESTAMP), DATEADD('DAY', -4, CURRENT_TIMESTAMP)),
+(2, 'BKG00000002', 'COMPLETED', 'MEETING', 2, 2, 5, 8, DATEADD('HOUR', -(3*24+10), CURRENT_TIMESTAMP), DATEADD('HOUR', -(3*24+12), CURRENT_TIMESTAMP), DATEADD('HOUR', -(3*24+10), CURRENT_TIMESTAMP), DATEADD('HOUR', -(3*24+12), CURRENT_TIMESTAMP), 'Branch Office - South', 'Conference Center', 'Branch Office - South', 'Meeting to Conference Center', 3, 'James Manager', 'CC-001', 'Approved for team meeting', DATEADD('DAY', -4, CURRENT_TIMESTAMP), 65.2, 'Bring presentation materials', 2, 'COMPLETED', DATEADD('DAY', -4, CURRENT_TIMESTAMP), DATEADD('DAY', -2, CURRENT_TIMESTAMP)),
+(3, 'BKG00000003', 'CANCELLED', 'DELIVERY', 16, 3, 6, 2, DATEADD('HOUR', -(7*24+8), CURRENT_TIMESTAMP), DATEADD('HOUR', -(7*24+16), CURRENT_TIMESTAMP), NULL, NULL, 'Warehouse - Downtown', 'Government Building', 'Warehouse - Downtown', 'Delivery to Government Building', 1, 'John Manager', 'CC-003', 'Cancelled due to weather', DATEADD('DAY', -8, CURRENT_TIMESTAMP), 0.0, 'Weather contingency', 8, 'CANCELLED', DATEADD('DAY', -8, CURRENT_TIMESTAMP), DATEADD('DAY', -7, CURRENT_TIMESTAMP)),
 
 -- Current active bookings
-(4, 'BKG00000004', 'ACTIVE', 'BUSINESS_TRIP', 10, 11, 1, 2, DATEADD('HOUR', -1, CURRENT_TIMESTAMP), DATEADD('HOUR', 3, CURRENT_TIMESTAMP), DATEADD('HOUR', -1, CURRENT_TIMESTAMP), NULL, 'Main Office - Floor 2', 'Airport - Terminal 1', 'Main Office - Floor 2', 1, 'John Manager', 'CC-002', 'Approved for airport pickup', DATEADD('DAY', -2, CURRENT_TIMESTAMP), 0.0, 'Executive pickup', 4, 'ACTIVE', DATEADD('DAY', -2, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP),
-(5, 'BKG00000005', 'ACTIVE', 'DELIVERY', 21, 9, 10, 8, DATEADD('HOUR', -2, CURRENT_TIMESTAMP), DATEADD('HOUR', 2, CURRENT_TIMESTAMP), DATEADD('HOUR', -2, CURRENT_TIMESTAMP), NULL, 'Maintenance Shop', 'Client Site - Business District', 'Maintenance Shop', 2, 'James Manager', 'CC-003', 'Urgent delivery approved', DATEADD('DAY', -1, CURRENT_TIMESTAMP), 0.0, 'Fragile items', 4, 'ACTIVE', DATEADD('DAY', -1, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP),
+(4, 'BKG00000004', 'ACTIVE', 'BUSINESS_TRIP', 10, 11, 1, 2, DATEADD('HOUR', -1, CURRENT_TIMESTAMP), DATEADD('HOUR', 3, CURRENT_TIMESTAMP), DATEADD('HOUR', -1, CURRENT_TIMESTAMP), NULL, 'Main Office - Floor 2', 'Airport - Terminal 1', 'Main Office - Floor 2', 'Business trip to Airport - Terminal 1', 1, 'John Manager', 'CC-002', 'Approved for airport pickup', DATEADD('DAY', -2, CURRENT_TIMESTAMP), 0.0, 'Executive pickup', 4, 'ACTIVE', DATEADD('DAY', -2, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP),
+(5, 'BKG00000005', 'ACTIVE', 'DELIVERY', 21, 9, 10, 8, DATEADD('HOUR', -2, CURRENT_TIMESTAMP), DATEADD('HOUR', 2, CURRENT_TIMESTAMP), DATEADD('HOUR', -2, CURRENT_TIMESTAMP), NULL, 'Maintenance Shop', 'Client Site - Business District', 'Maintenance Shop', 'Delivery to Client Site - Business District', 2, 'James Manager', 'CC-003', 'Urgent delivery approved', DATEADD('DAY', -1, CURRENT_TIMESTAMP), 0.0, 'Fragile items', 4, 'ACTIVE', DATEADD('DAY', -1, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP),
 
 -- Future confirmed bookings
-(6, 'BKG00000006', 'CONFIRMED', 'TRAINING', 9, 7, 4, 2, DATEADD('HOUR', (1*24+9), CURRENT_TIMESTAMP), DATEADD('HOUR', (1*24+17), CURRENT_TIMESTAMP), NULL, NULL, 'Main Office - Floor 1', 'Training Center - University', 'Main Office - Floor 1', 4, 'John Manager', 'CC-001', 'Safety training approved', DATEADD('DAY', -3, CURRENT_TIMESTAMP), 0.0, 'Safety equipment required', 8, 'CONFIRMED', DATEADD('DAY', -3, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP),
-(7, 'BKG00000007', 'APPROVED', 'MEETING', 3, 4, 7, 8, DATEADD('HOUR', (2*24+8), CURRENT_TIMESTAMP), DATEADD('HOUR', (2*24+12), CURRENT_TIMESTAMP), NULL, NULL, 'Branch Office - North', 'Client Office - South', 'Branch Office - North', 2, 'James Manager', 'CC-002', 'Client presentation meeting', DATEADD('DAY', -1, CURRENT_TIMESTAMP), 0.0, 'Client VIP', 4, 'APPROVED', DATEADD('DAY', -1, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP),
-(8, 'BKG00000008', 'CONFIRMED', 'MAINTENANCE_TRIP', 15, 10, 9, 2, DATEADD('HOUR', (3*24+7), CURRENT_TIMESTAMP), DATEADD('HOUR', (3*24+15), CURRENT_TIMESTAMP), NULL, NULL, 'Main Office - Floor 3', 'Service Center - Industrial', 'Main Office - Floor 3', 1, 'John Manager', 'CC-004', 'Scheduled maintenance', DATEADD('DAY', -2, CURRENT_TIMESTAMP), 0.0, 'Service appointment', 8, 'CONFIRMED', DATEADD('DAY', -2, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP),
+(6, 'BKG00000006', 'CONFIRMED', 'TRAINING', 9, 7, 4, 2, DATEADD('HOUR', (1*24+9), CURRENT_TIMESTAMP), DATEADD('HOUR', (1*24+17), CURRENT_TIMESTAMP), NULL, NULL, 'Main Office - Floor 1', 'Training Center - University', 'Main Office - Floor 1', 'Training to Training Center - University', 4, 'John Manager', 'CC-001', 'Safety training approved', DATEADD('DAY', -3, CURRENT_TIMESTAMP), 0.0, 'Safety equipment required', 8, 'CONFIRMED', DATEADD('DAY', -3, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP),
+(7, 'BKG00000007', 'APPROVED', 'MEETING', 3, 4, 7, 8, DATEADD('HOUR', (2*24+8), CURRENT_TIMESTAMP), DATEADD('HOUR', (2*24+12), CURRENT_TIMESTAMP), NULL, NULL, 'Branch Office - North', 'Client Office - South', 'Branch Office - North', 'Meeting to Client Office - South', 2, 'James Manager', 'CC-002', 'Client presentation meeting', DATEADD('DAY', -1, CURRENT_TIMESTAMP), 0.0, 'Client VIP', 4, 'APPROVED', DATEADD('DAY', -1, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP),
+(8, 'BKG00000008', 'CONFIRMED', 'MAINTENANCE_TRIP', 15, 10, 9, 2, DATEADD('HOUR', (3*24+7), CURRENT_TIMESTAMP), DATEADD('HOUR', (3*24+15), CURRENT_TIMESTAMP), NULL, NULL, 'Main Office - Floor 3', 'Service Center - Industrial', 'Main Office - Floor 3', 'Maintenance trip to Service Center - Industrial', 1, 'John Manager', 'CC-004', 'Scheduled maintenance', DATEADD('DAY', -2, CURRENT_TIMESTAMP), 0.0, 'Service appointment', 8, 'CONFIRMED', DATEADD('DAY', -2, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP),
 
 -- More past bookings
-(9, 'BKG00000009', 'COMPLETED', 'BUSINESS_TRIP', 11, 13, 3, 8, DATEADD('HOUR', -(10*24+8), CURRENT_TIMESTAMP), DATEADD('HOUR', -(10*24+18), CURRENT_TIMESTAMP), DATEADD('HOUR', -(10*24+8), CURRENT_TIMESTAMP), DATEADD('HOUR', -(10*24+18), CURRENT_TIMESTAMP), 'Client Site - Tech Park', 'Airport - Terminal 2', 'Client Site - Tech Park', 1, 'James Manager', 'CC-001', 'Approved for flight', DATEADD('DAY', -11, CURRENT_TIMESTAMP), 180.3, 'Airport departure', 10, 'COMPLETED', DATEADD('DAY', -11, CURRENT_TIMESTAMP), DATEADD('DAY', -9, CURRENT_TIMESTAMP)),
-(10, 'BKG00000010', 'COMPLETED', 'MEETING', 18, 15, 5, 2, DATEADD('HOUR', -(8*24+9), CURRENT_TIMESTAMP), DATEADD('HOUR', -(8*24+15), CURRENT_TIMESTAMP), DATEADD('HOUR', -(8*24+9), CURRENT_TIMESTAMP), DATEADD('HOUR', -(8*24+15), CURRENT_TIMESTAMP), 'Branch Office - West', 'City Center', 'Branch Office - West', 8, 'John Manager', 'CC-003', 'Team building event', DATEADD('DAY', -9, CURRENT_TIMESTAMP), 95.7, 'Large group transport', 6, 'COMPLETED', DATEADD('DAY', -9, CURRENT_TIMESTAMP), DATEADD('DAY', -7, CURRENT_TIMESTAMP)),
+(9, 'BKG00000009', 'COMPLETED', 'BUSINESS_TRIP', 11, 13, 3, 8, DATEADD('HOUR', -(10*24+8), CURRENT_TIMESTAMP), DATEADD('HOUR', -(10*24+18), CURRENT_TIMESTAMP), DATEADD('HOUR', -(10*24+8), CURRENT_TIMESTAMP), DATEADD('HOUR', -(10*24+18), CURRENT_TIMESTAMP), 'Client Site - Tech Park', 'Airport - Terminal 2', 'Client Site - Tech Park', 'Business trip to Airport - Terminal 2', 1, 'James Manager', 'CC-001', 'Approved for flight', DATEADD('DAY', -11, CURRENT_TIMESTAMP), 180.3, 'Airport departure', 10, 'COMPLETED', DATEADD('DAY', -11, CURRENT_TIMESTAMP), DATEADD('DAY', -9, CURRENT_TIMESTAMP)),
+(10, 'BKG00000010', 'COMPLETED', 'MEETING', 18, 15, 5, 2, DATEADD('HOUR', -(8*24+9), CURRENT_TIMESTAMP), DATEADD('HOUR', -(8*24+15), CURRENT_TIMESTAMP), DATEADD('HOUR', -(8*24+9), CURRENT_TIMESTAMP), DATEADD('HOUR', -(8*24+15), CURRENT_TIMESTAMP), 'Branch Office - West', 'City Center', 'Branch Office - West', 'Meeting to City Center', 8, 'John Manager', 'CC-003', 'Team building event', DATEADD('DAY', -9, CURRENT_TIMESTAMP), 95.7, 'Large group transport', 6, 'COMPLETED', DATEADD('DAY', -9, CURRENT_TIMESTAMP), DATEADD('DAY', -7, CURRENT_TIMESTAMP)),
 
 -- Future bookings with different statuses
-(11, 'BKG00000011', 'PENDING', 'DELIVERY', 20, 14, 6, 2, DATEADD('HOUR', (4*24+10), CURRENT_TIMESTAMP), DATEADD('HOUR', (4*24+14), CURRENT_TIMESTAMP), NULL, NULL, 'Warehouse - Industrial', 'Medical Center', 'Warehouse - Industrial', 1, 'John Manager', 'CC-005', NULL, NULL, 0.0, 'Medical supplies', 4, 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-(12, 'BKG00000012', 'CONFIRMED', 'BUSINESS_TRIP', 8, 5, 2, 8, DATEADD('HOUR', (5*24+7), CURRENT_TIMESTAMP), DATEADD('HOUR', (5*24+19), CURRENT_TIMESTAMP), NULL, NULL, 'Main Office - Floor 1', 'Client Office - East', 'Main Office - Floor 1', 2, 'James Manager', 'CC-002', 'Multi-day business trip', DATEADD('DAY', -1, CURRENT_TIMESTAMP), 0.0, 'Overnight stay', 12, 'CONFIRMED', DATEADD('DAY', -1, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP),
-(13, 'BKG00000013', 'APPROVED', 'TRAINING', 19, 1, 4, 8, DATEADD('HOUR', (6*24+8), CURRENT_TIMESTAMP), DATEADD('HOUR', (6*24+16), CURRENT_TIMESTAMP), NULL, NULL, 'Branch Office - South', 'Training Center - Industrial', 'Branch Office - South', 6, 'James Manager', 'CC-004', 'Safety certification', DATEADD('DAY', -3, CURRENT_TIMESTAMP), 0.0, '6 participants', 8, 'APPROVED', DATEADD('DAY', -3, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP),
+(11, 'BKG00000011', 'PENDING', 'DELIVERY', 20, 14, 6, 2, DATEADD('HOUR', (4*24+10), CURRENT_TIMESTAMP), DATEADD('HOUR', (4*24+14), CURRENT_TIMESTAMP), NULL, NULL, 'Warehouse - Industrial', 'Medical Center', 'Warehouse - Industrial', 'Delivery to Medical Center', 1, 'John Manager', 'CC-005', NULL, NULL, 0.0, 'Medical supplies', 4, 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+(12, 'BKG00000012', 'CONFIRMED', 'BUSINESS_TRIP', 8, 5, 2, 8, DATEADD('HOUR', (5*24+7), CURRENT_TIMESTAMP), DATEADD('HOUR', (5*24+19), CURRENT_TIMESTAMP), NULL, NULL, 'Main Office - Floor 1', 'Client Office - East', 'Main Office - Floor 1', 'Business trip to Client Office - East', 2, 'James Manager', 'CC-002', 'Multi-day business trip', DATEADD('DAY', -1, CURRENT_TIMESTAMP), 0.0, 'Overnight stay', 12, 'CONFIRMED', DATEADD('DAY', -1, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP),
+(13, 'BKG00000013', 'APPROVED', 'TRAINING', 19, 1, 4, 8, DATEADD('HOUR', (6*24+8), CURRENT_TIMESTAMP), DATEADD('HOUR', (6*24+16), CURRENT_TIMESTAMP), NULL, NULL, 'Branch Office - South', 'Training Center - Industrial', 'Branch Office - South', 'Training to Training Center - Industrial', 6, 'James Manager', 'CC-004', 'Safety certification', DATEADD('DAY', -3, CURRENT_TIMESTAMP), 0.0, '6 participants', 8, 'APPROVED', DATEADD('DAY', -3, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP),
 
 -- More completed bookings
-(14, 'BKG00000014', 'COMPLETED', 'DELIVERY', 23, 9, 10, 2, DATEADD('HOUR', -(12*24+6), CURRENT_TIMESTAMP), DATEADD('HOUR', -(12*24+18), CURRENT_TIMESTAMP), DATEADD('HOUR', -(12*24+6), CURRENT_TIMESTAMP), DATEADD('HOUR', -(12*24+18), CURRENT_TIMESTAMP), 'Service Center - Industrial', 'Main Office - Floor 2', 'Service Center - Industrial', 1, 'John Manager', 'CC-001', 'Equipment return', DATEADD('DAY', -13, CURRENT_TIMESTAMP), 210.4, 'Heavy equipment', 12, 'COMPLETED', DATEADD('DAY', -13, CURRENT_TIMESTAMP), DATEADD('DAY', -11, CURRENT_TIMESTAMP)),
-(15, 'BKG00000015', 'COMPLETED', 'MEETING', 14, 6, 7, 8, DATEADD('HOUR', -(15*24+9), CURRENT_TIMESTAMP), DATEADD('HOUR', -(15*24+17), CURRENT_TIMESTAMP), DATEADD('HOUR', -(15*24+9), CURRENT_TIMESTAMP), DATEADD('HOUR', -(15*24+17), CURRENT_TIMESTAMP), 'Main Office - Floor 3', 'Conference Center', 'Main Office - Floor 3', 3, 'James Manager', 'CC-003', 'Quarterly review', DATEADD('DAY', -16, CURRENT_TIMESTAMP), 45.8, 'Quarterly business review', 8, 'COMPLETED', DATEADD('DAY', -16, CURRENT_TIMESTAMP), DATEADD('DAY', -14, CURRENT_TIMESTAMP)),
+(14, 'BKG00000014', 'COMPLETED', 'DELIVERY', 23, 9, 10, 2, DATEADD('HOUR', -(12*24+6), CURRENT_TIMESTAMP), DATEADD('HOUR', -(12*24+18), CURRENT_TIMESTAMP), DATEADD('HOUR', -(12*24+6), CURRENT_TIMESTAMP), DATEADD('HOUR', -(12*24+18), CURRENT_TIMESTAMP), 'Service Center - Industrial', 'Main Office - Floor 2', 'Service Center - Industrial', 'Delivery to Main Office - Floor 2', 1, 'John Manager', 'CC-001', 'Equipment return', DATEADD('DAY', -13, CURRENT_TIMESTAMP), 210.4, 'Heavy equipment', 12, 'COMPLETED', DATEADD('DAY', -13, CURRENT_TIMESTAMP), DATEADD('DAY', -11, CURRENT_TIMESTAMP)),
+(15, 'BKG00000015', 'COMPLETED', 'MEETING', 14, 6, 7, 8, DATEADD('HOUR', -(15*24+9), CURRENT_TIMESTAMP), DATEADD('HOUR', -(15*24+17), CURRENT_TIMESTAMP), DATEADD('HOUR', -(15*24+9), CURRENT_TIMESTAMP), DATEADD('HOUR', -(15*24+17), CURRENT_TIMESTAMP), 'Main Office - Floor 3', 'Conference Center', 'Main Office - Floor 3', 'Meeting to Conference Center', 3, 'James Manager', 'CC-003', 'Quarterly review', DATEADD('DAY', -16, CURRENT_TIMESTAMP), 45.8, 'Quarterly business review', 8, 'COMPLETED', DATEADD('DAY', -16, CURRENT_TIMESTAMP), DATEADD('DAY', -14, CURRENT_TIMESTAMP)),
 
 -- Recent current bookings
-(16, 'BKG00000016', 'ACTIVE', 'BUSINESS_TRIP', 17, 3, 1, 2, DATEADD('HOUR', -3, CURRENT_TIMESTAMP), DATEADD('HOUR', 5, CURRENT_TIMESTAMP), DATEADD('HOUR', -3, CURRENT_TIMESTAMP), NULL, 'Client Site - Tech Park', 'Hotel - Downtown', 'Client Site - Tech Park', 1, 'John Manager', 'CC-003', 'Executive hotel transfer', DATEADD('DAY', -1, CURRENT_TIMESTAMP), 0.0, 'VIP client', 8, 'ACTIVE', DATEADD('DAY', -1, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP),
-(17, 'BKG00000017', 'ACTIVE', 'DELIVERY', 12, 10, 9, 8, DATEADD('HOUR', -4, CURRENT_TIMESTAMP), DATEADD('HOUR', 1, CURRENT_TIMESTAMP), DATEADD('HOUR', -4, CURRENT_TIMESTAMP), NULL, 'Main Office - Floor 2', 'Government Building', 'Main Office - Floor 2', 1, 'James Manager', 'CC-002', 'Urgent document delivery', DATEADD('HOUR', -6, CURRENT_TIMESTAMP), 0.0, 'Confidential documents', 5, 'ACTIVE', DATEADD('HOUR', -6, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP),
+(16, 'BKG00000016', 'ACTIVE', 'BUSINESS_TRIP', 17, 3, 1, 2, DATEADD('HOUR', -3, CURRENT_TIMESTAMP), DATEADD('HOUR', 5, CURRENT_TIMESTAMP), DATEADD('HOUR', -3, CURRENT_TIMESTAMP), NULL, 'Client Site - Tech Park', 'Hotel - Downtown', 'Client Site - Tech Park', 'Business trip to Hotel - Downtown', 1, 'John Manager', 'CC-003', 'Executive hotel transfer', DATEADD('DAY', -1, CURRENT_TIMESTAMP), 0.0, 'VIP client', 8, 'ACTIVE', DATEADD('DAY', -1, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP),
+(17, 'BKG00000017', 'ACTIVE', 'DELIVERY', 12, 10, 9, 8, DATEADD('HOUR', -4, CURRENT_TIMESTAMP), DATEADD('HOUR', 1, CURRENT_TIMESTAMP), DATEADD('HOUR', -4, CURRENT_TIMESTAMP), NULL, 'Main Office - Floor 2', 'Government Building', 'Main Office - Floor 2', 'Delivery to Government Building', 1, 'James Manager', 'CC-002', 'Urgent document delivery', DATEADD('HOUR', -6, CURRENT_TIMESTAMP), 0.0, 'Confidential documents', 5, 'ACTIVE', DATEADD('HOUR', -6, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP),
 
 -- Additional future bookings
-(18, 'BKG00000018', 'PENDING', 'BUSINESS_TRIP', 5, 4, 3, 2, DATEADD('HOUR', (7*24+8), CURRENT_TIMESTAMP), DATEADD('HOUR', (7*24+20), CURRENT_TIMESTAMP), NULL, NULL, 'Branch Office - East', 'Airport - Terminal 2', 'Branch Office - East', 1, 'John Manager', 'CC-001', NULL, NULL, 0.0, 'International flight', 12, 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-(19, 'BKG00000019', 'CONFIRMED', 'TRAINING', 24, 8, 4, 8, DATEADD('HOUR', (8*24+9), CURRENT_TIMESTAMP), DATEADD('HOUR', (8*24+17), CURRENT_TIMESTAMP), NULL, NULL, 'Security Office', 'Training Center - Downtown', 'Security Office', 1, 'James Manager', 'CC-004', 'Security training', DATEADD('DAY', -4, CURRENT_TIMESTAMP), 0.0, 'Security certification', 8, 'CONFIRMED', DATEADD('DAY', -4, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP),
-(20, 'BKG00000020', 'APPROVED', 'MEETING', 25, 12, 6, 2, DATEADD('HOUR', (9*24+10), CURRENT_TIMESTAMP), DATEADD('HOUR', (9*24+12), CURRENT_TIMESTAMP), NULL, NULL, 'Main Office - Campus', 'Main Office - Floor 1', 'Main Office - Campus', 3, 'John Manager', 'CC-005', 'Internal team meeting', DATEADD('DAY', -2, CURRENT_TIMESTAMP), 0.0, 'Golf cart for campus transport', 2, 'APPROVED', DATEADD('DAY', -2, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP);
\ No newline at end of file
+(18, 'BKG00000018', 'PENDING', 'BUSINESS_TRIP', 5, 4, 3, 2, DATEADD('HOUR', (7*24+8), CURRENT_TIMESTAMP), DATEADD('HOUR', (7*24+20), CURRENT_TIMESTAMP), NULL, NULL, 'Branch Office - East', 'Airport - Terminal 2', 'Branch Office - East', 'Business trip to Airport - Terminal 2', 1, 'John Manager', 'CC-001', NULL, NULL, 0.0, 'International flight', 12, 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+(19, 'BKG00000019', 'CONFIRMED', 'TRAINING', 24, 8, 4, 8, DATEADD('HOUR', (8*24+9), CURRENT_TIMESTAMP), DATEADD('HOUR', (8*24+17), CURRENT_TIMESTAMP), NULL, NULL, 'Security Office', 'Training Center - Downtown', 'Security Office', 'Training to Training Center - Downtown', 1, 'James Manager', 'CC-004', 'Security training', DATEADD('DAY', -4, CURRENT_TIMESTAMP), 0.0, 'Security certification', 8, 'CONFIRMED', DATEADD('DAY', -4, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP),
+(20, 'BKG00000020', 'APPROVED', 'MEETING', 25, 12, 6, 2, DATEADD('HOUR', (9*24+10), CURRENT_TIMESTAMP), DATEADD('HOUR', (9*24+12), CURRENT_TIMESTAMP), NULL, NULL, 'Main Office - Campus', 'Main Office - Floor 1', 'Main Office - Campus', 'Meeting to Main Office - Floor 1', 3, 'John Manager', 'CC-005', 'Internal team meeting', DATEADD('DAY', -2, CURRENT_TIMESTAMP), 0.0, 'Golf cart for campus transport', 2, 'APPROVED', DATEADD('DAY', -2, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP);
\ No newline at end of file
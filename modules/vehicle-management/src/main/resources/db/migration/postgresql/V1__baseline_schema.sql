@@ -0,0 +1,128 @@
+-- Baseline schema for the vehicle management service on PostgreSQL
+-- Mirrors the JPA entities; later changes go into new versioned migrations
+
+CREATE TABLE vehicles (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    plate_number VARCHAR(20) NOT NULL UNIQUE,
+    make VARCHAR(50) NOT NULL,
+    model VARCHAR(50) NOT NULL,
+    manufacture_year INTEGER NOT NULL,
+    capacity INTEGER NOT NULL,
+    color VARCHAR(50),
+    description TEXT,
+    location VARCHAR(100),
+    last_maintenance TIMESTAMP,
+    next_maintenance TIMESTAMP,
+    available_for_booking BOOLEAN NOT NULL DEFAULT TRUE,
+    mileage DOUBLE PRECISION NOT NULL DEFAULT 0.0,
+    fuel_type VARCHAR(20),
+    vehicle_group VARCHAR(50),
+    cost_center VARCHAR(50),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_by VARCHAR(100),
+    deleted BOOLEAN NOT NULL DEFAULT FALSE
+);
+
+CREATE TABLE drivers (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    license_type VARCHAR(20) NOT NULL,
+    user_id BIGINT,
+    license_number VARCHAR(50) NOT NULL UNIQUE,
+    license_expiry_date DATE,
+    phone_number VARCHAR(20),
+    emergency_contact VARCHAR(100),
+    emergency_phone VARCHAR(20),
+    address TEXT,
+    hire_date DATE,
+    years_experience INTEGER NOT NULL DEFAULT 0,
+    certifications TEXT,
+    available_for_booking BOOLEAN NOT NULL DEFAULT TRUE,
+    department VARCHAR(100),
+    cost_center VARCHAR(50),
+    shift VARCHAR(20),
+    last_health_check DATE,
+    notes TEXT,
+    total_trips_completed INTEGER NOT NULL DEFAULT 0,
+    total_miles_driven DOUBLE PRECISION NOT NULL DEFAULT 0.0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_by VARCHAR(100),
+    deleted BOOLEAN NOT NULL DEFAULT FALSE
+);
+
+CREATE TABLE bookings (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    booking_reference VARCHAR(50) NOT NULL UNIQUE,
+    status VARCHAR(20) NOT NULL,
+    type VARCHAR(20),
+    vehicle_id BIGINT NOT NULL REFERENCES vehicles(id),
+    driver_id BIGINT REFERENCES drivers(id),
+    requester_id BIGINT NOT NULL,
+    approver_id BIGINT,
+    start_time TIMESTAMP NOT NULL,
+    end_time TIMESTAMP NOT NULL,
+    actual_start_time TIMESTAMP,
+    actual_end_time TIMESTAMP,
+    pickup_location VARCHAR(200),
+    destination VARCHAR(200),
+    return_location VARCHAR(200),
+    purpose VARCHAR(200) NOT NULL,
+    description TEXT,
+    estimated_passengers INTEGER NOT NULL DEFAULT 1,
+    manager_name VARCHAR(100),
+    cost_center VARCHAR(50),
+    approval_comment TEXT,
+    approved_at TIMESTAMP,
+    rejected_at TIMESTAMP,
+    rejection_reason TEXT,
+    internal_notes TEXT,
+    feedback TEXT,
+    actual_mileage DOUBLE PRECISION NOT NULL DEFAULT 0.0,
+    additional_requirements TEXT,
+    approval_level INTEGER NOT NULL DEFAULT 1,
+    is_recurring BOOLEAN NOT NULL DEFAULT FALSE,
+    recurring_pattern VARCHAR(255),
+    estimated_cost DOUBLE PRECISION NOT NULL DEFAULT 0.0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(100),
+    updated_by VARCHAR(100),
+    deleted BOOLEAN NOT NULL DEFAULT FALSE
+);
+
+CREATE TABLE booking_events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    booking_id BIGINT NOT NULL REFERENCES bookings(id) ON DELETE CASCADE,
+    event_id VARCHAR(100) NOT NULL UNIQUE,
+    event_type VARCHAR(50) NOT NULL,
+    event_data TEXT,
+    timestamp TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    caused_by VARCHAR(100),
+    version INTEGER NOT NULL DEFAULT 1
+);
+
+CREATE INDEX idx_vehicles_status ON vehicles(status);
+CREATE INDEX idx_vehicles_type ON vehicles(type);
+CREATE INDEX idx_vehicles_available ON vehicles(available_for_booking);
+CREATE INDEX idx_vehicles_location ON vehicles(location);
+
+CREATE INDEX idx_drivers_status ON drivers(status);
+CREATE INDEX idx_drivers_license_type ON drivers(license_type);
+CREATE INDEX idx_drivers_available ON drivers(available_for_booking);
+CREATE INDEX idx_drivers_user_id ON drivers(user_id);
+
+CREATE INDEX idx_bookings_status ON bookings(status);
+CREATE INDEX idx_bookings_vehicle_id ON bookings(vehicle_id);
+CREATE INDEX idx_bookings_driver_id ON bookings(driver_id);
+CREATE INDEX idx_bookings_requester_id ON bookings(requester_id);
+CREATE INDEX idx_bookings_start_time ON bookings(start_time);
+CREATE INDEX idx_bookings_end_time ON bookings(end_time);
+
+CREATE INDEX idx_booking_events_type ON booking_events(event_type);
+CREATE INDEX idx_booking_events_timestamp ON booking_events(timestamp);
@@ -0,0 +1,34 @@
+-- Composite and partial indexes for the hot booking queries.
+-- Partial indexes only hold the rows a query can match, so finished bookings
+-- (COMPLETED, CANCELLED, REJECTED, NO_SHOW) never grow them.
+
+-- Conflict detection and time-window availability:
+--   vehicle_id/driver_id = ? AND status IN (blocking) AND start_time < ? AND end_time > ?
+CREATE INDEX idx_bookings_vehicle_window ON bookings (vehicle_id, start_time, end_time)
+    WHERE status IN ('APPROVED', 'CONFIRMED', 'ACTIVE');
+CREATE INDEX idx_bookings_driver_window ON bookings (driver_id, start_time, end_time)
+    WHERE status IN ('APPROVED', 'CONFIRMED', 'ACTIVE') AND driver_id IS NOT NULL;
+
+-- Upcoming bookings: start_time > ? AND status IN ('APPROVED', 'CONFIRMED') ORDER BY start_time
+CREATE INDEX idx_bookings_upcoming ON bookings (start_time)
+    WHERE status IN ('APPROVED', 'CONFIRMED');
+
+-- Pending approvals, overall and per manager, oldest first
+CREATE INDEX idx_bookings_pending_created ON bookings (created_at)
+    WHERE status = 'PENDING';
+CREATE INDEX idx_bookings_pending_manager ON bookings (manager_name, created_at)
+    WHERE status = 'PENDING';
+
+-- Requester history and its keyset pages on (created_at, id)
+CREATE INDEX idx_bookings_requester_created ON bookings (requester_id, created_at DESC, id DESC);
+
+-- Keyset pages on (start_time, id)
+CREATE INDEX idx_bookings_start_id ON bookings (start_time, id);
+
+-- Event history lookups by booking, in timestamp order
+CREATE INDEX idx_booking_events_booking_id ON booking_events (booking_id, timestamp);
+
+-- Superseded by the indexes above
+DROP INDEX idx_bookings_requester_id;
+DROP INDEX idx_bookings_start_time;
+DROP INDEX idx_bookings_end_time;
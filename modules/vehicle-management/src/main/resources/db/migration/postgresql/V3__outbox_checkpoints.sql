@@ -0,0 +1,9 @@
+-- Outbox relay progress.
+-- booking_events is written in the same transaction as the booking change and
+-- doubles as the outbox; each subscriber records the last event id it has
+-- acknowledged so delivery resumes there after a restart.
+CREATE TABLE outbox_checkpoints (
+    subscriber VARCHAR(100) PRIMARY KEY,
+    last_event_id BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,22 @@
+-- Sequence-generated IDs for vehicles, drivers and bookings.
+-- IDENTITY columns force Hibernate to insert row by row to read back each ID;
+-- with pooled sequences it fetches 50 IDs per round trip and batches the inserts.
+-- The entity mappings use allocationSize = 50, so the increments must match.
+--
+-- Each sequence continues above the existing IDs, then the IDENTITY is dropped
+-- so that no second ID source remains. Rows inserted outside the application
+-- must take their ID from the sequence.
+-- booking_events keeps its IDENTITY column: it is written by JDBC batches and
+-- the outbox relay relies on IDs following insert order.
+
+CREATE SEQUENCE vehicles_seq INCREMENT BY 50;
+SELECT setval('vehicles_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM vehicles));
+ALTER TABLE vehicles ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE drivers_seq INCREMENT BY 50;
+SELECT setval('drivers_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM drivers));
+ALTER TABLE drivers ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE bookings_seq INCREMENT BY 50;
+SELECT setval('bookings_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM bookings));
+ALTER TABLE bookings ALTER COLUMN id DROP IDENTITY IF EXISTS;
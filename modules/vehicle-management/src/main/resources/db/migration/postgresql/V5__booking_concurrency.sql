@@ -0,0 +1,21 @@
+-- Optimistic locking: every update checks and increments the row version,
+-- so concurrent read-modify-write cycles on a booking or vehicle cannot
+-- silently overwrite each other.
+ALTER TABLE vehicles ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE bookings ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Double-booking backstop across application instances: blocking bookings of
+-- the same vehicle or driver may not overlap. The in-process availability
+-- index rejects conflicts before they get here; this constraint catches the
+-- races it cannot see (other instances, index warm-up). Windows are half-open,
+-- matching the conflict queries, so back-to-back bookings are allowed.
+-- Existing overlapping blocking bookings must be resolved before migrating.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE bookings ADD CONSTRAINT bookings_vehicle_no_overlap
+    EXCLUDE USING gist (vehicle_id WITH =, tsrange(start_time, end_time) WITH &&)
+    WHERE (status IN ('APPROVED', 'CONFIRMED', 'ACTIVE'));
+
+ALTER TABLE bookings ADD CONSTRAINT bookings_driver_no_overlap
+    EXCLUDE USING gist (driver_id WITH =, tsrange(start_time, end_time) WITH &&)
+    WHERE (driver_id IS NOT NULL AND status IN ('APPROVED', 'CONFIRMED', 'ACTIVE'));
@@ -0,0 +1,7 @@
+-- Repeat the clean-up at the end of V2 idempotently.
+-- V2 drops the single-column indexes that its composite indexes supersede.
+-- Databases baselined at V1 or restored from a dump can still carry them
+-- (or lack them), so this migration drops them only where they exist.
+DROP INDEX IF EXISTS idx_bookings_requester_id;
+DROP INDEX IF EXISTS idx_bookings_start_time;
+DROP INDEX IF EXISTS idx_bookings_end_time;
@@ -41,6 +41,7 @@ CREATE TABLE IF NOT EXISTS vehicles (
     fuel_type VARCHAR(20),
     vehicle_group VARCHAR(50),
     cost_center VARCHAR(50),
+    version BIGINT DEFAULT 0 NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
@@ -92,6 +93,8 @@ CREATE TABLE IF NOT EXISTS bookings (
     pickup_location VARCHAR(200),
     destination VARCHAR(200),
     return_location VARCHAR(200),
+    purpose VARCHAR(200) NOT NULL,
+    description TEXT,
     estimated_passengers INTEGER DEFAULT 1,
     manager_name VARCHAR(100),
     cost_center VARCHAR(50),
@@ -99,6 +102,7 @@ CREATE TABLE IF NOT EXISTS bookings (
     approved_at TIMESTAMP,
     rejected_at TIMESTAMP,
     rejection_reason TEXT,
+    internal_notes TEXT,
     display_status VARCHAR(20),
     feedback TEXT,
     actual_mileage DOUBLE DEFAULT 0.0,
@@ -108,6 +112,11 @@ CREATE TABLE IF NOT EXISTS bookings (
     is_current BOOLEAN DEFAULT false,
     is_upcoming BOOLEAN DEFAULT false,
     needs_approval BOOLEAN DEFAULT true,
+    approval_level INTEGER NOT NULL DEFAULT 1,
+    is_recurring BOOLEAN NOT NULL DEFAULT false,
+    recurring_pattern VARCHAR(255),
+    estimated_cost DOUBLE NOT NULL DEFAULT 0.0,
+    version BIGINT DEFAULT 0 NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     created_by VARCHAR(100),
@@ -123,7 +132,20 @@ CREATE TABLE IF NOT EXISTS booking_events (
     event_data TEXT,
     timestamp TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     caused_by VARCHAR(100),
-    version INTEGER NOT NULL DEFAULT 1
+    version INTEGER NOT NULL DEFAULT 1,
+    booking_id BIGINT NOT NULL
+);
+
+-- Pooled ID sequences (allocation size 50 in the entity mappings), starting above the sample data IDs
+CREATE SEQUENCE IF NOT EXISTS vehicles_seq START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS drivers_seq START WITH 1000 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS bookings_seq START WITH 1000 INCREMENT BY 50;
+
+-- Outbox relay progress: last booking_events.id acknowledged by each subscriber
+CREATE TABLE IF NOT EXISTS outbox_checkpoints (
+    subscriber VARCHAR(100) PRIMARY KEY,
+    last_event_id BIGINT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
 -- Add foreign key constraints (if needed)
@@ -145,13 +167,22 @@ CREATE INDEX IF NOT EXISTS idx_drivers_available ON drivers(available_for_bookin
 CREATE INDEX IF NOT EXISTS idx_drivers_user_id ON drivers(user_id);
 
 CREATE INDEX IF NOT EXISTS idx_bookings_status ON bookings(status);
-CREATE INDEX IF NOT EXISTS idx_bookings_vehicle_id ON bookings(vehicle_id);
-CREATE INDEX IF NOT EXISTS idx_bookings_driver_id ON bookings(driver_id);
-CREATE INDEX IF NOT EXISTS idx_bookings_requester_id ON bookings(requester_id);
-CREATE INDEX IF NOT EXISTS idx_bookings_start_time ON bookings(start_time);
-CREATE INDEX IF NOT EXISTS idx_bookings_end_time ON bookings(end_time);
 CREATE INDEX IF NOT EXISTS idx_bookings_reference ON bookings(booking_reference);
 
-CREATE INDEX IF NOT EXISTS idx_booking_events_booking_id ON booking_events(id);
+-- Conflict detection: resource + blocking status + overlapping window
+CREATE INDEX IF NOT EXISTS idx_bookings_vehicle_window ON bookings(vehicle_id, status, start_time, end_time);
+CREATE INDEX IF NOT EXISTS idx_bookings_driver_window ON bookings(driver_id, status, start_time, end_time);
+
+-- Upcoming bookings and status lists ordered by start time
+CREATE INDEX IF NOT EXISTS idx_bookings_status_start ON bookings(status, start_time);
+
+-- Pending approvals per manager, oldest first
+CREATE INDEX IF NOT EXISTS idx_bookings_status_manager_created ON bookings(status, manager_name, created_at);
+
+-- Requester history and keyset pages
+CREATE INDEX IF NOT EXISTS idx_bookings_requester_created ON bookings(requester_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_bookings_start_id ON bookings(start_time, id);
+
+CREATE INDEX IF NOT EXISTS idx_booking_events_booking_id ON booking_events(booking_id, timestamp);
 CREATE INDEX IF NOT EXISTS idx_booking_events_type ON booking_events(event_type);
-CREATE INDEX IF NOT EXISTS idx_booking_events_timestamp ON booking_events(timestamp);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS idx_booking_events_timestamp ON booking_events(timestamp);
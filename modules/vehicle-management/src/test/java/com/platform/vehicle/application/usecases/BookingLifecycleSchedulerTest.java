@@ -0,0 +1,142 @@
+package com.platform.vehicle.application.usecases;
+
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.domain.Booking.BookingStatus;
+import com.platform.vehicle.domain.BookingLifecyclePolicy.Transition;
+import com.platform.vehicle.domain.Driver;
+import com.platform.vehicle.domain.Vehicle;
+import com.platform.vehicle.infrastructure.AggregateLockManager;
+import com.platform.vehicle.infrastructure.AggregateLockManager.Key;
+import com.platform.vehicle.infrastructure.ConflictRetry;
+import com.platform.vehicle.infrastructure.VehicleManagementRepository;
+import com.platform.vehicle.infrastructure.adapters.EntityMapper;
+import com.platform.vehicle.infrastructure.lifecycle.BookingTimerQueue;
+import com.platform.vehicle.infrastructure.repositories.BookingJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookingLifecycleSchedulerTest {
+
+    private static final long VEHICLE_ID = 3L;
+    private static final long DRIVER_ID = 5L;
+
+    private VehicleManagementRepository repository;
+    private AggregateLockManager aggregateLocks;
+    private BookingTimerQueue timerQueue;
+    private BookingLifecycleScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(VehicleManagementRepository.class);
+        aggregateLocks = mock(AggregateLockManager.class);
+        timerQueue = new BookingTimerQueue(mock(BookingJpaRepository.class), mock(EntityMapper.class),
+                Duration.ofHours(24).toMillis(), Duration.ofMinutes(30).toMillis(),
+                Duration.ofHours(1).toMillis(), 500);
+        scheduler = new BookingLifecycleScheduler(repository, timerQueue, new ConflictRetry(1, 0), aggregateLocks,
+                mock(PlatformTransactionManager.class), 100, 10, 60_000);
+        scheduler.initialize();
+    }
+
+    @Test
+    void noShowMakesTheVehicleBookableAgain() {
+        Booking booking = booking(10L, BookingStatus.CONFIRMED, null, LocalDateTime.now().minusHours(1));
+        Vehicle vehicle = bookedVehicle();
+        when(repository.findBookingsByIds(List.of(10L))).thenReturn(List.of(booking));
+        when(repository.findVehicleById(VEHICLE_ID)).thenReturn(Optional.of(vehicle));
+        timerQueue.schedule(booking);
+
+        scheduler.tick();
+
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.NO_SHOW);
+        assertThat(scheduler.getTransitionCount(Transition.NO_SHOW)).isEqualTo(1);
+        ArgumentCaptor<Vehicle> saved = ArgumentCaptor.forClass(Vehicle.class);
+        InOrder order = inOrder(repository, aggregateLocks);
+        order.verify(repository).saveBooking(booking);
+        order.verify(aggregateLocks).lockUntilCompletion(any(Key[].class));
+        order.verify(repository).findVehicleById(VEHICLE_ID);
+        order.verify(repository).saveVehicle(saved.capture());
+        assertThat(saved.getValue().isAvailable()).isTrue();
+        assertThat(saved.getValue().getStatus()).isEqualTo(Vehicle.VehicleStatus.AVAILABLE);
+    }
+
+    @Test
+    void expiryReleasesTheVehicleAndAssignedDriver() {
+        Booking booking = booking(11L, BookingStatus.PENDING, DRIVER_ID, LocalDateTime.now().minusMinutes(5));
+        Driver driver = new Driver(7L, Driver.LicenseType.CLASS_1, "LIC-5");
+        driver.setId(DRIVER_ID);
+        driver.setAssigned();
+        when(repository.findBookingsByIds(List.of(11L))).thenReturn(List.of(booking));
+        when(repository.findVehicleById(VEHICLE_ID)).thenReturn(Optional.of(bookedVehicle()));
+        when(repository.findDriverById(DRIVER_ID)).thenReturn(Optional.of(driver));
+        timerQueue.schedule(booking);
+
+        scheduler.tick();
+
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.CANCELLED);
+        ArgumentCaptor<Key[]> keys = ArgumentCaptor.forClass(Key[].class);
+        verify(aggregateLocks).lockUntilCompletion(keys.capture());
+        assertThat(keys.getValue()).hasSize(2);
+        verify(repository).saveVehicle(any(Vehicle.class));
+        verify(repository).saveDriver(driver);
+        assertThat(driver.isAvailable()).isTrue();
+    }
+
+    @Test
+    void vehicleTakenOutOfServiceKeepsItsStatus() {
+        Booking booking = booking(12L, BookingStatus.CONFIRMED, null, LocalDateTime.now().minusHours(1));
+        Vehicle vehicle = bookedVehicle();
+        vehicle.setMaintenance();
+        when(repository.findBookingsByIds(List.of(12L))).thenReturn(List.of(booking));
+        when(repository.findVehicleById(VEHICLE_ID)).thenReturn(Optional.of(vehicle));
+        timerQueue.schedule(booking);
+
+        scheduler.tick();
+
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.NO_SHOW);
+        verify(repository, never()).saveVehicle(any(Vehicle.class));
+    }
+
+    @Test
+    void confirmationKeepsTheVehicle() {
+        Booking booking = booking(13L, BookingStatus.APPROVED, null, LocalDateTime.now().plusHours(2));
+        when(repository.findBookingsByIds(List.of(13L))).thenReturn(List.of(booking));
+        timerQueue.schedule(booking);
+
+        scheduler.tick();
+
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.CONFIRMED);
+        verify(aggregateLocks, never()).lockUntilCompletion(any(Key[].class));
+        verify(repository, never()).findVehicleById(VEHICLE_ID);
+    }
+
+    private static Booking booking(Long id, BookingStatus status, Long driverId, LocalDateTime startTime) {
+        Booking booking = new Booking(VEHICLE_ID, 2L, "Site visit", startTime, startTime.plusHours(4));
+        booking.setId(id);
+        booking.setStatus(status);
+        booking.setDriverId(driverId);
+        return booking;
+    }
+
+    private static Vehicle bookedVehicle() {
+        Vehicle vehicle = new Vehicle("BK-3", "Toyota", "Camry", 2022, Vehicle.VehicleType.SEDAN, 4);
+        vehicle.setId(VEHICLE_ID);
+        vehicle.setBooked();
+        return vehicle;
+    }
+}
@@ -0,0 +1,109 @@
+package com.platform.vehicle.domain;
+
+import com.platform.vehicle.domain.Booking.BookingStatus;
+import com.platform.vehicle.domain.BookingLifecyclePolicy.Transition;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingLifecyclePolicyTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    private final BookingLifecyclePolicy policy =
+            new BookingLifecyclePolicy(Duration.ofHours(24), Duration.ofMinutes(30));
+
+    @Test
+    void nextTransitionFollowsFromStatus() {
+        assertThat(policy.nextTransition(booking(BookingStatus.PENDING, null))).isEqualTo(Transition.EXPIRE);
+        assertThat(policy.nextTransition(booking(BookingStatus.APPROVED, null))).isEqualTo(Transition.CONFIRM);
+        assertThat(policy.nextTransition(booking(BookingStatus.CONFIRMED, 7L))).isEqualTo(Transition.ACTIVATE);
+        assertThat(policy.nextTransition(booking(BookingStatus.CONFIRMED, null))).isEqualTo(Transition.NO_SHOW);
+        assertThat(policy.nextTransition(booking(BookingStatus.ACTIVE, 7L))).isNull();
+        assertThat(policy.nextTransition(booking(BookingStatus.CANCELLED, null))).isNull();
+    }
+
+    @Test
+    void dueAtAppliesLeadAndGrace() {
+        Booking booking = booking(BookingStatus.APPROVED, null);
+
+        assertThat(policy.dueAt(booking, Transition.CONFIRM)).isEqualTo(START.minusHours(24));
+        assertThat(policy.dueAt(booking, Transition.EXPIRE)).isEqualTo(START);
+        assertThat(policy.dueAt(booking, Transition.ACTIVATE)).isEqualTo(START);
+        assertThat(policy.dueAt(booking, Transition.NO_SHOW)).isEqualTo(START.plusMinutes(30));
+    }
+
+    @Test
+    void applyDueLeavesBookingAloneBeforeItIsDue() {
+        Booking booking = booking(BookingStatus.PENDING, null);
+
+        assertThat(policy.applyDue(booking, START.minusSeconds(1))).isEmpty();
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.PENDING);
+        assertThat(booking.getUncommittedEvents()).isEmpty();
+    }
+
+    @Test
+    void applyDueExpiresPendingBookingAtItsStart() {
+        Booking booking = booking(BookingStatus.PENDING, null);
+
+        assertThat(policy.applyDue(booking, START)).containsExactly(Transition.EXPIRE);
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.CANCELLED);
+        assertThat(booking.getUncommittedEvents()).extracting("eventType").containsExactly("BOOKING_CANCELLED");
+    }
+
+    @Test
+    void applyDueConfirmsApprovedBookingWithinTheLead() {
+        Booking booking = booking(BookingStatus.APPROVED, 7L);
+
+        assertThat(policy.applyDue(booking, START.minusHours(1))).containsExactly(Transition.CONFIRM);
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.CONFIRMED);
+    }
+
+    @Test
+    void applyDueCatchesUpConfirmAndActivateAfterDowntime() {
+        Booking booking = booking(BookingStatus.APPROVED, 7L);
+
+        assertThat(policy.applyDue(booking, START.plusHours(3)))
+                .containsExactly(Transition.CONFIRM, Transition.ACTIVATE);
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.ACTIVE);
+        assertThat(booking.getUncommittedEvents()).extracting("eventType")
+                .containsExactly("BOOKING_CONFIRMED", "BOOKING_ACTIVATED");
+    }
+
+    @Test
+    void applyDueCatchesUpConfirmAndNoShowOfSelfDriveBooking() {
+        Booking booking = booking(BookingStatus.APPROVED, null);
+
+        assertThat(policy.applyDue(booking, START.plusMinutes(30)))
+                .containsExactly(Transition.CONFIRM, Transition.NO_SHOW);
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.NO_SHOW);
+    }
+
+    @Test
+    void applyDueStopsAtTheFirstTransitionNotYetDue() {
+        Booking booking = booking(BookingStatus.APPROVED, null);
+
+        // Past the start but still within the no-show grace period
+        assertThat(policy.applyDue(booking, START.plusMinutes(10))).containsExactly(Transition.CONFIRM);
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.CONFIRMED);
+        assertThat(policy.nextTransition(booking)).isEqualTo(Transition.NO_SHOW);
+    }
+
+    @Test
+    void applyDueIgnoresBookingsTimeDoesNotMove() {
+        Booking booking = booking(BookingStatus.COMPLETED, 7L);
+
+        assertThat(policy.applyDue(booking, START.plusDays(1))).isEmpty();
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.COMPLETED);
+    }
+
+    private static Booking booking(BookingStatus status, Long driverId) {
+        Booking booking = new Booking(1L, 2L, "Site visit", START, START.plusHours(4));
+        booking.setStatus(status);
+        booking.setDriverId(driverId);
+        return booking;
+    }
+}
@@ -0,0 +1,104 @@
+package com.platform.vehicle.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurrenceRuleTest {
+
+    // A Wednesday
+    private static final LocalDateTime WEDNESDAY = LocalDateTime.of(2026, 3, 4, 9, 0);
+
+    @Test
+    void weeklyByDayPassesOverDaysBeforeTheFirstStart() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE,FR;COUNT=5");
+
+        assertThat(occurrences(rule, WEDNESDAY, 10)).containsExactly(
+                LocalDateTime.of(2026, 3, 4, 9, 0),
+                LocalDateTime.of(2026, 3, 6, 9, 0),
+                LocalDateTime.of(2026, 3, 9, 9, 0),
+                LocalDateTime.of(2026, 3, 11, 9, 0),
+                LocalDateTime.of(2026, 3, 13, 9, 0));
+    }
+
+    @Test
+    void weeklyByDayCountsFirstStartOutsideTheDays() {
+        RecurrenceRule rule = RecurrenceRule.parse("RRULE:FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,FR;COUNT=4");
+
+        assertThat(occurrences(rule, WEDNESDAY, 10)).containsExactly(
+                LocalDateTime.of(2026, 3, 4, 9, 0),
+                LocalDateTime.of(2026, 3, 6, 9, 0),
+                LocalDateTime.of(2026, 3, 16, 9, 0),
+                LocalDateTime.of(2026, 3, 20, 9, 0));
+    }
+
+    @Test
+    void monthlyRuleSkipsMonthsWithoutTheDay() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;COUNT=4");
+
+        assertThat(occurrences(rule, LocalDateTime.of(2026, 1, 31, 10, 30), 10)).containsExactly(
+                LocalDateTime.of(2026, 1, 31, 10, 30),
+                LocalDateTime.of(2026, 3, 31, 10, 30),
+                LocalDateTime.of(2026, 5, 31, 10, 30),
+                LocalDateTime.of(2026, 7, 31, 10, 30));
+    }
+
+    @Test
+    void untilDateCoversTheWholeDay() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;UNTIL=20260306");
+
+        assertThat(rule.isBounded()).isTrue();
+        assertThat(occurrences(rule, LocalDateTime.of(2026, 3, 4, 18, 0), 10)).containsExactly(
+                LocalDateTime.of(2026, 3, 4, 18, 0),
+                LocalDateTime.of(2026, 3, 5, 18, 0),
+                LocalDateTime.of(2026, 3, 6, 18, 0));
+    }
+
+    @Test
+    void untilDateTimeIsInclusive() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;UNTIL=20260306T090000Z");
+
+        assertThat(occurrences(rule, WEDNESDAY, 10)).containsExactly(
+                LocalDateTime.of(2026, 3, 4, 9, 0),
+                LocalDateTime.of(2026, 3, 5, 9, 0),
+                LocalDateTime.of(2026, 3, 6, 9, 0));
+    }
+
+    @Test
+    void unboundedRuleKeepsGoing() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=3");
+
+        assertThat(rule.isBounded()).isFalse();
+        assertThat(occurrences(rule, WEDNESDAY, 100)).hasSize(100).last()
+                .isEqualTo(WEDNESDAY.plusDays(99 * 3));
+    }
+
+    @Test
+    void parseRejectsUnsupportedRules() {
+        assertThatThrownBy(() -> RecurrenceRule.parse("INTERVAL=2"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;COUNT=3;UNTIL=20261231"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;BYDAY=MO"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=WEEKLY;COUNT=0"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;UNTIL=2026-12-31"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<LocalDateTime> occurrences(RecurrenceRule rule, LocalDateTime firstStart, int limit) {
+        List<LocalDateTime> starts = new ArrayList<>();
+        Iterator<LocalDateTime> occurrences = rule.occurrences(firstStart);
+        while (occurrences.hasNext() && starts.size() < limit) {
+            starts.add(occurrences.next());
+        }
+        return starts;
+    }
+}
@@ -0,0 +1,124 @@
+package com.platform.vehicle.infrastructure.availability;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalSetTest {
+
+    @Test
+    void emptySetOverlapsNothing() {
+        assertThat(IntervalSet.EMPTY.isEmpty()).isTrue();
+        assertThat(IntervalSet.EMPTY.overlaps(0, 100)).isFalse();
+        assertThat(IntervalSet.EMPTY.overlapping(0, 100)).isEmpty();
+    }
+
+    @Test
+    void windowsAreHalfOpen() {
+        IntervalSet set = IntervalSet.EMPTY.with(1, 10, 20);
+
+        assertThat(set.overlaps(0, 10)).isFalse();
+        assertThat(set.overlaps(20, 30)).isFalse();
+        assertThat(set.overlaps(19, 20)).isTrue();
+        assertThat(set.overlaps(0, 11)).isTrue();
+        assertThat(set.overlaps(12, 15)).isTrue();
+        assertThat(set.overlaps(5, 25)).isTrue();
+    }
+
+    @Test
+    void overlappingListsIdsByStartTime() {
+        IntervalSet set = IntervalSet.EMPTY
+                .with(3, 50, 60)
+                .with(1, 10, 40)
+                .with(2, 30, 35)
+                .with(4, 70, 80);
+
+        assertThat(set.size()).isEqualTo(4);
+        assertThat(set.overlapping(32, 55)).containsExactly(1L, 2L, 3L);
+        assertThat(set.overlapping(40, 50)).isEmpty();
+        assertThat(set.overlapping(0, 100)).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void longWindowStartingEarlyIsFound() {
+        // The only overlap is a window that starts long before many short ones
+        IntervalSet set = IntervalSet.EMPTY.with(100, 0, 1_000);
+        for (long id = 1; id <= 20; id++) {
+            set = set.with(id, id * 10, id * 10 + 5);
+        }
+
+        assertThat(set.overlapping(996, 999)).containsExactly(100L);
+    }
+
+    @Test
+    void withReplacesTheWindowOfAnId() {
+        IntervalSet set = IntervalSet.EMPTY.with(1, 10, 20).with(1, 30, 40);
+
+        assertThat(set.size()).isEqualTo(1);
+        assertThat(set.overlaps(10, 20)).isFalse();
+        assertThat(set.overlapping(35, 36)).containsExactly(1L);
+    }
+
+    @Test
+    void copiesLeaveTheOriginalUnchanged() {
+        IntervalSet original = IntervalSet.EMPTY.with(1, 10, 20);
+        IntervalSet added = original.with(2, 30, 40);
+        IntervalSet removed = added.without(1);
+
+        assertThat(original.overlapping(0, 100)).containsExactly(1L);
+        assertThat(added.overlapping(0, 100)).containsExactly(1L, 2L);
+        assertThat(removed.overlapping(0, 100)).containsExactly(2L);
+        assertThat(removed.without(2)).isSameAs(IntervalSet.EMPTY);
+        assertThat(removed.without(99)).isSameAs(removed);
+    }
+
+    @Test
+    void matchesLinearScanOnRandomWindows() {
+        Random random = new Random(42);
+        Map<Long, long[]> windows = new LinkedHashMap<>();
+        IntervalSet set = IntervalSet.EMPTY;
+
+        for (int step = 0; step < 2_000; step++) {
+            long id = random.nextInt(200);
+            if (random.nextInt(4) == 0) {
+                windows.remove(id);
+                set = set.without(id);
+            } else {
+                long start = random.nextInt(10_000);
+                long end = start + 1 + random.nextInt(300);
+                windows.put(id, new long[] {start, end});
+                set = set.with(id, start, end);
+            }
+
+            long start = random.nextInt(10_000);
+            long end = start + 1 + random.nextInt(500);
+            List<Long> expected = linearScan(windows, start, end);
+            assertThat(set.size()).isEqualTo(windows.size());
+            assertThat(set.overlapping(start, end)).containsExactlyElementsOf(expected);
+            assertThat(set.overlaps(start, end)).isEqualTo(!expected.isEmpty());
+        }
+    }
+
+    private static List<Long> linearScan(Map<Long, long[]> windows, long start, long end) {
+        List<Map.Entry<Long, long[]>> matches = new ArrayList<>();
+        for (Map.Entry<Long, long[]> window : windows.entrySet()) {
+            if (window.getValue()[0] < end && window.getValue()[1] > start) {
+                matches.add(window);
+            }
+        }
+        matches.sort(Comparator.<Map.Entry<Long, long[]>>comparingLong(window -> window.getValue()[0])
+                .thenComparingLong(Map.Entry::getKey));
+        List<Long> ids = new ArrayList<>();
+        for (Map.Entry<Long, long[]> match : matches) {
+            ids.add(match.getKey());
+        }
+        return ids;
+    }
+}
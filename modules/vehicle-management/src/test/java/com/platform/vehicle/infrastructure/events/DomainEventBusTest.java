@@ -0,0 +1,96 @@
+package com.platform.vehicle.infrastructure.events;
+
+import com.platform.vehicle.domain.Driver;
+import com.platform.vehicle.domain.Vehicle;
+import com.platform.vehicle.infrastructure.entities.DriverEntity;
+import com.platform.vehicle.infrastructure.entities.VehicleEntity;
+import com.platform.vehicle.infrastructure.repositories.DriverJpaRepository;
+import com.platform.vehicle.infrastructure.repositories.VehicleJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DomainEventBusTest {
+
+    private final VehicleJpaRepository vehicleJpaRepository = mock(VehicleJpaRepository.class);
+    private final DriverJpaRepository driverJpaRepository = mock(DriverJpaRepository.class);
+    private final List<Vehicle.VehicleStatus> vehicleChanges = new CopyOnWriteArrayList<>();
+    private final List<Driver.DriverStatus> driverChanges = new CopyOnWriteArrayList<>();
+    private DomainEventBus bus;
+    private Disposable vehicleSubscription;
+    private Disposable driverSubscription;
+
+    @BeforeEach
+    void setUp() {
+        when(vehicleJpaRepository.findAllStatuses()).thenReturn(List.<Object[]>of(
+                new Object[] {1L, VehicleEntity.VehicleStatus.AVAILABLE}));
+        when(driverJpaRepository.findAllStatuses()).thenReturn(List.<Object[]>of(
+                new Object[] {1L, DriverEntity.DriverStatus.AVAILABLE}));
+        bus = new DomainEventBus(vehicleJpaRepository, driverJpaRepository, 16,
+                DomainEventBus.OverflowStrategy.DROP_OLDEST);
+        vehicleSubscription = bus.vehicleStatusChanged().subscribe(vehicle -> vehicleChanges.add(vehicle.getStatus()));
+        driverSubscription = bus.driverStatusChanged().subscribe(driver -> driverChanges.add(driver.getStatus()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        vehicleSubscription.dispose();
+        driverSubscription.dispose();
+    }
+
+    @Test
+    void firstSaveAfterStartupIsComparedWithTheStoredStatus() {
+        bus.loadStatuses();
+
+        bus.onVehicleSaved(vehicle(1L, Vehicle.VehicleStatus.AVAILABLE));
+        bus.onVehicleSaved(vehicle(1L, Vehicle.VehicleStatus.IN_USE));
+        bus.onDriverSaved(driver(1L, Driver.DriverStatus.AVAILABLE));
+        bus.onDriverSaved(driver(1L, Driver.DriverStatus.ON_DUTY));
+
+        assertThat(vehicleChanges).containsExactly(Vehicle.VehicleStatus.IN_USE);
+        assertThat(driverChanges).containsExactly(Driver.DriverStatus.ON_DUTY);
+    }
+
+    @Test
+    void aggregateWithoutKnownStatusIsNotPublishedAsAChange() {
+        bus.loadStatuses();
+
+        bus.onVehicleSaved(vehicle(2L, Vehicle.VehicleStatus.AVAILABLE));
+        assertThat(vehicleChanges).isEmpty();
+
+        bus.onVehicleSaved(vehicle(2L, Vehicle.VehicleStatus.BOOKED));
+        assertThat(vehicleChanges).containsExactly(Vehicle.VehicleStatus.BOOKED);
+    }
+
+    @Test
+    void statusesSavedBeforeLoadingAreKept() {
+        bus.onVehicleSaved(vehicle(1L, Vehicle.VehicleStatus.IN_USE));
+        bus.loadStatuses();
+
+        bus.onVehicleSaved(vehicle(1L, Vehicle.VehicleStatus.IN_USE));
+
+        assertThat(vehicleChanges).isEmpty();
+    }
+
+    private static Vehicle vehicle(Long id, Vehicle.VehicleStatus status) {
+        Vehicle vehicle = new Vehicle("BUS-" + id, "Toyota", "Camry", 2022, Vehicle.VehicleType.SEDAN, 4);
+        vehicle.setId(id);
+        vehicle.setStatus(status);
+        return vehicle;
+    }
+
+    private static Driver driver(Long id, Driver.DriverStatus status) {
+        Driver driver = new Driver(id, Driver.LicenseType.CLASS_1, "LIC-" + id);
+        driver.setId(id);
+        driver.setStatus(status);
+        return driver;
+    }
+}
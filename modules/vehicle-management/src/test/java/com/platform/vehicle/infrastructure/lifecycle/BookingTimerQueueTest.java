@@ -0,0 +1,254 @@
+package com.platform.vehicle.infrastructure.lifecycle;
+
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.domain.Booking.BookingStatus;
+import com.platform.vehicle.domain.BookingLifecyclePolicy.Transition;
+import com.platform.vehicle.infrastructure.adapters.EntityMapper;
+import com.platform.vehicle.infrastructure.entities.BookingEntity;
+import com.platform.vehicle.infrastructure.repositories.BookingJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class BookingTimerQueueTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 9, 0);
+    private static final long CONFIRM_LEAD_MS = Duration.ofHours(24).toMillis();
+    private static final long NO_SHOW_GRACE_MS = Duration.ofMinutes(30).toMillis();
+    private static final long LOOKAHEAD_MS = Duration.ofHours(1).toMillis();
+
+    private BookingJpaRepository bookingJpaRepository;
+    private BookingTimerQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        bookingJpaRepository = mock(BookingJpaRepository.class);
+        EntityMapper entityMapper = mock(EntityMapper.class);
+        when(entityMapper.toDomainBookingWithoutHistory(any()))
+                .thenAnswer(invocation -> toBooking(invocation.getArgument(0)));
+        queue = new BookingTimerQueue(bookingJpaRepository, entityMapper,
+                CONFIRM_LEAD_MS, NO_SHOW_GRACE_MS, LOOKAHEAD_MS, 2);
+    }
+
+    @Test
+    void loadPagesThroughTheWindowOnStartTimeAndId() {
+        BookingEntity first = row(1L, BookingEntity.BookingStatus.PENDING, NOW.minusMinutes(10), null);
+        BookingEntity second = row(2L, BookingEntity.BookingStatus.PENDING, NOW.minusMinutes(10), null);
+        BookingEntity third = row(3L, BookingEntity.BookingStatus.APPROVED, NOW.plusHours(2), null);
+        when(bookingJpaRepository.findLifecyclePageByStartTime(any(), anyLong(), any(), any()))
+                .thenReturn(List.of(first, second), List.of(third));
+
+        assertThat(queue.load(NOW)).isEqualTo(3);
+
+        LocalDateTime until = NOW.plusHours(25);
+        ArgumentCaptor<LocalDateTime> afterStartTime = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<Long> afterId = ArgumentCaptor.forClass(Long.class);
+        verify(bookingJpaRepository, times(2)).findLifecyclePageByStartTime(
+                afterStartTime.capture(), afterId.capture(), eq(until), any(Pageable.class));
+        // The first load has no lower bound; the second page continues after the last row of the first
+        assertThat(afterStartTime.getAllValues().get(0)).isBefore(NOW.minusYears(100));
+        assertThat(afterId.getAllValues().get(0)).isZero();
+        assertThat(afterStartTime.getAllValues().get(1)).isEqualTo(second.getStartTime());
+        assertThat(afterId.getAllValues().get(1)).isEqualTo(2L);
+        assertThat(queue.getLoadedUntil()).isEqualTo(until);
+        assertThat(queue.size()).isEqualTo(3);
+    }
+
+    @Test
+    void loadReadsTheNextSliceOnlyOnceHalfTheLookaheadIsUsedUp() {
+        BookingEntity last = row(5L, BookingEntity.BookingStatus.APPROVED, NOW.plusHours(20), null);
+        when(bookingJpaRepository.findLifecyclePageByStartTime(any(), anyLong(), any(), any()))
+                .thenReturn(List.of(last), List.of());
+        queue.load(NOW);
+
+        assertThat(queue.load(NOW.plusMinutes(29))).isZero();
+        verify(bookingJpaRepository, times(1)).findLifecyclePageByStartTime(any(), anyLong(), any(), any());
+
+        queue.load(NOW.plusMinutes(31));
+        // Resumes from the keyset cursor instead of re-reading the window
+        verify(bookingJpaRepository).findLifecyclePageByStartTime(
+                eq(last.getStartTime()), eq(5L), eq(NOW.plusMinutes(31).plusHours(25)), any(Pageable.class));
+        verifyNoMoreInteractions(bookingJpaRepository);
+        assertThat(queue.getLoadedUntil()).isEqualTo(NOW.plusMinutes(31).plusHours(25));
+    }
+
+    @Test
+    void pollDueReturnsDueTimersEarliestFirst() {
+        when(bookingJpaRepository.findLifecyclePageByStartTime(any(), anyLong(), any(), any()))
+                .thenReturn(List.of(
+                        row(1L, BookingEntity.BookingStatus.PENDING, NOW.minusMinutes(10), null),
+                        row(2L, BookingEntity.BookingStatus.APPROVED, NOW.plusHours(23), null)))
+                .thenReturn(List.of(row(3L, BookingEntity.BookingStatus.CONFIRMED, NOW.plusMinutes(10), 7L)));
+        queue.load(NOW);
+        assertThat(queue.getLag(NOW)).isEqualTo(Duration.ofHours(1));
+
+        List<BookingTimerQueue.Timer> due = queue.pollDue(NOW, 10);
+
+        assertThat(due).extracting(BookingTimerQueue.Timer::getBookingId).containsExactly(2L, 1L);
+        assertThat(due).extracting(BookingTimerQueue.Timer::getTransition)
+                .containsExactly(Transition.CONFIRM, Transition.EXPIRE);
+        assertThat(due.get(0).getFireAt()).isEqualTo(NOW.minusHours(1));
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(queue.getLag(NOW)).isEqualTo(Duration.ZERO);
+        assertThat(queue.pollDue(NOW.plusMinutes(10), 10)).extracting(BookingTimerQueue.Timer::getTransition)
+                .containsExactly(Transition.ACTIVATE);
+    }
+
+    @Test
+    void pollDueRespectsTheLimit() {
+        when(bookingJpaRepository.findLifecyclePageByStartTime(any(), anyLong(), any(), any()))
+                .thenReturn(List.of(
+                        row(1L, BookingEntity.BookingStatus.PENDING, NOW.minusMinutes(20), null),
+                        row(2L, BookingEntity.BookingStatus.PENDING, NOW.minusMinutes(10), null)))
+                .thenReturn(List.of());
+        queue.load(NOW);
+
+        assertThat(queue.pollDue(NOW, 1)).extracting(BookingTimerQueue.Timer::getBookingId).containsExactly(1L);
+        assertThat(queue.pollDue(NOW, 1)).extracting(BookingTimerQueue.Timer::getBookingId).containsExactly(2L);
+        assertThat(queue.pollDue(NOW, 1)).isEmpty();
+    }
+
+    @Test
+    void rescheduledBookingSupersedesItsStaleTimer() {
+        loadEmptyWindow();
+        Booking booking = booking(1L, BookingStatus.PENDING, NOW.minusMinutes(10), null);
+        queue.schedule(booking);
+
+        // Moved to a later start before the old timer fired
+        booking.setStartTime(NOW.plusMinutes(20));
+        queue.schedule(booking);
+
+        assertThat(queue.pollDue(NOW, 10)).isEmpty();
+        assertThat(queue.size()).isEqualTo(1);
+        List<BookingTimerQueue.Timer> due = queue.pollDue(NOW.plusMinutes(20), 10);
+        assertThat(due).hasSize(1);
+        assertThat(due.get(0).getFireAt()).isEqualTo(NOW.plusMinutes(20));
+    }
+
+    @Test
+    void scheduleDropsTimerOfBookingTimeNoLongerMoves() {
+        loadEmptyWindow();
+        Booking booking = booking(1L, BookingStatus.PENDING, NOW.minusMinutes(10), null);
+        queue.schedule(booking);
+
+        booking.setStatus(BookingStatus.CANCELLED);
+        queue.schedule(booking);
+
+        assertThat(queue.size()).isZero();
+        assertThat(queue.pollDue(NOW, 10)).isEmpty();
+        assertThat(queue.getLag(NOW)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void scheduleIgnoresBookingsOutsideTheWindow() {
+        Booking booking = booking(1L, BookingStatus.PENDING, NOW.minusMinutes(10), null);
+        // Nothing loaded yet
+        queue.schedule(booking);
+        assertThat(queue.size()).isZero();
+
+        loadEmptyWindow();
+        queue.schedule(booking(2L, BookingStatus.PENDING, NOW.plusHours(26), null));
+        assertThat(queue.size()).isZero();
+    }
+
+    @Test
+    void loadKeepsTimerArmedByAConcurrentSave() {
+        when(bookingJpaRepository.findLifecyclePageByStartTime(any(), anyLong(), any(), any()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(row(1L, BookingEntity.BookingStatus.PENDING, NOW.plusHours(25), null)));
+        queue.load(NOW);
+        // Saved as approved while the next slice still held the pending row
+        queue.schedule(booking(1L, BookingStatus.APPROVED, NOW.plusHours(25), null));
+
+        queue.load(NOW.plusMinutes(31));
+
+        List<BookingTimerQueue.Timer> due = queue.pollDue(NOW.plusHours(2), 10);
+        assertThat(due).extracting(BookingTimerQueue.Timer::getTransition).containsExactly(Transition.CONFIRM);
+    }
+
+    @Test
+    void retryFiresThePolledTimerAgainLater() {
+        loadEmptyWindow();
+        queue.schedule(booking(1L, BookingStatus.PENDING, NOW.minusMinutes(10), null));
+        BookingTimerQueue.Timer timer = queue.pollDue(NOW, 10).get(0);
+
+        queue.retry(timer, NOW.plusMinutes(1));
+
+        assertThat(queue.pollDue(NOW, 10)).isEmpty();
+        assertThat(queue.pollDue(NOW.plusMinutes(1), 10)).extracting(BookingTimerQueue.Timer::getBookingId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void retryDefersToTimerArmedSinceThePoll() {
+        loadEmptyWindow();
+        Booking booking = booking(1L, BookingStatus.PENDING, NOW.minusMinutes(10), null);
+        queue.schedule(booking);
+        BookingTimerQueue.Timer timer = queue.pollDue(NOW, 10).get(0);
+
+        booking.setStatus(BookingStatus.CONFIRMED);
+        booking.setDriverId(7L);
+        booking.setStartTime(NOW.plusMinutes(5));
+        queue.schedule(booking);
+        queue.retry(timer, NOW.plusMinutes(1));
+
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(queue.pollDue(NOW.plusMinutes(1), 10)).isEmpty();
+        assertThat(queue.pollDue(NOW.plusMinutes(5), 10)).extracting(BookingTimerQueue.Timer::getTransition)
+                .containsExactly(Transition.ACTIVATE);
+    }
+
+    @Test
+    void deletedBookingDropsItsTimer() {
+        loadEmptyWindow();
+        queue.schedule(booking(1L, BookingStatus.PENDING, NOW.minusMinutes(10), null));
+
+        queue.onBookingDeleted(1L);
+
+        assertThat(queue.size()).isZero();
+        assertThat(queue.pollDue(NOW, 10)).isEmpty();
+    }
+
+    private void loadEmptyWindow() {
+        when(bookingJpaRepository.findLifecyclePageByStartTime(any(), anyLong(), any(), any()))
+                .thenReturn(List.of());
+        queue.load(NOW);
+    }
+
+    private static BookingEntity row(Long id, BookingEntity.BookingStatus status, LocalDateTime start,
+                                     Long driverId) {
+        BookingEntity entity = new BookingEntity(1L, 2L, "Site visit", start, start.plusHours(4));
+        entity.setId(id);
+        entity.setStatus(status);
+        entity.setDriverId(driverId);
+        return entity;
+    }
+
+    private static Booking toBooking(BookingEntity entity) {
+        return booking(entity.getId(), BookingStatus.valueOf(entity.getStatus().name()),
+                entity.getStartTime(), entity.getDriverId());
+    }
+
+    private static Booking booking(Long id, BookingStatus status, LocalDateTime start, Long driverId) {
+        Booking booking = new Booking(1L, 2L, "Site visit", start, start.plusHours(4));
+        booking.setId(id);
+        booking.setStatus(status);
+        booking.setDriverId(driverId);
+        return booking;
+    }
+}
@@ -0,0 +1,101 @@
+package com.platform.vehicle.infrastructure.metrics;
+
+import com.platform.vehicle.domain.Booking;
+import com.platform.vehicle.domain.Booking.BookingStatus;
+import com.platform.vehicle.infrastructure.adapters.EntityMapper;
+import com.platform.vehicle.infrastructure.entities.BookingEntity;
+import com.platform.vehicle.infrastructure.repositories.BookingJpaRepository;
+import com.platform.vehicle.infrastructure.repositories.DriverJpaRepository;
+import com.platform.vehicle.infrastructure.repositories.VehicleJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DashboardMetricsTest {
+
+    private BookingJpaRepository bookingJpaRepository;
+    private DashboardMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        bookingJpaRepository = mock(BookingJpaRepository.class);
+        metrics = new DashboardMetrics(mock(VehicleJpaRepository.class), mock(DriverJpaRepository.class),
+                bookingJpaRepository, mock(EntityMapper.class), 5);
+    }
+
+    @Test
+    void initializeSeedsTheActivityFeedWithOnePageOfItsCapacity() {
+        metrics.initialize();
+
+        verify(bookingJpaRepository).findByOrderByUpdatedAtDesc(PageRequest.ofSize(5));
+        assertThat(metrics.isReady()).isTrue();
+    }
+
+    @Test
+    void reconcileCountsUpcomingBookingsFromTheStoredStartTimes() {
+        LocalDateTime now = LocalDateTime.now();
+        when(bookingJpaRepository.findOpenBookingStates()).thenReturn(List.of(
+                row(1L, BookingEntity.BookingStatus.APPROVED, now.plusHours(2)),
+                row(2L, BookingEntity.BookingStatus.CONFIRMED, now.minusHours(1)),
+                row(3L, BookingEntity.BookingStatus.ACTIVE, now.minusHours(1))));
+        when(bookingJpaRepository.count()).thenReturn(10L);
+
+        metrics.reconcile();
+        metrics.onBookingCreated(booking(4L, BookingStatus.PENDING, now.plusDays(1)));
+
+        assertThat(metrics.getUpcomingBookings()).isEqualTo(1);
+        assertThat(metrics.getBookingCount(BookingStatus.CONFIRMED)).isEqualTo(1);
+        assertThat(metrics.getTotalBookings()).isEqualTo(11);
+    }
+
+    @Test
+    void upcomingBookingsLeaveTheCountWhenTheyStart() {
+        LocalDateTime now = LocalDateTime.now();
+        metrics.reconcile();
+        metrics.onBookingSaved(booking(1L, BookingStatus.APPROVED, now.plusHours(2)));
+        metrics.onBookingSaved(booking(2L, BookingStatus.CONFIRMED, now.plusNanos(300_000_000)));
+        metrics.onBookingSaved(booking(3L, BookingStatus.PENDING, now.plusHours(1)));
+        assertThat(metrics.getUpcomingBookings()).isEqualTo(2);
+
+        // No save marks the start of a confirmed self-drive booking
+        await().atMost(Duration.ofSeconds(5)).until(() -> metrics.getUpcomingBookings() == 1);
+        assertThat(metrics.getBookingCount(BookingStatus.CONFIRMED)).isEqualTo(1);
+    }
+
+    @Test
+    void lifecycleTransitionsMoveTheUpcomingCount() {
+        LocalDateTime start = LocalDateTime.now().plusHours(2);
+        metrics.reconcile();
+        metrics.onBookingSaved(booking(1L, BookingStatus.PENDING, start));
+        assertThat(metrics.getUpcomingBookings()).isZero();
+
+        metrics.onBookingSaved(booking(1L, BookingStatus.APPROVED, start));
+        metrics.onBookingSaved(booking(1L, BookingStatus.CONFIRMED, start));
+        assertThat(metrics.getUpcomingBookings()).isEqualTo(1);
+
+        metrics.onBookingSaved(booking(1L, BookingStatus.CANCELLED, start));
+        assertThat(metrics.getUpcomingBookings()).isZero();
+        assertThat(metrics.getBookingCount(BookingStatus.CONFIRMED)).isZero();
+    }
+
+    private static Object[] row(Long id, BookingEntity.BookingStatus status, LocalDateTime startTime) {
+        return new Object[] {id, status, startTime};
+    }
+
+    private static Booking booking(Long id, BookingStatus status, LocalDateTime start) {
+        Booking booking = new Booking(1L, 2L, "Site visit", start, start.plusHours(4));
+        booking.setId(id);
+        booking.setStatus(status);
+        return booking;
+    }
+}
@@ -0,0 +1,188 @@
+package com.platform.vehicle.infrastructure.notifications;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class NotificationDispatcherTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final LocalMailbox mailbox = new LocalMailbox(100);
+    private final RecordingSender inApp = new RecordingSender();
+    private NotificationDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void emailsAreMergedIntoOneDigestPerRecipient() {
+        dispatcher = dispatcher(List.of(mailbox, inApp), 100, 50, 300, 3, 10);
+
+        dispatcher.submit(email("alice", "Booking approved"));
+        dispatcher.submit(email("bob", "Booking cancelled"));
+        dispatcher.submit(email("alice", "Booking confirmed"));
+        dispatcher.submit(email("alice", "Trip started"));
+
+        await().atMost(TIMEOUT).until(() -> mailbox.getMessages().size() == 2);
+        List<OutboundNotification> messages = mailbox.getMessages();
+        OutboundNotification alice = messages.get(0);
+        assertThat(alice.getRecipient()).isEqualTo("alice");
+        assertThat(alice.getSubject()).isEqualTo("3 booking updates");
+        assertThat(alice.getBody())
+                .contains("Booking approved", "Booking confirmed", "Trip started");
+        OutboundNotification bob = messages.get(1);
+        assertThat(bob.getRecipient()).isEqualTo("bob");
+        assertThat(bob.getSubject()).isEqualTo("Booking cancelled");
+        assertThat(dispatcher.getDeliveredCount()).isEqualTo(4);
+    }
+
+    @Test
+    void inAppNotificationsAreBatchedWithoutMerging() {
+        dispatcher = dispatcher(List.of(mailbox, inApp), 100, 2, 300, 3, 10);
+
+        dispatcher.submit(inApp("alice", "Booking approved"));
+        dispatcher.submit(inApp("alice", "Booking confirmed"));
+        dispatcher.submit(inApp("bob", "Booking cancelled"));
+
+        await().atMost(TIMEOUT).until(() -> dispatcher.getDeliveredCount() == 3);
+        // The first two fill a batch, the third goes out when the next window closes
+        assertThat(inApp.batches).extracting(List::size).containsExactly(2, 1);
+        assertThat(inApp.batches.get(0)).extracting(OutboundNotification::getSubject)
+                .containsExactly("Booking approved", "Booking confirmed");
+        assertThat(mailbox.getMessages()).isEmpty();
+    }
+
+    @Test
+    void failedBatchesAreRetriedWithBackoff() {
+        RecordingSender flaky = new RecordingSender();
+        flaky.failures.set(2);
+        dispatcher = dispatcher(List.of(flaky), 100, 50, 10, 3, 50);
+
+        dispatcher.submit(inApp("alice", "Booking approved"));
+
+        await().atMost(TIMEOUT).until(() -> dispatcher.getDeliveredCount() == 1);
+        assertThat(flaky.attemptNanos).hasSize(3);
+        // The backoff doubles after every failed attempt
+        assertThat(flaky.attemptNanos.get(1) - flaky.attemptNanos.get(0))
+                .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(flaky.attemptNanos.get(2) - flaky.attemptNanos.get(1))
+                .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(dispatcher.getRetryCount()).isEqualTo(2);
+        assertThat(dispatcher.getFailedCount()).isZero();
+    }
+
+    @Test
+    void batchesAreGivenUpOnAfterTheLastAttempt() {
+        RecordingSender broken = new RecordingSender();
+        broken.failures.set(Integer.MAX_VALUE);
+        dispatcher = dispatcher(List.of(broken), 100, 50, 10, 3, 10);
+
+        dispatcher.submit(inApp("alice", "Booking approved"));
+        dispatcher.submit(inApp("bob", "Booking cancelled"));
+
+        await().atMost(TIMEOUT).until(() -> dispatcher.getFailedCount() == 2);
+        assertThat(broken.attemptNanos).hasSize(3);
+        assertThat(dispatcher.getRetryCount()).isEqualTo(2);
+        assertThat(dispatcher.getDeliveredCount()).isZero();
+    }
+
+    @Test
+    void notificationsAreDroppedWhenTheQueueIsFull() throws InterruptedException {
+        RecordingSender blocked = new RecordingSender();
+        blocked.release = new CountDownLatch(1);
+        dispatcher = dispatcher(List.of(blocked), 1, 50, 10, 3, 10);
+
+        // The worker takes the first notification and blocks in the sender
+        assertThat(dispatcher.submit(inApp("alice", "first"))).isTrue();
+        assertThat(blocked.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(dispatcher.submit(inApp("alice", "second"))).isTrue();
+        assertThat(dispatcher.submit(inApp("alice", "third"))).isFalse();
+        assertThat(dispatcher.getQueueDepth()).isEqualTo(1);
+        assertThat(dispatcher.getDroppedCount()).isEqualTo(1);
+
+        blocked.release.countDown();
+        await().atMost(TIMEOUT).until(() -> dispatcher.getDeliveredCount() == 2);
+        assertThat(blocked.batches.stream().flatMap(List::stream).map(OutboundNotification::getSubject))
+                .containsExactly("first", "second");
+        assertThat(dispatcher.getSubmittedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void countsArePublishedAsMeters() {
+        RecordingSender flaky = new RecordingSender();
+        flaky.failures.set(1);
+        dispatcher = dispatcher(List.of(flaky), 100, 50, 10, 3, 10);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        dispatcher.bindTo(registry);
+
+        dispatcher.submit(inApp("alice", "Booking approved"));
+
+        await().atMost(TIMEOUT).until(() -> dispatcher.getDeliveredCount() == 1);
+        assertThat(registry.get("bpr.vehicle.notifications.submitted").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("bpr.vehicle.notifications.delivered").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("bpr.vehicle.notifications.retries").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("bpr.vehicle.notifications.dropped").functionCounter().count()).isZero();
+        assertThat(registry.get("bpr.vehicle.notifications.queue.depth").gauge().value()).isZero();
+    }
+
+    private static NotificationDispatcher dispatcher(List<NotificationSender> senders, int queueCapacity,
+                                                     int batchSize, long batchWindowMs, int maxAttempts,
+                                                     long initialBackoffMs) {
+        return new NotificationDispatcher(senders, queueCapacity, batchSize, batchWindowMs, maxAttempts,
+                initialBackoffMs);
+    }
+
+    private static OutboundNotification email(String recipient, String subject) {
+        return new OutboundNotification(NotificationChannel.EMAIL, recipient, subject, subject + " body");
+    }
+
+    private static OutboundNotification inApp(String recipient, String subject) {
+        return new OutboundNotification(NotificationChannel.IN_APP, recipient, subject, subject + " body");
+    }
+
+    /**
+     * In-app sender that records its batches and can fail or block on demand.
+     */
+    private static final class RecordingSender implements NotificationSender {
+
+        private final List<List<OutboundNotification>> batches = new CopyOnWriteArrayList<>();
+        private final List<Long> attemptNanos = new CopyOnWriteArrayList<>();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private volatile CountDownLatch release;
+
+        @Override
+        public NotificationChannel getChannel() {
+            return NotificationChannel.IN_APP;
+        }
+
+        @Override
+        public void send(List<OutboundNotification> notifications) throws Exception {
+            attemptNanos.add(System.nanoTime());
+            entered.countDown();
+            if (release != null) {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            if (failures.getAndDecrement() > 0) {
+                throw new IllegalStateException("Sender unavailable");
+            }
+            batches.add(new ArrayList<>(notifications));
+        }
+    }
+}
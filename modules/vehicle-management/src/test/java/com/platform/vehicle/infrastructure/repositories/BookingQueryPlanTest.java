@@ -0,0 +1,229 @@
+package com.platform.vehicle.infrastructure.repositories;
+
+import com.platform.vehicle.infrastructure.metrics.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plans of the booking repository queries on the PostgreSQL schema built by
+ * the Flyway migrations. Each test runs a repository method, captures the SQL
+ * Hibernate generated for it through {@link QueryCounter}, and asserts that
+ * its plan, with the same arguments bound, scans the index added for it in V2.
+ *
+ * Sequential scans are disabled for the EXPLAIN: the seeded table is small
+ * enough that the planner might read it whole, and the test is about which
+ * index a query can use, not about the planner's choice at this size. The
+ * seeded bookings lie in the future so the lifecycle scheduler leaves them
+ * alone. Skipped without Docker.
+ */
+@SpringBootTest(properties = "bpr.vehicle.query-counter.enabled=true")
+@ActiveProfiles("postgres")
+@Testcontainers(disabledWithoutDocker = true)
+class BookingQueryPlanTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final Pattern PARAMETER = Pattern.compile("\\?");
+    private static boolean seeded;
+
+    @Autowired
+    private BookingJpaRepository bookingJpaRepository;
+
+    @Autowired
+    private BookingEventJpaRepository bookingEventJpaRepository;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO vehicles (id, status, type, plate_number, make, model, manufacture_year, "
+                + "capacity) SELECT g, 'AVAILABLE', 'SEDAN', 'PLAN-' || g, 'Make', 'Model', 2024, 4 "
+                + "FROM generate_series(1, 200) g");
+        jdbcTemplate.update("INSERT INTO drivers (id, status, license_type, license_number) "
+                + "SELECT g, 'AVAILABLE', 'B', 'LIC-' || g FROM generate_series(1, 150) g");
+        // One booking per hour, so blocking bookings never overlap on a vehicle or driver
+        jdbcTemplate.update("INSERT INTO bookings (id, booking_reference, status, type, vehicle_id, driver_id, "
+                + "requester_id, start_time, end_time, purpose, manager_name, created_at) "
+                + "SELECT g, 'BKG-PLAN-' || g, "
+                + "CASE g % 10 WHEN 0 THEN 'PENDING' WHEN 1 THEN 'APPROVED' WHEN 2 THEN 'CONFIRMED' "
+                + "WHEN 3 THEN 'ACTIVE' WHEN 4 THEN 'CANCELLED' ELSE 'COMPLETED' END, 'BUSINESS_TRIP', "
+                + "g % 200 + 1, CASE WHEN g % 4 = 0 THEN NULL ELSE g % 150 + 1 END, g % 500 + 1, "
+                + "TIMESTAMP '2030-01-01' + g * INTERVAL '1 hour', "
+                + "TIMESTAMP '2030-01-01' + g * INTERVAL '1 hour' + INTERVAL '45 minutes', "
+                + "'Query plan', 'Manager ' || g % 20, TIMESTAMP '2025-06-01' + g * INTERVAL '1 minute' "
+                + "FROM generate_series(1, 20000) g");
+        jdbcTemplate.update("INSERT INTO booking_events (booking_id, event_id, event_type, timestamp) "
+                + "SELECT b.id, 'EVT-' || b.id || '-' || n, 'BOOKING_UPDATED', b.created_at + n * INTERVAL '1 minute' "
+                + "FROM bookings b CROSS JOIN generate_series(1, 3) n");
+        jdbcTemplate.execute("ANALYZE");
+        seeded = true;
+    }
+
+    @Test
+    void supersededIndexesAreDropped() {
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE tablename = 'bookings'", String.class))
+                .contains("idx_bookings_start_id", "idx_bookings_requester_created")
+                .doesNotContain("idx_bookings_requester_id", "idx_bookings_start_time", "idx_bookings_end_time");
+    }
+
+    @Test
+    void vehicleConflictQueryUsesVehicleWindowIndex() {
+        LocalDateTime start = LocalDateTime.of(2030, 6, 1, 0, 0);
+        LocalDateTime end = start.plusDays(1);
+        assertUsesIndex("idx_bookings_vehicle_window",
+                () -> bookingJpaRepository.findConflictingBookings(7L, start, end),
+                7L, end, start);
+    }
+
+    @Test
+    void driverConflictQueryUsesDriverWindowIndex() {
+        LocalDateTime start = LocalDateTime.of(2030, 6, 1, 0, 0);
+        LocalDateTime end = start.plusDays(1);
+        assertUsesIndex("idx_bookings_driver_window",
+                () -> bookingJpaRepository.findConflictingBookingsForDriver(7L, start, end),
+                7L, end, start);
+    }
+
+    @Test
+    void upcomingQueryUsesUpcomingIndex() {
+        LocalDateTime now = LocalDateTime.of(2031, 12, 1, 0, 0);
+        assertUsesIndex("idx_bookings_upcoming",
+                () -> bookingJpaRepository.findUpcomingBookings(now),
+                now);
+    }
+
+    @Test
+    void pendingQueryUsesPendingIndex() {
+        assertUsesIndex("idx_bookings_pending_created",
+                () -> bookingJpaRepository.findPendingBookings());
+    }
+
+    @Test
+    void approvalQueryUsesPendingManagerIndex() {
+        assertUsesIndex("idx_bookings_pending_manager",
+                () -> bookingJpaRepository.findBookingsRequiringApproval("Manager 10"),
+                "Manager 10");
+    }
+
+    @Test
+    void requesterPageUsesRequesterIndex() {
+        LocalDateTime before = LocalDateTime.of(2025, 6, 10, 0, 0);
+        assertUsesIndex("idx_bookings_requester_created",
+                () -> bookingJpaRepository.findPageByRequesterIdOrderByCreatedAtDesc(
+                        42L, before, 13000L, PageRequest.ofSize(21)),
+                42L, before, before, 13000L, 21);
+    }
+
+    @Test
+    void startTimePageUsesStartIdIndex() {
+        LocalDateTime after = LocalDateTime.of(2030, 6, 1, 0, 0);
+        // Without filters, as the unfiltered bookings connection pages
+        assertUsesIndex("idx_bookings_start_id",
+                () -> bookingJpaRepository.findPageByStartTime(
+                        null, null, null, null, after, 3600L, PageRequest.ofSize(21)),
+                null, null, null, null, null, null, null, null, after, after, 3600L, 21);
+    }
+
+    @Test
+    void eventHistoryQueryUsesBookingIdIndex() {
+        assertUsesIndex("idx_booking_events_booking_id",
+                () -> bookingEventJpaRepository.findByBookingIdInOrderByTimestampAsc(List.of(10L, 20L, 30L)),
+                10L, 20L, 30L);
+    }
+
+    /**
+     * Run the query, then explain the first statement it issued with the
+     * given arguments bound in the order of its parameter markers.
+     */
+    private void assertUsesIndex(String index, Runnable query, Object... arguments) {
+        String sql;
+        try (QueryCounter.Scope scope = queryCounter.open()) {
+            query.run();
+            assertThat(scope.getStatements()).isNotEmpty();
+            sql = scope.getStatements().get(0);
+        }
+        String bound = bind(sql, arguments);
+        String plan = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            List<String> lines = new ArrayList<>();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+                try (ResultSet rs = statement.executeQuery("EXPLAIN " + bound)) {
+                    while (rs.next()) {
+                        lines.add(rs.getString(1));
+                    }
+                } finally {
+                    statement.execute("RESET enable_seqscan");
+                }
+            }
+            return String.join("\n", lines);
+        });
+        Pattern indexScan = Pattern.compile("(Index Scan|Index Only Scan)( Backward)? using " + index + " "
+                + "|Bitmap Index Scan on " + index + "\\b");
+        assertThat(indexScan.matcher(plan).find())
+                .as("Expected a scan of %s in the plan of%n%s%n%s", index, bound, plan)
+                .isTrue();
+    }
+
+    /**
+     * Inline the arguments as literals, so the planner sees the values as it
+     * does for a custom plan of the prepared statement.
+     */
+    private static String bind(String sql, Object... arguments) {
+        String[] parts = PARAMETER.split(sql, -1);
+        assertThat(parts.length - 1).as("Parameter markers in%n%s", sql).isEqualTo(arguments.length);
+        StringBuilder bound = new StringBuilder(parts[0]);
+        for (int i = 0; i < arguments.length; i++) {
+            bound.append(literal(arguments[i])).append(parts[i + 1]);
+        }
+        return bound.toString();
+    }
+
+    private static String literal(Object argument) {
+        if (argument == null) {
+            return "NULL";
+        }
+        if (argument instanceof Number) {
+            return argument.toString();
+        }
+        if (argument instanceof LocalDateTime) {
+            return "TIMESTAMP '" + argument + "'";
+        }
+        return "'" + argument.toString().replace("'", "''") + "'";
+    }
+}
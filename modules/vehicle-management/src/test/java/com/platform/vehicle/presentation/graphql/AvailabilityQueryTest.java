@@ -0,0 +1,52 @@
+package com.platform.vehicle.presentation.graphql;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureGraphQlTester;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.test.tester.GraphQlTester;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Availability queries against the sample data. Booking BKG00000006 holds
+ * vehicle 9 and driver 7 from 33 to 41 hours after the data was loaded.
+ */
+@SpringBootTest
+@AutoConfigureGraphQlTester
+class AvailabilityQueryTest {
+
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @Test
+    void availableVehiclesLeavesOutBookedVehicles() {
+        LocalDateTime start = LocalDateTime.now().plusHours(34);
+        graphQlTester.document("query($start: DateTime!, $end: DateTime!) { "
+                        + "availableVehicles(startTime: $start, endTime: $end) { id } }")
+                .variable("start", iso(start))
+                .variable("end", iso(start.plusHours(2)))
+                .execute()
+                .path("availableVehicles[*].id").entityList(String.class)
+                .contains("1")
+                .doesNotContain("9");
+    }
+
+    @Test
+    void availableDriversLeavesOutAssignedDrivers() {
+        LocalDateTime start = LocalDateTime.now().plusHours(34);
+        graphQlTester.document("query($start: DateTime!, $end: DateTime!) { "
+                        + "availableDrivers(startTime: $start, endTime: $end) { id } }")
+                .variable("start", iso(start))
+                .variable("end", iso(start.plusHours(2)))
+                .execute()
+                .path("availableDrivers[*].id").entityList(String.class)
+                .contains("15")
+                .doesNotContain("7");
+    }
+
+    private static String iso(LocalDateTime dateTime) {
+        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+    }
+}
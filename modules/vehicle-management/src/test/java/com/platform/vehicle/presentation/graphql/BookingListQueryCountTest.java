@@ -0,0 +1,104 @@
+package com.platform.vehicle.presentation.graphql;
+
+import com.platform.vehicle.infrastructure.metrics.QueryCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureGraphQlTester;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.test.tester.GraphQlTester;
+
+/**
+ * Statement counts of the list and connection queries against the sample data.
+ * Relations are resolved through DataLoaders, so the bounds hold however many
+ * bookings a page contains; an N+1 regression exceeds them.
+ */
+@SpringBootTest(properties = "bpr.vehicle.query-counter.enabled=true")
+@AutoConfigureGraphQlTester
+class BookingListQueryCountTest {
+
+    // eventHistory is outside the column selections and forces the entity path
+    private static final String BOOKING_WITH_RELATIONS =
+            "id bookingReference status vehicle { id plateNumber } driver { id } eventHistory { eventType }";
+
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Test
+    void bookingsLoadRelationsInOneQueryEach() {
+        try (QueryCounter.Scope scope = queryCounter.open()) {
+            graphQlTester.document("{ bookings { " + BOOKING_WITH_RELATIONS + " } }")
+                    .execute()
+                    .path("bookings").entityList(Object.class).hasSizeGreaterThan(2);
+            // Bookings, then one batch each for vehicles, drivers and events
+            scope.assertAtMost(4);
+        }
+    }
+
+    @Test
+    void bookingsSelectingColumnsJoinInOneQuery() {
+        try (QueryCounter.Scope scope = queryCounter.open()) {
+            graphQlTester.document("{ bookings { id status vehicle { plateNumber } driver { licenseNumber } } }")
+                    .execute()
+                    .path("bookings").entityList(Object.class).hasSizeGreaterThan(2);
+            scope.assertAtMost(1);
+        }
+    }
+
+    @Test
+    void bookingsConnectionLoadsRelationsInOneQueryEach() {
+        try (QueryCounter.Scope scope = queryCounter.open()) {
+            graphQlTester.document("{ bookingsConnection(first: 10) { edges { cursor node { "
+                            + BOOKING_WITH_RELATIONS + " } } pageInfo { hasNextPage endCursor } } }")
+                    .execute()
+                    .path("bookingsConnection.edges").entityList(Object.class).hasSize(10);
+            scope.assertAtMost(4);
+        }
+    }
+
+    @Test
+    void bookingsConnectionOfSummariesIsOneQuery() {
+        try (QueryCounter.Scope scope = queryCounter.open()) {
+            graphQlTester.document("{ bookingsConnection(first: 10) { edges { node { id bookingReference status } } "
+                            + "pageInfo { hasNextPage } } }")
+                    .execute()
+                    .path("bookingsConnection.edges").entityList(Object.class).hasSize(10);
+            scope.assertAtMost(1);
+        }
+    }
+
+    @Test
+    void myBookingsConnectionLoadsRelationsInOneQueryEach() {
+        try (QueryCounter.Scope scope = queryCounter.open()) {
+            graphQlTester.document("{ myBookingsConnection(requesterId: \"4\", first: 10) { edges { node { "
+                            + BOOKING_WITH_RELATIONS + " } } } }")
+                    .execute()
+                    .path("myBookingsConnection.edges").entityList(Object.class).hasSizeGreaterThan(1);
+            scope.assertAtMost(4);
+        }
+    }
+
+    @Test
+    void myBookingsHistoryLoadsOnePage() {
+        try (QueryCounter.Scope scope = queryCounter.open()) {
+            graphQlTester.document("{ myBookings(requesterId: \"4\", includeHistory: true) { "
+                            + BOOKING_WITH_RELATIONS + " } }")
+                    .execute()
+                    .path("myBookings").entityList(Object.class).hasSizeGreaterThan(1);
+            scope.assertAtMost(4);
+        }
+    }
+
+    @Test
+    void vehiclesConnectionIsOneQuery() {
+        try (QueryCounter.Scope scope = queryCounter.open()) {
+            graphQlTester.document("{ vehiclesConnection(first: 10) { edges { node { id plateNumber make model } } "
+                            + "pageInfo { hasNextPage } } }")
+                    .execute()
+                    .path("vehiclesConnection.edges").entityList(Object.class).hasSize(10);
+            scope.assertAtMost(1);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.platform.vehicle.presentation.graphql;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.tester.AutoConfigureGraphQlTester;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.graphql.test.tester.GraphQlTester;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+/**
+ * Mutations bind input objects, enums and DateTime values from the GraphQL
+ * arguments rather than casting them.
+ */
+@SpringBootTest
+@AutoConfigureGraphQlTester
+class VehicleManagementMutationTest {
+
+    @Autowired
+    private GraphQlTester graphQlTester;
+
+    @Test
+    void createAndUpdateVehicle() {
+        String id = graphQlTester.document("mutation { createVehicle(request: { plateNumber: \"TST-001\", "
+                        + "make: \"Ford\", model: \"Transit\", year: 2024, type: VAN, capacity: 8 }) "
+                        + "{ id type status } }")
+                .execute()
+                .path("createVehicle.type").entity(String.class).isEqualTo("VAN")
+                .path("createVehicle.status").entity(String.class).isEqualTo("AVAILABLE")
+                .path("createVehicle.id").entity(String.class).get();
+
+        graphQlTester.document("mutation($id: ID!) { updateVehicle(id: $id, request: { plateNumber: \"TST-001\", "
+                        + "make: \"Ford\", model: \"Transit Custom\", year: 2024, type: VAN, capacity: 9 }) "
+                        + "{ model capacity } }")
+                .variable("id", id)
+                .execute()
+                .path("updateVehicle.model").entity(String.class).isEqualTo("Transit Custom")
+                .path("updateVehicle.capacity").entity(Integer.class).isEqualTo(9);
+    }
+
+    @Test
+    void setVehicleStatusConvertsTheEnum() {
+        graphQlTester.document("mutation { setVehicleStatus(id: \"7\", status: MAINTENANCE) { status } }")
+                .execute()
+                .path("setVehicleStatus.status").entity(String.class).isEqualTo("MAINTENANCE");
+    }
+
+    @Test
+    void createAndUpdateDriver() {
+        String id = graphQlTester.document("mutation { createDriver(request: { licenseType: CLASS_2, "
+                        + "licenseNumber: \"TST-DL-001\", licenseExpiryDate: \"2030-01-31T00:00:00\", "
+                        + "yearsOfExperience: 3 }) { id licenseType licenseExpiryDate } }")
+                .execute()
+                .path("createDriver.licenseType").entity(String.class).isEqualTo("CLASS_2")
+                .path("createDriver.licenseExpiryDate").entity(String.class).isEqualTo("2030-01-31T00:00:00")
+                .path("createDriver.id").entity(String.class).get();
+
+        graphQlTester.document("mutation($id: ID!) { updateDriver(id: $id, request: { licenseType: COMMERCIAL, "
+                        + "licenseNumber: \"TST-DL-001\", yearsOfExperience: 4, shift: \"Night\" }) "
+                        + "{ licenseType yearsOfExperience shift } }")
+                .variable("id", id)
+                .execute()
+                .path("updateDriver.licenseType").entity(String.class).isEqualTo("COMMERCIAL")
+                .path("updateDriver.yearsOfExperience").entity(Integer.class).isEqualTo(4)
+                .path("updateDriver.shift").entity(String.class).isEqualTo("Night");
+    }
+
+    @Test
+    void createAndUpdateBooking() {
+        LocalDateTime start = LocalDateTime.now().plusDays(20).truncatedTo(ChronoUnit.HOURS);
+        String id = graphQlTester.document("mutation($request: CreateBookingRequest!) { "
+                        + "createBooking(request: $request, requesterId: \"4\") { id status } }")
+                .variable("request", Map.of(
+                        "vehicleId", "6",
+                        "purpose", "Site visit",
+                        "startTime", iso(start),
+                        "endTime", iso(start.plusHours(3)),
+                        "pickupLocation", "Branch Office - South",
+                        "destination", "Client Office - East",
+                        "bookingType", "MEETING"))
+                .execute()
+                .path("createBooking.status").entity(String.class).isEqualTo("PENDING")
+                .path("createBooking.id").entity(String.class).get();
+
+        graphQlTester.document("mutation($id: ID!, $endTime: DateTime) { "
+                        + "updateBooking(id: $id, request: { endTime: $endTime, estimatedPassengers: 3 }) "
+                        + "{ endTime estimatedPassengers } }")
+                .variable("id", id)
+                .variable("endTime", iso(start.plusHours(5)))
+                .execute()
+                .path("updateBooking.endTime").entity(String.class).isEqualTo(iso(start.plusHours(5)))
+                .path("updateBooking.estimatedPassengers").entity(Integer.class).isEqualTo(3);
+    }
+
+    private static String iso(LocalDateTime dateTime) {
+        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+    }
+}